@@ -0,0 +1,15 @@
+package com.balanced.account.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record AccountBalanceDrift(
+        UUID accountId,
+        UUID workspaceId,
+        BigDecimal storedBalance,
+        BigDecimal expectedBalance
+) {
+    public BigDecimal drift() {
+        return storedBalance.subtract(expectedBalance);
+    }
+}
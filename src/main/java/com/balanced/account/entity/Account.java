@@ -51,8 +51,10 @@ public class Account extends BaseEntity {
     @Column(name = "starting_balance", nullable = false)
     private BigDecimal startingBalance = BigDecimal.ZERO;
 
+    // Written on insert only; afterwards AccountRepository applies deltas in SQL so a stale
+    // entity save can never overwrite a concurrent balance change
     @Builder.Default
-    @Column(name = "balance", nullable = false)
+    @Column(name = "balance", nullable = false, updatable = false)
     private BigDecimal balance = BigDecimal.ZERO;
 
     @Builder.Default
@@ -73,7 +75,7 @@ public class Account extends BaseEntity {
     @Column(name = "status", nullable = false)
     private Status status = Status.ACTIVE;
 
-    @Column(name = "balance_last_updated")
+    @Column(name = "balance_last_updated", updatable = false)
     private LocalDateTime balanceLastUpdated;
 
     @Column(name = "closed_at")
@@ -1,12 +1,17 @@
 package com.balanced.account.repository;
 
+import com.balanced.account.dto.AccountBalanceDrift;
 import com.balanced.account.entity.Account;
 import com.balanced.account.enums.AccountType;
+import com.balanced.common.cache.ReferenceName;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,8 +21,14 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
 
     List<Account> findAllByWorkspaceId(UUID workspaceId);
 
+    List<ReferenceName> findNamesByWorkspaceId(UUID workspaceId);
+
     Optional<Account> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+    boolean existsByIdAndWorkspaceId(UUID id, UUID workspaceId);
+
+    List<Account> findAllByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
+
     boolean existsByWorkspaceIdAndNameIgnoreCase(UUID workspaceId, String name);
 
     List<Account> findAllByBankConnectionId(UUID bankConnectionId);
@@ -27,8 +38,53 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
     Optional<Account> findByWorkspaceIdAndInstitutionNameAndLastFourAndTypeAndBankConnectionIdIsNull(
             UUID workspaceId, String institutionName, String lastFour, AccountType type);
 
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t WHERE t.accountId = :accountId")
-    BigDecimal sumTransactionAmounts(UUID accountId);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.balanceLastUpdated = :now WHERE a.id = :accountId")
+    int applyBalanceDelta(UUID accountId, BigDecimal delta, LocalDateTime now);
+
+    @Query("""
+            SELECT new com.balanced.account.dto.AccountBalanceDrift(a.id, a.workspaceId, a.balance,
+                a.startingBalance + COALESCE((SELECT SUM(t.amount) FROM Transaction t WHERE t.accountId = a.id), 0))
+            FROM Account a
+            WHERE a.balance <> a.startingBalance
+                + COALESCE((SELECT SUM(t.amount) FROM Transaction t WHERE t.accountId = a.id), 0)
+            """)
+    List<AccountBalanceDrift> findBalanceDrift();
+
+    @Query("""
+            SELECT new com.balanced.account.dto.AccountBalanceDrift(a.id, a.workspaceId, a.balance,
+                a.startingBalance + COALESCE((SELECT SUM(t.amount) FROM Transaction t WHERE t.accountId = a.id), 0))
+            FROM Account a
+            WHERE a.workspaceId = :workspaceId
+              AND a.balance <> a.startingBalance
+                + COALESCE((SELECT SUM(t.amount) FROM Transaction t WHERE t.accountId = a.id), 0)
+            """)
+    List<AccountBalanceDrift> findBalanceDriftByWorkspaceId(UUID workspaceId);
+
+    @Query("""
+            SELECT new com.balanced.account.dto.AccountBalanceDrift(a.id, a.workspaceId, a.balance,
+                a.startingBalance + COALESCE((SELECT SUM(t.amount) FROM Transaction t WHERE t.accountId = a.id), 0))
+            FROM Account a
+            WHERE a.id IN :accountIds
+              AND a.balance <> a.startingBalance
+                + COALESCE((SELECT SUM(t.amount) FROM Transaction t WHERE t.accountId = a.id), 0)
+            """)
+    List<AccountBalanceDrift> findBalanceDriftByIdIn(Collection<UUID> accountIds);
+
+    // Waits for in-flight balance deltas on the accounts to commit and blocks new ones; ordered
+    // by id so concurrent lockers cannot deadlock
+    @Query(value = "SELECT id FROM accounts WHERE id IN (:accountIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<UUID> lockAllByIdIn(Collection<UUID> accountIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Account a
+            SET a.balance = a.startingBalance
+                    + COALESCE((SELECT SUM(t.amount) FROM Transaction t WHERE t.accountId = a.id), 0),
+                a.balanceLastUpdated = :now
+            WHERE a.id IN :accountIds
+            """)
+    int recomputeBalances(Collection<UUID> accountIds, LocalDateTime now);
 
     @Query("SELECT COALESCE(SUM(a.balance), 0) FROM Account a WHERE a.id IN :accountIds")
     BigDecimal sumBalancesByIds(List<UUID> accountIds);
@@ -1,10 +1,12 @@
 package com.balanced.account.resolver;
 
+import com.balanced.account.dto.AccountBalanceDrift;
 import com.balanced.account.dto.AccountResponse;
 import com.balanced.account.dto.CreateAccountInput;
 import com.balanced.account.dto.UpdateAccountInput;
 import com.balanced.account.mapper.AccountMapper;
 import com.balanced.account.service.AccountService;
+import com.balanced.account.service.BalanceReconciliationService;
 import com.balanced.common.graphql.GraphQLContext;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,7 @@ public class AccountResolver {
 
     private final AccountService accountService;
     private final AccountMapper accountMapper;
+    private final BalanceReconciliationService balanceReconciliationService;
 
     @PreAuthorize("hasAuthority('READ')")
     @QueryMapping
@@ -59,4 +62,11 @@ public class AccountResolver {
         accountService.deleteAccount(accountId, workspaceId);
         return true;
     }
+
+    @PreAuthorize("hasAuthority('WRITE')")
+    @MutationMapping
+    public List<AccountBalanceDrift> reconcileAccountBalances() {
+        UUID workspaceId = GraphQLContext.workspaceId();
+        return balanceReconciliationService.reconcileWorkspace(workspaceId);
+    }
 }
@@ -7,6 +7,7 @@ import com.balanced.account.enums.AccountSubType;
 import com.balanced.account.enums.AccountType;
 import com.balanced.account.mapper.AccountMapper;
 import com.balanced.account.repository.AccountRepository;
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.exception.BadRequestException;
 import com.balanced.common.exception.ConflictException;
 import com.balanced.common.exception.ResourceNotFoundException;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,6 +30,7 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     @Transactional(readOnly = true)
     public List<Account> listAllByWorkspaceId(UUID workspaceId) {
@@ -40,6 +43,26 @@ public class AccountService {
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
     }
 
+    @Transactional(readOnly = true)
+    public List<Account> getAccounts(Collection<UUID> accountIds, UUID workspaceId) {
+        if (accountIds.isEmpty()) return List.of();
+        return accountRepository.findAllByIdInAndWorkspaceId(accountIds, workspaceId);
+    }
+
+    /**
+     * Validates that an account exists in the workspace, using the cached account names. A miss
+     * is checked against the table, since the account may have been created on another instance
+     * since the snapshot was loaded; the stale snapshot is then dropped.
+     */
+    @Transactional(readOnly = true)
+    public void validateAccount(UUID accountId, UUID workspaceId) {
+        if (referenceDataCache.accountNames(workspaceId).containsKey(accountId)) return;
+        if (!accountRepository.existsByIdAndWorkspaceId(accountId, workspaceId)) {
+            throw new ResourceNotFoundException("Account not found");
+        }
+        referenceDataCache.invalidateAccounts(workspaceId);
+    }
+
     @Transactional
     public Account createAccount(UUID workspaceId, CreateAccountInput dto) {
         if (accountRepository.existsByWorkspaceIdAndNameIgnoreCase(workspaceId, dto.getName())) {
@@ -64,6 +87,7 @@ public class AccountService {
                 .source(dto.getSource() != null ? dto.getSource() : com.balanced.account.enums.AccountSource.MANUAL)
                 .build());
 
+        referenceDataCache.invalidateAccounts(workspaceId);
         log.info("Created account '{}' ({})", account.getName(), account.getId());
         return account;
     }
@@ -78,7 +102,7 @@ public class AccountService {
             throw new ConflictException("An account named '" + dto.getName() + "' already exists");
         }
 
-        boolean startingBalanceChanged = dto.getStartingBalance() != null;
+        BigDecimal oldStartingBalance = account.getStartingBalance();
 
         accountMapper.updateEntity(dto, account);
 
@@ -88,11 +112,8 @@ public class AccountService {
         }
 
         account = accountRepository.save(account);
-
-        if (startingBalanceChanged) {
-            recomputeBalance(accountId);
-            account = accountRepository.findById(accountId).orElseThrow();
-        }
+        referenceDataCache.invalidateAccounts(workspaceId);
+        applyBalanceDelta(accountId, account.getStartingBalance().subtract(oldStartingBalance));
 
         log.info("Updating account '{}' ({})", account.getName(), accountId);
         return account;
@@ -103,16 +124,23 @@ public class AccountService {
         Account account = getAccount(accountId, workspaceId);
         log.info("Deleting account '{}' ({})", account.getName(), accountId);
         accountRepository.delete(account);
+        referenceDataCache.invalidateAccounts(workspaceId);
     }
 
+    /**
+     * Adds a signed amount to the stored balance with a single {@code balance = balance + delta}
+     * statement in the caller's transaction. The loaded entity is adjusted to match so the rest
+     * of the request sees the new balance.
+     */
     @Transactional
-    public void recomputeBalance(UUID accountId) {
+    public void applyBalanceDelta(UUID accountId, BigDecimal delta) {
+        if (delta.signum() == 0) return;
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
-        BigDecimal txnSum = accountRepository.sumTransactionAmounts(accountId);
-        account.setBalance(account.getStartingBalance().add(txnSum));
-        account.setBalanceLastUpdated(LocalDateTime.now());
-        accountRepository.save(account);
+        LocalDateTime now = LocalDateTime.now();
+        accountRepository.applyBalanceDelta(accountId, delta, now);
+        account.setBalance(account.getBalance().add(delta));
+        account.setBalanceLastUpdated(now);
     }
 
     private BadRequestException typeSubTypeMismatch(AccountType type, AccountSubType subType) {
@@ -0,0 +1,76 @@
+package com.balanced.account.service;
+
+import com.balanced.account.dto.AccountBalanceDrift;
+import com.balanced.account.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Checks delta-maintained balances against {@code starting_balance + SUM(amount)}. Drifted
+ * accounts are counted and their drift recorded under {@code balanced.accounts.balance.drift},
+ * then reset to the recomputed value.
+ * <p>
+ * A write adds its transactions and applies their delta to the account row in one transaction,
+ * so a drift read while one is in flight may not be real, and a recompute whose SUM was taken
+ * before it committed would lose its delta. The drifted rows are therefore locked first, which
+ * waits for such writes, and the drift is re-read and fixed in later statements that see them.
+ */
+@Slf4j
+@Service
+public class BalanceReconciliationService {
+
+    private final AccountRepository accountRepository;
+    private final Counter driftedAccounts;
+    private final DistributionSummary driftAmount;
+
+    public BalanceReconciliationService(AccountRepository accountRepository, MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.driftedAccounts = Counter.builder("balanced.accounts.balance.drift")
+                .description("Accounts whose stored balance disagreed with their transactions")
+                .register(meterRegistry);
+        this.driftAmount = DistributionSummary.builder("balanced.accounts.balance.drift.amount")
+                .description("Absolute difference between stored and recomputed balances")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${balanced.accounts.balance-reconciliation-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcileAll() {
+        List<AccountBalanceDrift> drifts = reconcile(accountRepository.findBalanceDrift());
+        log.info("Balance reconciliation finished ({} accounts corrected)", drifts.size());
+    }
+
+    @Transactional
+    public List<AccountBalanceDrift> reconcileWorkspace(UUID workspaceId) {
+        return reconcile(accountRepository.findBalanceDriftByWorkspaceId(workspaceId));
+    }
+
+    private List<AccountBalanceDrift> reconcile(List<AccountBalanceDrift> candidates) {
+        if (candidates.isEmpty()) return candidates;
+
+        List<UUID> accountIds = candidates.stream().map(AccountBalanceDrift::accountId).toList();
+        accountRepository.lockAllByIdIn(accountIds);
+        List<AccountBalanceDrift> drifts = accountRepository.findBalanceDriftByIdIn(accountIds);
+        if (drifts.isEmpty()) return drifts;
+
+        for (AccountBalanceDrift drift : drifts) {
+            log.warn("Account {} balance drifted by {} (stored {}, expected {})",
+                    drift.accountId(), drift.drift(), drift.storedBalance(), drift.expectedBalance());
+            driftedAccounts.increment();
+            driftAmount.record(drift.drift().abs().doubleValue());
+        }
+
+        accountRepository.recomputeBalances(
+                drifts.stream().map(AccountBalanceDrift::accountId).toList(), LocalDateTime.now());
+        return drifts;
+    }
+}
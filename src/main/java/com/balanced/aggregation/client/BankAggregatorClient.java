@@ -5,10 +5,11 @@ import com.balanced.aggregation.dto.AggregatedTransaction;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Provider-agnostic interface for bank aggregation.
- * Implementations: TellerAggregatorClient, MockAggregatorClient.
+ * Implementations: TellerAggregatorClient (wrapped in RateLimitedAggregatorClient), MockAggregatorClient.
  */
 public interface BankAggregatorClient {
 
@@ -21,6 +22,24 @@ public interface BankAggregatorClient {
                                                  LocalDate startDate,
                                                  LocalDate endDate);
 
+    /**
+     * Fetch transactions for an account within a date range one provider page at a time. Pages are
+     * requested lazily as the stream is consumed, so only the page being handled is held in memory.
+     * A non-null {@code afterExternalId} resumes after the page ending with that transaction.
+     * Providers without pagination return their whole result as a single page and ignore the cursor;
+     * sync matches rows by external ID, so applying them again changes nothing. No page is empty: an
+     * account without transactions in the range yields no pages at all.
+     */
+    default Stream<List<AggregatedTransaction>> streamTransactions(String accessToken,
+                                                                    String externalAccountId,
+                                                                    LocalDate startDate,
+                                                                    LocalDate endDate,
+                                                                    String afterExternalId) {
+        return Stream.of(externalAccountId)
+                .map(accountId -> getTransactions(accessToken, accountId, startDate, endDate))
+                .filter(page -> !page.isEmpty());
+    }
+
     /** Remove enrollment / revoke access. */
     void removeConnection(String accessToken);
 }
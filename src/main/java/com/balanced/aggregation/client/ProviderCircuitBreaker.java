@@ -0,0 +1,139 @@
+package com.balanced.aggregation.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stops calling a provider that keeps failing. After {@code failureThreshold} consecutive I/O
+ * errors or 5xx responses the circuit opens and requests fail at once with
+ * {@link ProviderUnavailableException} for {@code openDuration}. Then a single trial request is let
+ * through: if it succeeds the circuit closes, otherwise it opens again. Throttling (429) is left to
+ * {@link RateLimitedAggregatorClient} and does not count as a failure.
+ * <p>
+ * Exported meters, tagged with the provider: {@code balanced.aggregation.provider.circuit.open}, 1
+ * while requests are being rejected, and {@code balanced.aggregation.provider.circuit.rejected}.
+ */
+@Slf4j
+public class ProviderCircuitBreaker implements ClientHttpRequestInterceptor {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String provider;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Counter rejected;
+    private final ReentrantLock lock = new ReentrantLock();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public ProviderCircuitBreaker(String provider, int failureThreshold, Duration openDuration,
+                                  MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        Gauge.builder("balanced.aggregation.provider.circuit.open", this, breaker -> breaker.isOpen() ? 1 : 0)
+                .description("1 while requests to the provider are rejected by the circuit breaker")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("balanced.aggregation.provider.circuit.rejected")
+                .description("Provider requests rejected because the circuit was open")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        permit();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            recordFailure();
+            throw e;
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            recordFailure();
+        } else {
+            recordSuccess();
+        }
+        return response;
+    }
+
+    private void permit() {
+        lock.lock();
+        try {
+            if (state == State.CLOSED) return;
+            long openFor = System.nanoTime() - openedAt;
+            if (state == State.OPEN && openFor >= openDuration.toNanos()) {
+                // Let this request through as the trial; others keep failing until it completes
+                state = State.HALF_OPEN;
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        rejected.increment();
+        throw new ProviderUnavailableException(
+                "Provider %s is unavailable; requests are paused after repeated failures".formatted(provider));
+    }
+
+    private void recordSuccess() {
+        lock.lock();
+        try {
+            if (state != State.CLOSED) {
+                log.info("Provider {} recovered, closing circuit", provider);
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordFailure() {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+                if (state == State.CLOSED) {
+                    log.warn("Provider {} failed {} times in a row, opening circuit for {}", provider,
+                            consecutiveFailures, openDuration);
+                }
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isOpen() {
+        lock.lock();
+        try {
+            return state != State.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Thrown instead of calling a provider whose circuit is open. */
+    public static class ProviderUnavailableException extends RestClientException {
+
+        public ProviderUnavailableException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.balanced.aggregation.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Records {@code balanced.aggregation.provider.requests}: a latency histogram up to the response
+ * headers, tagged with the provider, method, endpoint and status ({@code IO_ERROR} when no response
+ * arrived). The endpoint is the request path with identifier segments, those containing a digit,
+ * replaced by {@code {id}}, so each endpoint is a single series.
+ */
+public class ProviderRequestMetrics implements ClientHttpRequestInterceptor {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(".*\\d.*");
+
+    private final String provider;
+    private final MeterRegistry meterRegistry;
+
+    public ProviderRequestMetrics(String provider, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            sample.stop(Timer.builder("balanced.aggregation.provider.requests")
+                    .description("Provider HTTP request latency")
+                    .tag("provider", provider)
+                    .tag("method", request.getMethod().name())
+                    .tag("endpoint", endpoint(request.getURI()))
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    static String endpoint(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty()) return "/";
+        return Arrays.stream(path.split("/"))
+                .map(segment -> ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment)
+                .collect(Collectors.joining("/"));
+    }
+}
@@ -0,0 +1,308 @@
+package com.balanced.aggregation.client;
+
+import com.balanced.aggregation.config.AggregationProperties;
+import com.balanced.aggregation.dto.AggregatedAccount;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Keeps provider requests within budget. Every request takes a permit from the bucket of its access
+ * token and then from the provider-wide bucket (see {@link TokenBucket}); over budget it waits its
+ * turn rather than failing.
+ * <p>
+ * A 429 pauses the access token's bucket until the response's {@code Retry-After}, or for a jittered
+ * exponential backoff without one, and halves both buckets' rates until requests succeed again.
+ * Reads are retried, on 429, 502-504 and I/O errors, up to {@code max-attempts}; a stream of pages
+ * resumes after the last page it delivered. A backoff longer than {@code max-retry-delay} is not
+ * waited out: the failure is rethrown and the sync retried later. Removing a connection is never
+ * retried.
+ * <p>
+ * Exported meters, tagged with the provider: {@code balanced.aggregation.provider.rate} and
+ * {@code balanced.aggregation.provider.permits} for the provider bucket,
+ * {@code balanced.aggregation.provider.queued} for callers waiting for a permit,
+ * {@code balanced.aggregation.provider.wait} for how long they waited, and
+ * {@code balanced.aggregation.provider.throttled} and {@code balanced.aggregation.provider.retries}.
+ */
+@Slf4j
+public class RateLimitedAggregatorClient implements BankAggregatorClient {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+    /** Buckets of connections not synced for this long are dropped and start full next time. */
+    private static final Duration IDLE_TOKEN_EXPIRY = Duration.ofHours(1);
+
+    private final BankAggregatorClient delegate;
+    private final AggregationProperties.RateLimitProperties properties;
+    private final TokenBucket providerBucket;
+    private final LoadingCache<String, TokenBucket> tokenBuckets;
+    private final Timer waitTimer;
+    private final Counter throttled;
+    private final Counter retries;
+
+    public RateLimitedAggregatorClient(BankAggregatorClient delegate,
+                                       String provider,
+                                       AggregationProperties.RateLimitProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.providerBucket = new TokenBucket(properties.providerRate(), properties.providerBurst());
+        this.tokenBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(IDLE_TOKEN_EXPIRY)
+                .build(accessToken -> new TokenBucket(properties.tokenRate(), properties.tokenBurst()));
+
+        Gauge.builder("balanced.aggregation.provider.rate", providerBucket, TokenBucket::rate)
+                .description("Provider requests per second currently allowed, after throttling")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("balanced.aggregation.provider.permits", providerBucket, TokenBucket::availablePermits)
+                .description("Provider requests that can start now without waiting")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("balanced.aggregation.provider.queued", this, RateLimitedAggregatorClient::queued)
+                .description("Provider requests waiting for budget")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("balanced.aggregation.provider.wait")
+                .description("Time a provider request waited for budget")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.throttled = Counter.builder("balanced.aggregation.provider.throttled")
+                .description("Provider responses with status 429")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.retries = Counter.builder("balanced.aggregation.provider.retries")
+                .description("Provider reads retried after a throttled or failed response")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<AggregatedAccount> getAccounts(String accessToken) {
+        return call(accessToken, true, () -> delegate.getAccounts(accessToken));
+    }
+
+    @Override
+    public List<AggregatedTransaction> getTransactions(String accessToken,
+                                                        String externalAccountId,
+                                                        LocalDate startDate,
+                                                        LocalDate endDate) {
+        try (Stream<List<AggregatedTransaction>> pages =
+                     streamTransactions(accessToken, externalAccountId, startDate, endDate, null)) {
+            return pages.flatMap(List::stream).toList();
+        }
+    }
+
+    @Override
+    public Stream<List<AggregatedTransaction>> streamTransactions(String accessToken,
+                                                                   String externalAccountId,
+                                                                   LocalDate startDate,
+                                                                   LocalDate endDate,
+                                                                   String afterExternalId) {
+        RateLimitedPages pages = new RateLimitedPages(accessToken, externalAccountId, startDate, endDate,
+                afterExternalId);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
+    @Override
+    public void removeConnection(String accessToken) {
+        call(accessToken, false, () -> {
+            delegate.removeConnection(accessToken);
+            return null;
+        });
+    }
+
+    /**
+     * Runs one provider request within budget, retrying it if it is a read and the failure is
+     * transient.
+     */
+    private <T> T call(String accessToken, boolean idempotent, Supplier<T> request) {
+        TokenBucket tokenBucket = tokenBuckets.get(accessToken);
+        for (int attempt = 1; ; attempt++) {
+            waitTimer.record(tokenBucket.acquire().plus(providerBucket.acquire()));
+            try {
+                T result = request.get();
+                tokenBucket.succeeded();
+                providerBucket.succeeded();
+                return result;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) throw e;
+                Duration delay = retryDelay(e, attempt);
+                if (isThrottled(e)) {
+                    throttled.increment();
+                    // Later requests with this token wait out the pause in acquire()
+                    tokenBucket.throttled(delay.compareTo(properties.maxRetryDelay()) > 0
+                            ? properties.maxRetryDelay()
+                            : delay);
+                    providerBucket.throttled(Duration.ZERO);
+                }
+                if (!idempotent || attempt >= properties.maxAttempts()
+                        || delay.compareTo(properties.maxRetryDelay()) > 0) {
+                    throw e;
+                }
+                retries.increment();
+                log.warn("Provider request failed ({}), retry {} of {} in {} ms", e.getMessage(), attempt,
+                        properties.maxAttempts() - 1, delay.toMillis());
+                if (!isThrottled(e)) {
+                    sleep(delay);
+                }
+            }
+        }
+    }
+
+    /**
+     * The provider's {@code Retry-After} plus up to one base delay of jitter, so callers paused
+     * together do not retry together; without one, full-jitter exponential backoff.
+     */
+    private Duration retryDelay(RuntimeException e, int attempt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long baseMillis = properties.retryBaseDelay().toMillis();
+        Duration retryAfter = e instanceof RestClientResponseException response
+                ? retryAfter(response.getResponseHeaders())
+                : null;
+        if (retryAfter != null) {
+            return retryAfter.plusMillis(random.nextLong(baseMillis + 1));
+        }
+        long ceilingMillis = Math.min(properties.maxRetryDelay().toMillis(),
+                baseMillis << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(random.nextLong(ceilingMillis + 1));
+    }
+
+    /** Parses {@code Retry-After} given either as seconds or as an HTTP date. */
+    static Duration retryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration untilThen = Duration.between(Instant.now(), at);
+                return untilThen.isNegative() ? Duration.ZERO : untilThen;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof RestClientResponseException response
+                && RETRYABLE_STATUSES.contains(response.getStatusCode().value());
+    }
+
+    private static boolean isThrottled(RuntimeException e) {
+        return e instanceof RestClientResponseException response && response.getStatusCode().value() == 429;
+    }
+
+    private int queued() {
+        int queued = providerBucket.waiting();
+        for (TokenBucket bucket : tokenBuckets.asMap().values()) {
+            queued += bucket.waiting();
+        }
+        return queued;
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while backing off a provider request");
+        }
+    }
+
+    /**
+     * Pulls the delegate's pages one request at a time within budget. After a failed page the
+     * delegate's stream is reopened after the last page already delivered.
+     */
+    private class RateLimitedPages implements Iterator<List<AggregatedTransaction>> {
+
+        private final String accessToken;
+        private final String externalAccountId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private String cursor;
+        private Stream<List<AggregatedTransaction>> pages;
+        private Iterator<List<AggregatedTransaction>> iterator;
+        private List<AggregatedTransaction> nextPage;
+        private boolean exhausted;
+
+        RateLimitedPages(String accessToken, String externalAccountId, LocalDate startDate, LocalDate endDate,
+                         String cursor) {
+            this.accessToken = accessToken;
+            this.externalAccountId = externalAccountId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextPage == null && !exhausted) {
+                nextPage = call(accessToken, true, this::fetchPage);
+                exhausted = nextPage == null;
+            }
+            return nextPage != null;
+        }
+
+        @Override
+        public List<AggregatedTransaction> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            List<AggregatedTransaction> page = nextPage;
+            nextPage = null;
+            if (!page.isEmpty()) {
+                cursor = page.getLast().externalId();
+            }
+            return page;
+        }
+
+        private List<AggregatedTransaction> fetchPage() {
+            if (iterator == null) {
+                pages = delegate.streamTransactions(accessToken, externalAccountId, startDate, endDate, cursor);
+                iterator = pages.iterator();
+            }
+            try {
+                return iterator.hasNext() ? iterator.next() : null;
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        void close() {
+            if (pages != null) {
+                pages.close();
+            }
+            pages = null;
+            iterator = null;
+        }
+    }
+}
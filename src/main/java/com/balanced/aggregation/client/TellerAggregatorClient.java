@@ -2,22 +2,28 @@ package com.balanced.aggregation.client;
 
 import com.balanced.aggregation.dto.AggregatedAccount;
 import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.annotation.Profile;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-
-@Component
-@ConditionalOnProperty(name = "balanced.aggregation.provider", havingValue = "teller")
-@Profile("!test & !integration")
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Teller API client. Registered by {@link com.balanced.aggregation.config.TellerClientConfig} behind a
+ * {@link RateLimitedAggregatorClient}, which budgets and retries its requests. Responses are bound
+ * straight to the records below, so Jackson reads only the fields we use and skips the rest.
+ */
 public class TellerAggregatorClient implements BankAggregatorClient {
 
     private static final Logger log = LoggerFactory.getLogger(TellerAggregatorClient.class);
@@ -32,7 +38,7 @@ public class TellerAggregatorClient implements BankAggregatorClient {
     @Override
     public List<AggregatedAccount> getAccounts(String accessToken) {
         log.info("Fetching accounts from Teller");
-        List<Map<String, Object>> response = tellerRestClient.get()
+        List<TellerAccount> response = tellerRestClient.get()
                 .uri("/accounts")
                 .headers(h -> h.setBasicAuth(accessToken, ""))
                 .retrieve()
@@ -41,7 +47,7 @@ public class TellerAggregatorClient implements BankAggregatorClient {
         if (response == null) return List.of();
 
         return response.stream()
-                .map(this::mapAccount)
+                .map(TellerAggregatorClient::mapAccount)
                 .toList();
     }
 
@@ -50,14 +56,95 @@ public class TellerAggregatorClient implements BankAggregatorClient {
                                                         String externalAccountId,
                                                         LocalDate startDate,
                                                         LocalDate endDate) {
-        log.info("Fetching transactions for account {} (range: {} to {})",
-                externalAccountId, startDate, endDate);
-        List<AggregatedTransaction> allTransactions = new java.util.ArrayList<>();
-        String fromId = null;
-
-        while (true) {
-            final String cursor = fromId;
-            List<Map<String, Object>> page = tellerRestClient.get()
+        try (Stream<List<AggregatedTransaction>> pages =
+                     streamTransactions(accessToken, externalAccountId, startDate, endDate, null)) {
+            return pages.flatMap(List::stream).toList();
+        }
+    }
+
+    @Override
+    public Stream<List<AggregatedTransaction>> streamTransactions(String accessToken,
+                                                                   String externalAccountId,
+                                                                   LocalDate startDate,
+                                                                   LocalDate endDate,
+                                                                   String afterExternalId) {
+        log.info("Fetching transactions for account {} (range: {} to {}, after: {})",
+                externalAccountId, startDate, endDate, afterExternalId);
+        TransactionPages pages = new TransactionPages(accessToken, externalAccountId, startDate, endDate,
+                afterExternalId);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> log.info("Fetched {} transactions in {} pages for account {}",
+                        pages.fetched, pages.pageCount, externalAccountId));
+    }
+
+    @Override
+    public void removeConnection(String accessToken) {
+        log.info("Removing Teller enrollment");
+        // Teller removes enrollment by deleting all accounts
+        List<AggregatedAccount> accounts = getAccounts(accessToken);
+        for (AggregatedAccount account : accounts) {
+            tellerRestClient.delete()
+                    .uri("/accounts/{id}", account.externalId())
+                    .headers(h -> h.setBasicAuth(accessToken, ""))
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+
+    /**
+     * Walks the {@code from_id} cursor one page per {@link #next()}; a short or empty page ends it.
+     */
+    private class TransactionPages implements Iterator<List<AggregatedTransaction>> {
+
+        private final String accessToken;
+        private final String externalAccountId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private List<TellerTransaction> nextPage;
+        private String fromId;
+        private boolean exhausted;
+        private int pageCount;
+        private int fetched;
+
+        TransactionPages(String accessToken, String externalAccountId, LocalDate startDate, LocalDate endDate,
+                         String fromId) {
+            this.accessToken = accessToken;
+            this.externalAccountId = externalAccountId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.fromId = fromId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextPage == null && !exhausted) {
+                List<TellerTransaction> page = fetchPage(fromId);
+                if (page == null || page.isEmpty()) {
+                    exhausted = true;
+                } else {
+                    nextPage = page;
+                    exhausted = page.size() < PAGE_SIZE;
+                    fromId = page.getLast().id();
+                }
+            }
+            return nextPage != null;
+        }
+
+        @Override
+        public List<AggregatedTransaction> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            List<AggregatedTransaction> page = nextPage.stream()
+                    .map(TellerAggregatorClient::mapTransaction)
+                    .toList();
+            nextPage = null;
+            pageCount++;
+            fetched += page.size();
+            return page;
+        }
+
+        private List<TellerTransaction> fetchPage(String cursor) {
+            return tellerRestClient.get()
                     .uri(uriBuilder -> {
                         uriBuilder.path("/accounts/{id}/transactions")
                                 .queryParam("count", PAGE_SIZE);
@@ -75,79 +162,70 @@ public class TellerAggregatorClient implements BankAggregatorClient {
                     .headers(h -> h.setBasicAuth(accessToken, ""))
                     .retrieve()
                     .body(new ParameterizedTypeReference<>() {});
-
-            if (page == null || page.isEmpty()) break;
-
-            allTransactions.addAll(page.stream().map(this::mapTransaction).toList());
-
-            if (page.size() < PAGE_SIZE) break;
-
-            fromId = str(page.getLast(), "id");
-        }
-
-        log.info("Fetched {} total transactions for account {}", allTransactions.size(), externalAccountId);
-        return allTransactions;
-    }
-
-    @Override
-    public void removeConnection(String accessToken) {
-        log.info("Removing Teller enrollment");
-        // Teller removes enrollment by deleting all accounts
-        List<AggregatedAccount> accounts = getAccounts(accessToken);
-        for (AggregatedAccount account : accounts) {
-            tellerRestClient.delete()
-                    .uri("/accounts/{id}", account.externalId())
-                    .headers(h -> h.setBasicAuth(accessToken, ""))
-                    .retrieve()
-                    .toBodilessEntity();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private AggregatedAccount mapAccount(Map<String, Object> raw) {
-        Map<String, Object> institution = (Map<String, Object>) raw.getOrDefault("institution", Map.of());
+    private static AggregatedAccount mapAccount(TellerAccount account) {
+        Institution institution = account.institution() != null ? account.institution() : Institution.NONE;
         return new AggregatedAccount(
-                str(raw, "id"),
-                str(raw, "enrollment_id"),
-                str(raw, "name"),
-                str(raw, "type"),
-                str(raw, "subtype"),
-                str(institution, "name"),
-                str(institution, "id"),
-                str(raw, "currency"),
-                str(raw, "last_four"),
-                str(raw, "status")
+                account.id(),
+                account.enrollmentId(),
+                account.name(),
+                account.type(),
+                account.subtype(),
+                institution.name(),
+                institution.id(),
+                account.currency(),
+                account.lastFour(),
+                account.status()
         );
     }
 
-    @SuppressWarnings("unchecked")
-    private AggregatedTransaction mapTransaction(Map<String, Object> raw) {
-        Map<String, Object> counterparty = (Map<String, Object>) raw.getOrDefault("counterparty", Map.of());
+    private static AggregatedTransaction mapTransaction(TellerTransaction transaction) {
         return new AggregatedTransaction(
-                str(raw, "id"),
-                str(raw, "account_id"),
-                toBigDecimal(raw.get("amount")),
-                toLocalDate(raw.get("date")),
-                str(raw, "description"),
-                str(counterparty, "name"),
-                str(raw, "category"),
-                str(raw, "status"),
-                str(raw, "type")
+                transaction.id(),
+                transaction.accountId(),
+                transaction.amount() != null ? transaction.amount() : BigDecimal.ZERO,
+                transaction.date(),
+                transaction.description(),
+                transaction.counterparty() != null ? transaction.counterparty().name() : null,
+                transaction.category(),
+                transaction.status(),
+                transaction.type()
         );
     }
 
-    private static String str(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        return val != null ? val.toString() : null;
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record TellerAccount(
+            String id,
+            @JsonProperty("enrollment_id") String enrollmentId,
+            String name,
+            String type,
+            String subtype,
+            Institution institution,
+            String currency,
+            @JsonProperty("last_four") String lastFour,
+            String status
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Institution(String id, String name) {
+        static final Institution NONE = new Institution(null, null);
     }
 
-    private static BigDecimal toBigDecimal(Object val) {
-        if (val == null) return BigDecimal.ZERO;
-        return new BigDecimal(val.toString());
-    }
-
-    private static LocalDate toLocalDate(Object val) {
-        if (val == null) return null;
-        return LocalDate.parse(val.toString());
-    }
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record TellerTransaction(
+            String id,
+            @JsonProperty("account_id") String accountId,
+            BigDecimal amount,
+            LocalDate date,
+            String description,
+            Counterparty counterparty,
+            String category,
+            String status,
+            String type
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Counterparty(String name) {}
 }
@@ -0,0 +1,138 @@
+package com.balanced.aggregation.client;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A request budget refilled at {@code rate} permits per second up to {@code burst}. Callers over
+ * budget reserve the next permit and sleep until it is due, so they queue in arrival order instead
+ * of failing. The rate adapts: each throttled response halves it, down to a tenth of the configured
+ * rate, and each success wins back a twentieth of the configured rate. A throttled response can
+ * also pause the bucket until the provider's {@code Retry-After}.
+ * <p>
+ * Uses a {@link ReentrantLock} rather than {@code synchronized} so waiting virtual threads do not
+ * pin their carriers.
+ */
+class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final double configuredRate;
+    private final double burst;
+    private volatile double rate;
+    /** Permits available; negative while callers hold reservations for permits not yet refilled. */
+    private double permits;
+    private long refilledAt;
+    private long pausedUntil;
+
+    TokenBucket(double rate, int burst) {
+        this.configuredRate = rate;
+        this.rate = rate;
+        this.burst = burst;
+        this.permits = burst;
+        this.refilledAt = System.nanoTime();
+        this.pausedUntil = refilledAt;
+    }
+
+    /**
+     * Takes one permit, waiting for it while the bucket is empty or paused.
+     *
+     * @return how long the caller waited
+     */
+    Duration acquire() {
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            long dueAt;
+            lock.lock();
+            try {
+                refill(start);
+                permits -= 1;
+                dueAt = permits >= 0 ? start : start + (long) (-permits / rate * NANOS_PER_SECOND);
+            } finally {
+                lock.unlock();
+            }
+            sleepUntil(dueAt);
+            // A pause may have started while this caller was waiting for its reservation
+            long now;
+            while ((now = System.nanoTime()) < pausedUntil()) {
+                sleepUntil(pausedUntil());
+            }
+            return Duration.ofNanos(now - start);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /** Slows the bucket down after a throttled response and pauses it for {@code pause}. */
+    void throttled(Duration pause) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            rate = Math.max(configuredRate / 10, rate / 2);
+            pausedUntil = Math.max(pausedUntil, now + pause.toNanos());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void succeeded() {
+        if (rate >= configuredRate) return;
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            rate = Math.min(configuredRate, rate + configuredRate / 20);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double rate() {
+        return rate;
+    }
+
+    double availablePermits() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return Math.max(0, permits);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        return waiting.get();
+    }
+
+    private void refill(long now) {
+        permits = Math.min(burst, permits + (now - refilledAt) * rate / NANOS_PER_SECOND);
+        refilledAt = now;
+    }
+
+    private long pausedUntil() {
+        lock.lock();
+        try {
+            return pausedUntil;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for provider request budget");
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package com.balanced.aggregation.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
 
 @ConfigurationProperties(prefix = "balanced.aggregation")
 public record AggregationProperties(
         String provider,
-        TellerProperties teller
+        TellerProperties teller,
+        @DefaultValue SyncProperties sync,
+        @DefaultValue SchedulerProperties scheduler,
+        @DefaultValue RateLimitProperties rateLimit,
+        @DefaultValue TransportProperties transport,
+        @DefaultValue WebhookProperties webhook
 ) {
     public record TellerProperties(
             String applicationId,
@@ -13,4 +23,62 @@ public record AggregationProperties(
             String certificatePath,
             String privateKeyPath
     ) {}
+
+    /**
+     * Limits on concurrent provider fetches: per connection being synced, and across every sync
+     * running on this instance.
+     */
+    public record SyncProperties(
+            @DefaultValue("4") int connectionConcurrency,
+            @DefaultValue("32") int globalConcurrency
+    ) {}
+
+    /**
+     * Background sync: how often active connections are queued and how far their start is spread,
+     * how many syncs one instance runs at once, and how long a claimed job stays leased without a
+     * renewal before another instance may take it over.
+     */
+    public record SchedulerProperties(
+            @DefaultValue("1h") Duration interval,
+            @DefaultValue("10m") Duration jitter,
+            @DefaultValue("4") int workers,
+            @DefaultValue("2m") Duration lease,
+            @DefaultValue("1h") Duration maxBackoff
+    ) {}
+
+    /**
+     * Provider request budget: a provider-wide bucket and one per access token, each refilled at
+     * its rate per second up to its burst, and how reads are retried after a throttled or failed
+     * response.
+     */
+    public record RateLimitProperties(
+            @DefaultValue("10") double providerRate,
+            @DefaultValue("20") int providerBurst,
+            @DefaultValue("2") double tokenRate,
+            @DefaultValue("5") int tokenBurst,
+            @DefaultValue("4") int maxAttempts,
+            @DefaultValue("500ms") Duration retryBaseDelay,
+            @DefaultValue("1m") Duration maxRetryDelay
+    ) {}
+
+    /**
+     * HTTP transport shared by a provider's requests: connect and response timeouts, the preferred
+     * HTTP version, and how many consecutive failures open the circuit breaker and for how long.
+     */
+    public record TransportProperties(
+            @DefaultValue("5s") Duration connectTimeout,
+            @DefaultValue("30s") Duration readTimeout,
+            @DefaultValue("HTTP_2") HttpClient.Version version,
+            @DefaultValue("5") int circuitFailureThreshold,
+            @DefaultValue("30s") Duration circuitOpenDuration
+    ) {}
+
+    /**
+     * Provider webhooks: the secrets notifications may be signed with (more than one while a
+     * secret is being rotated; none rejects every notification), and how old a signature may be.
+     */
+    public record WebhookProperties(
+            List<String> signingSecrets,
+            @DefaultValue("5m") Duration signatureTolerance
+    ) {}
 }
@@ -1,5 +1,11 @@
 package com.balanced.aggregation.config;
 
+import com.balanced.aggregation.client.BankAggregatorClient;
+import com.balanced.aggregation.client.ProviderCircuitBreaker;
+import com.balanced.aggregation.client.ProviderRequestMetrics;
+import com.balanced.aggregation.client.RateLimitedAggregatorClient;
+import com.balanced.aggregation.client.TellerAggregatorClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +18,7 @@ import javax.net.ssl.SSLContext;
 import java.io.FileInputStream;
 import java.net.http.HttpClient;
 import java.security.KeyStore;
+import java.util.concurrent.Executors;
 
 @Configuration
 @ConditionalOnProperty(name = "balanced.aggregation.provider", havingValue = "teller")
@@ -21,21 +28,50 @@ public class TellerClientConfig {
     private static final String TELLER_BASE_URL = "https://api.teller.io";
     private static final String TELLER_VERSION = "2020-10-12";
 
+    /**
+     * One client for every Teller request so connections are pooled and reused; over HTTP/2 the
+     * page requests of concurrent account fetches share a connection. Closed on shutdown.
+     */
     @Bean
-    public RestClient tellerRestClient(AggregationProperties props) {
-        var tellerProps = props.teller();
+    public HttpClient tellerHttpClient(AggregationProperties props) {
+        var transport = props.transport();
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(transport.version())
+                .connectTimeout(transport.connectTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor());
 
-        RestClient.Builder builder = RestClient.builder()
-                .baseUrl(TELLER_BASE_URL)
-                .defaultHeader("Teller-Version", TELLER_VERSION);
-
-        if (hasCertificate(tellerProps)) {
-            builder.requestFactory(createMtlsRequestFactory(tellerProps));
+        if (hasCertificate(props.teller())) {
+            builder.sslContext(createMtlsContext(props.teller()));
         }
 
         return builder.build();
     }
 
+    @Bean
+    public RestClient tellerRestClient(HttpClient tellerHttpClient, AggregationProperties props,
+                                       MeterRegistry meterRegistry) {
+        var transport = props.transport();
+        var requestFactory = new JdkClientHttpRequestFactory(tellerHttpClient);
+        requestFactory.setReadTimeout(transport.readTimeout());
+
+        return RestClient.builder()
+                .baseUrl(TELLER_BASE_URL)
+                .defaultHeader("Teller-Version", TELLER_VERSION)
+                .requestFactory(requestFactory)
+                .requestInterceptor(new ProviderCircuitBreaker(props.provider(),
+                        transport.circuitFailureThreshold(), transport.circuitOpenDuration(), meterRegistry))
+                .requestInterceptor(new ProviderRequestMetrics(props.provider(), meterRegistry))
+                .build();
+    }
+
+    @Bean
+    public BankAggregatorClient tellerAggregatorClient(RestClient tellerRestClient,
+                                                       AggregationProperties props,
+                                                       MeterRegistry meterRegistry) {
+        return new RateLimitedAggregatorClient(new TellerAggregatorClient(tellerRestClient), props.provider(),
+                props.rateLimit(), meterRegistry);
+    }
+
     private boolean hasCertificate(AggregationProperties.TellerProperties tellerProps) {
         return tellerProps.certificatePath() != null
                 && !tellerProps.certificatePath().isBlank()
@@ -43,8 +79,7 @@ public class TellerClientConfig {
                 && !tellerProps.privateKeyPath().isBlank();
     }
 
-    private JdkClientHttpRequestFactory createMtlsRequestFactory(
-            AggregationProperties.TellerProperties tellerProps) {
+    private SSLContext createMtlsContext(AggregationProperties.TellerProperties tellerProps) {
         try {
             KeyStore keyStore = KeyStore.getInstance("PKCS12");
             try (var certStream = new FileInputStream(tellerProps.certificatePath())) {
@@ -56,12 +91,7 @@ public class TellerClientConfig {
 
             SSLContext sslContext = SSLContext.getInstance("TLS");
             sslContext.init(kmf.getKeyManagers(), null, null);
-
-            HttpClient httpClient = HttpClient.newBuilder()
-                    .sslContext(sslContext)
-                    .build();
-
-            return new JdkClientHttpRequestFactory(httpClient);
+            return sslContext;
         } catch (Exception e) {
             throw new IllegalStateException("Failed to configure mTLS for Teller API", e);
         }
@@ -0,0 +1,32 @@
+package com.balanced.aggregation.controller;
+
+import com.balanced.aggregation.service.AggregationWebhookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/aggregation/webhooks")
+public class AggregationWebhookController {
+
+    private final AggregationWebhookService webhookService;
+
+    /**
+     * Called by the provider, authenticated by the notification's signature rather than a user or
+     * API key. Returns once the notification is queued; the sync runs in the background.
+     */
+    @PostMapping("/{provider}")
+    public ResponseEntity<Void> receive(@PathVariable String provider,
+                                        @RequestHeader HttpHeaders headers,
+                                        @RequestBody byte[] body) {
+        webhookService.receive(provider, headers, body);
+        return ResponseEntity.accepted().build();
+    }
+}
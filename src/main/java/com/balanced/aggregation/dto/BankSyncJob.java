@@ -0,0 +1,14 @@
+package com.balanced.aggregation.dto;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * A claimed background sync job. {@code queueLag} is how long it was ready before a worker took it.
+ */
+public record BankSyncJob(
+        UUID bankConnectionId,
+        UUID workspaceId,
+        int attempts,
+        Duration queueLag) {
+}
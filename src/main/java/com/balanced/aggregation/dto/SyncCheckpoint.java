@@ -0,0 +1,16 @@
+package com.balanced.aggregation.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * How far an unfinished sync got for one linked account. {@code pageCursor} is the external ID of
+ * the last transaction on the last committed page, or null if no page was committed yet.
+ */
+public record SyncCheckpoint(
+        UUID accountId,
+        LocalDate windowStart,
+        LocalDate windowEnd,
+        String pageCursor,
+        boolean completed) {
+}
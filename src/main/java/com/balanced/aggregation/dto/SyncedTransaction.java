@@ -0,0 +1,22 @@
+package com.balanced.aggregation.dto;
+
+import com.balanced.transaction.enums.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The fields of a bank-synced transaction that sync reads and writes. {@code id} is null for a
+ * row that has not been inserted yet.
+ */
+public record SyncedTransaction(
+        UUID id,
+        String externalId,
+        UUID accountId,
+        UUID merchantId,
+        BigDecimal amount,
+        LocalDateTime date,
+        TransactionStatus status,
+        LocalDateTime postedAt) {
+}
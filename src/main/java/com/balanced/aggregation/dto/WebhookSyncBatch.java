@@ -0,0 +1,18 @@
+package com.balanced.aggregation.dto;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The ready webhook events of one connection, coalesced: the provider ids of every account they
+ * name, and how long the oldest of them has been waiting.
+ */
+public record WebhookSyncBatch(
+        UUID bankConnectionId,
+        UUID workspaceId,
+        List<Long> eventIds,
+        Set<String> accountExternalIds,
+        Duration queueLag) {
+}
@@ -0,0 +1,152 @@
+package com.balanced.aggregation.repository;
+
+import com.balanced.aggregation.dto.BankSyncJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code bank_sync_jobs} queue. Every statement is atomic on its own, so none of
+ * them needs a surrounding transaction; a job is owned through its lease, not through a row lock.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BankSyncJobRepository {
+
+    /**
+     * Queues every active connection not synced within {@code minAge}, each ready at a random point
+     * within the jitter. Connections that already have a job keep it.
+     */
+    private static final String ENQUEUE_ACTIVE_SQL = """
+            INSERT INTO bank_sync_jobs (bank_connection_id, workspace_id, available_at)
+            SELECT id, workspace_id, CURRENT_TIMESTAMP + random() * make_interval(secs => ?)
+            FROM bank_connections
+            WHERE status = 'ACTIVE'
+              AND (last_synced_at IS NULL OR last_synced_at <= CURRENT_TIMESTAMP - make_interval(secs => ?))
+            ON CONFLICT (bank_connection_id) DO NOTHING
+            """;
+
+    /**
+     * Leases the oldest ready jobs that nobody holds. SKIP LOCKED keeps instances claiming at the
+     * same moment from picking the same rows.
+     */
+    private static final String CLAIM_SQL = """
+            UPDATE bank_sync_jobs j
+            SET locked_by = ?, locked_until = CURRENT_TIMESTAMP + make_interval(secs => ?)
+            FROM (
+                SELECT bank_connection_id
+                FROM bank_sync_jobs
+                WHERE available_at <= CURRENT_TIMESTAMP
+                  AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP)
+                ORDER BY available_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) ready
+            WHERE j.bank_connection_id = ready.bank_connection_id
+            RETURNING j.bank_connection_id, j.workspace_id, j.attempts,
+                EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - j.available_at) AS lag_seconds
+            """;
+
+    /**
+     * Leases one connection's job for an on-demand or webhook sync, queueing it first if needed,
+     * ready after the given delay. A job already queued keeps its own time. Matches no row while
+     * someone else holds the lease.
+     */
+    private static final String LEASE_SQL = """
+            INSERT INTO bank_sync_jobs (bank_connection_id, workspace_id, locked_by, locked_until, available_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP + make_interval(secs => ?), CURRENT_TIMESTAMP + make_interval(secs => ?))
+            ON CONFLICT (bank_connection_id) DO UPDATE
+            SET locked_by = EXCLUDED.locked_by, locked_until = EXCLUDED.locked_until
+            WHERE bank_sync_jobs.locked_until IS NULL OR bank_sync_jobs.locked_until < CURRENT_TIMESTAMP
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE bank_sync_jobs
+            SET locked_until = CURRENT_TIMESTAMP + make_interval(secs => ?)
+            WHERE bank_connection_id = ANY(?) AND locked_by = ?
+            """;
+
+    // Exponential backoff: 1m, 2m, 4m ... capped at maxBackoffSeconds
+    private static final String RESCHEDULE_SQL = """
+            UPDATE bank_sync_jobs
+            SET attempts = attempts + 1,
+                available_at = CURRENT_TIMESTAMP + make_interval(secs => least(60 * power(2, attempts), ?)),
+                locked_by = NULL,
+                locked_until = NULL,
+                last_error = ?
+            WHERE bank_connection_id = ? AND locked_by = ?
+            """;
+
+    private static final String READY_STATS_SQL = """
+            SELECT count(*) AS ready,
+                COALESCE(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - min(available_at)), 0) AS oldest_seconds
+            FROM bank_sync_jobs
+            WHERE available_at <= CURRENT_TIMESTAMP
+              AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP)
+            """;
+
+    private static final RowMapper<BankSyncJob> JOB_MAPPER = (rs, rowNum) -> new BankSyncJob(
+            rs.getObject("bank_connection_id", UUID.class),
+            rs.getObject("workspace_id", UUID.class),
+            rs.getInt("attempts"),
+            Duration.ofMillis(Math.max(0, Math.round(rs.getDouble("lag_seconds") * 1000))));
+
+    /** Jobs ready to run and not leased, and how long the oldest of them has been waiting. */
+    public record ReadyStats(long ready, double oldestSeconds) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int enqueueActive(Duration jitter, Duration minAge) {
+        return jdbcTemplate.update(ENQUEUE_ACTIVE_SQL, (double) jitter.toSeconds(), (double) minAge.toSeconds());
+    }
+
+    public List<BankSyncJob> claim(String workerId, int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, JOB_MAPPER, workerId, (double) lease.toSeconds(), limit);
+    }
+
+    public boolean lease(UUID bankConnectionId, UUID workspaceId, String workerId, Duration lease) {
+        return lease(bankConnectionId, workspaceId, workerId, lease, Duration.ZERO);
+    }
+
+    public boolean lease(UUID bankConnectionId, UUID workspaceId, String workerId, Duration lease,
+                         Duration availableIn) {
+        return jdbcTemplate.update(LEASE_SQL, bankConnectionId, workspaceId, workerId, (double) lease.toSeconds(),
+                (double) availableIn.toSeconds()) > 0;
+    }
+
+    public void renew(String workerId, Collection<UUID> bankConnectionIds, Duration lease) {
+        jdbcTemplate.update(RENEW_SQL, ps -> {
+            ps.setDouble(1, lease.toSeconds());
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", bankConnectionIds.toArray()));
+            ps.setString(3, workerId);
+        });
+    }
+
+    public void complete(String workerId, UUID bankConnectionId) {
+        jdbcTemplate.update("DELETE FROM bank_sync_jobs WHERE bank_connection_id = ? AND locked_by = ?",
+                bankConnectionId, workerId);
+    }
+
+    /** Gives up the lease but keeps the job queued. */
+    public void release(String workerId, UUID bankConnectionId) {
+        jdbcTemplate.update("""
+                UPDATE bank_sync_jobs SET locked_by = NULL, locked_until = NULL
+                WHERE bank_connection_id = ? AND locked_by = ?
+                """, bankConnectionId, workerId);
+    }
+
+    public void reschedule(String workerId, UUID bankConnectionId, String error, long maxBackoffSeconds) {
+        jdbcTemplate.update(RESCHEDULE_SQL, maxBackoffSeconds, error, bankConnectionId, workerId);
+    }
+
+    public ReadyStats readyStats() {
+        return jdbcTemplate.queryForObject(READY_STATS_SQL, (rs, rowNum) ->
+                new ReadyStats(rs.getLong("ready"), rs.getDouble("oldest_seconds")));
+    }
+}
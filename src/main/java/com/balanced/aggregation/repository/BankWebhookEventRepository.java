@@ -0,0 +1,116 @@
+package com.balanced.aggregation.repository;
+
+import com.balanced.aggregation.dto.WebhookSyncBatch;
+import com.balanced.aggregation.enums.AggregationProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code bank_webhook_events} queue. Events are not leased themselves: the sync
+ * they trigger holds the connection's lease in {@code bank_sync_jobs}, and only the events it read
+ * are deleted afterwards, so events arriving meanwhile wait for the next round.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BankWebhookEventRepository {
+
+    /**
+     * Queues an event for an active connection; events for unknown enrollments are dropped, and a
+     * redelivered event is stored once.
+     */
+    private static final String INSERT_SQL = """
+            INSERT INTO bank_webhook_events (provider, event_id, enrollment_id, account_ids)
+            SELECT ?, ?, ?, ?
+            WHERE EXISTS (
+                SELECT 1 FROM bank_connections
+                WHERE provider = ? AND enrollment_id = ? AND status = 'ACTIVE'
+            )
+            ON CONFLICT (provider, event_id) DO NOTHING
+            """;
+
+    /** Coalesces the ready events per connection, the connections waiting longest first. */
+    private static final String FIND_READY_SQL = """
+            SELECT c.id AS bank_connection_id, c.workspace_id,
+                array_agg(DISTINCT e.id) AS event_ids,
+                array_agg(DISTINCT a.external_id) AS account_ids,
+                EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - min(e.received_at)) AS lag_seconds
+            FROM bank_webhook_events e
+            JOIN bank_connections c
+              ON c.provider = e.provider AND c.enrollment_id = e.enrollment_id AND c.status = 'ACTIVE'
+            CROSS JOIN LATERAL unnest(e.account_ids) AS a(external_id)
+            WHERE e.available_at <= CURRENT_TIMESTAMP
+            GROUP BY c.id, c.workspace_id
+            ORDER BY min(e.received_at)
+            LIMIT ?
+            """;
+
+    // Exponential backoff: 1m, 2m, 4m ... capped at maxBackoffSeconds
+    private static final String RESCHEDULE_SQL = """
+            UPDATE bank_webhook_events
+            SET attempts = attempts + 1,
+                available_at = CURRENT_TIMESTAMP + make_interval(secs => least(60 * power(2, attempts), ?)),
+                last_error = ?
+            WHERE id = ANY(?)
+            """;
+
+    /** Events whose connection was unlinked or deleted after they were queued. */
+    private static final String DELETE_ORPHANED_SQL = """
+            DELETE FROM bank_webhook_events e
+            WHERE NOT EXISTS (
+                SELECT 1 FROM bank_connections c
+                WHERE c.provider = e.provider AND c.enrollment_id = e.enrollment_id AND c.status = 'ACTIVE'
+            )
+            """;
+
+    private static final RowMapper<WebhookSyncBatch> BATCH_MAPPER = (rs, rowNum) -> new WebhookSyncBatch(
+            rs.getObject("bank_connection_id", UUID.class),
+            rs.getObject("workspace_id", UUID.class),
+            List.of((Long[]) rs.getArray("event_ids").getArray()),
+            Set.copyOf(Arrays.asList((String[]) rs.getArray("account_ids").getArray())),
+            Duration.ofMillis(Math.max(0, Math.round(rs.getDouble("lag_seconds") * 1000))));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Returns whether the event was queued. */
+    public boolean insert(AggregationProvider provider, String eventId, String enrollmentId,
+                          Collection<String> accountExternalIds) {
+        return jdbcTemplate.update(INSERT_SQL, ps -> {
+            ps.setString(1, provider.name());
+            ps.setString(2, eventId);
+            ps.setString(3, enrollmentId);
+            ps.setArray(4, ps.getConnection().createArrayOf("text", accountExternalIds.toArray()));
+            ps.setString(5, provider.name());
+            ps.setString(6, enrollmentId);
+        }) > 0;
+    }
+
+    public List<WebhookSyncBatch> findReady(int limit) {
+        return jdbcTemplate.query(FIND_READY_SQL, BATCH_MAPPER, limit);
+    }
+
+    public void delete(Collection<Long> eventIds) {
+        jdbcTemplate.update("DELETE FROM bank_webhook_events WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", eventIds.toArray())));
+    }
+
+    public void reschedule(Collection<Long> eventIds, String error, long maxBackoffSeconds) {
+        jdbcTemplate.update(RESCHEDULE_SQL, ps -> {
+            ps.setLong(1, maxBackoffSeconds);
+            ps.setString(2, error);
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", eventIds.toArray()));
+        });
+    }
+
+    public int deleteOrphaned() {
+        return jdbcTemplate.update(DELETE_ORPHANED_SQL);
+    }
+}
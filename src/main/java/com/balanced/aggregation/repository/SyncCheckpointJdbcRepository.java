@@ -0,0 +1,72 @@
+package com.balanced.aggregation.repository;
+
+import com.balanced.aggregation.dto.SyncCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-account progress of an unfinished bank sync, written in the same transaction as each page
+ * it records.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncCheckpointJdbcRepository {
+
+    private static final String FIND_BY_CONNECTION_SQL = """
+            SELECT account_id, window_start, window_end, page_cursor, completed_at IS NOT NULL AS completed
+            FROM bank_sync_checkpoints
+            WHERE bank_connection_id = ?
+            """;
+
+    private static final String SAVE_PAGE_SQL = """
+            INSERT INTO bank_sync_checkpoints (account_id, bank_connection_id, window_start, window_end,
+                page_cursor, pages_applied)
+            VALUES (?, ?, ?, ?, ?, 1)
+            ON CONFLICT (account_id) DO UPDATE
+            SET page_cursor = EXCLUDED.page_cursor,
+                pages_applied = bank_sync_checkpoints.pages_applied + 1,
+                updated_at = now()
+            """;
+
+    private static final String MARK_COMPLETED_SQL = """
+            INSERT INTO bank_sync_checkpoints (account_id, bank_connection_id, window_start, window_end, completed_at)
+            VALUES (?, ?, ?, ?, now())
+            ON CONFLICT (account_id) DO UPDATE
+            SET completed_at = now(), updated_at = now()
+            """;
+
+    private static final RowMapper<SyncCheckpoint> ROW_MAPPER = (rs, rowNum) -> new SyncCheckpoint(
+            rs.getObject("account_id", UUID.class),
+            rs.getDate("window_start").toLocalDate(),
+            rs.getDate("window_end").toLocalDate(),
+            rs.getString("page_cursor"),
+            rs.getBoolean("completed"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SyncCheckpoint> findByConnectionId(UUID bankConnectionId) {
+        return jdbcTemplate.query(FIND_BY_CONNECTION_SQL, ROW_MAPPER, bankConnectionId);
+    }
+
+    public void savePage(UUID bankConnectionId, UUID accountId, LocalDate windowStart, LocalDate windowEnd,
+                         String pageCursor) {
+        jdbcTemplate.update(SAVE_PAGE_SQL, accountId, bankConnectionId,
+                Date.valueOf(windowStart), Date.valueOf(windowEnd), pageCursor);
+    }
+
+    public void markCompleted(UUID bankConnectionId, UUID accountId, LocalDate windowStart, LocalDate windowEnd) {
+        jdbcTemplate.update(MARK_COMPLETED_SQL, accountId, bankConnectionId,
+                Date.valueOf(windowStart), Date.valueOf(windowEnd));
+    }
+
+    public void deleteByConnectionId(UUID bankConnectionId) {
+        jdbcTemplate.update("DELETE FROM bank_sync_checkpoints WHERE bank_connection_id = ?", bankConnectionId);
+    }
+}
@@ -0,0 +1,152 @@
+package com.balanced.aggregation.repository;
+
+import com.balanced.account.enums.CurrencyCode;
+import com.balanced.aggregation.dto.SyncedTransaction;
+import com.balanced.transaction.enums.TransactionSource;
+import com.balanced.transaction.enums.TransactionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based reads and writes for bank sync, so a page of provider transactions costs one lookup,
+ * one insert batch and one update batch instead of a few queries per transaction, and removing
+ * the transactions a provider dropped costs one lookup and one delete per account.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionSyncJdbcRepository {
+
+    private static final String FIND_BY_EXTERNAL_IDS_SQL = """
+            SELECT id, external_id, account_id, merchant_id, amount, date, status, posted_at
+            FROM transactions
+            WHERE workspace_id = ? AND external_id = ANY(?)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO transactions (workspace_id, account_id, merchant_id, date, amount, currency_code,
+                status, source, pending_at, posted_at, external_id, created_by, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE transactions
+            SET merchant_id = ?, amount = ?, date = ?, status = ?, posted_at = ?, updated_at = ?, updated_by = ?
+            WHERE id = ?
+            """;
+
+    /**
+     * Bank-synced transactions of an account dated within a sync window. Rows the user has put in a
+     * split or group are left out, since removing them would break those.
+     */
+    private static final String FIND_IN_WINDOW_SQL = """
+            SELECT id, external_id
+            FROM transactions
+            WHERE account_id = ? AND source = 'AUTOMATIC' AND external_id IS NOT NULL
+              AND date >= ? AND date < ?
+              AND split_id IS NULL AND group_id IS NULL
+            """;
+
+    private static final String DELETE_AUTOMATIC_SQL = """
+            DELETE FROM transactions
+            WHERE id = ANY(?) AND source = 'AUTOMATIC'
+            RETURNING amount
+            """;
+
+    public record RemovedTransactions(int count, BigDecimal amount) {}
+
+    private static final RowMapper<SyncedTransaction> ROW_MAPPER = (rs, rowNum) -> new SyncedTransaction(
+            rs.getObject("id", UUID.class),
+            rs.getString("external_id"),
+            rs.getObject("account_id", UUID.class),
+            rs.getObject("merchant_id", UUID.class),
+            rs.getBigDecimal("amount"),
+            rs.getTimestamp("date").toLocalDateTime(),
+            TransactionStatus.valueOf(rs.getString("status")),
+            toLocalDateTime(rs.getTimestamp("posted_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SyncedTransaction> findByExternalIds(UUID workspaceId, Collection<String> externalIds) {
+        return jdbcTemplate.query(FIND_BY_EXTERNAL_IDS_SQL, ps -> {
+            ps.setObject(1, workspaceId);
+            ps.setArray(2, ps.getConnection().createArrayOf("varchar", externalIds.toArray()));
+        }, ROW_MAPPER);
+    }
+
+    /**
+     * Maps external ID to row ID for the account's synced transactions dated from {@code startDate}
+     * through {@code endDate}.
+     */
+    public Map<String, UUID> findIdsInWindow(UUID accountId, LocalDate startDate, LocalDate endDate) {
+        Map<String, UUID> ids = new HashMap<>();
+        jdbcTemplate.query(FIND_IN_WINDOW_SQL, rs -> {
+            ids.put(rs.getString("external_id"), rs.getObject("id", UUID.class));
+        }, accountId, Timestamp.valueOf(startDate.atStartOfDay()), Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()));
+        return ids;
+    }
+
+    /**
+     * Deletes the given synced transactions in one statement.
+     *
+     * @return how many were deleted and the sum of their amounts
+     */
+    public RemovedTransactions deleteAll(Collection<UUID> ids) {
+        List<BigDecimal> amounts = jdbcTemplate.query(DELETE_AUTOMATIC_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                (rs, rowNum) -> rs.getBigDecimal("amount"));
+        return new RemovedTransactions(amounts.size(), amounts.stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    public void insertAll(UUID workspaceId, List<SyncedTransaction> rows, String auditor) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, workspaceId);
+            ps.setObject(2, row.accountId());
+            ps.setObject(3, row.merchantId());
+            ps.setTimestamp(4, Timestamp.valueOf(row.date()));
+            ps.setBigDecimal(5, row.amount());
+            ps.setString(6, CurrencyCode.USD.name());
+            ps.setString(7, row.status().name());
+            ps.setString(8, TransactionSource.AUTOMATIC.name());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, toTimestamp(row.postedAt()));
+            ps.setString(11, row.externalId());
+            ps.setString(12, auditor);
+            ps.setString(13, auditor);
+        });
+    }
+
+    public void updateAll(List<SyncedTransaction> rows, String auditor) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, row.merchantId());
+            ps.setBigDecimal(2, row.amount());
+            ps.setTimestamp(3, Timestamp.valueOf(row.date()));
+            ps.setString(4, row.status().name());
+            ps.setTimestamp(5, toTimestamp(row.postedAt()));
+            ps.setTimestamp(6, now);
+            ps.setString(7, auditor);
+            ps.setObject(8, row.id());
+        });
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
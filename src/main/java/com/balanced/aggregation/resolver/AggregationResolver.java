@@ -6,6 +6,7 @@ import com.balanced.aggregation.dto.SyncResult;
 import com.balanced.aggregation.entity.BankConnection;
 import com.balanced.aggregation.mapper.BankConnectionMapper;
 import com.balanced.aggregation.service.AggregationService;
+import com.balanced.aggregation.service.BankSyncScheduler;
 import com.balanced.common.graphql.GraphQLContext;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.UUID;
 public class AggregationResolver {
 
     private final AggregationService aggregationService;
+    private final BankSyncScheduler bankSyncScheduler;
     private final BankConnectionMapper bankConnectionMapper;
 
     @PreAuthorize("hasAuthority('READ')")
@@ -59,6 +61,6 @@ public class AggregationResolver {
     @MutationMapping
     public SyncResult syncTransactions(@Argument UUID bankConnectionId) {
         UUID workspaceId = GraphQLContext.workspaceId();
-        return aggregationService.syncTransactions(bankConnectionId, workspaceId);
+        return bankSyncScheduler.syncNow(bankConnectionId, workspaceId);
     }
 }
@@ -0,0 +1,190 @@
+package com.balanced.aggregation.service;
+
+import com.balanced.account.entity.Account;
+import com.balanced.aggregation.client.BankAggregatorClient;
+import com.balanced.aggregation.config.AggregationProperties;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Fetches the transactions of a connection's accounts from the provider concurrently, one virtual
+ * thread per account, so a sync waits for the slowest account rather than for all of them in turn.
+ * At most {@code balanced.aggregation.sync.connection-concurrency} page requests run for one
+ * connection, and at most {@code balanced.aggregation.sync.global-concurrency} across every sync on
+ * the instance.
+ * <p>
+ * Pages are handed to the caller as they arrive. Each account's fetch stays at most one page ahead
+ * of the caller, so memory is bounded by a couple of pages per account in flight, however long the
+ * sync window is.
+ */
+@Component
+public class AccountTransactionFetcher {
+
+    /** Marks the end of an account's pages in its hand-off queue; compared by identity. */
+    private static final List<AggregatedTransaction> END_OF_PAGES = new ArrayList<>(0);
+
+    /**
+     * One account to fetch: its date range and, when resuming, the last transaction already applied.
+     */
+    public record AccountWindow(Account account, LocalDate startDate, LocalDate endDate, String afterExternalId) {}
+
+    /** Receives the fetched pages on the thread that called {@link #fetchAll}. */
+    @FunctionalInterface
+    public interface PageHandler {
+
+        void apply(AccountWindow window, List<AggregatedTransaction> page);
+
+        /** Called once every page of the account has been applied. */
+        default void completed(AccountWindow window) {
+        }
+    }
+
+    private final BankAggregatorClient aggregatorClient;
+    private final int connectionConcurrency;
+    private final Semaphore globalPermits;
+
+    public AccountTransactionFetcher(BankAggregatorClient aggregatorClient, AggregationProperties properties) {
+        this.aggregatorClient = aggregatorClient;
+        this.connectionConcurrency = properties.sync().connectionConcurrency();
+        this.globalPermits = new Semaphore(properties.sync().globalConcurrency(), true);
+    }
+
+    /**
+     * Fetches every account's transactions and hands each provider page to {@code handler} on the
+     * calling thread, account by account and in page order. If a fetch or the handler fails, the
+     * fetches still running are cancelled and the failure is rethrown.
+     */
+    public void fetchAll(String accessToken, List<AccountWindow> windows, PageHandler handler) {
+        Semaphore connectionPermits = new Semaphore(connectionConcurrency, true);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<PageHandoff> handoffs = new ArrayList<>(windows.size());
+            List<Future<?>> fetches = new ArrayList<>(windows.size());
+            for (AccountWindow window : windows) {
+                PageHandoff handoff = new PageHandoff();
+                handoffs.add(handoff);
+                fetches.add(executor.submit(() -> {
+                    fetchPages(accessToken, window, connectionPermits, mdc, handoff);
+                    return null;
+                }));
+            }
+            try {
+                for (int i = 0; i < windows.size(); i++) {
+                    List<AggregatedTransaction> page;
+                    while ((page = handoffs.get(i).take()) != END_OF_PAGES) {
+                        handler.apply(windows.get(i), page);
+                    }
+                    await(fetches.get(i));
+                    handler.completed(windows.get(i));
+                }
+            } finally {
+                handoffs.forEach(PageHandoff::close);
+                fetches.forEach(fetch -> fetch.cancel(true));
+            }
+        }
+    }
+
+    /**
+     * Pulls the account's pages into {@code handoff}. Permits are held only while a page is being
+     * requested, never while waiting for the caller to take the previous one, so a fetch that is
+     * ahead of the caller cannot starve the account the caller is waiting on.
+     */
+    private void fetchPages(String accessToken, AccountWindow window, Semaphore connectionPermits,
+                            Map<String, String> mdc, PageHandoff handoff) throws Exception {
+        if (mdc != null) MDC.setContextMap(mdc);
+        try (Stream<List<AggregatedTransaction>> pages = aggregatorClient.streamTransactions(accessToken,
+                window.account().getExternalId(), window.startDate(), window.endDate(), window.afterExternalId())) {
+            Iterator<List<AggregatedTransaction>> cursor = pages.iterator();
+            List<AggregatedTransaction> page;
+            while (!handoff.isClosed()
+                    && (page = withPermits(connectionPermits, () -> cursor.hasNext() ? cursor.next() : null)) != null) {
+                // An empty page has nothing to write and no last transaction to checkpoint
+                if (!page.isEmpty()) {
+                    handoff.put(page);
+                }
+            }
+        } finally {
+            MDC.clear();
+            handoff.put(END_OF_PAGES);
+        }
+    }
+
+    private <T> T withPermits(Semaphore connectionPermits, Callable<T> fetch) throws Exception {
+        connectionPermits.acquire();
+        try {
+            globalPermits.acquire();
+            try {
+                return fetch.call();
+            } finally {
+                globalPermits.release();
+            }
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private static void await(Future<?> fetch) {
+        try {
+            fetch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for provider transactions");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("Fetching provider transactions failed", e.getCause());
+        }
+    }
+
+    /**
+     * A one-page queue between an account's fetch and the caller. Once the caller stops reading,
+     * closing it releases a fetch blocked on a full queue, even if that fetch has already used up
+     * its interrupt.
+     */
+    private static final class PageHandoff {
+
+        private final BlockingQueue<List<AggregatedTransaction>> queue = new ArrayBlockingQueue<>(1);
+        private volatile boolean closed;
+
+        void put(List<AggregatedTransaction> page) throws InterruptedException {
+            while (!closed && !queue.offer(page, 100, TimeUnit.MILLISECONDS)) {
+                // Wait for the caller to take the previous page
+            }
+        }
+
+        List<AggregatedTransaction> take() {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for provider transactions");
+            }
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        void close() {
+            closed = true;
+        }
+    }
+}
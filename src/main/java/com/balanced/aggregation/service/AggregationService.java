@@ -9,31 +9,36 @@ import com.balanced.account.service.AccountService;
 import com.balanced.aggregation.client.BankAggregatorClient;
 import com.balanced.aggregation.dto.AggregatedAccount;
 import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.balanced.aggregation.dto.SyncCheckpoint;
 import com.balanced.aggregation.dto.SyncResult;
 import com.balanced.aggregation.entity.BankConnection;
 import com.balanced.aggregation.enums.AggregationProvider;
 import com.balanced.aggregation.mapper.AggregatedAccountTypeMapper;
 import com.balanced.aggregation.repository.BankConnectionRepository;
+import com.balanced.aggregation.repository.SyncCheckpointJdbcRepository;
+import com.balanced.aggregation.service.AccountTransactionFetcher.AccountWindow;
 import com.balanced.common.enums.Status;
 import com.balanced.common.exception.ResourceNotFoundException;
-import com.balanced.merchant.service.MerchantService;
-import com.balanced.transaction.dto.CreateTransactionInput;
-import com.balanced.transaction.entity.Transaction;
-import com.balanced.transaction.enums.TransactionSource;
-import com.balanced.transaction.enums.TransactionStatus;
-import com.balanced.transaction.repository.TransactionRepository;
-import com.balanced.transaction.service.TransactionService;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class AggregationService {
@@ -46,26 +51,32 @@ public class AggregationService {
     private final BankConnectionRepository bankConnectionRepository;
     private final AccountRepository accountRepository;
     private final AccountService accountService;
-    private final TransactionService transactionService;
-    private final TransactionRepository transactionRepository;
-    private final MerchantService merchantService;
+    private final AccountTransactionFetcher transactionFetcher;
+    private final TransactionSyncWriter syncWriter;
+    private final SyncCheckpointJdbcRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
     private final AggregationProvider provider;
 
     public AggregationService(BankAggregatorClient aggregatorClient,
                                BankConnectionRepository bankConnectionRepository,
                                AccountRepository accountRepository,
                                AccountService accountService,
-                               TransactionService transactionService,
-                               TransactionRepository transactionRepository,
-                               MerchantService merchantService,
+                               AccountTransactionFetcher transactionFetcher,
+                               TransactionSyncWriter syncWriter,
+                               SyncCheckpointJdbcRepository checkpointRepository,
+                               PlatformTransactionManager transactionManager,
+                               EntityManager entityManager,
                                @org.springframework.beans.factory.annotation.Value("${balanced.aggregation.provider:teller}") String providerName) {
         this.aggregatorClient = aggregatorClient;
         this.bankConnectionRepository = bankConnectionRepository;
         this.accountRepository = accountRepository;
         this.accountService = accountService;
-        this.transactionService = transactionService;
-        this.transactionRepository = transactionRepository;
-        this.merchantService = merchantService;
+        this.transactionFetcher = transactionFetcher;
+        this.syncWriter = syncWriter;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
         this.provider = AggregationProvider.valueOf(providerName.toUpperCase());
     }
 
@@ -111,48 +122,135 @@ public class AggregationService {
         return connection;
     }
 
-    @Transactional
+    /**
+     * Syncs every linked account of the connection, committing each provider page in its own
+     * transaction together with the account's checkpoint. If the sync fails part-way, what was
+     * committed stays, {@code lastSyncedAt} is left alone, and the next sync skips the accounts that
+     * finished and resumes the others after their last committed page.
+     * <p>
+     * Once an account's window has been fetched in full, its synced transactions in the window that
+     * the provider no longer returned are removed. A resumed window is not reconciled, since the
+     * pages committed before the interruption were not seen by this run; the next sync covers it.
+     */
     public SyncResult syncTransactions(UUID bankConnectionId, UUID workspaceId) {
         BankConnection connection = getConnection(bankConnectionId, workspaceId);
         List<Account> linkedAccounts = accountRepository.findAllByBankConnectionId(connection.getId());
 
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate;
-        if (connection.getLastSyncedAt() == null) {
-            startDate = endDate.minusDays(INITIAL_SYNC_DAYS);
-        } else {
-            startDate = connection.getLastSyncedAt().toLocalDate().minusDays(SYNC_OVERLAP_DAYS);
+        LocalDate startDate = windowStart(connection, endDate);
+
+        Map<UUID, SyncCheckpoint> checkpoints = checkpointRepository.findByConnectionId(connection.getId()).stream()
+                .collect(Collectors.toMap(SyncCheckpoint::accountId, Function.identity()));
+        List<AccountWindow> windows = new ArrayList<>(linkedAccounts.size());
+        for (Account account : linkedAccounts) {
+            SyncCheckpoint checkpoint = checkpoints.get(account.getId());
+            if (checkpoint == null) {
+                windows.add(new AccountWindow(account, startDate, endDate, null));
+            } else if (!checkpoint.completed()) {
+                windows.add(new AccountWindow(account, checkpoint.windowStart(), checkpoint.windowEnd(),
+                        checkpoint.pageCursor()));
+            }
+        }
+        if (!checkpoints.isEmpty()) {
+            log.info("Resuming sync for connection {} ({} of {} accounts left)",
+                    bankConnectionId, windows.size(), linkedAccounts.size());
         }
 
-        int totalAdded = 0;
-        int totalModified = 0;
+        SyncResult synced = fetchAndWrite(connection, workspaceId, windows, true);
 
-        for (Account account : linkedAccounts) {
-            List<AggregatedTransaction> externalTxns = aggregatorClient.getTransactions(
-                    connection.getAccessToken(), account.getExternalId(), startDate, endDate);
+        transactionTemplate.executeWithoutResult(status -> {
+            checkpointRepository.deleteByConnectionId(connection.getId());
+            connection.setLastSyncedAt(LocalDateTime.now());
+            bankConnectionRepository.save(connection);
+        });
+
+        log.info("Synced transactions for connection {} (added: {}, modified: {}, removed: {}, accounts: {})",
+                bankConnectionId, synced.transactionsAdded(), synced.transactionsModified(),
+                synced.transactionsRemoved(), linkedAccounts.size());
+
+        return new SyncResult(synced.transactionsAdded(), synced.transactionsModified(),
+                synced.transactionsRemoved(), linkedAccounts.size());
+    }
+
+    /**
+     * Syncs only the linked accounts with the given provider IDs, over the window the next full sync
+     * would fetch. Pages are committed as they arrive but no checkpoints are kept, since a failed
+     * run is simply repeated; the connection's {@code lastSyncedAt} is left to the full sync, as its
+     * other accounts were not fetched.
+     */
+    public SyncResult syncAccounts(UUID bankConnectionId, UUID workspaceId, Set<String> externalAccountIds) {
+        BankConnection connection = getConnection(bankConnectionId, workspaceId);
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = windowStart(connection, endDate);
+
+        List<AccountWindow> windows = accountRepository.findAllByBankConnectionId(connection.getId()).stream()
+                .filter(account -> externalAccountIds.contains(account.getExternalId()))
+                .map(account -> new AccountWindow(account, startDate, endDate, null))
+                .toList();
+
+        SyncResult synced = fetchAndWrite(connection, workspaceId, windows, false);
+        log.info("Synced transactions for {} accounts of connection {} (added: {}, modified: {}, removed: {})",
+                windows.size(), bankConnectionId, synced.transactionsAdded(), synced.transactionsModified(),
+                synced.transactionsRemoved());
+        return synced;
+    }
 
-            for (AggregatedTransaction extTxn : externalTxns) {
-                Optional<Transaction> existing = transactionRepository
-                        .findByExternalIdAndWorkspaceId(extTxn.externalId(), workspaceId);
+    private static LocalDate windowStart(BankConnection connection, LocalDate endDate) {
+        if (connection.getLastSyncedAt() == null) {
+            return endDate.minusDays(INITIAL_SYNC_DAYS);
+        }
+        return connection.getLastSyncedAt().toLocalDate().minusDays(SYNC_OVERLAP_DAYS);
+    }
 
-                if (existing.isPresent()) {
-                    if (updateTransactionFromExternal(existing.get(), account, extTxn)) {
-                        totalModified++;
+    /**
+     * Fetches the windows, writing each page in its own transaction, with the account's checkpoint
+     * when {@code checkpointed}, and reconciles each window fetched from its start.
+     */
+    private SyncResult fetchAndWrite(BankConnection connection, UUID workspaceId, List<AccountWindow> windows,
+                                     boolean checkpointed) {
+        int[] totals = {0, 0, 0};
+        // External IDs seen per account, for windows fetched from their start in this run
+        Map<UUID, Set<String>> seenExternalIds = new HashMap<>();
+        transactionFetcher.fetchAll(connection.getAccessToken(), windows, new AccountTransactionFetcher.PageHandler() {
+            @Override
+            public void apply(AccountWindow window, List<AggregatedTransaction> page) {
+                TransactionSyncWriter.PageResult written = transactionTemplate.execute(status -> {
+                    TransactionSyncWriter.PageResult result = syncWriter.write(workspaceId, window.account(), page);
+                    if (checkpointed && !page.isEmpty()) {
+                        checkpointRepository.savePage(connection.getId(), window.account().getId(),
+                                window.startDate(), window.endDate(), page.getLast().externalId());
                     }
-                } else {
-                    createTransactionFromExternal(workspaceId, account, extTxn);
-                    totalAdded++;
+                    return result;
+                });
+                if (window.afterExternalId() == null) {
+                    Set<String> seen = seenExternalIds.computeIfAbsent(window.account().getId(), id -> new HashSet<>());
+                    page.forEach(extTxn -> seen.add(extTxn.externalId()));
                 }
+                // Nothing from a committed page is needed again
+                entityManager.clear();
+                totals[0] += written.added();
+                totals[1] += written.modified();
             }
-        }
 
-        connection.setLastSyncedAt(LocalDateTime.now());
-        bankConnectionRepository.save(connection);
-
-        log.info("Synced transactions for connection {} (added: {}, modified: {}, accounts: {})",
-                bankConnectionId, totalAdded, totalModified, linkedAccounts.size());
-
-        return new SyncResult(totalAdded, totalModified, 0, linkedAccounts.size());
+            @Override
+            public void completed(AccountWindow window) {
+                Set<String> seen = seenExternalIds.remove(window.account().getId());
+                Integer removed = transactionTemplate.execute(status -> {
+                    int count = window.afterExternalId() == null
+                            ? syncWriter.removeMissing(window.account(), window.startDate(), window.endDate(),
+                                    seen != null ? seen : Set.of())
+                            : 0;
+                    if (checkpointed) {
+                        checkpointRepository.markCompleted(connection.getId(), window.account().getId(),
+                                window.startDate(), window.endDate());
+                    }
+                    return count;
+                });
+                entityManager.clear();
+                totals[2] += removed != null ? removed : 0;
+            }
+        });
+        return new SyncResult(totals[0], totals[1], totals[2], windows.size());
     }
 
     @Transactional
@@ -175,6 +273,7 @@ public class AggregationService {
 
         connection.setStatus(Status.CLOSED);
         bankConnectionRepository.save(connection);
+        checkpointRepository.deleteByConnectionId(connection.getId());
 
         log.info("Unlinked bank connection {} ({} accounts converted to manual)",
                 bankConnectionId, linkedAccounts.size());
@@ -259,89 +358,4 @@ public class AggregationService {
 
         throw new IllegalStateException("Unable to generate unique account name for: " + name);
     }
-
-    private void createTransactionFromExternal(UUID workspaceId, Account account,
-                                                AggregatedTransaction extTxn) {
-        String merchantName = resolveMerchantName(extTxn);
-        BigDecimal amount = resolveAmount(account, extTxn);
-
-        CreateTransactionInput input = CreateTransactionInput.builder()
-                .accountId(account.getId())
-                .merchantName(merchantName)
-                .amount(amount)
-                .date(extTxn.date().atStartOfDay())
-                .build();
-
-        Transaction transaction = transactionService.createTransaction(workspaceId, input);
-        transaction.setExternalId(extTxn.externalId());
-        transaction.setSource(TransactionSource.AUTOMATIC);
-        applyStatus(transaction, extTxn);
-        transactionRepository.save(transaction);
-    }
-
-    /**
-     * Updates an existing transaction if any synced fields have changed.
-     * Returns true if the transaction was modified.
-     */
-    private boolean updateTransactionFromExternal(Transaction existing, Account account,
-                                                   AggregatedTransaction extTxn) {
-        boolean modified = false;
-
-        BigDecimal newAmount = resolveAmount(account, extTxn);
-        if (existing.getAmount().compareTo(newAmount) != 0) {
-            existing.setAmount(newAmount);
-            modified = true;
-        }
-
-        LocalDateTime newDate = extTxn.date().atStartOfDay();
-        if (!existing.getDate().equals(newDate)) {
-            existing.setDate(newDate);
-            modified = true;
-        }
-
-        TransactionStatus newStatus = "posted".equals(extTxn.status())
-                ? TransactionStatus.POSTED : TransactionStatus.PENDING;
-        if (existing.getStatus() != newStatus) {
-            existing.setStatus(newStatus);
-            if (newStatus == TransactionStatus.POSTED) {
-                existing.setPostedAt(extTxn.date().atStartOfDay());
-            }
-            modified = true;
-        }
-
-        String newMerchantName = resolveMerchantName(extTxn);
-        UUID newMerchantId = merchantService.resolveMerchant(newMerchantName, existing.getWorkspaceId()).getId();
-        if (!existing.getMerchantId().equals(newMerchantId)) {
-            existing.setMerchantId(newMerchantId);
-            modified = true;
-        }
-
-        if (modified) {
-            transactionRepository.save(existing);
-        }
-
-        return modified;
-    }
-
-    private String resolveMerchantName(AggregatedTransaction extTxn) {
-        return extTxn.counterpartyName() != null
-                ? extTxn.counterpartyName()
-                : extTxn.description();
-    }
-
-    // Teller sign convention for credit accounts is opposite to ours:
-    // Teller: positive = purchase (expense), negative = payment (income)
-    // Ours:   negative = expense, positive = income
-    private BigDecimal resolveAmount(Account account, AggregatedTransaction extTxn) {
-        return account.getType() == AccountType.CREDIT
-                ? extTxn.amount().negate()
-                : extTxn.amount();
-    }
-
-    private void applyStatus(Transaction transaction, AggregatedTransaction extTxn) {
-        if ("posted".equals(extTxn.status())) {
-            transaction.setStatus(TransactionStatus.POSTED);
-            transaction.setPostedAt(extTxn.date().atStartOfDay());
-        }
-    }
 }
@@ -0,0 +1,166 @@
+package com.balanced.aggregation.service;
+
+import com.balanced.aggregation.config.AggregationProperties;
+import com.balanced.aggregation.enums.AggregationProvider;
+import com.balanced.aggregation.repository.BankWebhookEventRepository;
+import com.balanced.common.exception.AccessDeniedException;
+import com.balanced.common.exception.BadRequestException;
+import com.balanced.common.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Accepts provider webhooks. A notification is checked against the {@code Teller-Signature}
+ * header, an HMAC-SHA256 of {@code "<t>.<body>"} under one of the signing secrets, and rejected if
+ * its timestamp is outside the tolerance so a captured request cannot be replayed later.
+ * <p>
+ * Only {@code transactions.processed} triggers a sync: the accounts its transactions belong to are
+ * queued in {@code bank_webhook_events} and synced by {@link BankSyncScheduler}. Other events are
+ * acknowledged and dropped.
+ */
+@Slf4j
+@Service
+public class AggregationWebhookService {
+
+    static final String SIGNATURE_HEADER = "Teller-Signature";
+    static final String TRANSACTIONS_PROCESSED = "transactions.processed";
+
+    private final BankWebhookEventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final AggregationProvider provider;
+    private final List<String> signingSecrets;
+    private final Duration signatureTolerance;
+
+    public AggregationWebhookService(BankWebhookEventRepository eventRepository,
+                                     ObjectMapper objectMapper,
+                                     AggregationProperties aggregationProperties) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.provider = AggregationProvider.valueOf(aggregationProperties.provider().toUpperCase());
+        var webhook = aggregationProperties.webhook();
+        this.signingSecrets = webhook.signingSecrets() != null ? List.copyOf(webhook.signingSecrets()) : List.of();
+        this.signatureTolerance = webhook.signatureTolerance();
+    }
+
+    /** Verifies and queues a notification. Returns whether it was queued for a sync. */
+    public boolean receive(String providerName, HttpHeaders headers, byte[] body) {
+        if (provider != AggregationProvider.TELLER || !provider.name().equalsIgnoreCase(providerName)) {
+            throw new ResourceNotFoundException("No webhook endpoint for provider " + providerName);
+        }
+        if (!verified(headers.getFirst(SIGNATURE_HEADER), body)) {
+            log.warn("Rejected {} webhook with an invalid or expired signature", providerName);
+            throw new AccessDeniedException("Invalid webhook signature");
+        }
+
+        TellerWebhook webhook;
+        try {
+            webhook = objectMapper.readValue(body, TellerWebhook.class);
+        } catch (IOException e) {
+            throw new BadRequestException("Malformed webhook payload");
+        }
+        if (!TRANSACTIONS_PROCESSED.equals(webhook.type())) {
+            log.info("Ignoring {} webhook {}", webhook.type(), webhook.id());
+            return false;
+        }
+        if (webhook.id() == null || webhook.payload() == null || webhook.payload().enrollmentId() == null) {
+            throw new BadRequestException("Webhook is missing its id or enrollment");
+        }
+
+        Set<String> accountIds = webhook.payload().transactions() == null ? Set.of()
+                : webhook.payload().transactions().stream()
+                        .map(TransactionRef::accountId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+        if (accountIds.isEmpty()) {
+            return false;
+        }
+        boolean queued = eventRepository.insert(provider, webhook.id(), webhook.payload().enrollmentId(), accountIds);
+        log.info("Webhook {} for enrollment {} ({} accounts) {}", webhook.id(), webhook.payload().enrollmentId(),
+                accountIds.size(), queued ? "queued" : "skipped: duplicate or no active connection");
+        return queued;
+    }
+
+    private boolean verified(String header, byte[] body) {
+        if (header == null || signingSecrets.isEmpty()) return false;
+
+        String timestamp = null;
+        List<String> signatures = new ArrayList<>();
+        for (String part : header.split(",")) {
+            int eq = part.indexOf('=');
+            if (eq < 0) continue;
+            String key = part.substring(0, eq).trim();
+            String value = part.substring(eq + 1).trim();
+            if (key.equals("t")) {
+                timestamp = value;
+            } else if (key.equals("v1")) {
+                signatures.add(value);
+            }
+        }
+        if (timestamp == null || signatures.isEmpty()) return false;
+
+        long signedAt;
+        try {
+            signedAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(Instant.now().getEpochSecond() - signedAt) > signatureTolerance.toSeconds()) return false;
+
+        byte[] prefix = (timestamp + ".").getBytes(StandardCharsets.UTF_8);
+        for (String secret : signingSecrets) {
+            byte[] expected = sign(secret, prefix, body);
+            for (String signature : signatures) {
+                // Constant-time comparison, so the expected signature cannot be guessed byte by byte
+                if (MessageDigest.isEqual(expected, parseHex(signature))) return true;
+            }
+        }
+        return false;
+    }
+
+    static byte[] sign(String secret, byte[] prefix, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            mac.update(prefix);
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static byte[] parseHex(String signature) {
+        try {
+            return HexFormat.of().parseHex(signature);
+        } catch (IllegalArgumentException e) {
+            return new byte[0];
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record TellerWebhook(String id, String type, Payload payload) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record Payload(@JsonProperty("enrollment_id") String enrollmentId, List<TransactionRef> transactions) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record TransactionRef(@JsonProperty("account_id") String accountId) {}
+}
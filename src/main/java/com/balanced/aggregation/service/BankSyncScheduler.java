@@ -0,0 +1,235 @@
+package com.balanced.aggregation.service;
+
+import com.balanced.aggregation.config.AggregationProperties;
+import com.balanced.aggregation.dto.BankSyncJob;
+import com.balanced.aggregation.dto.SyncResult;
+import com.balanced.aggregation.dto.WebhookSyncBatch;
+import com.balanced.aggregation.repository.BankSyncJobRepository;
+import com.balanced.aggregation.repository.BankSyncJobRepository.ReadyStats;
+import com.balanced.aggregation.repository.BankWebhookEventRepository;
+import com.balanced.common.exception.ConflictException;
+import com.balanced.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Keeps bank connections synced in the background. Every {@code balanced.aggregation.scheduler.interval}
+ * each active connection not synced within that interval is queued in {@code bank_sync_jobs}, ready
+ * at a random point within the jitter so the syncs do not all hit the provider at once. Every
+ * instance polls the queue and runs up to {@code workers} syncs on its own pool.
+ * <p>
+ * A claimed job is leased to this instance and the lease is renewed on every poll while the sync
+ * runs, so no two instances sync a connection at once; if an instance dies its leases run out and
+ * the jobs are taken over, resuming from the sync checkpoints. On-demand syncs take the same lease.
+ * A failed sync is retried with exponential backoff.
+ * <p>
+ * Webhook notifications queued in {@code bank_webhook_events} are polled the same way and coalesced
+ * per connection: one sync of just the accounts they name, under the connection's lease so it never
+ * overlaps a full sync. If the connection had no job, the lease queues one a full interval out,
+ * when it would have been queued anyway, and the targeted sync releases rather than deletes it.
+ * <p>
+ * Exported meters: {@code balanced.aggregation.sync.queue.ready} and
+ * {@code balanced.aggregation.sync.queue.oldest} for the backlog, {@code balanced.aggregation.sync.queue.lag}
+ * for how long each claimed job waited, {@code balanced.aggregation.webhook.lag} for how long the
+ * oldest notification of a batch waited, and {@code balanced.aggregation.sync.duration} per sync,
+ * tagged with its outcome.
+ */
+@Slf4j
+@Component
+public class BankSyncScheduler {
+
+    private final BankSyncJobRepository jobRepository;
+    private final BankWebhookEventRepository webhookRepository;
+    private final AggregationService aggregationService;
+    private final AggregationProperties.SchedulerProperties properties;
+    private final ExecutorService workers;
+    private final String workerId = UUID.randomUUID().toString();
+    /** Connections this instance holds a lease for, background or on demand. */
+    private final Set<UUID> leased = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+    private final AtomicReference<ReadyStats> readyStats = new AtomicReference<>(new ReadyStats(0, 0));
+    private final Timer queueLag;
+    private final Timer webhookLag;
+    private final Timer succeeded;
+    private final Timer failed;
+
+    public BankSyncScheduler(BankSyncJobRepository jobRepository,
+                             BankWebhookEventRepository webhookRepository,
+                             AggregationService aggregationService,
+                             AggregationProperties aggregationProperties,
+                             MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.webhookRepository = webhookRepository;
+        this.aggregationService = aggregationService;
+        this.properties = aggregationProperties.scheduler();
+        this.workers = Executors.newFixedThreadPool(properties.workers(),
+                Thread.ofPlatform().name("bank-sync-", 1).daemon(true).factory());
+        Gauge.builder("balanced.aggregation.sync.queue.ready", readyStats, stats -> stats.get().ready())
+                .description("Background sync jobs ready to run and not claimed")
+                .register(meterRegistry);
+        Gauge.builder("balanced.aggregation.sync.queue.oldest", readyStats, stats -> stats.get().oldestSeconds())
+                .description("Seconds the oldest unclaimed ready sync job has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.queueLag = Timer.builder("balanced.aggregation.sync.queue.lag")
+                .description("Time a background sync job was ready before a worker claimed it")
+                .register(meterRegistry);
+        this.webhookLag = Timer.builder("balanced.aggregation.webhook.lag")
+                .description("Time the oldest webhook notification of a connection waited before its sync started")
+                .register(meterRegistry);
+        this.succeeded = syncTimer(meterRegistry, "success");
+        this.failed = syncTimer(meterRegistry, "failure");
+    }
+
+    @Scheduled(fixedDelayString = "${balanced.aggregation.scheduler.interval:1h}",
+            initialDelayString = "${balanced.aggregation.scheduler.interval:1h}")
+    public void enqueueActiveConnections() {
+        int queued = jobRepository.enqueueActive(properties.jitter(), properties.interval());
+        log.info("Queued {} bank connections for background sync", queued);
+    }
+
+    @Scheduled(fixedDelayString = "${balanced.aggregation.scheduler.poll-interval:5s}")
+    public void poll() {
+        Set<UUID> held = Set.copyOf(leased);
+        if (!held.isEmpty()) {
+            jobRepository.renew(workerId, held, properties.lease());
+        }
+        readyStats.set(jobRepository.readyStats());
+
+        int free = properties.workers() - busyWorkers.get();
+        if (free <= 0) return;
+        for (BankSyncJob job : jobRepository.claim(workerId, free, properties.lease())) {
+            queueLag.record(job.queueLag());
+            leased.add(job.bankConnectionId());
+            busyWorkers.incrementAndGet();
+            workers.execute(() -> run(job.bankConnectionId(), job.workspaceId()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${balanced.aggregation.webhook.poll-interval:5s}")
+    public void pollWebhooks() {
+        webhookRepository.deleteOrphaned();
+
+        int free = properties.workers() - busyWorkers.get();
+        if (free <= 0) return;
+        for (WebhookSyncBatch batch : webhookRepository.findReady(free)) {
+            if (!jobRepository.lease(batch.bankConnectionId(), batch.workspaceId(), workerId, properties.lease(),
+                    properties.interval())) {
+                // A sync of the connection is running; its notifications wait for the next poll
+                continue;
+            }
+            webhookLag.record(batch.queueLag());
+            leased.add(batch.bankConnectionId());
+            busyWorkers.incrementAndGet();
+            workers.execute(() -> runTargeted(batch));
+        }
+    }
+
+    /**
+     * Syncs a connection on the calling thread under the same lease as background jobs, replacing
+     * any job queued for it.
+     */
+    public SyncResult syncNow(UUID bankConnectionId, UUID workspaceId) {
+        aggregationService.getConnection(bankConnectionId, workspaceId);
+        if (!jobRepository.lease(bankConnectionId, workspaceId, workerId, properties.lease())) {
+            throw new ConflictException("A sync is already running for this bank connection");
+        }
+        leased.add(bankConnectionId);
+        try {
+            SyncResult result = timed(() -> aggregationService.syncTransactions(bankConnectionId, workspaceId));
+            jobRepository.complete(workerId, bankConnectionId);
+            return result;
+        } catch (RuntimeException e) {
+            jobRepository.reschedule(workerId, bankConnectionId, abbreviate(e.toString()),
+                    properties.maxBackoff().toSeconds());
+            throw e;
+        } finally {
+            leased.remove(bankConnectionId);
+        }
+    }
+
+    private void run(UUID bankConnectionId, UUID workspaceId) {
+        MDC.put("workspaceId", workspaceId.toString());
+        try {
+            timed(() -> aggregationService.syncTransactions(bankConnectionId, workspaceId));
+            jobRepository.complete(workerId, bankConnectionId);
+        } catch (ResourceNotFoundException e) {
+            // The connection was deleted after it was queued
+            jobRepository.complete(workerId, bankConnectionId);
+        } catch (RuntimeException e) {
+            log.error("Background sync of connection {} failed, rescheduling", bankConnectionId, e);
+            jobRepository.reschedule(workerId, bankConnectionId, abbreviate(e.toString()),
+                    properties.maxBackoff().toSeconds());
+        } finally {
+            leased.remove(bankConnectionId);
+            busyWorkers.decrementAndGet();
+            MDC.clear();
+        }
+    }
+
+    private void runTargeted(WebhookSyncBatch batch) {
+        UUID bankConnectionId = batch.bankConnectionId();
+        MDC.put("workspaceId", batch.workspaceId().toString());
+        try {
+            timed(() -> aggregationService.syncAccounts(bankConnectionId, batch.workspaceId(),
+                    batch.accountExternalIds()));
+            webhookRepository.delete(batch.eventIds());
+        } catch (ResourceNotFoundException e) {
+            // The connection was deleted after the notifications were queued
+            webhookRepository.delete(batch.eventIds());
+        } catch (RuntimeException e) {
+            log.error("Webhook sync of connection {} failed, rescheduling", bankConnectionId, e);
+            webhookRepository.reschedule(batch.eventIds(), abbreviate(e.toString()),
+                    properties.maxBackoff().toSeconds());
+        } finally {
+            jobRepository.release(workerId, bankConnectionId);
+            leased.remove(bankConnectionId);
+            busyWorkers.decrementAndGet();
+            MDC.clear();
+        }
+    }
+
+    private SyncResult timed(Supplier<SyncResult> sync) {
+        Timer.Sample sample = Timer.start();
+        try {
+            SyncResult result = sync.get();
+            sample.stop(succeeded);
+            return result;
+        } catch (RuntimeException e) {
+            sample.stop(failed);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted syncs keep their checkpoints; the leases run out and another instance resumes them
+        workers.shutdownNow();
+    }
+
+    private static Timer syncTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("balanced.aggregation.sync.duration")
+                .description("Time taken to sync one bank connection")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String abbreviate(String error) {
+        return error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
@@ -0,0 +1,160 @@
+package com.balanced.aggregation.service;
+
+import com.balanced.account.entity.Account;
+import com.balanced.account.enums.AccountType;
+import com.balanced.account.service.AccountService;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.balanced.aggregation.dto.SyncedTransaction;
+import com.balanced.aggregation.repository.TransactionSyncJdbcRepository;
+import com.balanced.common.cache.ReferenceDataCache;
+import com.balanced.merchant.repository.MerchantJdbcRepository;
+import com.balanced.transaction.enums.TransactionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes one page of provider transactions for a linked account in the caller's transaction.
+ * Existing rows are fetched by external ID in one query and compared in memory; new rows go in as
+ * one insert batch and changed rows as one update batch. Every merchant on the page is resolved
+ * with a single upsert, and each account's balance moves once for the whole page.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionSyncWriter {
+
+    private final TransactionSyncJdbcRepository syncRepository;
+    private final MerchantJdbcRepository merchantJdbcRepository;
+    private final AccountService accountService;
+    private final ReferenceDataCache referenceDataCache;
+    private final AuditorAware<String> auditorAware;
+
+    public record PageResult(int added, int modified) {}
+
+    public PageResult write(UUID workspaceId, Account account, List<AggregatedTransaction> page) {
+        if (page.isEmpty()) return new PageResult(0, 0);
+
+        // A transaction listed twice is taken in its last version
+        Map<String, AggregatedTransaction> incoming = new LinkedHashMap<>();
+        page.forEach(extTxn -> incoming.put(extTxn.externalId(), extTxn));
+
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        Map<String, UUID> merchantIds = resolveMerchants(workspaceId, incoming.values(), auditor);
+        Map<String, SyncedTransaction> existing = syncRepository.findByExternalIds(workspaceId, incoming.keySet())
+                .stream()
+                .collect(Collectors.toMap(SyncedTransaction::externalId, Function.identity()));
+
+        List<SyncedTransaction> added = new ArrayList<>();
+        List<SyncedTransaction> modified = new ArrayList<>();
+        Map<UUID, BigDecimal> balanceDeltas = new HashMap<>();
+        for (AggregatedTransaction extTxn : incoming.values()) {
+            SyncedTransaction synced = toSynced(account, extTxn, merchantIds);
+            SyncedTransaction current = existing.get(extTxn.externalId());
+            if (current == null) {
+                added.add(synced);
+                balanceDeltas.merge(synced.accountId(), synced.amount(), BigDecimal::add);
+            } else {
+                SyncedTransaction updated = applyChanges(current, synced);
+                if (updated != current) {
+                    modified.add(updated);
+                    balanceDeltas.merge(current.accountId(), updated.amount().subtract(current.amount()), BigDecimal::add);
+                }
+            }
+        }
+
+        if (!added.isEmpty()) syncRepository.insertAll(workspaceId, added, auditor);
+        if (!modified.isEmpty()) syncRepository.updateAll(modified, auditor);
+        balanceDeltas.forEach(accountService::applyBalanceDelta);
+        return new PageResult(added.size(), modified.size());
+    }
+
+    /**
+     * Deletes the account's synced transactions dated within the window whose external IDs the
+     * provider no longer returns for it, such as reversed pending charges, and moves the account's
+     * balance once by their total. The difference is taken in memory against one lookup of the
+     * window's rows, and the missing rows go in a single delete.
+     *
+     * @param seenExternalIds every external ID the provider returned for the account and window
+     * @return the number of deleted transactions
+     */
+    public int removeMissing(Account account, LocalDate startDate, LocalDate endDate, Set<String> seenExternalIds) {
+        List<UUID> missing = syncRepository.findIdsInWindow(account.getId(), startDate, endDate).entrySet().stream()
+                .filter(local -> !seenExternalIds.contains(local.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        if (missing.isEmpty()) return 0;
+
+        TransactionSyncJdbcRepository.RemovedTransactions removed = syncRepository.deleteAll(missing);
+        if (removed.count() > 0) {
+            accountService.applyBalanceDelta(account.getId(), removed.amount().negate());
+        }
+        return removed.count();
+    }
+
+    private Map<String, UUID> resolveMerchants(UUID workspaceId, Collection<AggregatedTransaction> page, String auditor) {
+        // The first spelling seen is the one a new merchant is created with
+        Map<String, String> names = new LinkedHashMap<>();
+        page.forEach(extTxn -> names.putIfAbsent(merchantName(extTxn).toLowerCase(), merchantName(extTxn)));
+        var resolved = merchantJdbcRepository.upsertMerchants(workspaceId, names.values(), auditor);
+        if (resolved.created() > 0) {
+            referenceDataCache.invalidateMerchants(workspaceId);
+        }
+        return resolved.idsByLowerName();
+    }
+
+    private static SyncedTransaction toSynced(Account account, AggregatedTransaction extTxn, Map<String, UUID> merchantIds) {
+        LocalDateTime date = extTxn.date().atStartOfDay();
+        TransactionStatus status = "posted".equals(extTxn.status()) ? TransactionStatus.POSTED : TransactionStatus.PENDING;
+        return new SyncedTransaction(null, extTxn.externalId(), account.getId(),
+                merchantIds.get(merchantName(extTxn).toLowerCase()), resolveAmount(account, extTxn), date, status,
+                status == TransactionStatus.POSTED ? date : null);
+    }
+
+    /**
+     * The current row with the synced fields taken from the provider, or {@code current} itself
+     * when none of them changed.
+     */
+    private static SyncedTransaction applyChanges(SyncedTransaction current, SyncedTransaction synced) {
+        boolean statusChanged = current.status() != synced.status();
+        if (current.amount().compareTo(synced.amount()) == 0
+                && current.date().equals(synced.date())
+                && !statusChanged
+                && Objects.equals(current.merchantId(), synced.merchantId())) {
+            return current;
+        }
+        LocalDateTime postedAt = statusChanged && synced.status() == TransactionStatus.POSTED
+                ? synced.date() : current.postedAt();
+        return new SyncedTransaction(current.id(), current.externalId(), current.accountId(), synced.merchantId(),
+                synced.amount(), synced.date(), synced.status(), postedAt);
+    }
+
+    private static String merchantName(AggregatedTransaction extTxn) {
+        return extTxn.counterpartyName() != null
+                ? extTxn.counterpartyName()
+                : extTxn.description();
+    }
+
+    // Teller sign convention for credit accounts is opposite to ours:
+    // Teller: positive = purchase (expense), negative = payment (income)
+    // Ours:   negative = expense, positive = income
+    private static BigDecimal resolveAmount(Account account, AggregatedTransaction extTxn) {
+        return account.getType() == AccountType.CREDIT
+                ? extTxn.amount().negate()
+                : extTxn.amount();
+    }
+}
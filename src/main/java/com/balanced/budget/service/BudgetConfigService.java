@@ -35,7 +35,7 @@ public class BudgetConfigService {
     @Transactional
     public BudgetCategoryConfig updateConfig(UUID workspaceId, UUID budgetId, UUID categoryId,
                                              UpdateBudgetCategoryConfigInput dto) {
-        categoryService.getCategory(categoryId, workspaceId);
+        categoryService.validateCategory(categoryId, workspaceId);
 
         BudgetCategoryConfig config = configRepository.findByBudgetIdAndCategoryId(budgetId, categoryId)
                 .orElseGet(() -> BudgetCategoryConfig.builder()
@@ -54,7 +54,7 @@ public class BudgetConfigService {
     @Transactional
     public void setExpectedAmount(UUID workspaceId, UUID budgetId, UUID categoryId, LocalDate periodStart,
                                    SetExpectedAmountInput dto) {
-        categoryService.getCategory(categoryId, workspaceId);
+        categoryService.validateCategory(categoryId, workspaceId);
 
         if (categoryRepository.existsByParentId(categoryId)) {
             throw new BadRequestException("Cannot set expected amount on a parent category. Expected amounts roll up from children.");
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +19,10 @@ public interface CategoryRepository extends JpaRepository<Category, UUID>, JpaSp
 
     Optional<Category> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+    boolean existsByIdAndWorkspaceId(UUID id, UUID workspaceId);
+
+    List<Category> findAllByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
+
     List<Category> findAllByParentId(UUID parentId);
 
     boolean existsByParentId(UUID parentId);
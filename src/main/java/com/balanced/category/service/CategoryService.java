@@ -6,6 +6,8 @@ import com.balanced.category.dto.UpdateCategoryInput;
 import com.balanced.category.entity.Category;
 import com.balanced.category.mapper.CategoryMapper;
 import com.balanced.category.repository.CategoryRepository;
+import com.balanced.common.cache.CategoryTree;
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.enums.Status;
 import com.balanced.common.exception.BadRequestException;
 import com.balanced.common.exception.ResourceNotFoundException;
@@ -16,8 +18,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,6 +33,7 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
     private final BudgetPeriodEntryRepository budgetPeriodEntryRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Transactional(readOnly = true)
     public List<Category> listAll(Specification<Category> spec) {
@@ -41,6 +46,12 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
     }
 
+    @Transactional(readOnly = true)
+    public List<Category> getCategories(Collection<UUID> categoryIds, UUID workspaceId) {
+        if (categoryIds.isEmpty()) return List.of();
+        return categoryRepository.findAllByIdInAndWorkspaceId(categoryIds, workspaceId);
+    }
+
     @Transactional(readOnly = true)
     public List<Category> getChildren(UUID parentId) {
         return categoryRepository.findAllByParentId(parentId);
@@ -73,6 +84,7 @@ public class CategoryService {
                 .build();
 
         log.info("Created category '{}'", dto.getName());
+        referenceDataCache.invalidateCategories(workspaceId);
         return categoryRepository.save(category);
     }
 
@@ -114,6 +126,7 @@ public class CategoryService {
         }
 
         log.info("Updating category '{}' ({})", category.getName(), categoryId);
+        referenceDataCache.invalidateCategories(workspaceId);
         return categoryRepository.save(category);
     }
 
@@ -155,6 +168,7 @@ public class CategoryService {
         Category category = getCategory(categoryId, workspaceId);
         log.info("Deleting category '{}' ({})", category.getName(), categoryId);
         categoryRepository.delete(category);
+        referenceDataCache.invalidateCategories(workspaceId);
     }
 
     private Category validateParent(UUID workspaceId, UUID parentId) {
@@ -188,13 +202,23 @@ public class CategoryService {
         }
     }
 
+    /**
+     * Validates that a category exists in the workspace, using the cached category tree. A miss
+     * is checked against the table, since the category may have been created on another instance
+     * since the tree was loaded; the tree is then reloaded.
+     */
+    @Transactional(readOnly = true)
+    public void validateCategory(UUID categoryId, UUID workspaceId) {
+        cachedCategory(categoryId, workspaceId);
+    }
+
     /**
      * Validates that a category is not a group (has no children).
      * Transactions can only be assigned to leaf categories.
      */
     @Transactional(readOnly = true)
-    public void validateNotGroup(UUID categoryId) {
-        if (categoryId != null && categoryRepository.existsByParentId(categoryId)) {
+    public void validateNotGroup(UUID categoryId, UUID workspaceId) {
+        if (categoryId != null && referenceDataCache.categories(workspaceId).isGroup(categoryId)) {
             throw new BadRequestException("Cannot assign a transaction to a parent category group");
         }
     }
@@ -203,16 +227,28 @@ public class CategoryService {
      * Validates that a category's income flag matches the amount sign.
      * Positive amounts require income categories; negative/zero amounts require expense categories.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public void validateCategoryPolarity(UUID categoryId, BigDecimal amount, UUID workspaceId) {
         if (categoryId == null || amount == null) return;
-        Category category = getCategory(categoryId, workspaceId);
+        CategoryTree.Node category = cachedCategory(categoryId, workspaceId);
         boolean isPositive = amount.compareTo(BigDecimal.ZERO) > 0;
-        if (isPositive && !category.isIncome()) {
-            throw new BadRequestException("Positive amounts must use an income category, but '" + category.getName() + "' is an expense category.");
+        if (isPositive && !category.income()) {
+            throw new BadRequestException("Positive amounts must use an income category, but '" + category.name() + "' is an expense category.");
         }
-        if (!isPositive && category.isIncome()) {
-            throw new BadRequestException("Negative amounts must use an expense category, but '" + category.getName() + "' is an income category.");
+        if (!isPositive && category.income()) {
+            throw new BadRequestException("Negative amounts must use an expense category, but '" + category.name() + "' is an income category.");
         }
     }
+
+    private CategoryTree.Node cachedCategory(UUID categoryId, UUID workspaceId) {
+        return referenceDataCache.categories(workspaceId).find(categoryId)
+                .or(() -> {
+                    if (!categoryRepository.existsByIdAndWorkspaceId(categoryId, workspaceId)) {
+                        return Optional.empty();
+                    }
+                    referenceDataCache.invalidateCategories(workspaceId);
+                    return referenceDataCache.categories(workspaceId).find(categoryId);
+                })
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+    }
 }
@@ -0,0 +1,48 @@
+package com.balanced.common.cache;
+
+import com.balanced.category.entity.Category;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of a workspace's categories with just the fields validation and display
+ * names need. A category is a group when another category names it as its parent.
+ */
+public record CategoryTree(Map<UUID, Node> categories, Set<UUID> groupIds) {
+
+    public record Node(UUID id, UUID parentId, String name, boolean income) {}
+
+    public static CategoryTree of(List<Category> categories) {
+        Map<UUID, Node> nodes = categories.stream()
+                .map(c -> new Node(c.getId(), c.getParentId(), c.getName(), c.isIncome()))
+                .collect(Collectors.toUnmodifiableMap(Node::id, Function.identity()));
+        Set<UUID> groupIds = categories.stream()
+                .map(Category::getParentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        return new CategoryTree(nodes, groupIds);
+    }
+
+    public Optional<Node> find(UUID categoryId) {
+        return Optional.ofNullable(categories.get(categoryId));
+    }
+
+    /**
+     * The category's name, or {@code null} if it is not in this workspace.
+     */
+    public String name(UUID categoryId) {
+        Node node = categories.get(categoryId);
+        return node != null ? node.name() : null;
+    }
+
+    public boolean isGroup(UUID categoryId) {
+        return groupIds.contains(categoryId);
+    }
+}
@@ -0,0 +1,122 @@
+package com.balanced.common.cache;
+
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.category.repository.CategoryRepository;
+import com.balanced.merchant.repository.MerchantRepository;
+import com.balanced.tag.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Per-workspace snapshots of the small reference tables that transaction writes validate
+ * against and name in their events: categories (with their parent/child structure), accounts,
+ * tags and merchants. Each table is one cache entry per workspace, loaded with a single query
+ * on a miss and invalidated by the owning service when it writes.
+ * <p>
+ * Invalidation happens immediately and again once the writing transaction completes, so a
+ * concurrent load cannot keep data from before the commit and a rollback cannot leave
+ * uncommitted rows behind. Entries also expire after {@code balanced.reference-cache.expire-after-write},
+ * which bounds staleness for writes made by other instances. Hits and misses are published as
+ * {@code cache.gets} tagged with {@code cache=reference.<table>}.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final LoadingCache<UUID, CategoryTree> categories;
+    private final LoadingCache<UUID, Map<UUID, String>> accounts;
+    private final LoadingCache<UUID, Map<UUID, String>> tags;
+    private final LoadingCache<UUID, Map<UUID, String>> merchants;
+
+    public ReferenceDataCache(CategoryRepository categoryRepository,
+                              AccountRepository accountRepository,
+                              TagRepository tagRepository,
+                              MerchantRepository merchantRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${balanced.reference-cache.maximum-workspaces:10000}") long maximumWorkspaces,
+                              @Value("${balanced.reference-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        Caffeine<Object, Object> spec = Caffeine.newBuilder()
+                .maximumSize(maximumWorkspaces)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats();
+        this.categories = monitor(meterRegistry, "categories",
+                spec.build(workspaceId -> CategoryTree.of(categoryRepository.findAllByWorkspaceId(workspaceId))));
+        this.accounts = monitor(meterRegistry, "accounts",
+                spec.build(workspaceId -> namesById(accountRepository.findNamesByWorkspaceId(workspaceId))));
+        this.tags = monitor(meterRegistry, "tags",
+                spec.build(workspaceId -> namesById(tagRepository.findNamesByWorkspaceId(workspaceId))));
+        this.merchants = monitor(meterRegistry, "merchants",
+                spec.build(workspaceId -> namesById(merchantRepository.findNamesByWorkspaceId(workspaceId))));
+    }
+
+    public CategoryTree categories(UUID workspaceId) {
+        return categories.get(workspaceId);
+    }
+
+    /**
+     * Account names by id for the workspace.
+     */
+    public Map<UUID, String> accountNames(UUID workspaceId) {
+        return accounts.get(workspaceId);
+    }
+
+    /**
+     * Tag names by id for the workspace.
+     */
+    public Map<UUID, String> tagNames(UUID workspaceId) {
+        return tags.get(workspaceId);
+    }
+
+    /**
+     * Merchant names by id for the workspace.
+     */
+    public Map<UUID, String> merchantNames(UUID workspaceId) {
+        return merchants.get(workspaceId);
+    }
+
+    public void invalidateCategories(UUID workspaceId) {
+        invalidate(categories, workspaceId);
+    }
+
+    public void invalidateAccounts(UUID workspaceId) {
+        invalidate(accounts, workspaceId);
+    }
+
+    public void invalidateTags(UUID workspaceId) {
+        invalidate(tags, workspaceId);
+    }
+
+    public void invalidateMerchants(UUID workspaceId) {
+        invalidate(merchants, workspaceId);
+    }
+
+    private static void invalidate(LoadingCache<UUID, ?> cache, UUID workspaceId) {
+        cache.invalidate(workspaceId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(workspaceId);
+            }
+        });
+    }
+
+    private static Map<UUID, String> namesById(List<ReferenceName> rows) {
+        return rows.stream().collect(Collectors.toUnmodifiableMap(ReferenceName::getId, ReferenceName::getName));
+    }
+
+    private static <V> LoadingCache<UUID, V> monitor(MeterRegistry registry, String table, LoadingCache<UUID, V> cache) {
+        return CaffeineCacheMetrics.monitor(registry, cache, "reference." + table);
+    }
+}
@@ -0,0 +1,13 @@
+package com.balanced.common.cache;
+
+import java.util.UUID;
+
+/**
+ * Id and name projection used to load reference data without hydrating whole entities.
+ */
+public interface ReferenceName {
+
+    UUID getId();
+
+    String getName();
+}
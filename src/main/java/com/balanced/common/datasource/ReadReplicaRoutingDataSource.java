@@ -0,0 +1,75 @@
+package com.balanced.common.datasource;
+
+import com.balanced.common.graphql.GraphQLContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sends connections for read-only transactions to the replica pool and everything else to the
+ * primary. Read-only work for a workspace that wrote within the stickiness window stays on the
+ * primary. Must sit behind a lazy connection proxy so the route is chosen once the transaction's
+ * read-only flag is known.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaStickiness stickiness;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaStickiness stickiness, MeterRegistry meterRegistry) {
+        this.stickiness = stickiness;
+        this.primaryRoutes = routeCounter(meterRegistry, Route.PRIMARY, "read-write");
+        this.replicaRoutes = routeCounter(meterRegistry, Route.REPLICA, "read-only");
+        this.stickyRoutes = routeCounter(meterRegistry, Route.PRIMARY, "read-your-writes");
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Optional<UUID> workspaceId = GraphQLContext.currentWorkspaceId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            workspaceId.ifPresent(this::markWriteOnCommit);
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+        if (workspaceId.isPresent() && stickiness.isSticky(workspaceId.get())) {
+            stickyRoutes.increment();
+            return Route.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return Route.REPLICA;
+    }
+
+    // The window starts at commit, when the write becomes visible and replication begins
+    private void markWriteOnCommit(UUID workspaceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickiness.markWrite(workspaceId);
+            }
+        });
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, Route route, String reason) {
+        return Counter.builder("balanced.datasource.routes")
+                .description("Connections handed out by the read-replica router")
+                .tag("pool", route.name().toLowerCase())
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
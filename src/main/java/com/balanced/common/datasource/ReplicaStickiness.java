@@ -0,0 +1,43 @@
+package com.balanced.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks workspaces that committed a write recently. Their reads stay on the primary for a
+ * short window so a client does not read its own mutation back from a lagging replica.
+ * <p>
+ * Entries expire {@code window} after the last write whether or not the workspace reads again,
+ * so workspaces that stop writing do not accumulate. The record is per instance: behind a load
+ * balancer that does not keep a workspace on one instance, a read served elsewhere can still hit
+ * the replica within the window.
+ */
+public class ReplicaStickiness {
+
+    private final Cache<UUID, Boolean> recentWrites;
+
+    public ReplicaStickiness(Duration window, Clock clock) {
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    public void markWrite(UUID workspaceId) {
+        recentWrites.put(workspaceId, Boolean.TRUE);
+    }
+
+    public boolean isSticky(UUID workspaceId) {
+        return recentWrites.getIfPresent(workspaceId) != null;
+    }
+
+    long trackedWorkspaces() {
+        recentWrites.cleanUp();
+        return recentWrites.estimatedSize();
+    }
+}
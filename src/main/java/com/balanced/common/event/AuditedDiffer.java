@@ -0,0 +1,169 @@
+package com.balanced.common.event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Reads and compares the @Audited fields of one entity class. Accessors are built once per
+ * class: the field's getter is bound with {@link LambdaMetafactory}, and fields without one are
+ * read through a {@link MethodHandle}.
+ * <p>
+ * Values are compared as they are typed — BigDecimals ignoring scale, collections ignoring order,
+ * everything else by {@code equals} — and only fields that changed are turned into display values.
+ */
+public final class AuditedDiffer {
+
+    private static final Map<Class<?>, AuditedDiffer> DIFFERS = new ConcurrentHashMap<>();
+
+    private final List<AuditedProperty> properties;
+
+    private AuditedDiffer(List<AuditedProperty> properties) {
+        this.properties = properties;
+    }
+
+    public static AuditedDiffer forClass(Class<?> type) {
+        return DIFFERS.computeIfAbsent(type, AuditedDiffer::build);
+    }
+
+    /**
+     * Changes for every @Audited field that differs between the two entities.
+     */
+    public List<FieldChange> diff(Object oldEntity, Object newEntity, Map<String, String> valueResolver) {
+        List<FieldChange> changes = new ArrayList<>();
+        for (AuditedProperty property : properties) {
+            Object oldVal = property.getter().apply(oldEntity);
+            Object newVal = property.getter().apply(newEntity);
+            if (!sameValue(oldVal, newVal)) {
+                changes.add(new FieldChange(
+                        property.displayName(),
+                        displayValue(oldVal, valueResolver),
+                        displayValue(newVal, valueResolver)));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Changes from nothing to the current value, for every non-null @Audited field.
+     */
+    public List<FieldChange> values(Object entity, Map<String, String> valueResolver) {
+        List<FieldChange> changes = new ArrayList<>();
+        for (AuditedProperty property : properties) {
+            Object value = property.getter().apply(entity);
+            if (value != null) {
+                changes.add(new FieldChange(property.displayName(), null, displayValue(value, valueResolver)));
+            }
+        }
+        return changes;
+    }
+
+    private static boolean sameValue(Object oldVal, Object newVal) {
+        if (oldVal == newVal) return true;
+        if (oldVal == null || newVal == null) return false;
+        if (oldVal instanceof BigDecimal oldDecimal && newVal instanceof BigDecimal newDecimal) {
+            return oldDecimal.compareTo(newDecimal) == 0;
+        }
+        if (oldVal instanceof Collection<?> oldItems && newVal instanceof Collection<?> newItems) {
+            if (oldItems.size() != newItems.size()) return false;
+            if (oldItems.equals(newItems)) return true;
+            // Equal sets are caught above; lists holding the same items in another order are not
+            return !(oldItems instanceof Set<?> && newItems instanceof Set<?>)
+                    && sortedStrings(oldItems).equals(sortedStrings(newItems));
+        }
+        return oldVal.equals(newVal);
+    }
+
+    private static Object displayValue(Object value, Map<String, String> valueResolver) {
+        return switch (value) {
+            case null -> null;
+            case BigDecimal bd -> bd.stripTrailingZeros();
+            case Collection<?> collection -> sortedStrings(collection).stream()
+                    .map(str -> valueResolver.getOrDefault(str, str))
+                    .toList();
+            default -> {
+                String str = value.toString();
+                yield valueResolver.getOrDefault(str, str);
+            }
+        };
+    }
+
+    private static List<String> sortedStrings(Collection<?> collection) {
+        return collection.stream()
+                .map(Object::toString)
+                .sorted()
+                .toList();
+    }
+
+    private static AuditedDiffer build(Class<?> type) {
+        List<AuditedProperty> properties = new ArrayList<>();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                Audited annotation = field.getAnnotation(Audited.class);
+                if (annotation != null) {
+                    String display = annotation.displayName().isEmpty() ? field.getName() : annotation.displayName();
+                    properties.add(new AuditedProperty(display, accessor(field)));
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return new AuditedDiffer(Collections.unmodifiableList(properties));
+    }
+
+    private static Function<Object, Object> accessor(Field field) {
+        Class<?> owner = field.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            Method getter = findGetter(field);
+            if (getter != null) {
+                MethodHandle handle = lookup.unreflect(getter);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle, handle.type().wrap());
+                @SuppressWarnings("unchecked")
+                Function<Object, Object> function = (Function<Object, Object>) site.getTarget().invokeExact();
+                return function;
+            }
+            MethodHandle handle = lookup.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return entity -> {
+                try {
+                    return handle.invokeExact(entity);
+                } catch (Throwable e) {
+                    throw new IllegalStateException("Cannot read field " + field.getName() + " on " + owner.getSimpleName(), e);
+                }
+            };
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot build accessor for @Audited field " + field.getName()
+                    + " on " + owner.getSimpleName(), e);
+        }
+    }
+
+    private static Method findGetter(Field field) {
+        String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        String name = (field.getType() == boolean.class ? "is" : "get") + suffix;
+        try {
+            Method method = field.getDeclaringClass().getDeclaredMethod(name);
+            return method.getReturnType() == field.getType() ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private record AuditedProperty(String displayName, Function<Object, Object> getter) {}
+}
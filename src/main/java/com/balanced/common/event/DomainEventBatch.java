@@ -0,0 +1,9 @@
+package com.balanced.common.event;
+
+import java.util.List;
+
+/**
+ * Domain events delivered to listeners together, as a single application event.
+ */
+public record DomainEventBatch(List<DomainEvent> events) {
+}
@@ -1,19 +1,23 @@
 package com.balanced.common.event;
 
+import com.balanced.common.outbox.Outbox;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
- * Generic domain event publisher that auto-diffs @Audited fields.
+ * Generic domain event publisher that auto-diffs @Audited fields through a per-class
+ * {@link AuditedDiffer}.
  * Supports a value resolver map to store human-readable display names
  * instead of raw UUIDs (e.g. category name instead of categoryId).
+ * Events are appended to the {@link Outbox} in the caller's transaction,
+ * keyed by the entity they describe.
  * <p>
  * Usage:
  * <pre>
@@ -27,16 +31,17 @@ import java.util.concurrent.ConcurrentHashMap;
  *   // Custom action with explicit changes
  *   publisher.publish(TransactionAction.GROUPED, txnId, wsId,
  *       List.of(new FieldChange("groupId", null, groupId.toString())));
+ *
+ *   // The same change on many entities, appended as one batch
+ *   publisher.publishAll(TransactionAction.GROUPED, txnIds, wsId,
+ *       List.of(new FieldChange("groupId", null, groupId.toString())));
  * </pre>
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DomainEventPublisher {
 
-    private final ApplicationEventPublisher eventPublisher;
-
-    private static final Map<Class<?>, List<AuditedField>> FIELD_CACHE = new ConcurrentHashMap<>();
+    private final Outbox outbox;
 
     /**
      * Publish an event with all @Audited non-null fields as changes.
@@ -49,14 +54,8 @@ public class DomainEventPublisher {
      * Publish an event with all @Audited non-null fields, resolving display values.
      */
     public void publish(DomainAction action, WorkspaceScoped entity, Map<String, String> valueResolver) {
-        List<FieldChange> changes = new ArrayList<>();
-        for (AuditedField af : getAuditedFields(entity.getClass())) {
-            Object value = readFieldValue(af.field(), entity);
-            if (value != null) {
-                changes.add(new FieldChange(af.displayName(), null, resolveValue(value, valueResolver)));
-            }
-        }
-        eventPublisher.publishEvent(DomainEvents.create(
+        List<FieldChange> changes = AuditedDiffer.forClass(entity.getClass()).values(entity, valueResolver);
+        append(DomainEvents.create(
                 action.domain(), action.action(), entity.getId(), entity.getWorkspaceId(), changes));
     }
 
@@ -75,89 +74,75 @@ public class DomainEventPublisher {
                         Map<String, String> valueResolver) {
         List<FieldChange> changes = diff(oldEntity, newEntity, valueResolver);
         if (!changes.isEmpty()) {
-            eventPublisher.publishEvent(DomainEvents.create(
+            append(DomainEvents.create(
                     action.domain(), action.action(), newEntity.getId(), newEntity.getWorkspaceId(), changes));
         }
     }
 
+    /**
+     * Diff each before/after pair (matched by position) and publish the non-empty results.
+     */
+    public void publishAll(DomainAction action, List<? extends WorkspaceScoped> oldEntities,
+                           List<? extends WorkspaceScoped> newEntities) {
+        publishAll(action, oldEntities, newEntities, Map.of());
+    }
+
+    /**
+     * Diff each before/after pair (matched by position), resolving display values, and publish
+     * the non-empty results.
+     */
+    public void publishAll(DomainAction action, List<? extends WorkspaceScoped> oldEntities,
+                           List<? extends WorkspaceScoped> newEntities, Map<String, String> valueResolver) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < newEntities.size(); i++) {
+            WorkspaceScoped newEntity = newEntities.get(i);
+            List<FieldChange> changes = diff(oldEntities.get(i), newEntity, valueResolver);
+            if (!changes.isEmpty()) {
+                events.add(DomainEvents.create(
+                        action.domain(), action.action(), newEntity.getId(), newEntity.getWorkspaceId(), changes));
+            }
+        }
+        outbox.appendAll(events, DomainEvent::entityId);
+    }
+
     /**
      * Publish a custom event with explicit field changes.
      */
     public void publish(DomainAction action, UUID entityId, UUID workspaceId, List<FieldChange> changes) {
-        eventPublisher.publishEvent(DomainEvents.create(
+        append(DomainEvents.create(
                 action.domain(), action.action(), entityId, workspaceId, changes));
     }
 
-    List<FieldChange> diff(Object oldEntity, Object newEntity) {
-        return diff(oldEntity, newEntity, Map.of());
+    /**
+     * Publish the same explicit field changes for each entity, appended as one batch.
+     */
+    public void publishAll(DomainAction action, Collection<UUID> entityIds, UUID workspaceId,
+                           List<FieldChange> changes) {
+        Map<UUID, List<FieldChange>> changesByEntity = new LinkedHashMap<>();
+        entityIds.forEach(entityId -> changesByEntity.put(entityId, changes));
+        publishAll(action, changesByEntity, workspaceId);
     }
 
-    List<FieldChange> diff(Object oldEntity, Object newEntity, Map<String, String> valueResolver) {
-        List<FieldChange> changes = new ArrayList<>();
-        for (AuditedField af : getAuditedFields(oldEntity.getClass())) {
-            Object oldVal = readFieldValue(af.field(), oldEntity);
-            Object newVal = readFieldValue(af.field(), newEntity);
-            if (!Objects.equals(oldVal, newVal)) {
-                changes.add(new FieldChange(
-                        af.displayName(),
-                        resolveValue(oldVal, valueResolver),
-                        resolveValue(newVal, valueResolver)));
-            }
-        }
-        return changes;
+    /**
+     * Publish explicit field changes per entity, appended as one batch.
+     */
+    public void publishAll(DomainAction action, Map<UUID, List<FieldChange>> changesByEntity, UUID workspaceId) {
+        List<DomainEvent> events = changesByEntity.entrySet().stream()
+                .map(entry -> DomainEvents.create(
+                        action.domain(), action.action(), entry.getKey(), workspaceId, entry.getValue()))
+                .toList();
+        outbox.appendAll(events, DomainEvent::entityId);
     }
 
-    private static Object resolveValue(Object value, Map<String, String> valueResolver) {
-        if (value == null) return null;
-        if (value instanceof BigDecimal) return value;
-        if (value instanceof List<?> list) {
-            return list.stream()
-                    .map(item -> {
-                        String str = item.toString();
-                        return valueResolver.getOrDefault(str, str);
-                    })
-                    .toList();
-        }
-        String str = value.toString();
-        return valueResolver.getOrDefault(str, str);
+    private void append(DomainEvent event) {
+        outbox.append(event.entityId(), event);
     }
 
-    private List<AuditedField> getAuditedFields(Class<?> clazz) {
-        return FIELD_CACHE.computeIfAbsent(clazz, c -> {
-            List<AuditedField> fields = new ArrayList<>();
-            Class<?> current = c;
-            while (current != null && current != Object.class) {
-                for (Field field : current.getDeclaredFields()) {
-                    Audited annotation = field.getAnnotation(Audited.class);
-                    if (annotation != null) {
-                        field.setAccessible(true);
-                        String display = annotation.displayName().isEmpty() ? field.getName() : annotation.displayName();
-                        fields.add(new AuditedField(field, display));
-                    }
-                }
-                current = current.getSuperclass();
-            }
-            return Collections.unmodifiableList(fields);
-        });
+    List<FieldChange> diff(Object oldEntity, Object newEntity) {
+        return diff(oldEntity, newEntity, Map.of());
     }
 
-    private Object readFieldValue(Field field, Object obj) {
-        try {
-            Object value = field.get(obj);
-            return switch (value) {
-                case null -> null;
-                case BigDecimal bd -> bd.stripTrailingZeros();
-                case Collection<?> collection -> collection.stream()
-                        .map(Object::toString)
-                        .sorted()
-                        .toList();
-                default -> value.toString();
-            };
-        } catch (IllegalAccessException e) {
-            log.warn("Cannot read field {} on {}: {}", field.getName(), obj.getClass().getSimpleName(), e.getMessage());
-            return null;
-        }
+    List<FieldChange> diff(Object oldEntity, Object newEntity, Map<String, String> valueResolver) {
+        return AuditedDiffer.forClass(oldEntity.getClass()).diff(oldEntity, newEntity, valueResolver);
     }
-
-    private record AuditedField(Field field, String displayName) {}
 }
@@ -31,6 +31,7 @@ public class ApiKeyFilter extends OncePerRequestFilter {
         String uri = request.getRequestURI();
         return uri.equals("/actuator/health")
                 || uri.startsWith("/api/v1/auth/")
+                || uri.startsWith("/api/v1/aggregation/webhooks/")
                 || uri.startsWith("/graphiql")
                 || uri.equals("/teller-connect.html");
     }
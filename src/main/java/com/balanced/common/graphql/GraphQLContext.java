@@ -5,6 +5,7 @@ import io.jsonwebtoken.Claims;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public final class GraphQLContext {
@@ -24,6 +25,21 @@ public final class GraphQLContext {
         }
     }
 
+    /**
+     * Workspace of the authenticated caller, or empty outside an authenticated request.
+     */
+    public static Optional<UUID> currentWorkspaceId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof Claims claims)) return Optional.empty();
+        String value = claims.get("workspace_id", String.class);
+        if (value == null || value.isBlank()) return Optional.empty();
+        try {
+            return Optional.of(UUID.fromString(value));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public static UUID userId() {
         Claims claims = claims();
         String value = claims.get("user_id", String.class);
@@ -0,0 +1,53 @@
+package com.balanced.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Records an application event in the {@code outbox} table inside the caller's transaction, so
+ * the event exists if and only if the change that raised it commits. {@link OutboxDispatcher}
+ * later delivers it to the event's listeners.
+ * <p>
+ * {@code aggregateId} names the entity the event is about: events for the same aggregate are
+ * delivered in the order they were appended. Bulk changes use {@link #appendAll} so their events
+ * are written in one JDBC batch rather than one insert each.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public void append(UUID aggregateId, Object event) {
+        outboxRepository.insert(event.getClass().getName(), aggregateId, toJson(event));
+    }
+
+    /**
+     * Appends the events in list order, each keyed by the aggregate {@code aggregateId} returns for it.
+     */
+    public <E> void appendAll(List<E> events, Function<? super E, UUID> aggregateId) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outboxRepository.insertAll(events.stream()
+                .map(event -> new OutboxRepository.NewMessage(
+                        event.getClass().getName(), aggregateId.apply(event), toJson(event)))
+                .toList());
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.balanced.common.outbox;
+
+import com.balanced.common.event.DomainEvent;
+import com.balanced.common.event.DomainEventBatch;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.balanced.common.outbox.OutboxRepository.BacklogStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox messages to their listeners. Each poll locks up to
+ * {@code balanced.outbox.batch-size} ready messages with {@code FOR UPDATE SKIP LOCKED}, so any
+ * number of instances can poll at once without taking the same message. Listeners run
+ * synchronously inside the polling transaction and the messages are deleted in it, which makes
+ * delivery at-least-once: a crash or a listener failure leaves them to be delivered again.
+ * <p>
+ * Domain events are handed over together as one {@link DomainEventBatch}; other events are
+ * published one by one. A message is only delivered once every earlier message for its aggregate
+ * has been, so messages behind one that another instance holds wait for a later poll.
+ * <p>
+ * When a batch fails its messages are retried one per transaction, and the one that fails again
+ * is rescheduled with exponential backoff (up to {@code balanced.outbox.max-backoff}) without
+ * holding up unrelated aggregates. After {@code balanced.outbox.max-attempts} failures it is parked
+ * instead: kept in the table with its last error but no longer delivered, so the messages behind it
+ * for its aggregate go ahead.
+ * <p>
+ * A poll keeps taking batches while they come back full, but at most
+ * {@code balanced.outbox.max-batches-per-poll} of them, so a large backlog is drained over several
+ * polls instead of holding the scheduler thread the other scheduled jobs share.
+ * <p>
+ * Exported meters: {@code balanced.outbox.pending} and {@code balanced.outbox.oldest} for the
+ * backlog, {@code balanced.outbox.parked.rows} for parked messages, and the
+ * {@code balanced.outbox.dispatched}, {@code .failed} and {@code .parked} counters.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long maxBackoffSeconds;
+    private final int maxAttempts;
+    private final int maxBatchesPerPoll;
+    private final AtomicReference<BacklogStats> backlogStats = new AtomicReference<>(new BacklogStats(0, 0, 0));
+    private final Timer dispatchTimer;
+    private final Counter dispatchedMessages;
+    private final Counter failedMessages;
+    private final Counter parkedMessages;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${balanced.outbox.batch-size:500}") int batchSize,
+                            @Value("${balanced.outbox.max-backoff:5m}") Duration maxBackoff,
+                            @Value("${balanced.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${balanced.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBackoffSeconds = maxBackoff.toSeconds();
+        this.maxAttempts = maxAttempts;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        Gauge.builder("balanced.outbox.pending", backlogStats, stats -> stats.get().pending())
+                .description("Outbox messages not yet delivered, excluding parked ones")
+                .register(meterRegistry);
+        Gauge.builder("balanced.outbox.oldest", backlogStats, stats -> stats.get().oldestSeconds())
+                .description("Seconds the oldest ready outbox message has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("balanced.outbox.parked.rows", backlogStats, stats -> stats.get().parked())
+                .description("Outbox messages parked after failing too often")
+                .register(meterRegistry);
+        this.dispatchTimer = Timer.builder("balanced.outbox.dispatch")
+                .description("Time taken to deliver one batch of outbox messages")
+                .register(meterRegistry);
+        this.dispatchedMessages = Counter.builder("balanced.outbox.dispatched")
+                .description("Outbox messages delivered to their listeners")
+                .register(meterRegistry);
+        this.failedMessages = Counter.builder("balanced.outbox.failed")
+                .description("Outbox message deliveries that failed and were rescheduled")
+                .register(meterRegistry);
+        this.parkedMessages = Counter.builder("balanced.outbox.parked")
+                .description("Outbox messages parked after failing balanced.outbox.max-attempts times")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${balanced.outbox.poll-interval:500ms}")
+    public void poll() {
+        backlogStats.set(outboxRepository.backlogStats());
+        // Keep going while the backlog fills whole batches, up to the per-poll cap
+        for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+            if (dispatchBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Delivers one batch and returns how many messages were delivered.
+     */
+    int dispatchBatch() {
+        try {
+            Timer.Sample sample = Timer.start();
+            int delivered = transactionTemplate.execute(status -> deliver(outboxRepository.lockReady(batchSize)));
+            if (delivered > 0) {
+                sample.stop(dispatchTimer);
+                dispatchedMessages.increment(delivered);
+            }
+            return delivered;
+        } catch (RuntimeException e) {
+            log.warn("Outbox batch failed, retrying its messages one at a time: {}", e.getMessage());
+            dispatchOneByOne();
+            return 0;
+        }
+    }
+
+    private void dispatchOneByOne() {
+        for (int i = 0; i < batchSize; i++) {
+            AtomicReference<OutboxMessage> current = new AtomicReference<>();
+            try {
+                int delivered = transactionTemplate.execute(status -> {
+                    List<OutboxMessage> next = outboxRepository.lockReady(1);
+                    if (next.isEmpty()) return 0;
+                    current.set(next.getFirst());
+                    return deliver(next);
+                });
+                // Nothing ready, or the next message waits behind another instance
+                if (delivered == 0) return;
+                dispatchedMessages.increment(delivered);
+            } catch (RuntimeException e) {
+                OutboxMessage failed = current.get();
+                if (failed == null) throw e;
+                failedMessages.increment();
+                String error = abbreviate(e.toString());
+                if (failed.attempts() + 1 >= maxAttempts) {
+                    parkedMessages.increment();
+                    log.error("PARKED outbox message {} ({}, aggregate {}) after {} failed attempts; later "
+                                    + "messages for its aggregate go ahead without it",
+                            failed.id(), failed.eventType(), failed.aggregateId(), failed.attempts() + 1, e);
+                    transactionTemplate.executeWithoutResult(status -> outboxRepository.park(failed.id(), error));
+                } else {
+                    log.error("Outbox message {} failed, rescheduling", failed.id(), e);
+                    transactionTemplate.executeWithoutResult(status ->
+                            outboxRepository.reschedule(failed.id(), error, maxBackoffSeconds));
+                }
+            }
+        }
+    }
+
+    private int deliver(List<OutboxMessage> locked) {
+        List<OutboxMessage> ready = inAggregateOrder(locked);
+        if (ready.isEmpty()) return 0;
+
+        List<DomainEvent> domainEvents = new ArrayList<>();
+        for (OutboxMessage message : ready) {
+            Object event = deserialize(message);
+            if (event instanceof DomainEvent domainEvent) {
+                domainEvents.add(domainEvent);
+            } else {
+                eventPublisher.publishEvent(event);
+            }
+        }
+        if (!domainEvents.isEmpty()) {
+            eventPublisher.publishEvent(new DomainEventBatch(domainEvents));
+        }
+        outboxRepository.deleteAll(ready.stream().map(OutboxMessage::id).toList());
+        return ready.size();
+    }
+
+    /**
+     * Keeps, for each aggregate, the locked messages that directly follow the last delivered one.
+     * Anything behind a message this poll does not hold stays for a later poll.
+     */
+    private List<OutboxMessage> inAggregateOrder(List<OutboxMessage> locked) {
+        if (locked.isEmpty()) return locked;
+        Set<Long> lockedIds = locked.stream().map(OutboxMessage::id).collect(Collectors.toSet());
+        Set<UUID> aggregateIds = locked.stream().map(OutboxMessage::aggregateId).collect(Collectors.toSet());
+
+        Set<Long> ready = new HashSet<>();
+        for (Map.Entry<UUID, List<Long>> pending : outboxRepository.findPendingIds(aggregateIds).entrySet()) {
+            for (Long id : pending.getValue()) {
+                if (!lockedIds.contains(id)) break;
+                ready.add(id);
+            }
+        }
+        return locked.stream().filter(message -> ready.contains(message.id())).toList();
+    }
+
+    private Object deserialize(OutboxMessage message) {
+        try {
+            Class<?> type = Class.forName(message.eventType());
+            // Keeps amounts in changes exact instead of turning them into doubles
+            return objectMapper.readerFor(type)
+                    .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .readValue(message.payload());
+        } catch (ClassNotFoundException | IOException e) {
+            throw new IllegalStateException("Cannot read outbox message " + message.id() + " of type " + message.eventType(), e);
+        }
+    }
+
+    private static String abbreviate(String error) {
+        return error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
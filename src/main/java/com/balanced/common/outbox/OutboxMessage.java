@@ -0,0 +1,10 @@
+package com.balanced.common.outbox;
+
+import java.util.UUID;
+
+/**
+ * One row of the {@code outbox} table. {@code eventType} is the event's class name and
+ * {@code payload} its JSON form.
+ */
+public record OutboxMessage(long id, String eventType, UUID aggregateId, String payload, int attempts) {
+}
@@ -0,0 +1,144 @@
+package com.balanced.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC access to the {@code outbox} table. Writes join the caller's transaction; the locking
+ * read is meant to run in the dispatcher's own transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox (event_type, aggregate_id, payload)
+            VALUES (?, ?, CAST(? AS jsonb))
+            """;
+
+    /**
+     * Oldest ready messages that no other instance holds. A message waits while an earlier
+     * message for the same aggregate is backing off after a failure; parked messages are skipped
+     * and hold nothing back.
+     */
+    private static final String LOCK_READY_SQL = """
+            SELECT o.id, o.event_type, o.aggregate_id, o.payload, o.attempts
+            FROM outbox o
+            WHERE o.parked_at IS NULL
+              AND o.available_at <= CURRENT_TIMESTAMP
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox e
+                  WHERE e.aggregate_id = o.aggregate_id AND e.id < o.id AND e.parked_at IS NULL
+                    AND e.available_at > CURRENT_TIMESTAMP)
+            ORDER BY o.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String FIND_PENDING_IDS_SQL = """
+            SELECT id, aggregate_id FROM outbox WHERE aggregate_id = ANY(?) AND parked_at IS NULL ORDER BY id
+            """;
+
+    // Exponential backoff: 2s, 4s, 8s ... capped at maxBackoffSeconds
+    private static final String RESCHEDULE_SQL = """
+            UPDATE outbox
+            SET attempts = attempts + 1,
+                available_at = CURRENT_TIMESTAMP + make_interval(secs => least(power(2, attempts + 1), ?)),
+                last_error = ?
+            WHERE id = ?
+            """;
+
+    private static final String PARK_SQL = """
+            UPDATE outbox
+            SET attempts = attempts + 1, parked_at = CURRENT_TIMESTAMP, last_error = ?
+            WHERE id = ?
+            """;
+
+    private static final String BACKLOG_STATS_SQL = """
+            SELECT count(*) FILTER (WHERE parked_at IS NULL) AS pending,
+                count(*) FILTER (WHERE parked_at IS NOT NULL) AS parked,
+                COALESCE(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP - min(available_at)
+                    FILTER (WHERE parked_at IS NULL AND available_at <= CURRENT_TIMESTAMP)), 0) AS oldest_seconds
+            FROM outbox
+            """;
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getObject("aggregate_id", UUID.class),
+            rs.getString("payload"),
+            rs.getInt("attempts"));
+
+    /**
+     * Messages still to be delivered, parked messages, and how long the oldest ready message has
+     * been waiting.
+     */
+    public record BacklogStats(long pending, long parked, double oldestSeconds) {}
+
+    /** A message to append: its event class, the aggregate it is about and its JSON payload. */
+    public record NewMessage(String eventType, UUID aggregateId, String payload) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(String eventType, UUID aggregateId, String payload) {
+        jdbcTemplate.update(INSERT_SQL, eventType, aggregateId, payload);
+    }
+
+    /**
+     * Appends the messages as one JDBC batch, in list order, so ids and therefore delivery order
+     * follow the list.
+     */
+    public void insertAll(List<NewMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.eventType());
+            ps.setObject(2, message.aggregateId());
+            ps.setString(3, message.payload());
+        });
+    }
+
+    public List<OutboxMessage> lockReady(int limit) {
+        return jdbcTemplate.query(LOCK_READY_SQL, MESSAGE_MAPPER, limit);
+    }
+
+    /**
+     * IDs of every undelivered message for the aggregates, oldest first, including ones that are
+     * locked by another instance or backing off.
+     */
+    public Map<UUID, List<Long>> findPendingIds(Collection<UUID> aggregateIds) {
+        Map<UUID, List<Long>> ids = new HashMap<>();
+        jdbcTemplate.query(FIND_PENDING_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", aggregateIds.toArray())),
+                rs -> {
+                    ids.computeIfAbsent(rs.getObject("aggregate_id", UUID.class), id -> new ArrayList<>())
+                            .add(rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    public void deleteAll(Collection<Long> ids) {
+        jdbcTemplate.update("DELETE FROM outbox WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+
+    public void reschedule(long id, String error, long maxBackoffSeconds) {
+        jdbcTemplate.update(RESCHEDULE_SQL, maxBackoffSeconds, error, id);
+    }
+
+    public void park(long id, String error) {
+        jdbcTemplate.update(PARK_SQL, error, id);
+    }
+
+    public BacklogStats backlogStats() {
+        return jdbcTemplate.queryForObject(BACKLOG_STATS_SQL, (rs, rowNum) ->
+                new BacklogStats(rs.getLong("pending"), rs.getLong("parked"), rs.getDouble("oldest_seconds")));
+    }
+}
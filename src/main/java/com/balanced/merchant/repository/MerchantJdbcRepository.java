@@ -0,0 +1,65 @@
+package com.balanced.merchant.repository;
+
+import com.balanced.common.enums.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based merchant resolution for imports and bank sync, which need IDs for many merchant names
+ * at once and create the missing ones the way {@code MerchantService.resolveMerchant} does.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MerchantJdbcRepository {
+
+    /**
+     * Inserts the names that have no case-insensitive match yet and returns the IDs of all of
+     * them. The outer SELECT reads the pre-insert snapshot, so existing and inserted rows never overlap.
+     */
+    private static final String UPSERT_MERCHANTS_SQL = """
+            WITH incoming AS (
+                SELECT DISTINCT ON (lower(name)) name
+                FROM unnest(CAST(? AS varchar[])) AS name
+            ), inserted AS (
+                INSERT INTO merchants (workspace_id, name, status, created_by, updated_by)
+                SELECT ?, i.name, ?, ?, ?
+                FROM incoming i
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM merchants m WHERE m.workspace_id = ? AND lower(m.name) = lower(i.name))
+                RETURNING id, name, true AS created
+            )
+            SELECT id, name, created FROM inserted
+            UNION ALL
+            SELECT m.id, m.name, false FROM merchants m
+            JOIN incoming i ON lower(m.name) = lower(i.name)
+            WHERE m.workspace_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MerchantIds(Map<String, UUID> idsByLowerName, int created) {}
+
+    public MerchantIds upsertMerchants(UUID workspaceId, Collection<String> names, String auditor) {
+        Map<String, UUID> ids = new HashMap<>();
+        int[] created = {0};
+        jdbcTemplate.query(UPSERT_MERCHANTS_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("varchar", names.toArray()));
+            ps.setObject(2, workspaceId);
+            ps.setString(3, Status.ACTIVE.name());
+            ps.setString(4, auditor);
+            ps.setString(5, auditor);
+            ps.setObject(6, workspaceId);
+            ps.setObject(7, workspaceId);
+        }, rs -> {
+            ids.putIfAbsent(rs.getString("name").toLowerCase(), rs.getObject("id", UUID.class));
+            if (rs.getBoolean("created")) created[0]++;
+        });
+        return new MerchantIds(ids, created[0]);
+    }
+}
@@ -1,9 +1,11 @@
 package com.balanced.merchant.repository;
 
+import com.balanced.common.cache.ReferenceName;
 import com.balanced.merchant.entity.Merchant;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,8 +15,14 @@ public interface MerchantRepository extends JpaRepository<Merchant, UUID> {
 
     List<Merchant> findAllByWorkspaceId(UUID workspaceId);
 
+    List<ReferenceName> findNamesByWorkspaceId(UUID workspaceId);
+
     Optional<Merchant> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+    boolean existsByIdAndWorkspaceId(UUID id, UUID workspaceId);
+
+    List<Merchant> findAllByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
+
     Optional<Merchant> findByWorkspaceIdAndNameIgnoreCase(UUID workspaceId, String name);
 
     boolean existsByWorkspaceIdAndNameIgnoreCase(UUID workspaceId, String name);
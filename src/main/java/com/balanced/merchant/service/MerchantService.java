@@ -1,5 +1,6 @@
 package com.balanced.merchant.service;
 
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.exception.ConflictException;
 import com.balanced.common.exception.ResourceNotFoundException;
 import com.balanced.merchant.dto.CreateMerchantInput;
@@ -13,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +25,7 @@ public class MerchantService {
 
     private final MerchantRepository merchantRepository;
     private final MerchantMapper merchantMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     @Transactional(readOnly = true)
     public List<Merchant> listAllByWorkspaceId(UUID workspaceId) {
@@ -35,6 +38,26 @@ public class MerchantService {
                 .orElseThrow(() -> new ResourceNotFoundException("Merchant not found"));
     }
 
+    @Transactional(readOnly = true)
+    public List<Merchant> getMerchants(Collection<UUID> merchantIds, UUID workspaceId) {
+        if (merchantIds.isEmpty()) return List.of();
+        return merchantRepository.findAllByIdInAndWorkspaceId(merchantIds, workspaceId);
+    }
+
+    /**
+     * Validates that a merchant exists in the workspace, using the cached merchant names. A miss
+     * is checked against the table, since the merchant may have been created on another instance
+     * since the snapshot was loaded; the stale snapshot is then dropped.
+     */
+    @Transactional(readOnly = true)
+    public void validateMerchant(UUID merchantId, UUID workspaceId) {
+        if (referenceDataCache.merchantNames(workspaceId).containsKey(merchantId)) return;
+        if (!merchantRepository.existsByIdAndWorkspaceId(merchantId, workspaceId)) {
+            throw new ResourceNotFoundException("Merchant not found");
+        }
+        referenceDataCache.invalidateMerchants(workspaceId);
+    }
+
     @Transactional
     public Merchant createMerchant(UUID workspaceId, CreateMerchantInput dto) {
         if (merchantRepository.existsByWorkspaceIdAndNameIgnoreCase(workspaceId, dto.getName())) {
@@ -48,6 +71,7 @@ public class MerchantService {
                 .build();
 
         log.info("Created merchant '{}'", dto.getName());
+        referenceDataCache.invalidateMerchants(workspaceId);
         return merchantRepository.save(merchant);
     }
 
@@ -63,6 +87,7 @@ public class MerchantService {
 
         merchantMapper.updateEntity(dto, merchant);
         log.info("Updating merchant '{}' ({})", merchant.getName(), merchantId);
+        referenceDataCache.invalidateMerchants(workspaceId);
         return merchantRepository.save(merchant);
     }
 
@@ -71,6 +96,7 @@ public class MerchantService {
         Merchant merchant = getMerchant(merchantId, workspaceId);
         log.info("Deleting merchant '{}' ({})", merchant.getName(), merchantId);
         merchantRepository.delete(merchant);
+        referenceDataCache.invalidateMerchants(workspaceId);
     }
 
     @Transactional
@@ -83,6 +109,7 @@ public class MerchantService {
                             .status(Status.ACTIVE)
                             .build();
                     Merchant saved = merchantRepository.save(merchant);
+                    referenceDataCache.invalidateMerchants(workspaceId);
                     log.info("Auto-created merchant '{}'", merchantName);
                     return saved;
                 });
@@ -4,6 +4,7 @@ import com.balanced.recurring.entity.RecurringItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +15,6 @@ public interface RecurringItemRepository extends JpaRepository<RecurringItem, UU
     List<RecurringItem> findAllByWorkspaceId(UUID workspaceId);
 
     Optional<RecurringItem> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
+
+    List<RecurringItem> findAllByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
 }
@@ -27,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -57,23 +58,29 @@ public class RecurringItemService {
                 .orElseThrow(() -> new ResourceNotFoundException("Recurring item not found"));
     }
 
+    @Transactional(readOnly = true)
+    public List<RecurringItem> getRecurringItems(Collection<UUID> recurringItemIds, UUID workspaceId) {
+        if (recurringItemIds.isEmpty()) return List.of();
+        return recurringItemRepository.findAllByIdInAndWorkspaceId(recurringItemIds, workspaceId);
+    }
+
     @Transactional
     public RecurringItem createRecurringItem(UUID workspaceId, CreateRecurringItemInput dto) {
-        var account = accountService.getAccount(dto.getAccountId(), workspaceId);
+        accountService.validateAccount(dto.getAccountId(), workspaceId);
         var merchant = merchantService.resolveMerchant(dto.getMerchantName(), workspaceId);
-        UUID categoryId = null;
-        if (dto.getCategoryId() != null) {
-            categoryId = categoryService.getCategory(dto.getCategoryId(), workspaceId).getId();
-            categoryService.validateNotGroup(categoryId);
+        UUID categoryId = dto.getCategoryId();
+        if (categoryId != null) {
+            categoryService.validateCategory(categoryId, workspaceId);
+            categoryService.validateNotGroup(categoryId, workspaceId);
             categoryService.validateCategoryPolarity(categoryId, dto.getAmount(), workspaceId);
         }
         Set<UUID> tagIds = dto.getTagIds() != null ? dto.getTagIds() : new HashSet<>();
-        tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+        tagService.validateTags(tagIds, workspaceId);
 
         RecurringItem recurringItem = RecurringItem.builder()
                 .workspaceId(workspaceId)
                 .merchantId(merchant.getId())
-                .accountId(account.getId())
+                .accountId(dto.getAccountId())
                 .categoryId(categoryId)
                 .amount(dto.getAmount())
                 .currencyCode(dto.getCurrencyCode() != null ? dto.getCurrencyCode() : CurrencyCode.USD)
@@ -97,8 +104,8 @@ public class RecurringItemService {
         RecurringItem recurringItem = getRecurringItem(recurringItemId, workspaceId);
 
         if (dto.getAccountId() != null) {
-            var account = accountService.getAccount(dto.getAccountId(), workspaceId);
-            recurringItem.setAccountId(account.getId());
+            accountService.validateAccount(dto.getAccountId(), workspaceId);
+            recurringItem.setAccountId(dto.getAccountId());
         }
 
         // MapStruct handles: description, amount, currencyCode, frequencyGranularity, frequencyQuantity, anchorDates, startDate, status
@@ -111,10 +118,10 @@ public class RecurringItemService {
 
         if (dto.isCategoryIdSpecified()) {
             if (dto.getCategoryId() != null) {
-                var category = categoryService.getCategory(dto.getCategoryId(), workspaceId);
-                categoryService.validateNotGroup(category.getId());
-                categoryService.validateCategoryPolarity(category.getId(), recurringItem.getAmount(), workspaceId);
-                recurringItem.setCategoryId(category.getId());
+                categoryService.validateCategory(dto.getCategoryId(), workspaceId);
+                categoryService.validateNotGroup(dto.getCategoryId(), workspaceId);
+                categoryService.validateCategoryPolarity(dto.getCategoryId(), recurringItem.getAmount(), workspaceId);
+                recurringItem.setCategoryId(dto.getCategoryId());
             } else {
                 recurringItem.setCategoryId(null);
             }
@@ -135,7 +142,7 @@ public class RecurringItemService {
 
         if (dto.isTagIdsSpecified()) {
             Set<UUID> tagIds = dto.getTagIds() != null ? dto.getTagIds() : new HashSet<>();
-            tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+            tagService.validateTags(tagIds, workspaceId);
             recurringItem.setTagIds(tagIds);
         }
 
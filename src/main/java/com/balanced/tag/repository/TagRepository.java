@@ -1,9 +1,11 @@
 package com.balanced.tag.repository;
 
+import com.balanced.common.cache.ReferenceName;
 import com.balanced.tag.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,7 +15,13 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
 
     List<Tag> findAllByWorkspaceId(UUID workspaceId);
 
+    List<ReferenceName> findNamesByWorkspaceId(UUID workspaceId);
+
     Optional<Tag> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+    long countByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
+
+    List<Tag> findAllByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
+
     boolean existsByWorkspaceIdAndNameIgnoreCase(UUID workspaceId, String name);
 }
@@ -1,5 +1,6 @@
 package com.balanced.tag.service;
 
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.exception.ConflictException;
 import com.balanced.common.exception.ResourceNotFoundException;
 import com.balanced.tag.dto.CreateTagInput;
@@ -8,12 +9,15 @@ import com.balanced.tag.entity.Tag;
 import com.balanced.common.enums.Status;
 import com.balanced.tag.mapper.TagMapper;
 import com.balanced.tag.repository.TagRepository;
+import com.balanced.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -23,6 +27,8 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final TagMapper tagMapper;
+    private final TransactionRepository transactionRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Transactional(readOnly = true)
     public List<Tag> listAllByWorkspaceId(UUID workspaceId) {
@@ -35,6 +41,28 @@ public class TagService {
                 .orElseThrow(() -> new ResourceNotFoundException("Tag not found"));
     }
 
+    @Transactional(readOnly = true)
+    public List<Tag> getTags(Collection<UUID> tagIds, UUID workspaceId) {
+        if (tagIds.isEmpty()) return List.of();
+        return tagRepository.findAllByIdInAndWorkspaceId(tagIds, workspaceId);
+    }
+
+    /**
+     * Validates that every tag exists in the workspace, using the cached tag names. A miss is
+     * checked against the table, since the tag may have been created on another instance since
+     * the snapshot was loaded; the stale snapshot is then dropped.
+     */
+    @Transactional(readOnly = true)
+    public void validateTags(Collection<UUID> tagIds, UUID workspaceId) {
+        if (tagIds.isEmpty()) return;
+        if (referenceDataCache.tagNames(workspaceId).keySet().containsAll(tagIds)) return;
+        Set<UUID> distinct = Set.copyOf(tagIds);
+        if (tagRepository.countByIdInAndWorkspaceId(distinct, workspaceId) != distinct.size()) {
+            throw new ResourceNotFoundException("Tag not found");
+        }
+        referenceDataCache.invalidateTags(workspaceId);
+    }
+
     @Transactional
     public Tag createTag(UUID workspaceId, CreateTagInput dto) {
         if (tagRepository.existsByWorkspaceIdAndNameIgnoreCase(workspaceId, dto.getName())) {
@@ -49,6 +77,7 @@ public class TagService {
                 .build();
 
         log.info("Created tag '{}'", dto.getName());
+        referenceDataCache.invalidateTags(workspaceId);
         return tagRepository.save(tag);
     }
 
@@ -64,6 +93,7 @@ public class TagService {
 
         tagMapper.updateEntity(dto, tag);
         log.info("Updating tag '{}' ({})", tag.getName(), tagId);
+        referenceDataCache.invalidateTags(workspaceId);
         return tagRepository.save(tag);
     }
 
@@ -71,6 +101,9 @@ public class TagService {
     public void deleteTag(UUID tagId, UUID workspaceId) {
         Tag tag = getTag(tagId, workspaceId);
         log.info("Deleting tag '{}' ({})", tag.getName(), tagId);
+        int untagged = transactionRepository.removeTagId(tagId, workspaceId);
+        log.debug("Removed tag {} from {} transactions", tagId, untagged);
         tagRepository.delete(tag);
+        referenceDataCache.invalidateTags(workspaceId);
     }
 }
@@ -0,0 +1,60 @@
+package com.balanced.transaction.dto;
+
+import com.balanced.transaction.enums.TransactionStatus;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Patch applied to every transaction in a bulk update. Only specified fields are written;
+ * {@code tagIds} replaces the tag set, while {@code addTagIds}/{@code removeTagIds} edit it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUpdateTransactionInput {
+
+    private UUID accountId;
+
+    private UUID categoryId;
+    @Getter
+    private boolean categoryIdSpecified;
+
+    @Size(max = 500, message = "Notes must be at most 500 characters")
+    private String notes;
+    @Getter
+    private boolean notesSpecified;
+
+    private TransactionStatus status;
+
+    private Set<UUID> tagIds;
+    @Getter
+    private boolean tagIdsSpecified;
+
+    private Set<UUID> addTagIds;
+
+    private Set<UUID> removeTagIds;
+
+    public void setCategoryId(UUID categoryId) {
+        this.categoryId = categoryId;
+        this.categoryIdSpecified = true;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+        this.notesSpecified = true;
+    }
+
+    public void setTagIds(Set<UUID> tagIds) {
+        this.tagIds = tagIds;
+        this.tagIdsSpecified = true;
+    }
+}
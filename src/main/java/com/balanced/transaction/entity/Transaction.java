@@ -9,6 +9,8 @@ import com.balanced.transaction.enums.TransactionStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -95,9 +97,8 @@ public class Transaction extends BaseEntity implements WorkspaceScoped {
 
     @Audited(displayName = "tags")
     @Builder.Default
-    @ElementCollection
-    @CollectionTable(name = "transaction_tags", joinColumns = @JoinColumn(name = "transaction_id"))
-    @Column(name = "tag_id")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tag_ids", nullable = false, columnDefinition = "uuid[]")
     private Set<UUID> tagIds = new HashSet<>();
 
     /**
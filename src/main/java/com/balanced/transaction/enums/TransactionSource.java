@@ -2,5 +2,6 @@ package com.balanced.transaction.enums;
 
 public enum TransactionSource {
     MANUAL,
-    AUTOMATIC
+    AUTOMATIC,
+    IMPORTED
 }
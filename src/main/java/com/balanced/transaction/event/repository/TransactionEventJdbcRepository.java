@@ -0,0 +1,54 @@
+package com.balanced.transaction.event.repository;
+
+import com.balanced.transaction.event.entity.TransactionEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Batched inserts for the transaction events in an outbox delivery, so a batch costs one JDBC
+ * round trip instead of one entity persist per event.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionEventJdbcRepository {
+
+    /**
+     * Events can outlive their transaction while waiting in the outbox; those rows are skipped
+     * instead of failing the whole batch on the foreign key.
+     */
+    private static final String INSERT_EVENT_SQL = """
+            INSERT INTO transaction_events (transaction_id, workspace_id, event_type, changes, performed_by, performed_at)
+            SELECT ?, ?, ?, CAST(? AS jsonb), ?, ?
+            WHERE EXISTS (SELECT 1 FROM transactions t WHERE t.id = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void insertAll(List<TransactionEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, events, events.size(), (ps, event) -> {
+            ps.setObject(1, event.getTransactionId());
+            ps.setObject(2, event.getWorkspaceId());
+            ps.setString(3, event.getEventType());
+            ps.setString(4, toJson(event));
+            ps.setString(5, event.getPerformedBy());
+            ps.setTimestamp(6, Timestamp.valueOf(event.getPerformedAt()));
+            ps.setObject(7, event.getTransactionId());
+        });
+    }
+
+    private String toJson(TransactionEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.getChanges());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package com.balanced.transaction.event.service;
 
+import com.balanced.account.entity.Account;
+import com.balanced.account.service.AccountService;
+import com.balanced.category.entity.Category;
+import com.balanced.category.service.CategoryService;
 import com.balanced.common.event.DomainEvent;
+import com.balanced.common.event.DomainEventBatch;
+import com.balanced.common.event.FieldChange;
+import com.balanced.merchant.entity.Merchant;
+import com.balanced.merchant.service.MerchantService;
+import com.balanced.recurring.entity.RecurringItem;
+import com.balanced.recurring.service.RecurringItemService;
+import com.balanced.tag.entity.Tag;
+import com.balanced.tag.service.TagService;
 import com.balanced.transaction.event.dto.TransactionEventResponse;
 import com.balanced.transaction.event.entity.TransactionEvent;
+import com.balanced.transaction.event.repository.TransactionEventJdbcRepository;
 import com.balanced.transaction.event.repository.TransactionEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -22,18 +40,51 @@ import java.util.UUID;
 public class TransactionEventService {
 
     private final TransactionEventRepository transactionEventRepository;
+    private final TransactionEventJdbcRepository transactionEventJdbcRepository;
+    private final AccountService accountService;
+    private final MerchantService merchantService;
+    private final CategoryService categoryService;
+    private final TagService tagService;
+    private final RecurringItemService recurringItemService;
 
-    private static final int MAX_RETRIES = 3;
+    // Events written before references were stored as ids hold names, which are shown as-is
+    private static final Pattern UUID_VALUE =
+            Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
 
-    @Async
-    @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void handleDomainEvent(DomainEvent event) {
-        if (!"transaction".equals(event.domain())) {
+    /**
+     * Persists the transaction events in a batch delivered by the outbox, in the dispatcher's
+     * transaction, as one JDBC batch.
+     */
+    @EventListener
+    public void handleDomainEventBatch(DomainEventBatch batch) {
+        List<TransactionEvent> entities = batch.events().stream()
+                .filter(event -> "transaction".equals(event.domain()))
+                .map(this::toEntity)
+                .toList();
+        if (entities.isEmpty()) {
             return;
         }
+        transactionEventJdbcRepository.insertAll(entities);
+        log.debug("Persisted {} transaction events", entities.size());
+    }
+
+    /**
+     * Events store references as raw ids. They are named here with one query per referenced
+     * entity type across all of the returned events, so the history shows current names.
+     * References that no longer exist keep their id.
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionEventResponse> getEventsForTransaction(UUID transactionId, UUID workspaceId) {
+        List<TransactionEvent> events = transactionEventRepository
+                .findAllByTransactionIdAndWorkspaceIdOrderByPerformedAtDesc(transactionId, workspaceId);
+        Map<String, String> names = resolveNames(events, workspaceId);
+        return events.stream()
+                .map(event -> toDto(event, names))
+                .toList();
+    }
 
-        TransactionEvent entity = TransactionEvent.builder()
+    private TransactionEvent toEntity(DomainEvent event) {
+        return TransactionEvent.builder()
                 .transactionId(event.entityId())
                 .workspaceId(event.workspaceId())
                 .eventType(event.eventType())
@@ -41,41 +92,74 @@ public class TransactionEventService {
                 .performedBy(event.performedBy())
                 .performedAt(event.performedAt())
                 .build();
-
-        int attempt = 0;
-        while (true) {
-            try {
-                attempt++;
-                transactionEventRepository.save(entity);
-                log.debug("Persisted {} event for transaction {}", event.eventType(), event.entityId());
-                return;
-            } catch (Exception e) {
-                if (attempt >= MAX_RETRIES) {
-                    throw e;
-                }
-                log.warn("Retry {}/{} for {} event on transaction {}: {}",
-                        attempt, MAX_RETRIES, event.eventType(), event.entityId(), e.getMessage());
-            }
-        }
-    }
-
-    @Transactional(readOnly = true)
-    public List<TransactionEventResponse> getEventsForTransaction(UUID transactionId, UUID workspaceId) {
-        return transactionEventRepository
-                .findAllByTransactionIdAndWorkspaceIdOrderByPerformedAtDesc(transactionId, workspaceId)
-                .stream()
-                .map(this::toDto)
-                .toList();
     }
 
-    private TransactionEventResponse toDto(TransactionEvent entity) {
+    private TransactionEventResponse toDto(TransactionEvent entity, Map<String, String> names) {
         return TransactionEventResponse.builder()
                 .id(entity.getId())
                 .transactionId(entity.getTransactionId())
                 .eventType(entity.getEventType())
-                .changes(entity.getChanges())
+                .changes(entity.getChanges().stream()
+                        .map(change -> new FieldChange(change.field(),
+                                nameValue(change.oldValue(), names), nameValue(change.newValue(), names)))
+                        .toList())
                 .performedBy(entity.getPerformedBy())
                 .performedAt(entity.getPerformedAt())
                 .build();
     }
+
+    /**
+     * Builds a map of id string → display name for every referenced entity in the events,
+     * keyed by the field names {@link com.balanced.transaction.entity.Transaction} audits them under.
+     */
+    private Map<String, String> resolveNames(List<TransactionEvent> events, UUID workspaceId) {
+        Map<String, Set<UUID>> idsByField = new HashMap<>();
+        for (TransactionEvent event : events) {
+            for (FieldChange change : event.getChanges()) {
+                Set<UUID> ids = idsByField.computeIfAbsent(change.field(), field -> new HashSet<>());
+                collectIds(change.oldValue(), ids);
+                collectIds(change.newValue(), ids);
+            }
+        }
+
+        Map<String, String> names = new HashMap<>();
+        putNames(names, idsByField.get("account"),
+                ids -> accountService.getAccounts(ids, workspaceId), Account::getId, Account::getName);
+        putNames(names, idsByField.get("merchant"),
+                ids -> merchantService.getMerchants(ids, workspaceId), Merchant::getId, Merchant::getName);
+        putNames(names, idsByField.get("category"),
+                ids -> categoryService.getCategories(ids, workspaceId), Category::getId, Category::getName);
+        putNames(names, idsByField.get("recurringItem"),
+                ids -> recurringItemService.getRecurringItems(ids, workspaceId), RecurringItem::getId, RecurringItem::getDescription);
+        putNames(names, idsByField.get("tags"),
+                ids -> tagService.getTags(ids, workspaceId), Tag::getId, Tag::getName);
+        return names;
+    }
+
+    private static void collectIds(Object value, Set<UUID> ids) {
+        if (value instanceof Collection<?> values) {
+            values.forEach(item -> collectIds(item, ids));
+        } else if (value instanceof String str && UUID_VALUE.matcher(str).matches()) {
+            ids.add(UUID.fromString(str));
+        }
+    }
+
+    private static <T> void putNames(Map<String, String> names, Set<UUID> ids, Function<Set<UUID>, List<T>> fetcher,
+                                     Function<T, UUID> idExtractor, Function<T, String> nameExtractor) {
+        if (ids == null || ids.isEmpty()) return;
+        for (T entity : fetcher.apply(ids)) {
+            String name = nameExtractor.apply(entity);
+            if (name != null) names.put(idExtractor.apply(entity).toString(), name);
+        }
+    }
+
+    private static Object nameValue(Object value, Map<String, String> names) {
+        if (value instanceof List<?> values) {
+            return values.stream().map(item -> nameValue(item, names)).toList();
+        }
+        if (value instanceof String str) {
+            return names.getOrDefault(str, str);
+        }
+        return value;
+    }
 }
@@ -0,0 +1,59 @@
+package com.balanced.transaction.export.controller;
+
+import com.balanced.common.annotation.WorkspaceId;
+import com.balanced.transaction.dto.TransactionFilter;
+import com.balanced.transaction.export.enums.ExportFormat;
+import com.balanced.transaction.export.service.TransactionExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/transactions/export")
+public class TransactionExportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson;charset=UTF-8");
+
+    private final TransactionExportService exportService;
+
+    /**
+     * Streams every transaction matching the filter, oldest first. Filter fields are query
+     * parameters named as in {@link TransactionFilter}; repeat {@code tagIds} for several tags.
+     * The body is gzip-encoded when the request's {@code Accept-Encoding} allows it.
+     */
+    @PreAuthorize("hasAuthority('READ')")
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @WorkspaceId UUID workspaceId,
+            @ModelAttribute TransactionFilter filter,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = exportService.export(workspaceId, filter, format, gzip);
+
+        String fileName = "transactions-%s.%s".formatted(LocalDate.now(), format == ExportFormat.CSV ? "csv" : "ndjson");
+        var response = ResponseEntity.ok()
+                .contentType(format == ExportFormat.CSV ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response.body(body);
+    }
+}
@@ -0,0 +1,6 @@
+package com.balanced.transaction.export.enums;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,77 @@
+package com.balanced.transaction.export.service;
+
+import com.balanced.transaction.dto.TransactionResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+/**
+ * RFC 4180 CSV whose columns line up with what the transaction import reads, so an export can
+ * be imported into another workspace as is.
+ */
+class CsvExportWriter implements TransactionExportWriter {
+
+    private static final String HEADER = "date,amount,currency,merchant,category,account,tags,notes,status,source,id\n";
+
+    private final Writer writer;
+    private final ExportNames names;
+
+    CsvExportWriter(Writer writer, ExportNames names) {
+        this.writer = writer;
+        this.names = names;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+    }
+
+    @Override
+    public void write(TransactionResponse t) throws IOException {
+        writer.write(t.getDate().toString());
+        writer.write(',');
+        writer.write(formatAmount(t.getAmount()));
+        writer.write(',');
+        writer.write(t.getCurrencyCode().name());
+        writer.write(',');
+        writeField(names.merchant(t.getMerchantId()));
+        writer.write(',');
+        writeField(names.category(t.getCategoryId()));
+        writer.write(',');
+        writeField(names.account(t.getAccountId()));
+        writer.write(',');
+        writeField(String.join("|", names.tags(t.getTagIds())));
+        writer.write(',');
+        writeField(t.getNotes());
+        writer.write(',');
+        writer.write(t.getStatus().name());
+        writer.write(',');
+        writer.write(t.getSource().name());
+        writer.write(',');
+        writer.write(t.getId().toString());
+        writer.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) return;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // Amounts are stored at scale 4; print them the way they were entered, with at least cents
+    static String formatAmount(BigDecimal amount) {
+        BigDecimal stripped = amount.stripTrailingZeros();
+        return (stripped.scale() < 2 ? stripped.setScale(2) : stripped).toPlainString();
+    }
+}
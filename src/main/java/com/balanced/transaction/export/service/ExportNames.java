@@ -0,0 +1,35 @@
+package com.balanced.transaction.export.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Display names for everything a transaction references, loaded once per export. Its size
+ * depends on the workspace's reference data, not on how many rows are exported.
+ */
+record ExportNames(
+        Map<UUID, String> accounts,
+        Map<UUID, String> merchants,
+        Map<UUID, String> categories,
+        Map<UUID, String> tags) {
+
+    String account(UUID id) {
+        return id != null ? accounts.get(id) : null;
+    }
+
+    String merchant(UUID id) {
+        return id != null ? merchants.get(id) : null;
+    }
+
+    String category(UUID id) {
+        return id != null ? categories.get(id) : null;
+    }
+
+    /**
+     * Tag names in alphabetical order, so the output does not depend on set iteration order.
+     */
+    String[] tags(Set<UUID> ids) {
+        return ids.stream().map(tags::get).filter(java.util.Objects::nonNull).sorted().toArray(String[]::new);
+    }
+}
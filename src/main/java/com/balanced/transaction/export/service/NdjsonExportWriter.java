@@ -0,0 +1,55 @@
+package com.balanced.transaction.export.service;
+
+import com.balanced.transaction.dto.TransactionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * One JSON object per line, written straight to the generator rather than through a DTO.
+ */
+class NdjsonExportWriter implements TransactionExportWriter {
+
+    private final JsonGenerator generator;
+    private final ExportNames names;
+
+    NdjsonExportWriter(JsonGenerator generator, ExportNames names) {
+        this.generator = generator;
+        this.names = names;
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(TransactionResponse t) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", t.getId().toString());
+        generator.writeStringField("date", t.getDate().toString());
+        generator.writeNumberField("amount", t.getAmount());
+        generator.writeStringField("currencyCode", t.getCurrencyCode().name());
+        writeReference("account", t.getAccountId(), names.account(t.getAccountId()));
+        writeReference("merchant", t.getMerchantId(), names.merchant(t.getMerchantId()));
+        writeReference("category", t.getCategoryId(), names.category(t.getCategoryId()));
+        generator.writeArrayFieldStart("tags");
+        for (String tag : names.tags(t.getTagIds())) generator.writeString(tag);
+        generator.writeEndArray();
+        generator.writeStringField("notes", t.getNotes());
+        generator.writeStringField("status", t.getStatus().name());
+        generator.writeStringField("source", t.getSource().name());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+
+    private void writeReference(String field, UUID id, String name) throws IOException {
+        generator.writeStringField(field + "Id", id != null ? id.toString() : null);
+        generator.writeStringField(field, name);
+    }
+}
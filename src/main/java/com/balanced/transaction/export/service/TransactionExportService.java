@@ -0,0 +1,149 @@
+package com.balanced.transaction.export.service;
+
+import com.balanced.account.entity.Account;
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.category.entity.Category;
+import com.balanced.category.repository.CategoryRepository;
+import com.balanced.common.exception.BadRequestException;
+import com.balanced.merchant.entity.Merchant;
+import com.balanced.merchant.repository.MerchantRepository;
+import com.balanced.tag.entity.Tag;
+import com.balanced.tag.repository.TagRepository;
+import com.balanced.transaction.dto.TransactionFilter;
+import com.balanced.transaction.dto.TransactionResponse;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.export.enums.ExportFormat;
+import com.balanced.transaction.repository.TransactionRepository;
+import com.balanced.transaction.repository.TransactionSpecifications;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a filtered transaction export. Rows come from a server-side cursor in chunks of
+ * {@code balanced.exports.fetch-size} and are written as they arrive, and names are resolved
+ * from maps loaded once, so memory use does not depend on the number of rows exported.
+ */
+@Slf4j
+@Service
+public class TransactionExportService {
+
+    private static final Set<String> EXPORTED_FIELDS = Set.of("date", "amount", "currencyCode", "accountId",
+            "merchantId", "categoryId", "tagIds", "notes", "status", "source");
+
+    // Oldest first, with id as a tiebreaker so the order is stable
+    private static final Sort EXPORT_ORDER = Sort.by(Sort.Order.asc("date"), Sort.Order.asc("id"));
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final MerchantRepository merchantRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    public TransactionExportService(TransactionRepository transactionRepository,
+                                    AccountRepository accountRepository,
+                                    MerchantRepository merchantRepository,
+                                    CategoryRepository categoryRepository,
+                                    TagRepository tagRepository,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${balanced.exports.fetch-size:1000}") int fetchSize) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.merchantRepository = merchantRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Validates the filter now, while an error can still become a 400, and returns a body that
+     * runs the export once the response starts streaming.
+     */
+    public StreamingResponseBody export(UUID workspaceId, TransactionFilter filter, ExportFormat format, boolean gzip) {
+        Specification<Transaction> spec;
+        try {
+            spec = TransactionSpecifications.fromFilter(workspaceId, filter);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Dates must be in YYYY-MM-DD format");
+        }
+
+        return out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+            long rows = readOnlyTransaction.execute(status -> write(workspaceId, spec, format, target));
+            if (target instanceof GZIPOutputStream compressed) compressed.finish();
+            log.info("Exported {} transactions as {}{}", rows, format, gzip ? " (gzip)" : "");
+        };
+    }
+
+    private long write(UUID workspaceId, Specification<Transaction> spec, ExportFormat format, OutputStream out) {
+        ExportNames names = loadNames(workspaceId);
+        try (Stream<TransactionResponse> rows = transactionRepository.streamProjected(spec, EXPORT_ORDER, EXPORTED_FIELDS, fetchSize)) {
+            TransactionExportWriter writer = createWriter(format, out, names);
+            writer.writeHeader();
+            long count = 0;
+            for (var iterator = rows.iterator(); iterator.hasNext(); count++) {
+                writer.write(iterator.next());
+            }
+            writer.finish();
+            return count;
+        } catch (IOException e) {
+            // Usually the client went away mid-download
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TransactionExportWriter createWriter(ExportFormat format, OutputStream out, ExportNames names) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        return switch (format) {
+            case CSV -> new CsvExportWriter(writer, names);
+            case NDJSON -> {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+                generator.setRootValueSeparator(null);
+                yield new NdjsonExportWriter(generator, names);
+            }
+        };
+    }
+
+    private ExportNames loadNames(UUID workspaceId) {
+        return new ExportNames(
+                namesById(accountRepository.findAllByWorkspaceId(workspaceId), Account::getId, Account::getName),
+                namesById(merchantRepository.findAllByWorkspaceId(workspaceId), Merchant::getId, Merchant::getName),
+                namesById(categoryRepository.findAllByWorkspaceId(workspaceId), Category::getId, Category::getName),
+                namesById(tagRepository.findAllByWorkspaceId(workspaceId), Tag::getId, Tag::getName));
+    }
+
+    private static <T> Map<UUID, String> namesById(List<T> entities, Function<T, UUID> id, Function<T, String> name) {
+        return entities.stream().collect(Collectors.toMap(id, name));
+    }
+}
@@ -0,0 +1,17 @@
+package com.balanced.transaction.export.service;
+
+import com.balanced.transaction.dto.TransactionResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes exported transactions one at a time; nothing is held back between rows.
+ */
+interface TransactionExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(TransactionResponse transaction) throws IOException;
+
+    void finish() throws IOException;
+}
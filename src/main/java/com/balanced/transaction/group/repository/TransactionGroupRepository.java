@@ -4,6 +4,7 @@ import com.balanced.transaction.group.entity.TransactionGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +15,6 @@ public interface TransactionGroupRepository extends JpaRepository<TransactionGro
     List<TransactionGroup> findAllByWorkspaceId(UUID workspaceId);
 
     Optional<TransactionGroup> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
+
+    List<TransactionGroup> findAllByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
 }
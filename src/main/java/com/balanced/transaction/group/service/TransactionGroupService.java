@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -47,20 +48,32 @@ public class TransactionGroupService {
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction group not found"));
     }
 
+    @Transactional(readOnly = true)
+    public List<TransactionGroup> getTransactionGroups(Collection<UUID> groupIds, UUID workspaceId) {
+        if (groupIds.isEmpty()) return List.of();
+        return transactionGroupRepository.findAllByIdInAndWorkspaceId(groupIds, workspaceId);
+    }
+
     @Transactional(readOnly = true)
     public List<Transaction> getGroupTransactions(UUID groupId, UUID workspaceId) {
         return transactionRepository.findAllByGroupIdAndWorkspaceId(groupId, workspaceId);
     }
 
+    @Transactional(readOnly = true)
+    public List<Transaction> getGroupTransactions(Collection<UUID> groupIds, UUID workspaceId) {
+        if (groupIds.isEmpty()) return List.of();
+        return transactionRepository.findAllByGroupIdInAndWorkspaceId(groupIds, workspaceId);
+    }
+
     @Transactional
     public TransactionGroup createTransactionGroup(UUID workspaceId, CreateTransactionGroupInput dto) {
-        UUID categoryId = null;
-        if (dto.getCategoryId() != null) {
-            categoryId = categoryService.getCategory(dto.getCategoryId(), workspaceId).getId();
+        UUID categoryId = dto.getCategoryId();
+        if (categoryId != null) {
+            categoryService.validateCategory(categoryId, workspaceId);
         }
 
         Set<UUID> tagIds = dto.getTagIds() != null ? dto.getTagIds() : new HashSet<>();
-        tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+        tagService.validateTags(tagIds, workspaceId);
 
         // Validate all transactions exist in the workspace and are not yet grouped
         Set<UUID> transactionIds = dto.getTransactionIds();
@@ -88,9 +101,7 @@ public class TransactionGroupService {
         transactionRepository.setGroupId(group.getId(), transactionIds, workspaceId);
         applyGroupOverrides(group, transactionIds, workspaceId);
 
-        for (UUID txnId : transactionIds) {
-            publishGroupedEvent(txnId, workspaceId, group.getId());
-        }
+        publishGroupedEvents(transactionIds, workspaceId, group.getId());
 
         log.info("Created transaction group '{}' with {} transactions", group.getName(), transactionIds.size());
         return group;
@@ -110,7 +121,7 @@ public class TransactionGroupService {
 
         if (dto.isCategoryIdSpecified()) {
             if (dto.getCategoryId() != null) {
-                categoryService.getCategory(dto.getCategoryId(), workspaceId);
+                categoryService.validateCategory(dto.getCategoryId(), workspaceId);
                 group.setCategoryId(dto.getCategoryId());
             } else {
                 group.setCategoryId(null);
@@ -123,7 +134,7 @@ public class TransactionGroupService {
 
         if (dto.isTagIdsSpecified()) {
             Set<UUID> tagIds = dto.getTagIds() != null ? dto.getTagIds() : new HashSet<>();
-            tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+            tagService.validateTags(tagIds, workspaceId);
             group.setTagIds(tagIds);
         }
 
@@ -148,8 +159,8 @@ public class TransactionGroupService {
                         .orElseThrow(() -> new ResourceNotFoundException("Transaction not found: " + txnId));
                 txn.setGroupId(null);
                 transactionRepository.save(txn);
-                publishUngroupedEvent(txnId, workspaceId, groupId);
             }
+            publishUngroupedEvents(toRemove, workspaceId, groupId);
 
             // Add new transactions
             Set<UUID> toAdd = new HashSet<>(desired);
@@ -157,9 +168,7 @@ public class TransactionGroupService {
             if (!toAdd.isEmpty()) {
                 validateTransactionsForGrouping(toAdd, workspaceId);
                 transactionRepository.setGroupId(groupId, toAdd, workspaceId);
-                for (UUID txnId : toAdd) {
-                    publishGroupedEvent(txnId, workspaceId, groupId);
-                }
+                publishGroupedEvents(toAdd, workspaceId, groupId);
             }
         }
 
@@ -194,9 +203,7 @@ public class TransactionGroupService {
         List<Transaction> members = transactionRepository.findAllByGroupIdAndWorkspaceId(groupId, workspaceId);
         transactionRepository.clearGroupId(groupId);
         transactionGroupRepository.delete(group);
-        for (Transaction txn : members) {
-            publishUngroupedEvent(txn.getId(), workspaceId, groupId);
-        }
+        publishUngroupedEvents(members.stream().map(Transaction::getId).toList(), workspaceId, groupId);
         log.info("Dissolved transaction group '{}'", group.getName());
     }
 
@@ -242,13 +249,13 @@ public class TransactionGroupService {
         }
     }
 
-    private void publishGroupedEvent(UUID transactionId, UUID workspaceId, UUID groupId) {
-        domainEventPublisher.publish(TransactionAction.GROUPED, transactionId, workspaceId,
+    private void publishGroupedEvents(Collection<UUID> transactionIds, UUID workspaceId, UUID groupId) {
+        domainEventPublisher.publishAll(TransactionAction.GROUPED, transactionIds, workspaceId,
                 List.of(new FieldChange("groupId", null, groupId.toString())));
     }
 
-    private void publishUngroupedEvent(UUID transactionId, UUID workspaceId, UUID groupId) {
-        domainEventPublisher.publish(TransactionAction.UNGROUPED, transactionId, workspaceId,
+    private void publishUngroupedEvents(Collection<UUID> transactionIds, UUID workspaceId, UUID groupId) {
+        domainEventPublisher.publishAll(TransactionAction.UNGROUPED, transactionIds, workspaceId,
                 List.of(new FieldChange("groupId", groupId.toString(), null)));
     }
 }
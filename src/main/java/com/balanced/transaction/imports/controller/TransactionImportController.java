@@ -0,0 +1,50 @@
+package com.balanced.transaction.imports.controller;
+
+import com.balanced.common.annotation.WorkspaceId;
+import com.balanced.transaction.imports.dto.TransactionImportDto;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.service.TransactionImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/transactions/imports")
+public class TransactionImportController {
+
+    private final TransactionImportService importService;
+
+    /**
+     * Accepts a CSV or OFX file and returns immediately; poll the returned import for its report.
+     * {@code accountId} is used for rows that do not name an account.
+     */
+    @PreAuthorize("hasAuthority('WRITE')")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TransactionImportDto> startImport(
+            @WorkspaceId UUID workspaceId,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) ImportFormat format) {
+        return ResponseEntity.accepted().body(importService.startImport(workspaceId, accountId, format, file));
+    }
+
+    @PreAuthorize("hasAuthority('READ')")
+    @GetMapping(value = "/{importId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TransactionImportDto> getImport(@WorkspaceId UUID workspaceId, @PathVariable UUID importId) {
+        return ResponseEntity.ok(importService.getImport(importId, workspaceId));
+    }
+}
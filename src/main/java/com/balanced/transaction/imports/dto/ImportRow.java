@@ -0,0 +1,19 @@
+package com.balanced.transaction.imports.dto;
+
+import java.util.List;
+
+/**
+ * One transaction as read from an import file, before any validation. Values are the raw
+ * strings from the file; dates are normalised to ISO form by the parser where the format needs it.
+ */
+public record ImportRow(
+        long line,
+        String date,
+        String amount,
+        String merchant,
+        String account,
+        String category,
+        List<String> tags,
+        String notes,
+        String currency) {
+}
@@ -0,0 +1,7 @@
+package com.balanced.transaction.imports.dto;
+
+/**
+ * A row that was skipped, identified by the line it started on.
+ */
+public record ImportRowError(long line, String message) {
+}
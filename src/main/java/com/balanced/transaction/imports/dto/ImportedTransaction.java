@@ -0,0 +1,22 @@
+package com.balanced.transaction.imports.dto;
+
+import com.balanced.account.enums.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A validated import row ready to be written. The merchant is still a name; it is resolved to
+ * an ID for the whole chunk at once just before the insert.
+ */
+public record ImportedTransaction(
+        UUID accountId,
+        String merchantName,
+        UUID categoryId,
+        LocalDateTime date,
+        BigDecimal amount,
+        CurrencyCode currencyCode,
+        String notes,
+        UUID[] tagIds) {
+}
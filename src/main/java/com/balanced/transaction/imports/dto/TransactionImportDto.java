@@ -0,0 +1,34 @@
+package com.balanced.transaction.imports.dto;
+
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.enums.ImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionImportDto {
+
+    private UUID id;
+    private UUID accountId;
+    private ImportFormat format;
+    private String fileName;
+    private ImportStatus status;
+    private int rowsRead;
+    private int rowsImported;
+    private int rowsSkipped;
+    private int merchantsCreated;
+    private List<ImportRowError> errors;
+    private String failureReason;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,81 @@
+package com.balanced.transaction.imports.entity;
+
+import com.balanced.common.audit.BaseEntity;
+import com.balanced.transaction.imports.dto.ImportRowError;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.enums.ImportStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+@Table(name = "transaction_imports")
+public class TransactionImport extends BaseEntity {
+
+    @Column(name = "workspace_id", nullable = false)
+    private UUID workspaceId;
+
+    /**
+     * Account used for rows that do not name one.
+     */
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false)
+    private ImportFormat format;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ImportStatus status = ImportStatus.PENDING;
+
+    @Column(name = "rows_read", nullable = false)
+    private int rowsRead;
+
+    @Column(name = "rows_imported", nullable = false)
+    private int rowsImported;
+
+    @Column(name = "rows_skipped", nullable = false)
+    private int rowsSkipped;
+
+    @Column(name = "merchants_created", nullable = false)
+    private int merchantsCreated;
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "errors", nullable = false, columnDefinition = "jsonb")
+    private List<ImportRowError> errors = new ArrayList<>();
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,6 @@
+package com.balanced.transaction.imports.enums;
+
+public enum ImportFormat {
+    CSV,
+    OFX
+}
@@ -0,0 +1,8 @@
+package com.balanced.transaction.imports.enums;
+
+public enum ImportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,11 @@
+package com.balanced.transaction.imports.mapper;
+
+import com.balanced.transaction.imports.dto.TransactionImportDto;
+import com.balanced.transaction.imports.entity.TransactionImport;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface TransactionImportMapper {
+
+    TransactionImportDto toDto(TransactionImport transactionImport);
+}
@@ -0,0 +1,159 @@
+package com.balanced.transaction.imports.parser;
+
+import com.balanced.transaction.imports.dto.ImportRow;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Map.entry;
+
+/**
+ * Parses RFC 4180 CSV with a header row. Columns are matched by name, case-insensitively, and
+ * {@code date}, {@code amount} and a merchant column are required. Tags are separated by {@code |}.
+ */
+@Component
+public class CsvTransactionParser implements TransactionFileParser {
+
+    private static final Map<String, String> COLUMN_ALIASES = Map.ofEntries(
+            entry("date", "date"),
+            entry("transaction date", "date"),
+            entry("posted date", "date"),
+            entry("amount", "amount"),
+            entry("merchant", "merchant"),
+            entry("payee", "merchant"),
+            entry("description", "merchant"),
+            entry("name", "merchant"),
+            entry("account", "account"),
+            entry("category", "category"),
+            entry("tags", "tags"),
+            entry("notes", "notes"),
+            entry("memo", "notes"),
+            entry("currency", "currency"));
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("date", "amount", "merchant");
+
+    @Override
+    public ImportFormat format() {
+        return ImportFormat.CSV;
+    }
+
+    @Override
+    public void parse(InputStream in, Consumer<ImportRow> sink) throws IOException {
+        var reader = new RecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+
+        List<String> header = reader.next();
+        if (header == null) throw new InvalidImportFileException("CSV file is empty");
+        Map<String, Integer> columns = mapColumns(header);
+
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.size() == 1 && record.getFirst().isBlank()) continue;
+            sink.accept(new ImportRow(
+                    reader.recordLine,
+                    value(record, columns, "date"),
+                    value(record, columns, "amount"),
+                    value(record, columns, "merchant"),
+                    value(record, columns, "account"),
+                    value(record, columns, "category"),
+                    splitTags(value(record, columns, "tags")),
+                    value(record, columns, "notes"),
+                    value(record, columns, "currency")));
+        }
+    }
+
+    private static Map<String, Integer> mapColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase();
+            String column = COLUMN_ALIASES.get(name);
+            if (column != null) columns.putIfAbsent(column, i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidImportFileException("CSV header is missing required column(s): " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) return null;
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitTags(String tags) {
+        if (tags == null) return List.of();
+        return Arrays.stream(tags.split("\\|")).map(String::trim).filter(t -> !t.isEmpty()).toList();
+    }
+
+    /**
+     * Reads one record at a time. A quoted field may span lines, so a record can consume more
+     * than one physical line; {@link #recordLine} is the line it started on.
+     */
+    private static final class RecordReader {
+
+        private final BufferedReader reader;
+        private long line;
+        private long recordLine;
+
+        RecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        List<String> next() throws IOException {
+            String text = reader.readLine();
+            if (text == null) return null;
+            recordLine = ++line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) break;
+                    text = reader.readLine();
+                    if (text == null) {
+                        throw new InvalidImportFileException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    line++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < text.length() && text.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
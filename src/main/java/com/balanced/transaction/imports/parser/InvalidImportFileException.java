@@ -0,0 +1,8 @@
+package com.balanced.transaction.imports.parser;
+
+public class InvalidImportFileException extends RuntimeException {
+
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
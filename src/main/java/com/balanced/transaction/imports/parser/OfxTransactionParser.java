@@ -0,0 +1,149 @@
+package com.balanced.transaction.imports.parser;
+
+import com.balanced.transaction.imports.dto.ImportRow;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Parses the {@code STMTTRN} records of an OFX statement. Works on both the SGML (1.x, unclosed
+ * leaf elements) and XML (2.x) dialects by treating the file as a flat stream of tags and text.
+ */
+@Component
+public class OfxTransactionParser implements TransactionFileParser {
+
+    @Override
+    public ImportFormat format() {
+        return ImportFormat.OFX;
+    }
+
+    @Override
+    public void parse(InputStream in, Consumer<ImportRow> sink) throws IOException {
+        var scanner = new TagScanner(new InputStreamReader(in, StandardCharsets.UTF_8));
+        boolean sawOfx = false;
+        String currency = null;
+        Map<String, String> transaction = null;
+        long transactionLine = 0;
+
+        String tag;
+        while ((tag = scanner.nextTag()) != null) {
+            String text = scanner.text();
+            switch (tag) {
+                case "OFX" -> sawOfx = true;
+                case "CURDEF" -> currency = text;
+                case "STMTTRN" -> {
+                    transaction = new HashMap<>();
+                    transactionLine = scanner.tagLine;
+                }
+                case "/STMTTRN" -> {
+                    if (transaction != null) sink.accept(toRow(transaction, transactionLine, currency));
+                    transaction = null;
+                }
+                default -> {
+                    if (transaction != null && text != null && !tag.startsWith("/")) {
+                        transaction.putIfAbsent(tag, text);
+                    }
+                }
+            }
+        }
+        if (!sawOfx) throw new InvalidImportFileException("File does not contain an <OFX> element");
+    }
+
+    private static ImportRow toRow(Map<String, String> transaction, long line, String currency) {
+        String name = transaction.get("NAME") != null ? transaction.get("NAME") : transaction.get("PAYEE");
+        String memo = transaction.get("MEMO");
+        return new ImportRow(
+                line,
+                normalizeDate(transaction.get("DTPOSTED")),
+                transaction.get("TRNAMT"),
+                name != null ? name : memo,
+                null,
+                null,
+                List.of(),
+                name != null ? memo : null,
+                currency);
+    }
+
+    /**
+     * OFX dates are {@code YYYYMMDD[HHMMSS[.XXX]][[offset:TZ]]}; the time zone is dropped.
+     */
+    static String normalizeDate(String value) {
+        if (value == null) return null;
+        int digits = 0;
+        while (digits < value.length() && Character.isDigit(value.charAt(digits))) digits++;
+        if (digits >= 14) {
+            return "%s-%s-%sT%s:%s:%s".formatted(value.substring(0, 4), value.substring(4, 6), value.substring(6, 8),
+                    value.substring(8, 10), value.substring(10, 12), value.substring(12, 14));
+        }
+        if (digits >= 8) {
+            return "%s-%s-%s".formatted(value.substring(0, 4), value.substring(4, 6), value.substring(6, 8));
+        }
+        return value;
+    }
+
+    /**
+     * Splits the input into tags and the text that follows each one, reading through a fixed
+     * buffer. Anything before the first tag, such as the OFX 1.x header block, is skipped.
+     */
+    private static final class TagScanner {
+
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder tag = new StringBuilder();
+        private final StringBuilder text = new StringBuilder();
+        private int position;
+        private int length;
+        private int pending = -1;
+        private long line = 1;
+        private long tagLine;
+
+        TagScanner(Reader reader) {
+            this.reader = reader;
+        }
+
+        String nextTag() throws IOException {
+            int c = pending >= 0 ? pending : read();
+            pending = -1;
+            while (c != -1 && c != '<') c = read();
+            if (c == -1) return null;
+
+            tag.setLength(0);
+            while ((c = read()) != -1 && c != '>') tag.append((char) c);
+            tagLine = line;
+
+            text.setLength(0);
+            while ((c = read()) != -1 && c != '<') text.append((char) c);
+            pending = c;
+            return tag.toString().trim().toUpperCase();
+        }
+
+        String text() {
+            String value = text.toString().trim();
+            if (value.isEmpty()) return null;
+            return value.replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+        }
+
+        private int read() throws IOException {
+            if (position == length) {
+                length = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (length <= 0) {
+                    length = 0;
+                    return -1;
+                }
+            }
+            char c = buffer[position++];
+            if (c == '\n') line++;
+            return c;
+        }
+    }
+}
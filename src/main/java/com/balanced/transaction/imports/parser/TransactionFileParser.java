@@ -0,0 +1,22 @@
+package com.balanced.transaction.imports.parser;
+
+import com.balanced.transaction.imports.dto.ImportRow;
+import com.balanced.transaction.imports.enums.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Reads transactions from an import file one at a time, so memory use does not grow with the
+ * size of the file. Rows are passed on as found; validating them is left to the caller.
+ */
+public interface TransactionFileParser {
+
+    ImportFormat format();
+
+    /**
+     * @throws InvalidImportFileException if the file as a whole cannot be read in this format
+     */
+    void parse(InputStream in, Consumer<ImportRow> sink) throws IOException;
+}
@@ -0,0 +1,57 @@
+package com.balanced.transaction.imports.repository;
+
+import com.balanced.transaction.enums.TransactionSource;
+import com.balanced.transaction.enums.TransactionStatus;
+import com.balanced.transaction.imports.dto.ImportedTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based writes for file imports, which go straight to JDBC so a chunk of rows costs one
+ * batched round trip instead of one entity persist per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionImportJdbcRepository {
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            INSERT INTO transactions (workspace_id, account_id, merchant_id, category_id, date, amount,
+                currency_code, notes, status, source, posted_at, tag_ids, created_by, updated_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Writes one chunk as a single JDBC batch. {@code merchantIds} must hold every row's merchant,
+     * keyed by lower-cased name.
+     */
+    public void insertTransactions(UUID workspaceId, List<ImportedTransaction> rows,
+                                   Map<String, UUID> merchantIds, String auditor) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, rows, rows.size(), (ps, row) -> {
+            Timestamp date = Timestamp.valueOf(row.date());
+            ps.setObject(1, workspaceId);
+            ps.setObject(2, row.accountId());
+            ps.setObject(3, merchantIds.get(row.merchantName().toLowerCase()));
+            ps.setObject(4, row.categoryId(), Types.OTHER);
+            ps.setTimestamp(5, date);
+            ps.setBigDecimal(6, row.amount());
+            ps.setString(7, row.currencyCode().name());
+            ps.setString(8, row.notes());
+            ps.setString(9, TransactionStatus.POSTED.name());
+            ps.setString(10, TransactionSource.IMPORTED.name());
+            // Historical rows are settled; the statement date stands in for when they posted
+            ps.setTimestamp(11, date);
+            ps.setArray(12, ps.getConnection().createArrayOf("uuid", row.tagIds()));
+            ps.setString(13, auditor);
+            ps.setString(14, auditor);
+        });
+    }
+}
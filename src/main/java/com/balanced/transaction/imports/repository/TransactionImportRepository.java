@@ -0,0 +1,14 @@
+package com.balanced.transaction.imports.repository;
+
+import com.balanced.transaction.imports.entity.TransactionImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TransactionImportRepository extends JpaRepository<TransactionImport, UUID> {
+
+    Optional<TransactionImport> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
+}
@@ -0,0 +1,64 @@
+package com.balanced.transaction.imports.service;
+
+import com.balanced.account.entity.Account;
+import com.balanced.category.entity.Category;
+import com.balanced.tag.entity.Tag;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * A workspace's accounts, categories and tags, loaded once when an import starts so that
+ * validating a row is a map lookup rather than a query. Names match case-insensitively.
+ */
+class ImportReferenceData {
+
+    private final Map<UUID, Account> accountsById = new HashMap<>();
+    private final Map<String, Account> accountsByName = new HashMap<>();
+    private final Map<String, Category> categoriesByName = new HashMap<>();
+    private final Set<UUID> categoryGroupIds;
+    private final Map<String, UUID> tagsByName = new HashMap<>();
+
+    ImportReferenceData(List<Account> accounts, List<Category> categories, List<Tag> tags) {
+        accounts.forEach(account -> {
+            accountsById.put(account.getId(), account);
+            accountsByName.putIfAbsent(key(account.getName()), account);
+        });
+        categories.forEach(category -> categoriesByName.putIfAbsent(key(category.getName()), category));
+        categoryGroupIds = categories.stream()
+                .map(Category::getParentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        tags.forEach(tag -> tagsByName.putIfAbsent(key(tag.getName()), tag.getId()));
+    }
+
+    Optional<Account> account(UUID accountId) {
+        return Optional.ofNullable(accountsById.get(accountId));
+    }
+
+    Optional<Account> account(String name) {
+        return Optional.ofNullable(accountsByName.get(key(name)));
+    }
+
+    Optional<Category> category(String name) {
+        return Optional.ofNullable(categoriesByName.get(key(name)));
+    }
+
+    boolean isCategoryGroup(UUID categoryId) {
+        return categoryGroupIds.contains(categoryId);
+    }
+
+    Optional<UUID> tag(String name) {
+        return Optional.ofNullable(tagsByName.get(key(name)));
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,52 @@
+package com.balanced.transaction.imports.service;
+
+import com.balanced.merchant.repository.MerchantJdbcRepository;
+import com.balanced.transaction.imports.dto.ImportedTransaction;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Merchant IDs by lower-cased name for the lifetime of one import. Names missing from the cache
+ * are resolved a chunk at a time with one upsert, so each distinct merchant costs at most one
+ * round trip over the whole file.
+ */
+class MerchantNameCache {
+
+    private final MerchantJdbcRepository merchantJdbcRepository;
+    private final UUID workspaceId;
+    private final String auditor;
+    private final Map<String, UUID> idsByName = new HashMap<>();
+    private int created;
+
+    MerchantNameCache(MerchantJdbcRepository merchantJdbcRepository, UUID workspaceId, String auditor) {
+        this.merchantJdbcRepository = merchantJdbcRepository;
+        this.workspaceId = workspaceId;
+        this.auditor = auditor;
+    }
+
+    /**
+     * Makes sure every merchant in {@code rows} is cached and returns the cache.
+     */
+    Map<String, UUID> resolve(Collection<ImportedTransaction> rows) {
+        // The first spelling seen is the one a new merchant is created with
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (ImportedTransaction row : rows) {
+            String key = row.merchantName().toLowerCase();
+            if (!idsByName.containsKey(key)) missing.putIfAbsent(key, row.merchantName());
+        }
+        if (!missing.isEmpty()) {
+            var resolved = merchantJdbcRepository.upsertMerchants(workspaceId, missing.values(), auditor);
+            idsByName.putAll(resolved.idsByLowerName());
+            created += resolved.created();
+        }
+        return idsByName;
+    }
+
+    int created() {
+        return created;
+    }
+}
@@ -0,0 +1,303 @@
+package com.balanced.transaction.imports.service;
+
+import com.balanced.account.entity.Account;
+import com.balanced.account.enums.CurrencyCode;
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.account.service.AccountService;
+import com.balanced.category.entity.Category;
+import com.balanced.category.repository.CategoryRepository;
+import com.balanced.common.cache.ReferenceDataCache;
+import com.balanced.common.exception.BadRequestException;
+import com.balanced.merchant.repository.MerchantJdbcRepository;
+import com.balanced.tag.repository.TagRepository;
+import com.balanced.transaction.imports.dto.ImportRow;
+import com.balanced.transaction.imports.dto.ImportRowError;
+import com.balanced.transaction.imports.dto.ImportedTransaction;
+import com.balanced.transaction.imports.entity.TransactionImport;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.enums.ImportStatus;
+import com.balanced.transaction.imports.parser.InvalidImportFileException;
+import com.balanced.transaction.imports.parser.TransactionFileParser;
+import com.balanced.transaction.imports.repository.TransactionImportJdbcRepository;
+import com.balanced.transaction.imports.repository.TransactionImportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an import file into the transactions table. Rows are validated against reference data
+ * loaded once up front, collected into chunks of {@code balanced.imports.batch-size}, and each
+ * chunk is written in its own transaction: one merchant upsert, one JDBC insert batch and one
+ * balance delta per account. Progress is saved with every chunk, so a failed import reports how
+ * far it got and keeps the chunks already committed.
+ */
+@Slf4j
+@Component
+public class TransactionImportPipeline {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final DateTimeFormatter US_DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+
+    private final Map<ImportFormat, TransactionFileParser> parsers;
+    private final TransactionImportRepository importRepository;
+    private final TransactionImportJdbcRepository jdbcRepository;
+    private final MerchantJdbcRepository merchantJdbcRepository;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final AccountService accountService;
+    private final ReferenceDataCache referenceDataCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TransactionImportPipeline(List<TransactionFileParser> parsers,
+                                     TransactionImportRepository importRepository,
+                                     TransactionImportJdbcRepository jdbcRepository,
+                                     MerchantJdbcRepository merchantJdbcRepository,
+                                     AccountRepository accountRepository,
+                                     CategoryRepository categoryRepository,
+                                     TagRepository tagRepository,
+                                     AccountService accountService,
+                                     ReferenceDataCache referenceDataCache,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${balanced.imports.batch-size:1000}") int batchSize) {
+        this.parsers = parsers.stream().collect(Collectors.toMap(TransactionFileParser::format, Function.identity()));
+        this.importRepository = importRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.merchantJdbcRepository = merchantJdbcRepository;
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.accountService = accountService;
+        this.referenceDataCache = referenceDataCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Runs the import in the background and deletes the spooled upload afterwards.
+     */
+    @Async
+    public void runAsync(UUID importId, Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            run(importId, in);
+        } catch (IOException e) {
+            log.error("Could not read upload for import {}", importId, e);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete upload {} for import {}", file, importId);
+            }
+        }
+    }
+
+    public TransactionImport run(UUID importId, InputStream in) {
+        TransactionImport report = importRepository.findById(importId)
+                .orElseThrow(() -> new IllegalStateException("Import " + importId + " does not exist"));
+        MDC.put("workspaceId", report.getWorkspaceId().toString());
+        try {
+            report.setStatus(ImportStatus.RUNNING);
+            report.setStartedAt(LocalDateTime.now());
+            importRepository.save(report);
+
+            var job = new ImportJob(report);
+            try {
+                parsers.get(report.getFormat()).parse(in, job::accept);
+                job.flush();
+                report.setStatus(ImportStatus.COMPLETED);
+            } catch (InvalidImportFileException e) {
+                report.setStatus(ImportStatus.FAILED);
+                report.setFailureReason(e.getMessage());
+            } catch (Exception e) {
+                log.error("Import {} failed after {} rows", importId, report.getRowsRead(), e);
+                report.setStatus(ImportStatus.FAILED);
+                report.setFailureReason("Import stopped after line " + job.lastLine + " because of an internal error");
+            }
+            report.setCompletedAt(LocalDateTime.now());
+            log.info("Import {} {}: {} imported, {} skipped, {} merchants created", importId,
+                    report.getStatus(), report.getRowsImported(), report.getRowsSkipped(), report.getMerchantsCreated());
+            return importRepository.save(report);
+        } finally {
+            MDC.remove("workspaceId");
+        }
+    }
+
+    private final class ImportJob {
+
+        private final TransactionImport report;
+        private final ImportReferenceData reference;
+        private final MerchantNameCache merchants;
+        private final Account defaultAccount;
+        private final List<ImportedTransaction> chunk = new ArrayList<>(batchSize);
+        private long lastLine;
+
+        ImportJob(TransactionImport report) {
+            UUID workspaceId = report.getWorkspaceId();
+            this.report = report;
+            this.reference = new ImportReferenceData(
+                    accountRepository.findAllByWorkspaceId(workspaceId),
+                    categoryRepository.findAllByWorkspaceId(workspaceId),
+                    tagRepository.findAllByWorkspaceId(workspaceId));
+            this.merchants = new MerchantNameCache(merchantJdbcRepository, workspaceId, report.getCreatedBy());
+            this.defaultAccount = report.getAccountId() != null
+                    ? reference.account(report.getAccountId()).orElse(null)
+                    : null;
+        }
+
+        void accept(ImportRow row) {
+            lastLine = row.line();
+            report.setRowsRead(report.getRowsRead() + 1);
+            try {
+                chunk.add(toTransaction(row));
+            } catch (BadRequestException e) {
+                report.setRowsSkipped(report.getRowsSkipped() + 1);
+                if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                    report.getErrors().add(new ImportRowError(row.line(), e.getMessage()));
+                }
+            }
+            if (chunk.size() >= batchSize) flush();
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            int importedBefore = report.getRowsImported();
+            int merchantsBefore = report.getMerchantsCreated();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<String, UUID> merchantIds = merchants.resolve(chunk);
+                    jdbcRepository.insertTransactions(report.getWorkspaceId(), chunk, merchantIds, report.getCreatedBy());
+                    balanceDeltas(chunk).forEach(accountService::applyBalanceDelta);
+
+                    report.setRowsImported(importedBefore + chunk.size());
+                    if (merchants.created() > merchantsBefore) {
+                        referenceDataCache.invalidateMerchants(report.getWorkspaceId());
+                    }
+                    report.setMerchantsCreated(merchants.created());
+                    importRepository.save(report);
+                });
+            } catch (RuntimeException e) {
+                // The chunk rolled back, so the report should not count it
+                report.setRowsImported(importedBefore);
+                report.setMerchantsCreated(merchantsBefore);
+                throw e;
+            }
+            chunk.clear();
+        }
+
+        private ImportedTransaction toTransaction(ImportRow row) {
+            Account account = row.account() != null
+                    ? reference.account(row.account())
+                            .orElseThrow(() -> new BadRequestException("Unknown account '" + row.account() + "'"))
+                    : defaultAccount;
+            if (account == null) {
+                throw new BadRequestException("Row has no account and the import has no default account");
+            }
+
+            String merchant = row.merchant();
+            if (merchant == null) throw new BadRequestException("Merchant name must be provided");
+            if (merchant.length() > 100) {
+                throw new BadRequestException("Merchant name must be between 1 and 100 characters");
+            }
+            if (row.notes() != null && row.notes().length() > 500) {
+                throw new BadRequestException("Notes must be at most 500 characters");
+            }
+
+            LocalDateTime date = parseDate(row.date());
+            BigDecimal amount = parseAmount(row.amount());
+            UUID categoryId = row.category() != null ? resolveCategory(row.category(), amount) : null;
+            UUID[] tagIds = row.tags().stream()
+                    .map(name -> reference.tag(name)
+                            .orElseThrow(() -> new BadRequestException("Unknown tag '" + name + "'")))
+                    .distinct()
+                    .toArray(UUID[]::new);
+
+            return new ImportedTransaction(account.getId(), merchant, categoryId, date, amount,
+                    parseCurrency(row.currency(), account), row.notes(), tagIds);
+        }
+
+        // Mirrors CategoryService.validateNotGroup and validateCategoryPolarity without a query per row
+        private UUID resolveCategory(String name, BigDecimal amount) {
+            Category category = reference.category(name)
+                    .orElseThrow(() -> new BadRequestException("Unknown category '" + name + "'"));
+            if (reference.isCategoryGroup(category.getId())) {
+                throw new BadRequestException("Cannot assign a transaction to a parent category group");
+            }
+            boolean isPositive = amount.compareTo(BigDecimal.ZERO) > 0;
+            if (isPositive && !category.isIncome()) {
+                throw new BadRequestException("Positive amounts must use an income category, but '" + category.getName() + "' is an expense category.");
+            }
+            if (!isPositive && category.isIncome()) {
+                throw new BadRequestException("Negative amounts must use an expense category, but '" + category.getName() + "' is an income category.");
+            }
+            return category.getId();
+        }
+    }
+
+    private static Map<UUID, BigDecimal> balanceDeltas(List<ImportedTransaction> rows) {
+        Map<UUID, BigDecimal> deltas = new HashMap<>();
+        rows.forEach(row -> deltas.merge(row.accountId(), row.amount(), BigDecimal::add));
+        return deltas;
+    }
+
+    /**
+     * Accepts ISO dates and date-times, and US {@code M/d/yyyy} dates.
+     */
+    static LocalDateTime parseDate(String value) {
+        if (value == null) throw new BadRequestException("Date must be provided");
+        try {
+            if (value.contains("T")) return LocalDateTime.parse(value);
+            if (value.contains("/")) return LocalDate.parse(value, US_DATE).atStartOfDay();
+            return LocalDate.parse(value).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid date '" + value + "'");
+        }
+    }
+
+    /**
+     * Accepts plain decimals as well as {@code $1,234.50} and accounting-style {@code (12.00)}.
+     */
+    static BigDecimal parseAmount(String value) {
+        if (value == null) throw new BadRequestException("Amount must be provided");
+        String cleaned = value.replace("$", "").replace(",", "").trim();
+        boolean parenthesised = cleaned.startsWith("(") && cleaned.endsWith(")");
+        if (parenthesised) cleaned = cleaned.substring(1, cleaned.length() - 1);
+        try {
+            BigDecimal amount = new BigDecimal(cleaned);
+            return parenthesised ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid amount '" + value + "'");
+        }
+    }
+
+    private static CurrencyCode parseCurrency(String value, Account account) {
+        if (value == null) return account.getCurrency();
+        try {
+            return CurrencyCode.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported currency '" + value + "'");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.balanced.transaction.imports.service;
+
+import com.balanced.account.service.AccountService;
+import com.balanced.common.exception.BadRequestException;
+import com.balanced.common.exception.ResourceNotFoundException;
+import com.balanced.transaction.imports.dto.TransactionImportDto;
+import com.balanced.transaction.imports.entity.TransactionImport;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.enums.ImportStatus;
+import com.balanced.transaction.imports.mapper.TransactionImportMapper;
+import com.balanced.transaction.imports.repository.TransactionImportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionImportService {
+
+    private final TransactionImportRepository importRepository;
+    private final TransactionImportPipeline importPipeline;
+    private final TransactionImportMapper importMapper;
+    private final AccountService accountService;
+
+    /**
+     * Records the import and hands the file to the pipeline, which runs in the background.
+     * Not transactional, so the import row is committed before the pipeline looks it up.
+     * If the pipeline cannot take the file (e.g. its executor is saturated), the import is
+     * returned as failed and the upload is deleted rather than left pending forever.
+     */
+    public TransactionImportDto startImport(UUID workspaceId, UUID accountId, ImportFormat format, MultipartFile file) {
+        if (file == null || file.isEmpty()) throw new BadRequestException("Import file must not be empty");
+        ImportFormat resolvedFormat = format != null ? format : detectFormat(file.getOriginalFilename());
+        if (accountId != null) accountService.validateAccount(accountId, workspaceId);
+
+        Path upload = spool(file);
+        TransactionImport saved = importRepository.save(TransactionImport.builder()
+                .workspaceId(workspaceId)
+                .accountId(accountId)
+                .format(resolvedFormat)
+                .fileName(file.getOriginalFilename())
+                .build());
+        log.info("Started {} import {} of '{}'", resolvedFormat, saved.getId(), file.getOriginalFilename());
+
+        try {
+            importPipeline.runAsync(saved.getId(), upload);
+        } catch (RuntimeException e) {
+            log.error("Could not start import {}", saved.getId(), e);
+            deleteUpload(upload);
+            saved.setStatus(ImportStatus.FAILED);
+            saved.setFailureReason("The import could not be started; try again later");
+            saved.setCompletedAt(LocalDateTime.now());
+            saved = importRepository.save(saved);
+        }
+        return importMapper.toDto(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionImportDto getImport(UUID importId, UUID workspaceId) {
+        return importRepository.findByIdAndWorkspaceId(importId, workspaceId)
+                .map(importMapper::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found"));
+    }
+
+    private static ImportFormat detectFormat(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) return ImportFormat.CSV;
+        if (name.endsWith(".ofx") || name.endsWith(".qfx")) return ImportFormat.OFX;
+        throw new BadRequestException("Cannot tell the import format from the file name; pass format=CSV or format=OFX");
+    }
+
+    // Multipart uploads are already on disk; moving the part keeps it past the end of the request
+    private static Path spool(MultipartFile file) {
+        try {
+            Path upload = Files.createTempFile("balanced-import-", ".upload");
+            file.transferTo(upload);
+            return upload;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store uploaded import file", e);
+        }
+    }
+
+    private static void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Could not delete upload {}", upload);
+        }
+    }
+}
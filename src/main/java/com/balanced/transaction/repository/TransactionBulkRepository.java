@@ -0,0 +1,16 @@
+package com.balanced.transaction.repository;
+
+import com.balanced.transaction.dto.BulkUpdateTransactionInput;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface TransactionBulkRepository {
+
+    /**
+     * Writes the patch to every given transaction in the workspace with one UPDATE for the
+     * column fields and, when tags are added or removed, one more for the tag arrays.
+     * Flushes pending changes first and clears the persistence context afterwards.
+     */
+    int bulkUpdate(Collection<UUID> transactionIds, UUID workspaceId, BulkUpdateTransactionInput patch);
+}
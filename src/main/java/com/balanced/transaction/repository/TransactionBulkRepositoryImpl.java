@@ -0,0 +1,94 @@
+package com.balanced.transaction.repository;
+
+import com.balanced.transaction.dto.BulkUpdateTransactionInput;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.enums.TransactionStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class TransactionBulkRepositoryImpl implements TransactionBulkRepository {
+
+    // Adds and removes tags in place, keeping each array free of duplicates
+    private static final String EDIT_TAGS_SQL = """
+            UPDATE transactions
+            SET tag_ids = ARRAY(
+                SELECT DISTINCT tag FROM unnest(tag_ids || CAST(:addTagIds AS uuid[])) AS tag
+                WHERE tag <> ALL (CAST(:removeTagIds AS uuid[])))
+            WHERE id IN (:transactionIds) AND workspace_id = :workspaceId
+            """;
+
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
+
+    @Override
+    public int bulkUpdate(Collection<UUID> transactionIds, UUID workspaceId, BulkUpdateTransactionInput patch) {
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Transaction> update = cb.createCriteriaUpdate(Transaction.class);
+        Root<Transaction> root = update.from(Transaction.class);
+
+        // Bulk statements bypass the auditing listeners, so stamp the row here
+        update.set(root.<LocalDateTime>get("updatedAt"), now);
+        update.set(root.<String>get("updatedBy"), auditorAware.getCurrentAuditor()
+                .map(cb::literal)
+                .orElseGet(() -> cb.nullLiteral(String.class)));
+
+        if (patch.getAccountId() != null) {
+            update.set(root.<UUID>get("accountId"), patch.getAccountId());
+        }
+        if (patch.isCategoryIdSpecified()) {
+            update.set(root.<UUID>get("categoryId"), patch.getCategoryId() != null
+                    ? cb.literal(patch.getCategoryId()) : cb.nullLiteral(UUID.class));
+        }
+        if (patch.isNotesSpecified()) {
+            update.set(root.<String>get("notes"), patch.getNotes() != null
+                    ? cb.literal(patch.getNotes()) : cb.nullLiteral(String.class));
+        }
+        if (patch.getStatus() != null) {
+            update.set(root.<TransactionStatus>get("status"), patch.getStatus());
+            if (patch.getStatus() == TransactionStatus.PENDING) {
+                update.set(root.<LocalDateTime>get("pendingAt"), now);
+            } else if (patch.getStatus() == TransactionStatus.POSTED) {
+                update.set(root.<LocalDateTime>get("postedAt"), now);
+            }
+        }
+        if (patch.isTagIdsSpecified()) {
+            update.set(root.<Set<UUID>>get("tagIds"), patch.getTagIds() != null ? patch.getTagIds() : Set.of());
+        }
+        update.where(root.get("id").in(transactionIds), cb.equal(root.get("workspaceId"), workspaceId));
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+
+        if (!isEmpty(patch.getAddTagIds()) || !isEmpty(patch.getRemoveTagIds())) {
+            entityManager.createNativeQuery(EDIT_TAGS_SQL)
+                    .setParameter("addTagIds", toArray(patch.getAddTagIds()))
+                    .setParameter("removeTagIds", toArray(patch.getRemoveTagIds()))
+                    .setParameter("transactionIds", transactionIds)
+                    .setParameter("workspaceId", workspaceId)
+                    .executeUpdate();
+        }
+
+        entityManager.clear();
+        return updated;
+    }
+
+    private static boolean isEmpty(Set<UUID> ids) {
+        return ids == null || ids.isEmpty();
+    }
+
+    private static UUID[] toArray(Set<UUID> ids) {
+        return ids != null ? ids.toArray(UUID[]::new) : new UUID[0];
+    }
+}
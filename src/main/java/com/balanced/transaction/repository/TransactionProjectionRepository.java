@@ -0,0 +1,26 @@
+package com.balanced.transaction.repository;
+
+import com.balanced.transaction.dto.TransactionResponse;
+import com.balanced.transaction.entity.Transaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface TransactionProjectionRepository {
+
+    /**
+     * Runs the spec as a tuple projection that selects only the given {@link TransactionResponse} fields.
+     * Unselected fields are left null, and no managed entities enter the persistence context.
+     */
+    Page<TransactionResponse> findProjected(Specification<Transaction> spec, Pageable pageable, Set<String> fields);
+
+    /**
+     * Same projection as {@link #findProjected}, read through a server-side cursor that fetches
+     * {@code fetchSize} rows per round trip. Must be consumed, and closed, inside a transaction.
+     */
+    Stream<TransactionResponse> streamProjected(Specification<Transaction> spec, Sort sort, Set<String> fields, int fetchSize);
+}
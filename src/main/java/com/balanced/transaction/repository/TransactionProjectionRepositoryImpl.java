@@ -0,0 +1,145 @@
+package com.balanced.transaction.repository;
+
+import com.balanced.account.enums.CurrencyCode;
+import com.balanced.transaction.dto.TransactionResponse;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.enums.TransactionSource;
+import com.balanced.transaction.enums.TransactionStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static java.util.Map.entry;
+
+@RequiredArgsConstructor
+public class TransactionProjectionRepositoryImpl implements TransactionProjectionRepository {
+
+    // Column-backed response fields and how to copy each tuple value onto the builder
+    private static final Map<String, BiConsumer<TransactionResponse.TransactionResponseBuilder<?, ?>, Object>> COLUMNS = Map.ofEntries(
+            entry("id", (b, v) -> b.id((UUID) v)),
+            entry("createdAt", (b, v) -> b.createdAt((LocalDateTime) v)),
+            entry("createdBy", (b, v) -> b.createdBy((String) v)),
+            entry("updatedAt", (b, v) -> b.updatedAt((LocalDateTime) v)),
+            entry("updatedBy", (b, v) -> b.updatedBy((String) v)),
+            entry("workspaceId", (b, v) -> b.workspaceId((UUID) v)),
+            entry("accountId", (b, v) -> b.accountId((UUID) v)),
+            entry("merchantId", (b, v) -> b.merchantId((UUID) v)),
+            entry("categoryId", (b, v) -> b.categoryId((UUID) v)),
+            entry("date", (b, v) -> b.date((LocalDateTime) v)),
+            entry("amount", (b, v) -> b.amount((BigDecimal) v)),
+            entry("currencyCode", (b, v) -> b.currencyCode((CurrencyCode) v)),
+            entry("notes", (b, v) -> b.notes((String) v)),
+            entry("status", (b, v) -> b.status((TransactionStatus) v)),
+            entry("source", (b, v) -> b.source((TransactionSource) v)),
+            entry("pendingAt", (b, v) -> b.pendingAt((LocalDateTime) v)),
+            entry("postedAt", (b, v) -> b.postedAt((LocalDateTime) v)),
+            entry("recurringItemId", (b, v) -> b.recurringItemId((UUID) v)),
+            entry("occurrenceDate", (b, v) -> b.occurrenceDate((LocalDate) v)),
+            entry("groupId", (b, v) -> b.groupId((UUID) v)),
+            entry("splitId", (b, v) -> b.splitId((UUID) v)),
+            entry("tagIds", (b, v) -> b.tagIds(uuidSet(v))));
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TransactionResponse> findProjected(Specification<Transaction> spec, Pageable pageable, Set<String> fields) {
+        Set<String> columns = columnsFor(fields);
+        TypedQuery<Tuple> typedQuery = createQuery(spec, pageable.getSort(), columns);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<TransactionResponse> content = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            content.add(toResponse(tuple, columns));
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Stream<TransactionResponse> streamProjected(Specification<Transaction> spec, Sort sort, Set<String> fields, int fetchSize) {
+        Set<String> columns = columnsFor(fields);
+        return createQuery(spec, sort, columns)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()
+                .map(tuple -> toResponse(tuple, columns));
+    }
+
+    private static Set<String> columnsFor(Set<String> fields) {
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        fields.stream().filter(COLUMNS::containsKey).forEach(columns::add);
+        return columns;
+    }
+
+    private TypedQuery<Tuple> createQuery(Specification<Transaction> spec, Sort sort, Set<String> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Transaction> root = query.from(Transaction.class);
+        query.multiselect(columns.stream().<Selection<?>>map(c -> root.get(c).alias(c)).toList());
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    private static TransactionResponse toResponse(Tuple tuple, Set<String> columns) {
+        var builder = TransactionResponse.builder();
+        for (String column : columns) {
+            COLUMNS.get(column).accept(builder, tuple.get(column));
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<UUID> uuidSet(Object value) {
+        return value != null ? new HashSet<>((Collection<UUID>) value) : new HashSet<>();
+    }
+
+    private long count(Specification<Transaction> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Transaction> root = query.from(Transaction.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.select(cb.count(root));
+        // Related-name sorts add ORDER BY to the query, which a count must not carry
+        query.orderBy(List.of());
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -12,22 +12,30 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, UUID>, JpaSpecificationExecutor<Transaction> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>, JpaSpecificationExecutor<Transaction>,
+        TransactionProjectionRepository, TransactionBulkRepository {
 
     List<Transaction> findAllByWorkspaceId(UUID workspaceId);
 
     Optional<Transaction> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+    List<Transaction> findAllByIdInAndWorkspaceId(Collection<UUID> ids, UUID workspaceId);
+
     List<Transaction> findAllByGroupIdAndWorkspaceId(UUID groupId, UUID workspaceId);
 
+    List<Transaction> findAllByGroupIdInAndWorkspaceId(Collection<UUID> groupIds, UUID workspaceId);
+
     List<Transaction> findAllBySplitIdAndWorkspaceId(UUID splitId, UUID workspaceId);
 
+    List<Transaction> findAllBySplitIdInAndWorkspaceId(Collection<UUID> splitIds, UUID workspaceId);
+
     List<Transaction> findAllByRecurringItemIdAndWorkspaceId(UUID recurringItemId, UUID workspaceId);
 
     boolean existsByExternalIdAndWorkspaceId(String externalId, UUID workspaceId);
@@ -52,11 +60,27 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>,
     @Query("UPDATE Transaction t SET t.groupId = NULL WHERE t.groupId = :groupId")
     int clearGroupId(UUID groupId);
 
+    // Clear group ID for all transactions in any of the given groups
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.groupId = NULL WHERE t.groupId IN :groupIds")
+    int clearGroupIds(Collection<UUID> groupIds);
+
     // Clear split ID for all transactions in a split
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE Transaction t SET t.splitId = NULL WHERE t.splitId = :splitId")
     int clearSplitId(UUID splitId);
 
+    // Delete many transactions with a single statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.id IN :transactionIds AND t.workspaceId = :workspaceId")
+    int deleteAllByIdInAndWorkspaceId(Collection<UUID> transactionIds, UUID workspaceId);
+
+    // Remove a deleted tag from every transaction that carries it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE transactions SET tag_ids = array_remove(tag_ids, :tagId) " +
+                   "WHERE workspace_id = :workspaceId AND tag_ids @> ARRAY[:tagId]", nativeQuery = true)
+    int removeTagId(UUID tagId, UUID workspaceId);
+
     // Sum transaction amounts to a category scoped to a budget's included accounts
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
            "JOIN BudgetAccount ba ON t.accountId = ba.accountId " +
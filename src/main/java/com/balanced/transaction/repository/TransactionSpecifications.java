@@ -1,15 +1,18 @@
 package com.balanced.transaction.repository;
 
 import com.balanced.account.enums.CurrencyCode;
+import com.balanced.transaction.dto.TransactionFilter;
 import com.balanced.transaction.entity.Transaction;
 import com.balanced.transaction.enums.TransactionSource;
 import com.balanced.transaction.enums.TransactionStatus;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
@@ -18,6 +21,36 @@ public final class TransactionSpecifications {
 
     private TransactionSpecifications() {}
 
+    /**
+     * Combines the workspace scope with every filter field that is set. Dates are whole days.
+     */
+    public static Specification<Transaction> fromFilter(UUID workspaceId, TransactionFilter filter) {
+        Specification<Transaction> spec = Specification.where(inWorkspace(workspaceId));
+        if (filter == null) return spec;
+
+        LocalDateTime start = filter.getStartDate() != null
+                ? LocalDate.parse(filter.getStartDate()).atStartOfDay() : null;
+        LocalDateTime end = filter.getEndDate() != null
+                ? LocalDate.parse(filter.getEndDate()).atTime(23, 59, 59) : null;
+
+        return spec
+                .and(optionally(filter.getAccountId(),        TransactionSpecifications::hasAccount))
+                .and(optionally(filter.getMerchantId(),       TransactionSpecifications::hasMerchant))
+                .and(optionally(filter.getGroupId(),          TransactionSpecifications::hasGroup))
+                .and(optionally(filter.getSplitId(),          TransactionSpecifications::hasSplit))
+                .and(optionally(filter.getCategoryId(),       TransactionSpecifications::hasCategory))
+                .and(optionally(filter.getRecurringItemId(),  TransactionSpecifications::hasRecurringItem))
+                .and(optionally(filter.getStatus(),           TransactionSpecifications::hasStatus))
+                .and(optionally(filter.getSource(),           TransactionSpecifications::hasSource))
+                .and(optionally(filter.getCurrencyCode(),     TransactionSpecifications::hasCurrency))
+                .and(optionally(filter.getTagIds(),           TransactionSpecifications::hasAnyTag))
+                .and(optionally(filter.getSearch(),           TransactionSpecifications::searchText))
+                .and(optionally(filter.getMinAmount(),        TransactionSpecifications::amountGreaterThanOrEqual))
+                .and(optionally(filter.getMaxAmount(),        TransactionSpecifications::amountLessThanOrEqual))
+                .and(optionally(start,                        TransactionSpecifications::dateOnOrAfter))
+                .and(optionally(end,                          TransactionSpecifications::dateOnOrBefore));
+    }
+
     public static Specification<Transaction> inWorkspace(UUID workspaceId) {
         return (root, query, cb) -> cb.equal(root.get("workspaceId"), workspaceId);
     }
@@ -60,9 +93,10 @@ public final class TransactionSpecifications {
 
     /**
      * Matches transactions that have at least one of the provided tags.
+     * Renders as an array overlap ({@code tag_ids && ?}), served by the GIN index on tag_ids.
      */
     public static Specification<Transaction> hasAnyTag(Set<UUID> tagIds) {
-        return (root, query, cb) -> root.join("tagIds").in(tagIds);
+        return (root, query, cb) -> ((HibernateCriteriaBuilder) cb).collectionIntersects(root.get("tagIds"), tagIds);
     }
 
     public static Specification<Transaction> dateOnOrAfter(LocalDateTime startDate) {
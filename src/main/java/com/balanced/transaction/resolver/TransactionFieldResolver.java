@@ -0,0 +1,161 @@
+package com.balanced.transaction.resolver;
+
+import com.balanced.account.dto.AccountResponse;
+import com.balanced.account.mapper.AccountMapper;
+import com.balanced.account.service.AccountService;
+import com.balanced.category.dto.CategoryResponse;
+import com.balanced.category.mapper.CategoryMapper;
+import com.balanced.category.service.CategoryService;
+import com.balanced.common.audit.BaseEntity;
+import com.balanced.merchant.dto.MerchantResponse;
+import com.balanced.merchant.mapper.MerchantMapper;
+import com.balanced.merchant.service.MerchantService;
+import com.balanced.recurring.dto.RecurringItemResponse;
+import com.balanced.recurring.mapper.RecurringItemMapper;
+import com.balanced.recurring.service.RecurringItemService;
+import com.balanced.tag.dto.TagResponse;
+import com.balanced.tag.mapper.TagMapper;
+import com.balanced.tag.service.TagService;
+import com.balanced.transaction.dto.TransactionResponse;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.group.dto.TransactionGroupResponse;
+import com.balanced.transaction.group.mapper.TransactionGroupMapper;
+import com.balanced.transaction.group.service.TransactionGroupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the nested object fields of {@code TransactionResponse} through DataLoader batching.
+ * Each field is only fetched when selected, and costs one query per related type for the whole page.
+ * Sources are always scoped to a single workspace, so the workspace is taken from the first source.
+ */
+@Controller
+@RequiredArgsConstructor
+public class TransactionFieldResolver {
+
+    private final AccountService accountService;
+    private final MerchantService merchantService;
+    private final CategoryService categoryService;
+    private final TagService tagService;
+    private final RecurringItemService recurringItemService;
+    private final TransactionGroupService transactionGroupService;
+    private final AccountMapper accountMapper;
+    private final MerchantMapper merchantMapper;
+    private final CategoryMapper categoryMapper;
+    private final TagMapper tagMapper;
+    private final RecurringItemMapper recurringItemMapper;
+    private final TransactionGroupMapper transactionGroupMapper;
+
+    @BatchMapping(typeName = "TransactionResponse")
+    public Map<TransactionResponse, AccountResponse> account(List<TransactionResponse> transactions) {
+        return resolveOne(transactions, TransactionResponse::getAccountId,
+                accountService::getAccounts, accountMapper::toDto);
+    }
+
+    @BatchMapping(typeName = "TransactionResponse")
+    public Map<TransactionResponse, MerchantResponse> merchant(List<TransactionResponse> transactions) {
+        return resolveOne(transactions, TransactionResponse::getMerchantId,
+                merchantService::getMerchants, merchantMapper::toDto);
+    }
+
+    @BatchMapping(typeName = "TransactionResponse")
+    public Map<TransactionResponse, CategoryResponse> category(List<TransactionResponse> transactions) {
+        return resolveOne(transactions, TransactionResponse::getCategoryId,
+                categoryService::getCategories, categoryMapper::toDto);
+    }
+
+    @BatchMapping(typeName = "TransactionResponse")
+    public Map<TransactionResponse, RecurringItemResponse> recurringItem(List<TransactionResponse> transactions) {
+        return resolveOne(transactions, TransactionResponse::getRecurringItemId,
+                recurringItemService::getRecurringItems, recurringItemMapper::toDto);
+    }
+
+    @BatchMapping(typeName = "TransactionResponse")
+    public Map<TransactionResponse, TransactionGroupResponse> group(List<TransactionResponse> transactions) {
+        Set<UUID> groupIds = collectIds(transactions, TransactionResponse::getGroupId);
+        if (groupIds.isEmpty()) return Map.of();
+
+        UUID workspaceId = transactions.get(0).getWorkspaceId();
+        Map<UUID, List<Transaction>> membersByGroup = transactionGroupService.getGroupTransactions(groupIds, workspaceId)
+                .stream()
+                .collect(Collectors.groupingBy(Transaction::getGroupId));
+        Map<UUID, TransactionGroupResponse> groups = transactionGroupService.getTransactionGroups(groupIds, workspaceId)
+                .stream()
+                .collect(Collectors.toMap(BaseEntity::getId,
+                        g -> transactionGroupMapper.toDto(g, membersByGroup.getOrDefault(g.getId(), List.of()))));
+
+        return mapSources(transactions, TransactionResponse::getGroupId, groups);
+    }
+
+    @BatchMapping(typeName = "TransactionResponse")
+    public Map<TransactionResponse, List<TagResponse>> tags(List<TransactionResponse> transactions) {
+        Set<UUID> tagIds = transactions.stream()
+                .map(TransactionResponse::getTagIds)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+
+        Map<UUID, TagResponse> tags = tagIds.isEmpty() ? Map.of() : tagService
+                .getTags(tagIds, transactions.get(0).getWorkspaceId())
+                .stream()
+                .collect(Collectors.toMap(BaseEntity::getId, tagMapper::toDto));
+
+        Map<TransactionResponse, List<TagResponse>> result = new LinkedHashMap<>();
+        for (TransactionResponse t : transactions) {
+            List<TagResponse> resolved = t.getTagIds() == null ? List.of() : t.getTagIds().stream()
+                    .map(tags::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            result.put(t, resolved);
+        }
+        return result;
+    }
+
+    /**
+     * Loads the entities referenced by a single FK field across all sources and maps each source to its DTO.
+     */
+    private <E extends BaseEntity, D> Map<TransactionResponse, D> resolveOne(
+            List<TransactionResponse> transactions,
+            Function<TransactionResponse, UUID> fkExtractor,
+            BiFunction<Collection<UUID>, UUID, List<E>> loader,
+            Function<E, D> mapper) {
+        Set<UUID> ids = collectIds(transactions, fkExtractor);
+        if (ids.isEmpty()) return Map.of();
+
+        Map<UUID, D> byId = loader.apply(ids, transactions.get(0).getWorkspaceId()).stream()
+                .collect(Collectors.toMap(BaseEntity::getId, mapper));
+        return mapSources(transactions, fkExtractor, byId);
+    }
+
+    private Set<UUID> collectIds(List<TransactionResponse> transactions, Function<TransactionResponse, UUID> fkExtractor) {
+        return transactions.stream()
+                .map(fkExtractor)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    // Sources whose FK is null or unresolved are omitted, which the DataLoader surfaces as null
+    private <D> Map<TransactionResponse, D> mapSources(
+            List<TransactionResponse> transactions, Function<TransactionResponse, UUID> fkExtractor, Map<UUID, D> byId) {
+        Map<TransactionResponse, D> result = new HashMap<>();
+        for (TransactionResponse t : transactions) {
+            UUID id = fkExtractor.apply(t);
+            D value = id != null ? byId.get(id) : null;
+            if (value != null) result.put(t, value);
+        }
+        return result;
+    }
+}
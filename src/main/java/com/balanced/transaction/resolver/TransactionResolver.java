@@ -2,6 +2,7 @@ package com.balanced.transaction.resolver;
 
 import com.balanced.common.dto.PagedResponse;
 import com.balanced.common.graphql.GraphQLContext;
+import com.balanced.transaction.dto.BulkUpdateTransactionInput;
 import com.balanced.transaction.dto.CreateTransactionInput;
 import com.balanced.transaction.dto.TransactionFilter;
 import com.balanced.transaction.dto.TransactionResponse;
@@ -14,6 +15,8 @@ import com.balanced.transaction.mapper.TransactionMapper;
 import com.balanced.transaction.repository.TransactionSpecifications;
 import com.balanced.transaction.service.TransactionService;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -27,20 +30,27 @@ import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
-import static com.balanced.transaction.repository.TransactionSpecifications.optionally;
-
 @Controller
 @RequiredArgsConstructor
 public class TransactionResolver {
 
     private static final int MAX_PAGE_SIZE = 250;
 
+    // Nested object fields and the FK column each one is batched from
+    private static final Map<String, String> NESTED_FIELD_KEYS = Map.of(
+            "account", "accountId",
+            "merchant", "merchantId",
+            "category", "categoryId",
+            "tags", "tagIds",
+            "group", "groupId",
+            "recurringItem", "recurringItemId");
+
     private final TransactionService transactionService;
     private final TransactionEventService transactionEventService;
     private final TransactionMapper transactionMapper;
@@ -51,13 +61,14 @@ public class TransactionResolver {
             @Argument TransactionFilter filter,
             @Argument TransactionSort sort,
             @Argument Integer page,
-            @Argument Integer size) {
+            @Argument Integer size,
+            DataFetchingFieldSelectionSet selection) {
 
         UUID workspaceId = GraphQLContext.workspaceId();
         int pageNum = page != null ? page : 0;
         int pageSize = Math.min(Math.max(size != null ? size : 25, 1), MAX_PAGE_SIZE);
 
-        Specification<Transaction> spec = buildSpec(workspaceId, filter);
+        Specification<Transaction> spec = TransactionSpecifications.fromFilter(workspaceId, filter);
 
         String sortBy = sort != null && sort.getSortBy() != null ? sort.getSortBy() : "date";
         Sort.Direction sortDirection = sort != null && sort.getSortDirection() != null
@@ -72,8 +83,9 @@ public class TransactionResolver {
             pageable = PageRequest.of(pageNum, pageSize, TransactionSpecifications.buildSort(sortBy, sortDirection));
         }
 
-        Page<TransactionResponse> result = transactionService.listAll(spec, pageable)
-                .map(transactionMapper::toDto);
+        Page<TransactionResponse> result = selection != null
+                ? transactionService.listProjected(spec, pageable, selectedFields(selection))
+                : transactionService.listAll(spec, pageable).map(transactionMapper::toDto);
 
         return PagedResponse.from(result);
     }
@@ -116,6 +128,23 @@ public class TransactionResolver {
         return transactionMapper.toDto(transactionService.updateTransaction(transactionId, workspaceId, input));
     }
 
+    @PreAuthorize("hasAuthority('WRITE')")
+    @MutationMapping
+    public List<TransactionResponse> bulkUpdateTransactions(
+            @Argument Set<UUID> transactionIds, @Argument @Valid BulkUpdateTransactionInput input,
+            DataFetchingEnvironment env) {
+        UUID workspaceId = GraphQLContext.workspaceId();
+
+        Map<String, Object> rawInput = env.getArgument("input");
+        if (rawInput != null) {
+            if (rawInput.containsKey("categoryId") && !input.isCategoryIdSpecified()) input.setCategoryId(null);
+            if (rawInput.containsKey("notes") && !input.isNotesSpecified()) input.setNotes(null);
+            if (rawInput.containsKey("tagIds") && !input.isTagIdsSpecified()) input.setTagIds(null);
+        }
+
+        return transactionMapper.toDtos(transactionService.bulkUpdateTransactions(transactionIds, workspaceId, input));
+    }
+
     @PreAuthorize("hasAuthority('DELETE')")
     @MutationMapping
     public boolean deleteTransaction(@Argument UUID transactionId) {
@@ -124,31 +153,24 @@ public class TransactionResolver {
         return true;
     }
 
-    private Specification<Transaction> buildSpec(UUID workspaceId, TransactionFilter filter) {
-        Specification<Transaction> spec = Specification.where(TransactionSpecifications.inWorkspace(workspaceId));
-        if (filter == null) return spec;
-
-        LocalDateTime start = filter.getStartDate() != null
-                ? LocalDate.parse(filter.getStartDate()).atStartOfDay() : null;
-        LocalDateTime end = filter.getEndDate() != null
-                ? LocalDate.parse(filter.getEndDate()).atTime(23, 59, 59) : null;
-
-        return spec
-                .and(optionally(filter.getAccountId(),        TransactionSpecifications::hasAccount))
-                .and(optionally(filter.getMerchantId(),       TransactionSpecifications::hasMerchant))
-                .and(optionally(filter.getGroupId(),          TransactionSpecifications::hasGroup))
-                .and(optionally(filter.getSplitId(),          TransactionSpecifications::hasSplit))
-                .and(optionally(filter.getCategoryId(),       TransactionSpecifications::hasCategory))
-                .and(optionally(filter.getRecurringItemId(),  TransactionSpecifications::hasRecurringItem))
-                .and(optionally(filter.getStatus(),           TransactionSpecifications::hasStatus))
-                .and(optionally(filter.getSource(),           TransactionSpecifications::hasSource))
-                .and(optionally(filter.getCurrencyCode(),     TransactionSpecifications::hasCurrency))
-                .and(optionally(filter.getTagIds(),           TransactionSpecifications::hasAnyTag))
-                .and(optionally(filter.getSearch(),           TransactionSpecifications::searchText))
-                .and(optionally(filter.getMinAmount(),        TransactionSpecifications::amountGreaterThanOrEqual))
-                .and(optionally(filter.getMaxAmount(),        TransactionSpecifications::amountLessThanOrEqual))
-                .and(optionally(start,                        TransactionSpecifications::dateOnOrAfter))
-                .and(optionally(end,                          TransactionSpecifications::dateOnOrBefore));
+    @PreAuthorize("hasAuthority('DELETE')")
+    @MutationMapping
+    public int deleteTransactions(@Argument Set<UUID> transactionIds) {
+        UUID workspaceId = GraphQLContext.workspaceId();
+        return transactionService.deleteTransactions(transactionIds, workspaceId);
+    }
+
+    /**
+     * Collects the response fields selected under {@code content}, translating nested object
+     * fields to the FK they are batched from. The workspace is always kept for the batch loaders.
+     */
+    private Set<String> selectedFields(DataFetchingFieldSelectionSet selection) {
+        Set<String> fields = new HashSet<>();
+        fields.add("workspaceId");
+        for (SelectedField field : selection.getFields("content/*")) {
+            fields.add(NESTED_FIELD_KEYS.getOrDefault(field.getName(), field.getName()));
+        }
+        return fields;
     }
 
     private void applySpecifiedFlags(UpdateTransactionInput input, Map<String, Object> rawInput) {
@@ -4,18 +4,22 @@ import com.balanced.account.enums.CurrencyCode;
 import com.balanced.account.service.AccountService;
 import com.balanced.category.service.CategoryService;
 import com.balanced.common.event.DomainEventPublisher;
+import com.balanced.common.event.FieldChange;
 import com.balanced.common.exception.BadRequestException;
 import com.balanced.common.exception.ResourceNotFoundException;
 import com.balanced.merchant.service.MerchantService;
 import com.balanced.recurring.entity.RecurringItem;
 import com.balanced.recurring.service.RecurringItemService;
 import com.balanced.tag.service.TagService;
+import com.balanced.transaction.dto.BulkUpdateTransactionInput;
 import com.balanced.transaction.dto.CreateTransactionInput;
+import com.balanced.transaction.dto.TransactionResponse;
 import com.balanced.transaction.dto.UpdateTransactionInput;
 import com.balanced.transaction.entity.Transaction;
 import com.balanced.transaction.enums.TransactionAction;
 import com.balanced.transaction.enums.TransactionSource;
 import com.balanced.transaction.enums.TransactionStatus;
+import com.balanced.transaction.group.repository.TransactionGroupRepository;
 import com.balanced.transaction.mapper.TransactionMapper;
 import com.balanced.transaction.repository.TransactionRepository;
 import com.balanced.transaction.split.entity.TransactionSplit;
@@ -30,19 +34,29 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
+    static final int MAX_BULK_SIZE = 1000;
+
     private final TransactionRepository transactionRepository;
     private final AccountService accountService;
     private final MerchantService merchantService;
@@ -50,6 +64,7 @@ public class TransactionService {
     private final TagService tagService;
     private final RecurringItemService recurringItemService;
     private final TransactionSplitRepository transactionSplitRepository;
+    private final TransactionGroupRepository transactionGroupRepository;
     private final TransactionMapper transactionMapper;
     private final DomainEventPublisher domainEventPublisher;
 
@@ -58,6 +73,14 @@ public class TransactionService {
         return transactionRepository.findAll(spec, pageable);
     }
 
+    /**
+     * Lists transactions as a column projection limited to the requested response fields.
+     */
+    @Transactional(readOnly = true)
+    public Page<TransactionResponse> listProjected(Specification<Transaction> spec, Pageable pageable, Set<String> fields) {
+        return transactionRepository.findProjected(spec, pageable, fields);
+    }
+
     @Transactional(readOnly = true)
     public Transaction getTransaction(UUID transactionId, UUID workspaceId) {
         return transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)
@@ -92,7 +115,7 @@ public class TransactionService {
             }
             accountId = dto.getAccountId();
             if (accountId == null) throw new BadRequestException("Account ID must be provided");
-            accountService.getAccount(accountId, workspaceId);
+            accountService.validateAccount(accountId, workspaceId);
             merchantId = dto.getMerchantName() != null
                     ? merchantService.resolveMerchant(dto.getMerchantName(), workspaceId).getId()
                     : null;
@@ -102,13 +125,13 @@ public class TransactionService {
             notes = dto.getNotes();
         }
 
-        if (ri != null) accountService.getAccount(accountId, workspaceId);
+        if (ri != null) accountService.validateAccount(accountId, workspaceId);
         if (merchantId == null) throw new BadRequestException("Merchant name must be provided");
         if (categoryId != null) {
-            categoryService.getCategory(categoryId, workspaceId);
-            categoryService.validateNotGroup(categoryId);
+            categoryService.validateCategory(categoryId, workspaceId);
+            categoryService.validateNotGroup(categoryId, workspaceId);
         }
-        tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+        tagService.validateTags(tagIds, workspaceId);
 
         // Amount: DTO wins, then RI default
         BigDecimal amount = resolveRequired(dto.getAmount(), ri, RecurringItem::getAmount, "Amount");
@@ -134,8 +157,8 @@ public class TransactionService {
 
         log.info("Created transaction for merchant '{}'", merchantId);
         Transaction saved = transactionRepository.save(transaction);
-        accountService.recomputeBalance(accountId);
-        domainEventPublisher.publish(TransactionAction.CREATED, saved, buildDisplayNames(workspaceId, saved));
+        accountService.applyBalanceDelta(accountId, amount);
+        domainEventPublisher.publish(TransactionAction.CREATED, saved);
         return saved;
     }
 
@@ -234,8 +257,8 @@ public class TransactionService {
         }
 
         if (dto.getAccountId() != null) {
-            var account = accountService.getAccount(dto.getAccountId(), workspaceId);
-            transaction.setAccountId(account.getId());
+            accountService.validateAccount(dto.getAccountId(), workspaceId);
+            transaction.setAccountId(dto.getAccountId());
         }
 
         // MapStruct handles simple fields: date, amount, currencyCode
@@ -243,8 +266,8 @@ public class TransactionService {
 
         if (dto.isMerchantIdSpecified()) {
             if (dto.getMerchantId() != null) {
-                var merchant = merchantService.getMerchant(dto.getMerchantId(), workspaceId);
-                transaction.setMerchantId(merchant.getId());
+                merchantService.validateMerchant(dto.getMerchantId(), workspaceId);
+                transaction.setMerchantId(dto.getMerchantId());
             } else {
                 transaction.setMerchantId(null);
             }
@@ -255,10 +278,10 @@ public class TransactionService {
 
         if (dto.isCategoryIdSpecified()) {
             if (dto.getCategoryId() != null) {
-                var category = categoryService.getCategory(dto.getCategoryId(), workspaceId);
-                categoryService.validateNotGroup(category.getId());
-                categoryService.validateCategoryPolarity(category.getId(), transaction.getAmount(), workspaceId);
-                transaction.setCategoryId(category.getId());
+                categoryService.validateCategory(dto.getCategoryId(), workspaceId);
+                categoryService.validateNotGroup(dto.getCategoryId(), workspaceId);
+                categoryService.validateCategoryPolarity(dto.getCategoryId(), transaction.getAmount(), workspaceId);
+                transaction.setCategoryId(dto.getCategoryId());
             } else {
                 transaction.setCategoryId(null);
             }
@@ -279,34 +302,211 @@ public class TransactionService {
 
         if (dto.isTagIdsSpecified()) {
             Set<UUID> tagIds = dto.getTagIds() != null ? dto.getTagIds() : new HashSet<>();
-            tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+            tagService.validateTags(tagIds, workspaceId);
             transaction.setTagIds(tagIds);
         }
 
         log.info("Updating transaction {}", transactionId);
         Transaction saved = transactionRepository.save(transaction);
 
-        boolean accountChanged = !saved.getAccountId().equals(oldAccountId);
-        boolean amountChanged = saved.getAmount().compareTo(oldAmount) != 0;
-        if (accountChanged || amountChanged) {
-            accountService.recomputeBalance(saved.getAccountId());
-            if (accountChanged) {
-                accountService.recomputeBalance(oldAccountId);
-            }
+        if (saved.getAccountId().equals(oldAccountId)) {
+            accountService.applyBalanceDelta(oldAccountId, saved.getAmount().subtract(oldAmount));
+        } else {
+            accountService.applyBalanceDelta(oldAccountId, oldAmount.negate());
+            accountService.applyBalanceDelta(saved.getAccountId(), saved.getAmount());
         }
 
-        domainEventPublisher.publish(TransactionAction.UPDATED, before, saved, buildDisplayNames(workspaceId, before, saved));
+        domainEventPublisher.publish(TransactionAction.UPDATED, before, saved);
         return saved;
     }
 
+    /**
+     * Applies one patch to many transactions. Lock rules and references are checked for the whole
+     * set up front, the patch is written with set-based statements, balances move once per
+     * affected account and the resulting events are published as one batch.
+     */
+    @Transactional
+    public List<Transaction> bulkUpdateTransactions(Set<UUID> transactionIds, UUID workspaceId,
+                                                    BulkUpdateTransactionInput dto) {
+        if (transactionIds.isEmpty()) {
+            throw new BadRequestException("At least one transaction ID must be provided");
+        }
+        if (transactionIds.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("At most " + MAX_BULK_SIZE + " transactions can be updated at once");
+        }
+        boolean editsTags = isNotEmpty(dto.getAddTagIds()) || isNotEmpty(dto.getRemoveTagIds());
+        if (dto.isTagIdsSpecified() && editsTags) {
+            throw new BadRequestException("tagIds cannot be combined with addTagIds or removeTagIds");
+        }
+
+        List<Transaction> transactions = getOwnedTransactions(transactionIds, workspaceId);
+        rejectLockedFieldsForBulk(transactions, dto);
+
+        if (dto.getAccountId() != null) {
+            accountService.validateAccount(dto.getAccountId(), workspaceId);
+        }
+        if (dto.isCategoryIdSpecified() && dto.getCategoryId() != null) {
+            UUID categoryId = dto.getCategoryId();
+            categoryService.validateCategory(categoryId, workspaceId);
+            categoryService.validateNotGroup(categoryId, workspaceId);
+            // One representative amount per sign covers the polarity rule for every row
+            transactions.stream().map(Transaction::getAmount)
+                    .collect(Collectors.toMap(amount -> amount.signum() > 0, Function.identity(), (a, b) -> a))
+                    .values()
+                    .forEach(amount -> categoryService.validateCategoryPolarity(categoryId, amount, workspaceId));
+        }
+        Set<UUID> tagIds = Stream.of(dto.getTagIds(), dto.getAddTagIds())
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        tagService.validateTags(tagIds, workspaceId);
+
+        Map<UUID, Transaction> before = transactions.stream()
+                .collect(Collectors.toMap(Transaction::getId, Transaction::snapshot));
+        Map<UUID, BigDecimal> balanceDeltas = dto.getAccountId() != null
+                ? accountMoveDeltas(transactions, dto.getAccountId())
+                : Map.of();
+
+        log.info("Bulk updating {} transactions", transactions.size());
+        transactionRepository.bulkUpdate(transactionIds, workspaceId, dto);
+        balanceDeltas.forEach(accountService::applyBalanceDelta);
+
+        List<Transaction> after = transactionRepository.findAllByIdInAndWorkspaceId(transactionIds, workspaceId);
+        List<Transaction> snapshots = after.stream().map(t -> before.get(t.getId())).toList();
+        domainEventPublisher.publishAll(TransactionAction.UPDATED, snapshots, after);
+        return after;
+    }
+
     @Transactional
     public void deleteTransaction(UUID transactionId, UUID workspaceId) {
         Transaction transaction = getTransaction(transactionId, workspaceId);
-        UUID accountId = transaction.getAccountId();
         log.info("Deleting transaction {}", transactionId);
         transactionRepository.delete(transaction);
-        transactionRepository.flush();
-        accountService.recomputeBalance(accountId);
+        accountService.applyBalanceDelta(transaction.getAccountId(), transaction.getAmount().negate());
+    }
+
+    /**
+     * Deletes many transactions with one ownership query and one DELETE. A split can only be
+     * removed whole, since deleting some of its children would break its total. Groups left with
+     * fewer than two transactions are dissolved. Each affected account balance moves once.
+     *
+     * @return the number of deleted transactions
+     */
+    @Transactional
+    public int deleteTransactions(Set<UUID> transactionIds, UUID workspaceId) {
+        if (transactionIds.isEmpty()) {
+            throw new BadRequestException("At least one transaction ID must be provided");
+        }
+        if (transactionIds.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("At most " + MAX_BULK_SIZE + " transactions can be deleted at once");
+        }
+
+        List<Transaction> transactions = getOwnedTransactions(transactionIds, workspaceId);
+
+        Set<UUID> splitIds = idsOf(transactions, Transaction::getSplitId);
+        if (!splitIds.isEmpty()) {
+            transactionRepository.findAllBySplitIdInAndWorkspaceId(splitIds, workspaceId).stream()
+                    .filter(t -> !transactionIds.contains(t.getId()))
+                    .findFirst()
+                    .ifPresent(t -> {
+                        throw new BadRequestException("Transaction split " + t.getSplitId()
+                                + " would be left incomplete. Delete all of its transactions or use the transaction-splits API.");
+                    });
+        }
+
+        Set<UUID> groupIds = idsOf(transactions, Transaction::getGroupId);
+        Map<UUID, List<Transaction>> survivorsByGroup = groupIds.isEmpty() ? Map.of()
+                : transactionRepository.findAllByGroupIdInAndWorkspaceId(groupIds, workspaceId).stream()
+                        .filter(t -> !transactionIds.contains(t.getId()))
+                        .collect(Collectors.groupingBy(Transaction::getGroupId));
+        Set<UUID> dissolvedGroupIds = groupIds.stream()
+                .filter(groupId -> survivorsByGroup.getOrDefault(groupId, List.of()).size() < 2)
+                .collect(Collectors.toSet());
+
+        Map<UUID, BigDecimal> balanceDeltas = transactions.stream()
+                .collect(Collectors.toMap(Transaction::getAccountId, t -> t.getAmount().negate(), BigDecimal::add));
+
+        log.info("Deleting {} transactions", transactions.size());
+        if (!dissolvedGroupIds.isEmpty()) {
+            transactionRepository.clearGroupIds(dissolvedGroupIds);
+        }
+        int deleted = transactionRepository.deleteAllByIdInAndWorkspaceId(transactionIds, workspaceId);
+        if (!dissolvedGroupIds.isEmpty()) {
+            transactionGroupRepository.deleteAllByIdInBatch(dissolvedGroupIds);
+        }
+        if (!splitIds.isEmpty()) {
+            transactionSplitRepository.deleteAllByIdInBatch(splitIds);
+        }
+        balanceDeltas.forEach(accountService::applyBalanceDelta);
+
+        Map<UUID, List<FieldChange>> ungrouped = new LinkedHashMap<>();
+        for (UUID groupId : dissolvedGroupIds) {
+            for (Transaction survivor : survivorsByGroup.getOrDefault(groupId, List.of())) {
+                ungrouped.put(survivor.getId(), List.of(new FieldChange("groupId", groupId.toString(), null)));
+            }
+        }
+        if (!ungrouped.isEmpty()) {
+            domainEventPublisher.publishAll(TransactionAction.UNGROUPED, ungrouped, workspaceId);
+        }
+        return deleted;
+    }
+
+    private List<Transaction> getOwnedTransactions(Set<UUID> transactionIds, UUID workspaceId) {
+        List<Transaction> transactions = transactionRepository.findAllByIdInAndWorkspaceId(transactionIds, workspaceId);
+        if (transactions.size() != transactionIds.size()) {
+            Set<UUID> missing = new HashSet<>(transactionIds);
+            transactions.forEach(t -> missing.remove(t.getId()));
+            throw new ResourceNotFoundException("Transactions not found: " + missing);
+        }
+        return transactions;
+    }
+
+    private void rejectLockedFieldsForBulk(List<Transaction> transactions, BulkUpdateTransactionInput dto) {
+        boolean touchesTags = dto.isTagIdsSpecified() || isNotEmpty(dto.getAddTagIds()) || isNotEmpty(dto.getRemoveTagIds());
+
+        List<String> recurringLocked = new ArrayList<>();
+        if (dto.getAccountId() != null) recurringLocked.add("accountId");
+        if (dto.isCategoryIdSpecified()) recurringLocked.add("categoryId");
+        if (touchesTags) recurringLocked.add("tagIds");
+        if (dto.isNotesSpecified()) recurringLocked.add("notes");
+        rejectIfAny(transactions, t -> t.getRecurringItemId() != null, recurringLocked,
+                "linked to a recurring item. Unlink the recurring item first.");
+
+        List<String> groupLocked = new ArrayList<>();
+        if (dto.isCategoryIdSpecified()) groupLocked.add("categoryId");
+        if (touchesTags) groupLocked.add("tagIds");
+        if (dto.isNotesSpecified()) groupLocked.add("notes");
+        rejectIfAny(transactions, t -> t.getGroupId() != null, groupLocked,
+                "in a transaction group. Use the transaction-groups API.");
+
+        List<String> splitLocked = dto.getAccountId() != null ? List.of("accountId") : List.of();
+        rejectIfAny(transactions, t -> t.getSplitId() != null, splitLocked,
+                "in a transaction split. Use the transaction-splits API.");
+    }
+
+    private void rejectIfAny(List<Transaction> transactions, Predicate<Transaction> locked,
+                             List<String> fields, String reason) {
+        if (fields.isEmpty()) return;
+        long count = transactions.stream().filter(locked).count();
+        if (count > 0) {
+            throw new BadRequestException(
+                    "Cannot modify " + String.join(", ", fields) + " on " + count + " transaction(s) " + reason);
+        }
+    }
+
+    // Net balance change per account when the given transactions move to targetAccountId
+    private Map<UUID, BigDecimal> accountMoveDeltas(List<Transaction> transactions, UUID targetAccountId) {
+        Map<UUID, BigDecimal> deltas = new HashMap<>();
+        for (Transaction t : transactions) {
+            if (t.getAccountId().equals(targetAccountId)) continue;
+            deltas.merge(t.getAccountId(), t.getAmount().negate(), BigDecimal::add);
+            deltas.merge(targetAccountId, t.getAmount(), BigDecimal::add);
+        }
+        return deltas;
+    }
+
+    private static boolean isNotEmpty(Set<UUID> ids) {
+        return ids != null && !ids.isEmpty();
     }
 
     private void applyStatusTransition(Transaction transaction, TransactionStatus newStatus) {
@@ -379,39 +579,8 @@ public class TransactionService {
         }
     }
 
-    /**
-     * Builds a map of UUID string → human-readable display name for all FK fields
-     * on the given transactions. Used by the event publisher to store readable values.
-     */
-    private Map<String, String> buildDisplayNames(UUID workspaceId, Transaction... transactions) {
-        Map<String, String> names = new java.util.HashMap<>();
-        for (Transaction t : transactions) {
-            resolveDisplayName(names, t.getAccountId(), id -> accountService.getAccount(id, workspaceId), a -> a.getName());
-            resolveDisplayName(names, t.getMerchantId(), id -> merchantService.getMerchant(id, workspaceId), m -> m.getName());
-            resolveDisplayName(names, t.getCategoryId(), id -> categoryService.getCategory(id, workspaceId), c -> c.getName());
-            resolveDisplayName(names, t.getRecurringItemId(), id -> recurringItemService.getRecurringItem(id, workspaceId), r -> r.getDescription());
-            if (t.getTagIds() != null) {
-                for (UUID tagId : t.getTagIds()) {
-                    resolveDisplayName(names, tagId, id -> tagService.getTag(id, workspaceId), tag -> tag.getName());
-                }
-            }
-        }
-        return names;
-    }
-
-    private <T> void resolveDisplayName(Map<String, String> names, UUID id, Function<UUID, T> fetcher, Function<T, String> nameExtractor) {
-        if (id == null) return;
-        String key = id.toString();
-        if (names.containsKey(key)) return;
-        try {
-            T entity = fetcher.apply(id);
-            if (entity != null) {
-                String name = nameExtractor.apply(entity);
-                if (name != null) names.put(key, name);
-            }
-        } catch (Exception ignored) {
-            // Entity may not exist (deleted); fall back to raw UUID
-        }
+    private static Set<UUID> idsOf(Collection<Transaction> transactions, Function<Transaction, UUID> key) {
+        return transactions.stream().map(key).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 
 }
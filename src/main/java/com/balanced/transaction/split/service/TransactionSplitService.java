@@ -1,6 +1,5 @@
 package com.balanced.transaction.split.service;
 
-import com.balanced.account.service.AccountService;
 import com.balanced.category.service.CategoryService;
 import com.balanced.common.event.DomainEventPublisher;
 import com.balanced.common.event.FieldChange;
@@ -24,6 +23,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -38,7 +39,6 @@ public class TransactionSplitService {
 
     private final TransactionSplitRepository transactionSplitRepository;
     private final TransactionRepository transactionRepository;
-    private final AccountService accountService;
     private final MerchantService merchantService;
     private final CategoryService categoryService;
     private final TagService tagService;
@@ -88,16 +88,17 @@ public class TransactionSplitService {
         split = transactionSplitRepository.save(split);
 
         // Create child transactions
+        List<UUID> childIds = new ArrayList<>();
         for (SplitChildInput child : dto.getChildren()) {
-            Transaction childTxn = createChildTransaction(split, source, child, workspaceId);
-            publishSplitEvent(childTxn.getId(), workspaceId, split.getId());
+            childIds.add(createChildTransaction(split, source, child, workspaceId).getId());
         }
+        publishSplitEvents(childIds, workspaceId, split.getId());
 
         // Delete the source transaction
         transactionRepository.delete(source);
 
+        // Children sum to the source amount, so the account balance is unchanged
         log.info("Created transaction split from transaction {} with {} children", dto.getTransactionId(), dto.getChildren().size());
-        accountService.recomputeBalance(split.getAccountId());
         return split;
     }
 
@@ -141,12 +142,12 @@ public class TransactionSplitService {
                     txn.setMerchantId(merchantService.resolveMerchant(child.getMerchantName(), workspaceId).getId());
                 }
                 if (child.getCategoryId() != null) {
-                    categoryService.getCategory(child.getCategoryId(), workspaceId);
+                    categoryService.validateCategory(child.getCategoryId(), workspaceId);
                     categoryService.validateCategoryPolarity(child.getCategoryId(), child.getAmount(), workspaceId);
                     txn.setCategoryId(child.getCategoryId());
                 }
                 if (child.getTagIds() != null) {
-                    child.getTagIds().forEach(tagId -> tagService.getTag(tagId, workspaceId));
+                    tagService.validateTags(child.getTagIds(), workspaceId);
                     txn.setTagIds(new HashSet<>(child.getTagIds()));
                 }
                 if (child.getNotes() != null) {
@@ -159,23 +160,19 @@ public class TransactionSplitService {
             }
         }
 
+        // Old and new children both sum to the split total, so the account balance is unchanged
         log.info("Updated transaction split {}", splitId);
-        accountService.recomputeBalance(split.getAccountId());
         return split;
     }
 
     @Transactional
     public void deleteTransactionSplit(UUID splitId, UUID workspaceId) {
         TransactionSplit split = getTransactionSplit(splitId, workspaceId);
-        UUID accountId = split.getAccountId();
         List<Transaction> children = transactionRepository.findAllBySplitIdAndWorkspaceId(splitId, workspaceId);
         transactionRepository.clearSplitId(splitId);
         transactionSplitRepository.delete(split);
-        for (Transaction child : children) {
-            publishUnsplitEvent(child.getId(), workspaceId, splitId);
-        }
+        publishUnsplitEvents(children.stream().map(Transaction::getId).toList(), workspaceId, splitId);
         log.info("Dissolved transaction split {}", splitId);
-        accountService.recomputeBalance(accountId);
     }
 
     private Transaction createChildTransaction(TransactionSplit split, Transaction source, SplitChildInput child, UUID workspaceId) {
@@ -185,12 +182,12 @@ public class TransactionSplitService {
 
         UUID categoryId = child.getCategoryId();
         if (categoryId != null) {
-            categoryService.getCategory(categoryId, workspaceId);
+            categoryService.validateCategory(categoryId, workspaceId);
             categoryService.validateCategoryPolarity(categoryId, child.getAmount(), workspaceId);
         }
 
         Set<UUID> tagIds = child.getTagIds() != null ? new HashSet<>(child.getTagIds()) : new HashSet<>();
-        tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+        tagService.validateTags(tagIds, workspaceId);
 
         Transaction txn = Transaction.builder()
                 .workspaceId(workspaceId)
@@ -223,12 +220,12 @@ public class TransactionSplitService {
 
         UUID categoryId = child.getCategoryId();
         if (categoryId != null) {
-            categoryService.getCategory(categoryId, workspaceId);
+            categoryService.validateCategory(categoryId, workspaceId);
             categoryService.validateCategoryPolarity(categoryId, child.getAmount(), workspaceId);
         }
 
         Set<UUID> tagIds = child.getTagIds() != null ? new HashSet<>(child.getTagIds()) : new HashSet<>();
-        tagIds.forEach(tagId -> tagService.getTag(tagId, workspaceId));
+        tagService.validateTags(tagIds, workspaceId);
 
         Transaction txn = Transaction.builder()
                 .workspaceId(workspaceId)
@@ -269,13 +266,13 @@ public class TransactionSplitService {
         }
     }
 
-    private void publishSplitEvent(UUID transactionId, UUID workspaceId, UUID splitId) {
-        domainEventPublisher.publish(TransactionAction.SPLIT, transactionId, workspaceId,
+    private void publishSplitEvents(Collection<UUID> transactionIds, UUID workspaceId, UUID splitId) {
+        domainEventPublisher.publishAll(TransactionAction.SPLIT, transactionIds, workspaceId,
                 List.of(new FieldChange("splitId", null, splitId.toString())));
     }
 
-    private void publishUnsplitEvent(UUID transactionId, UUID workspaceId, UUID splitId) {
-        domainEventPublisher.publish(TransactionAction.UNSPLIT, transactionId, workspaceId,
+    private void publishUnsplitEvents(Collection<UUID> transactionIds, UUID workspaceId, UUID splitId) {
+        domainEventPublisher.publishAll(TransactionAction.UNSPLIT, transactionIds, workspaceId,
                 List.of(new FieldChange("splitId", splitId.toString(), null)));
     }
 }
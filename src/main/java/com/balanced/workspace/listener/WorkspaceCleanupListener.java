@@ -6,11 +6,9 @@ import com.balanced.workspace.repository.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
@@ -20,9 +18,11 @@ public class WorkspaceCleanupListener {
     private final WorkspaceMembershipRepository membershipRepository;
     private final WorkspaceRepository workspaceRepository;
 
-    @Async
-    @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Delivered by the outbox dispatcher, inside its transaction.
+     */
+    @EventListener
+    @Transactional
     public void handleMembershipDeleted(MembershipDeletedEvent event) {
         if (event.correlationId() != null) {
             MDC.put("correlationId", event.correlationId());
@@ -1,6 +1,7 @@
 package com.balanced.workspace.membership.service;
 
 import com.balanced.common.exception.ResourceNotFoundException;
+import com.balanced.common.outbox.Outbox;
 import com.balanced.user.entity.User;
 import com.balanced.user.repository.UserRepository;
 import com.balanced.workspace.entity.Workspace;
@@ -14,7 +15,6 @@ import com.balanced.workspace.membership.event.MembershipDeletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,7 +32,7 @@ public class MembershipService {
     private final WorkspaceMembershipRepository membershipRepository;
     private final UserRepository userRepository;
     private final WorkspaceRepository workspaceRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
 
     @Transactional
     public WorkspaceMembership createMembership(UUID userId, UUID workspaceId, Set<Role> roles) {
@@ -86,6 +86,6 @@ public class MembershipService {
         WorkspaceMembership membership = membershipRepository.findByUserIdAndWorkspaceId(userId, workspaceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Membership not found"));
         membershipRepository.delete(membership);
-        eventPublisher.publishEvent(new MembershipDeletedEvent(workspaceId, MDC.get("correlationId")));
+        outbox.append(workspaceId, new MembershipDeletedEvent(workspaceId, MDC.get("correlationId")));
     }
 }
@@ -0,0 +1,38 @@
+-- Replace single-column FK indexes with composites that match the hot access paths.
+-- Each composite keeps the FK column leading, so cascades on the parent tables stay indexed.
+
+DROP INDEX IF EXISTS idx_transactions_workspace_id;
+DROP INDEX IF EXISTS idx_transactions_account_id;
+DROP INDEX IF EXISTS idx_transactions_merchant_id;
+DROP INDEX IF EXISTS idx_transactions_category_id;
+DROP INDEX IF EXISTS idx_transactions_status;
+DROP INDEX IF EXISTS idx_transactions_recurring_item_id;
+DROP INDEX IF EXISTS idx_transactions_group_id;
+DROP INDEX IF EXISTS idx_transactions_split_id;
+DROP INDEX IF EXISTS idx_transactions_occurrence_date;
+
+-- Account filter ordered by date, balance recompute (index-only SUM) and budget joins on account
+CREATE INDEX idx_transactions_account_date ON transactions(account_id, date) INCLUDE (amount);
+
+-- Budget category sums: category + budget accounts + date range
+CREATE INDEX idx_transactions_category_account_date ON transactions(category_id, account_id, date) INCLUDE (amount)
+    WHERE category_id IS NOT NULL;
+
+-- Budget uncategorized sums
+CREATE INDEX idx_transactions_uncategorized_account_date ON transactions(account_id, date) INCLUDE (amount)
+    WHERE category_id IS NULL;
+
+-- Merchant filter ordered by date
+CREATE INDEX idx_transactions_merchant_date ON transactions(merchant_id, date);
+
+-- Status filter ordered by date
+CREATE INDEX idx_transactions_workspace_status_date ON transactions(workspace_id, status, date);
+
+-- Recurring item views: linked transactions by occurrence date
+CREATE INDEX idx_transactions_recurring_occurrence ON transactions(workspace_id, occurrence_date)
+    WHERE recurring_item_id IS NOT NULL;
+
+-- Sparse memberships: most transactions have none of these set
+CREATE INDEX idx_transactions_recurring_item_id ON transactions(recurring_item_id) WHERE recurring_item_id IS NOT NULL;
+CREATE INDEX idx_transactions_group_id ON transactions(group_id) WHERE group_id IS NOT NULL;
+CREATE INDEX idx_transactions_split_id ON transactions(split_id) WHERE split_id IS NOT NULL;
@@ -0,0 +1,15 @@
+-- Store transaction tags inline as a uuid[] so reads need no join and tag filters use a GIN overlap
+ALTER TABLE transactions ADD COLUMN tag_ids UUID[] NOT NULL DEFAULT '{}';
+
+UPDATE transactions t
+SET tag_ids = tt.tag_ids
+FROM (
+    SELECT transaction_id, array_agg(tag_id ORDER BY tag_id) AS tag_ids
+    FROM transaction_tags
+    GROUP BY transaction_id
+) tt
+WHERE t.id = tt.transaction_id;
+
+DROP TABLE transaction_tags;
+
+CREATE INDEX idx_transactions_tag_ids ON transactions USING GIN (tag_ids);
@@ -0,0 +1,14 @@
+-- Domain events written in the same transaction as the change that raised them, until a poller dispatches them
+CREATE TABLE outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(255) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500)
+);
+
+-- Per-entity ordering checks look up earlier events for the same aggregate
+CREATE INDEX idx_outbox_aggregate_id ON outbox(aggregate_id, id);
@@ -0,0 +1,14 @@
+-- Progress of an unfinished bank sync per linked account; a retried sync skips completed accounts
+-- and resumes the rest after the last committed provider page. Cleared once the sync finishes.
+CREATE TABLE bank_sync_checkpoints (
+    account_id         UUID PRIMARY KEY REFERENCES accounts(id) ON DELETE CASCADE,
+    bank_connection_id UUID        NOT NULL REFERENCES bank_connections(id) ON DELETE CASCADE,
+    window_start       DATE        NOT NULL,
+    window_end         DATE        NOT NULL,
+    page_cursor        VARCHAR(255),
+    pages_applied      INTEGER     NOT NULL DEFAULT 0,
+    completed_at       TIMESTAMP,
+    updated_at         TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_bank_sync_checkpoints_connection ON bank_sync_checkpoints(bank_connection_id);
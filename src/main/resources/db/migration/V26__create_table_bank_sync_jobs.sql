@@ -0,0 +1,15 @@
+-- Connections waiting for a background sync, at most one row each. A worker leases a row by
+-- setting locked_by and locked_until, renews the lease while the sync runs, and deletes the row
+-- when it finishes; a lease that runs out lets another instance take the job over.
+CREATE TABLE bank_sync_jobs (
+    bank_connection_id UUID PRIMARY KEY REFERENCES bank_connections(id) ON DELETE CASCADE,
+    workspace_id       UUID         NOT NULL,
+    enqueued_at        TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_by          VARCHAR(64),
+    locked_until       TIMESTAMP,
+    attempts           INTEGER      NOT NULL DEFAULT 0,
+    last_error         VARCHAR(500)
+);
+
+CREATE INDEX idx_bank_sync_jobs_available ON bank_sync_jobs(available_at);
@@ -0,0 +1,20 @@
+-- Provider webhook notifications waiting to be synced, one row per event. A worker takes every
+-- ready event of a connection at once, syncs the accounts they name and deletes them; a failed
+-- sync pushes the events back with exponential backoff.
+CREATE TABLE bank_webhook_events (
+    id            BIGSERIAL PRIMARY KEY,
+    provider      VARCHAR(20)  NOT NULL,
+    event_id      VARCHAR(255) NOT NULL,
+    enrollment_id VARCHAR(255) NOT NULL,
+    account_ids   TEXT[]       NOT NULL,
+    received_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts      INTEGER      NOT NULL DEFAULT 0,
+    last_error    VARCHAR(500),
+    UNIQUE (provider, event_id)
+);
+
+CREATE INDEX idx_bank_webhook_events_enrollment ON bank_webhook_events(provider, enrollment_id);
+
+-- Webhooks name the enrollment, not the connection
+CREATE INDEX idx_bank_connections_enrollment ON bank_connections(enrollment_id);
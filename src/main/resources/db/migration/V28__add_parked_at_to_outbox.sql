@@ -0,0 +1,3 @@
+-- A message that failed balanced.outbox.max-attempts times is parked: kept for inspection, but no
+-- longer delivered or holding back later messages for its aggregate
+ALTER TABLE outbox ADD COLUMN parked_at TIMESTAMP;
@@ -4,6 +4,7 @@ import com.balanced.account.dto.CreateAccountInput;
 import com.balanced.account.dto.UpdateAccountInput;
 import com.balanced.account.entity.Account;
 import com.balanced.account.enums.AccountSource;
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.enums.Status;
 import com.balanced.account.enums.AccountSubType;
 import com.balanced.account.enums.AccountType;
@@ -24,12 +25,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,6 +43,9 @@ class AccountResponseServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Spy
     private AccountMapper accountMapper = Mappers.getMapper(AccountMapper.class);
 
@@ -106,6 +112,26 @@ class AccountResponseServiceTest {
                 .hasMessage("Account not found");
     }
 
+    // --- validateAccount ---
+
+    @Test
+    void validateAccount_cached_succeeds() {
+        when(referenceDataCache.accountNames(workspaceId)).thenReturn(Map.of(accountId, "Checking"));
+
+        accountService.validateAccount(accountId, workspaceId);
+
+        verify(accountRepository, never()).findByIdAndWorkspaceId(any(), any());
+    }
+
+    @Test
+    void validateAccount_unknown_throws() {
+        when(referenceDataCache.accountNames(workspaceId)).thenReturn(Map.of());
+
+        assertThatThrownBy(() -> accountService.validateAccount(accountId, workspaceId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Account not found");
+    }
+
     // --- createAccount ---
 
     @Test
@@ -127,6 +153,7 @@ class AccountResponseServiceTest {
         assertThat(result.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
         assertThat(result.getCurrency()).isEqualTo(CurrencyCode.USD);
         assertThat(result.getSource()).isEqualTo(AccountSource.MANUAL);
+        verify(referenceDataCache).invalidateAccounts(workspaceId);
     }
 
     @Test
@@ -227,21 +254,33 @@ class AccountResponseServiceTest {
     }
 
     @Test
-    void updateAccount_startingBalance_triggersRecompute() {
+    void updateAccount_startingBalance_appliesDifferenceAsDelta() {
         Account account = buildAccount("Checking", AccountType.CASH, AccountSubType.CHECKING);
+        account.setBalance(new BigDecimal("-200.00"));
         when(accountRepository.findByIdAndWorkspaceId(accountId, workspaceId)).thenReturn(Optional.of(account));
         when(accountRepository.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
         when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
-        when(accountRepository.sumTransactionAmounts(accountId)).thenReturn(new BigDecimal("-200.00"));
 
         UpdateAccountInput dto = UpdateAccountInput.builder().startingBalance(new BigDecimal("1000.00")).build();
         Account result = accountService.updateAccount(accountId, workspaceId, dto);
 
+        verify(accountRepository).applyBalanceDelta(eq(accountId), eq(new BigDecimal("1000.00")), any());
         assertThat(result.getStartingBalance()).isEqualByComparingTo(new BigDecimal("1000.00"));
         assertThat(result.getBalance()).isEqualByComparingTo(new BigDecimal("800.00"));
         assertThat(result.getBalanceLastUpdated()).isNotNull();
     }
 
+    @Test
+    void updateAccount_withoutStartingBalance_leavesBalanceAlone() {
+        Account account = buildAccount("Checking", AccountType.CASH, AccountSubType.CHECKING);
+        when(accountRepository.findByIdAndWorkspaceId(accountId, workspaceId)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        accountService.updateAccount(accountId, workspaceId, UpdateAccountInput.builder().name("Renamed").build());
+
+        verify(accountRepository, never()).applyBalanceDelta(any(), any(), any());
+    }
+
     @Test
     void updateAccount_statusClosed_setsClosedAt() {
         Account account = buildAccount("Checking", AccountType.CASH, AccountSubType.CHECKING);
@@ -303,6 +342,7 @@ class AccountResponseServiceTest {
         accountService.deleteAccount(accountId, workspaceId);
 
         verify(accountRepository).delete(account);
+        verify(referenceDataCache).invalidateAccounts(workspaceId);
     }
 
     @Test
@@ -313,40 +353,35 @@ class AccountResponseServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
-    // --- recomputeBalance ---
+    // --- applyBalanceDelta ---
 
     @Test
-    void recomputeBalance_addsTransactionSumToStartingBalance() {
+    void applyBalanceDelta_updatesStoredAndLoadedBalance() {
         Account account = buildAccount("Checking", AccountType.CASH, AccountSubType.CHECKING);
-        account.setStartingBalance(new BigDecimal("5000.00"));
+        account.setBalance(new BigDecimal("5000.00"));
         when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
-        when(accountRepository.sumTransactionAmounts(accountId)).thenReturn(new BigDecimal("-1200.50"));
-        when(accountRepository.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        accountService.recomputeBalance(accountId);
+        accountService.applyBalanceDelta(accountId, new BigDecimal("-1200.50"));
 
+        verify(accountRepository).applyBalanceDelta(eq(accountId), eq(new BigDecimal("-1200.50")), any());
+        verify(accountRepository, never()).save(any());
         assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("3799.50"));
         assertThat(account.getBalanceLastUpdated()).isNotNull();
     }
 
     @Test
-    void recomputeBalance_noTransactions_balanceEqualsStarting() {
-        Account account = buildAccount("Checking", AccountType.CASH, AccountSubType.CHECKING);
-        account.setStartingBalance(new BigDecimal("2500.00"));
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
-        when(accountRepository.sumTransactionAmounts(accountId)).thenReturn(BigDecimal.ZERO);
-        when(accountRepository.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
-
-        accountService.recomputeBalance(accountId);
+    void applyBalanceDelta_zero_isNoOp() {
+        accountService.applyBalanceDelta(accountId, new BigDecimal("0.00"));
 
-        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("2500.00"));
+        verify(accountRepository, never()).findById(any());
+        verify(accountRepository, never()).applyBalanceDelta(any(), any(), any());
     }
 
     @Test
-    void recomputeBalance_accountNotFound_throws() {
+    void applyBalanceDelta_accountNotFound_throws() {
         when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> accountService.recomputeBalance(accountId))
+        assertThatThrownBy(() -> accountService.applyBalanceDelta(accountId, BigDecimal.TEN))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 }
@@ -0,0 +1,90 @@
+package com.balanced.account;
+
+import com.balanced.account.dto.AccountBalanceDrift;
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.account.service.BalanceReconciliationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceReconciliationServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BalanceReconciliationService reconciliationService;
+
+    private final UUID workspaceId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new BalanceReconciliationService(accountRepository, meterRegistry);
+    }
+
+    @Test
+    void reconcileWorkspace_recomputesDriftedAccountsAndRecordsDrift() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<AccountBalanceDrift> found = List.of(
+                new AccountBalanceDrift(first, workspaceId, new BigDecimal("110.00"), new BigDecimal("100.00")),
+                new AccountBalanceDrift(second, workspaceId, new BigDecimal("-5.00"), new BigDecimal("0.00")));
+        when(accountRepository.findBalanceDriftByWorkspaceId(workspaceId)).thenReturn(found);
+        when(accountRepository.findBalanceDriftByIdIn(List.of(first, second))).thenReturn(found);
+
+        List<AccountBalanceDrift> drifts = reconciliationService.reconcileWorkspace(workspaceId);
+
+        assertThat(drifts).extracting(AccountBalanceDrift::drift)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("10.00"), new BigDecimal("-5.00"));
+        verify(accountRepository).recomputeBalances(eq(List.of(first, second)), any());
+        assertThat(meterRegistry.get("balanced.accounts.balance.drift").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("balanced.accounts.balance.drift.amount").summary().totalAmount())
+                .isEqualTo(15.0);
+    }
+
+    @Test
+    void reconcileWorkspace_driftGoneOnceTheRowsAreLocked_writesNothing() {
+        UUID accountId = UUID.randomUUID();
+        // Read while a write had added its transaction but not yet applied its delta
+        when(accountRepository.findBalanceDriftByWorkspaceId(workspaceId)).thenReturn(List.of(
+                new AccountBalanceDrift(accountId, workspaceId, new BigDecimal("100.00"), new BigDecimal("90.00"))));
+        when(accountRepository.findBalanceDriftByIdIn(List.of(accountId))).thenReturn(List.of());
+
+        List<AccountBalanceDrift> drifts = reconciliationService.reconcileWorkspace(workspaceId);
+
+        assertThat(drifts).isEmpty();
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).lockAllByIdIn(List.of(accountId));
+        inOrder.verify(accountRepository).findBalanceDriftByIdIn(List.of(accountId));
+        verify(accountRepository, never()).recomputeBalances(any(), any());
+        assertThat(meterRegistry.get("balanced.accounts.balance.drift").counter().count()).isZero();
+    }
+
+    @Test
+    void reconcileAll_noDrift_writesNothing() {
+        when(accountRepository.findBalanceDrift()).thenReturn(List.of());
+
+        reconciliationService.reconcileAll();
+
+        verify(accountRepository, never()).recomputeBalances(any(), any());
+        assertThat(meterRegistry.get("balanced.accounts.balance.drift").counter().count()).isZero();
+    }
+}
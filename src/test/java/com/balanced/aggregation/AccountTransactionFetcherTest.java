@@ -0,0 +1,213 @@
+package com.balanced.aggregation;
+
+import com.balanced.account.entity.Account;
+import com.balanced.aggregation.client.BankAggregatorClient;
+import com.balanced.aggregation.config.AggregationProperties;
+import com.balanced.aggregation.dto.AggregatedAccount;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.balanced.aggregation.service.AccountTransactionFetcher;
+import com.balanced.aggregation.service.AccountTransactionFetcher.AccountWindow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountTransactionFetcherTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(300);
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 31);
+
+    /**
+     * Answers every fetch after a fixed delay and records how many were in flight at once.
+     */
+    static class SlowAggregatorClient implements BankAggregatorClient {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final Set<String> failingAccounts = ConcurrentHashMap.newKeySet();
+        final Set<String> emptyAccounts = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public List<AggregatedAccount> getAccounts(String accessToken) {
+            return List.of();
+        }
+
+        @Override
+        public List<AggregatedTransaction> getTransactions(String accessToken, String externalAccountId,
+                                                           LocalDate startDate, LocalDate endDate) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(LATENCY);
+                if (failingAccounts.contains(externalAccountId)) {
+                    throw new IllegalStateException("Provider error for " + externalAccountId);
+                }
+                if (emptyAccounts.contains(externalAccountId)) {
+                    return List.of();
+                }
+                return List.of(new AggregatedTransaction("txn_" + externalAccountId, externalAccountId,
+                        new BigDecimal("-1.00"), startDate, "PURCHASE", "Store", "shopping", "posted", "card_payment"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void removeConnection(String accessToken) {
+        }
+    }
+
+    private final SlowAggregatorClient client = new SlowAggregatorClient();
+
+    @Test
+    void fetchAll_sixAccounts_overlapsProviderLatency() {
+        List<AccountWindow> windows = windows(6);
+        List<String> applied = new ArrayList<>();
+
+        long begin = System.nanoTime();
+        fetcher(6, 32).fetchAll("token", windows,
+                (window, transactions) -> applied.add(transactions.getFirst().externalAccountId()));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+        // Sequential fetching would take six times the latency
+        assertThat(elapsed).isLessThan(LATENCY.multipliedBy(3));
+        assertThat(applied).containsExactly("acc_0", "acc_1", "acc_2", "acc_3", "acc_4", "acc_5");
+        assertThat(client.maxInFlight.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void fetchAll_respectsConnectionLimit() {
+        fetcher(2, 32).fetchAll("token", windows(6), (window, transactions) -> {});
+
+        assertThat(client.maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void fetchAll_respectsGlobalLimitAcrossConnections() throws InterruptedException {
+        AccountTransactionFetcher fetcher = fetcher(4, 3);
+        List<Thread> syncs = IntStream.range(0, 3)
+                .mapToObj(i -> Thread.ofVirtual().start(() ->
+                        fetcher.fetchAll("token_" + i, windows(4), (window, transactions) -> {})))
+                .toList();
+        for (Thread sync : syncs) sync.join();
+
+        assertThat(client.maxInFlight.get()).isEqualTo(3);
+    }
+
+    @Test
+    void fetchAll_failingFetch_isRethrownAfterEarlierAccountsAreApplied() {
+        client.failingAccounts.add("acc_1");
+        List<String> applied = new ArrayList<>();
+
+        assertThatThrownBy(() -> fetcher(4, 32).fetchAll("token", windows(3),
+                (window, transactions) -> applied.add(window.account().getExternalId())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Provider error for acc_1");
+        assertThat(applied).containsExactly("acc_0");
+    }
+
+    @Test
+    void fetchAll_pagedAccount_staysAtMostOnePageAheadOfTheCaller() {
+        AtomicInteger requested = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        List<Integer> applied = new ArrayList<>();
+        BankAggregatorClient pagedClient = new SlowAggregatorClient() {
+            @Override
+            public Stream<List<AggregatedTransaction>> streamTransactions(String accessToken, String externalAccountId,
+                                                                           LocalDate startDate, LocalDate endDate,
+                                                                           String afterExternalId) {
+                return IntStream.range(0, 20).mapToObj(page -> {
+                    requested.incrementAndGet();
+                    return List.of(new AggregatedTransaction("txn_" + page, externalAccountId, BigDecimal.ONE,
+                            startDate, "PAGE " + page, "Store", "shopping", "posted", "card_payment"));
+                });
+            }
+        };
+        AccountTransactionFetcher fetcher = new AccountTransactionFetcher(pagedClient,
+                new AggregationProperties("teller", null, new AggregationProperties.SyncProperties(4, 32), null, null, null, null));
+
+        fetcher.fetchAll("token", windows(1), (window, page) -> {
+            applied.add(applied.size());
+            sleep(Duration.ofMillis(5));
+            maxAhead.accumulateAndGet(requested.get() - applied.size(), Math::max);
+        });
+
+        assertThat(applied).hasSize(20);
+        // One page waiting in the hand-off and one fetched behind it
+        assertThat(maxAhead.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void fetchAll_reportsEachAccountCompletedAfterItsLastPage() {
+        List<String> events = new ArrayList<>();
+
+        fetcher(4, 32).fetchAll("token", windows(2), new AccountTransactionFetcher.PageHandler() {
+            @Override
+            public void apply(AccountWindow window, List<AggregatedTransaction> page) {
+                events.add("page " + window.account().getExternalId());
+            }
+
+            @Override
+            public void completed(AccountWindow window) {
+                events.add("done " + window.account().getExternalId());
+            }
+        });
+
+        assertThat(events).containsExactly("page acc_0", "done acc_0", "page acc_1", "done acc_1");
+    }
+
+    @Test
+    void fetchAll_accountWithoutTransactions_completesWithoutAnyPage() {
+        client.emptyAccounts.add("acc_0");
+        List<String> events = new ArrayList<>();
+
+        fetcher(4, 32).fetchAll("token", windows(2), new AccountTransactionFetcher.PageHandler() {
+            @Override
+            public void apply(AccountWindow window, List<AggregatedTransaction> page) {
+                events.add("page " + window.account().getExternalId());
+            }
+
+            @Override
+            public void completed(AccountWindow window) {
+                events.add("done " + window.account().getExternalId());
+            }
+        });
+
+        assertThat(events).containsExactly("done acc_0", "page acc_1", "done acc_1");
+    }
+
+    private AccountTransactionFetcher fetcher(int connectionConcurrency, int globalConcurrency) {
+        return new AccountTransactionFetcher(client, new AggregationProperties("teller", null,
+                new AggregationProperties.SyncProperties(connectionConcurrency, globalConcurrency), null, null, null, null));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<AccountWindow> windows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new AccountWindow(Account.builder().id(UUID.randomUUID()).externalId("acc_" + i).build(),
+                        START, END, null))
+                .toList();
+    }
+}
@@ -8,6 +8,7 @@ import com.balanced.aggregation.enums.AggregationProvider;
 import com.balanced.aggregation.mapper.BankConnectionMapper;
 import com.balanced.aggregation.resolver.AggregationResolver;
 import com.balanced.aggregation.service.AggregationService;
+import com.balanced.aggregation.service.BankSyncScheduler;
 import com.balanced.common.enums.Status;
 import com.balanced.common.graphql.GraphQLContext;
 import org.junit.jupiter.api.AfterEach;
@@ -35,6 +36,7 @@ class AggregationResolverTest {
 
     @Mock private AggregationService aggregationService;
     @Mock private BankConnectionMapper bankConnectionMapper;
+    @Mock private BankSyncScheduler bankSyncScheduler;
 
     @InjectMocks private AggregationResolver aggregationResolver;
 
@@ -135,7 +137,7 @@ class AggregationResolverTest {
         @Test
         void returnsSyncResult() {
             var syncResult = new SyncResult(5, 0, 0, 2);
-            when(aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID)).thenReturn(syncResult);
+            when(bankSyncScheduler.syncNow(CONNECTION_ID, WORKSPACE_ID)).thenReturn(syncResult);
 
             SyncResult result = aggregationResolver.syncTransactions(CONNECTION_ID);
 
@@ -8,22 +8,21 @@ import com.balanced.account.enums.AccountType;
 import com.balanced.account.repository.AccountRepository;
 import com.balanced.account.service.AccountService;
 import com.balanced.aggregation.client.BankAggregatorClient;
+import com.balanced.aggregation.config.AggregationProperties;
 import com.balanced.aggregation.dto.AggregatedAccount;
 import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.balanced.aggregation.dto.SyncCheckpoint;
 import com.balanced.aggregation.dto.SyncResult;
 import com.balanced.aggregation.entity.BankConnection;
 import com.balanced.aggregation.enums.AggregationProvider;
 import com.balanced.aggregation.repository.BankConnectionRepository;
+import com.balanced.aggregation.repository.SyncCheckpointJdbcRepository;
+import com.balanced.aggregation.service.AccountTransactionFetcher;
 import com.balanced.aggregation.service.AggregationService;
+import com.balanced.aggregation.service.TransactionSyncWriter;
 import com.balanced.common.enums.Status;
 import com.balanced.common.exception.ResourceNotFoundException;
-import com.balanced.merchant.entity.Merchant;
-import com.balanced.merchant.service.MerchantService;
-import com.balanced.transaction.entity.Transaction;
-import com.balanced.transaction.enums.TransactionSource;
-import com.balanced.transaction.enums.TransactionStatus;
-import com.balanced.transaction.repository.TransactionRepository;
-import com.balanced.transaction.service.TransactionService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -32,20 +31,26 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,24 +61,26 @@ class AggregationServiceTest {
     @Mock private BankConnectionRepository bankConnectionRepository;
     @Mock private AccountRepository accountRepository;
     @Mock private AccountService accountService;
-    @Mock private TransactionService transactionService;
-    @Mock private TransactionRepository transactionRepository;
-    @Mock private MerchantService merchantService;
+    @Mock private TransactionSyncWriter syncWriter;
+    @Mock private SyncCheckpointJdbcRepository checkpointRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private EntityManager entityManager;
 
     private AggregationService aggregationService;
 
     private static final UUID WORKSPACE_ID = UUID.randomUUID();
     private static final UUID CONNECTION_ID = UUID.randomUUID();
     private static final UUID ACCOUNT_ID = UUID.randomUUID();
-    private static final UUID MERCHANT_ID = UUID.randomUUID();
     private static final String ACCESS_TOKEN = "test_access_token";
+    private static final AggregationProperties PROPERTIES = new AggregationProperties("teller", null,
+            new AggregationProperties.SyncProperties(4, 32), null, null, null, null);
 
     @BeforeEach
     void initService() {
         aggregationService = new AggregationService(
                 aggregatorClient, bankConnectionRepository, accountRepository,
-                accountService, transactionService, transactionRepository,
-                merchantService, "teller");
+                accountService, new AccountTransactionFetcher(aggregatorClient, PROPERTIES), syncWriter,
+                checkpointRepository, transactionManager, entityManager, "teller");
     }
 
     private AggregatedAccount mockAccount(String externalId, String type, String subtype) {
@@ -87,12 +94,6 @@ class AggregationServiceTest {
                 "AMAZON PURCHASE", "Amazon", "shopping", "posted", "card_payment");
     }
 
-    private AggregatedTransaction mockTransaction(String externalId, BigDecimal amount,
-                                                   LocalDate date, String status) {
-        return new AggregatedTransaction(externalId, "acc_001",
-                amount, date, "PURCHASE", "Merchant", "shopping", status, "card_payment");
-    }
-
     private BankConnection mockConnection() {
         return BankConnection.builder()
                 .id(CONNECTION_ID)
@@ -119,13 +120,6 @@ class AggregationServiceTest {
                 .build();
     }
 
-    private Merchant mockMerchant() {
-        Merchant m = new Merchant();
-        m.setId(MERCHANT_ID);
-        m.setName("Amazon");
-        return m;
-    }
-
     @Nested
     class LinkBank {
 
@@ -337,145 +331,247 @@ class AggregationServiceTest {
         }
 
         @Test
-        void importsNewTransactions() {
+        void writesEachAccountsTransactionsAndSumsTheResults() {
+            var transactions = List.of(mockTransaction("txn_001"), mockTransaction("txn_002"));
             when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
                     .thenReturn(Optional.of(connection));
             when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
                     .thenReturn(List.of(account));
-            when(aggregatorClient.getTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any()))
-                    .thenReturn(List.of(mockTransaction("txn_001"), mockTransaction("txn_002")));
-            when(transactionRepository.findByExternalIdAndWorkspaceId(anyString(), eq(WORKSPACE_ID)))
-                    .thenReturn(Optional.empty());
-            when(transactionService.createTransaction(eq(WORKSPACE_ID), any()))
-                    .thenReturn(Transaction.builder().id(UUID.randomUUID()).build());
-            when(transactionRepository.save(any(Transaction.class)))
-                    .thenAnswer(inv -> inv.getArgument(0));
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.of(transactions));
+            when(syncWriter.write(WORKSPACE_ID, account, transactions))
+                    .thenReturn(new TransactionSyncWriter.PageResult(1, 1));
             when(bankConnectionRepository.save(any(BankConnection.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
 
             SyncResult result = aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
 
-            assertThat(result.transactionsAdded()).isEqualTo(2);
-            assertThat(result.transactionsModified()).isEqualTo(0);
+            assertThat(result.transactionsAdded()).isEqualTo(1);
+            assertThat(result.transactionsModified()).isEqualTo(1);
             assertThat(result.accountsSynced()).isEqualTo(1);
-            verify(transactionService, org.mockito.Mockito.times(2)).createTransaction(eq(WORKSPACE_ID), any());
+            assertThat(connection.getLastSyncedAt()).isNotNull();
         }
 
         @Test
-        void updatesExistingTransactionWhenFieldsChange() {
-            Transaction existing = Transaction.builder()
-                    .id(UUID.randomUUID())
-                    .workspaceId(WORKSPACE_ID)
-                    .accountId(ACCOUNT_ID)
-                    .merchantId(MERCHANT_ID)
-                    .amount(new BigDecimal("-30.00"))
-                    .date(LocalDate.of(2026, 1, 14).atStartOfDay())
-                    .status(TransactionStatus.PENDING)
-                    .build();
-
+        void writesEachProviderPageSeparately() {
+            var firstPage = List.of(mockTransaction("txn_001"), mockTransaction("txn_002"));
+            var secondPage = List.of(mockTransaction("txn_003"));
             when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
                     .thenReturn(Optional.of(connection));
             when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
                     .thenReturn(List.of(account));
-            when(aggregatorClient.getTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any()))
-                    .thenReturn(List.of(mockTransaction("txn_existing", new BigDecimal("-42.50"),
-                            LocalDate.of(2026, 1, 15), "posted")));
-            when(transactionRepository.findByExternalIdAndWorkspaceId("txn_existing", WORKSPACE_ID))
-                    .thenReturn(Optional.of(existing));
-            when(merchantService.resolveMerchant(anyString(), eq(WORKSPACE_ID)))
-                    .thenReturn(mockMerchant());
-            when(transactionRepository.save(any(Transaction.class)))
-                    .thenAnswer(inv -> inv.getArgument(0));
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.of(firstPage, secondPage));
+            when(syncWriter.write(WORKSPACE_ID, account, firstPage))
+                    .thenReturn(new TransactionSyncWriter.PageResult(2, 0));
+            when(syncWriter.write(WORKSPACE_ID, account, secondPage))
+                    .thenReturn(new TransactionSyncWriter.PageResult(0, 1));
             when(bankConnectionRepository.save(any(BankConnection.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
 
             SyncResult result = aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
 
-            assertThat(result.transactionsAdded()).isEqualTo(0);
+            assertThat(result.transactionsAdded()).isEqualTo(2);
             assertThat(result.transactionsModified()).isEqualTo(1);
+        }
 
-            assertThat(existing.getAmount()).isEqualByComparingTo(new BigDecimal("-42.50"));
-            assertThat(existing.getDate()).isEqualTo(LocalDate.of(2026, 1, 15).atStartOfDay());
-            assertThat(existing.getStatus()).isEqualTo(TransactionStatus.POSTED);
-            assertThat(existing.getPostedAt()).isEqualTo(LocalDate.of(2026, 1, 15).atStartOfDay());
+        @Test
+        void usesInitialSyncWindowWhenNeverSynced() {
+            when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
+                    .thenReturn(Optional.of(connection));
+            when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
+                    .thenReturn(List.of(account));
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.empty());
+            when(bankConnectionRepository.save(any(BankConnection.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+
+            aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
+
+            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
+            ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
+            verify(aggregatorClient).streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"),
+                    startCaptor.capture(), endCaptor.capture(), isNull());
+
+            assertThat(startCaptor.getValue()).isEqualTo(LocalDate.now().minusDays(30));
+            assertThat(endCaptor.getValue()).isEqualTo(LocalDate.now());
         }
 
         @Test
-        void skipsUpdateWhenNothingChanged() {
-            Transaction existing = Transaction.builder()
-                    .id(UUID.randomUUID())
-                    .workspaceId(WORKSPACE_ID)
-                    .accountId(ACCOUNT_ID)
-                    .merchantId(MERCHANT_ID)
-                    .amount(new BigDecimal("-42.50"))
-                    .date(LocalDate.of(2026, 1, 15).atStartOfDay())
-                    .status(TransactionStatus.POSTED)
-                    .build();
+        void usesOverlapWindowOnSubsequentSync() {
+            LocalDateTime lastSync = LocalDateTime.of(2026, 1, 10, 12, 0);
+            connection.setLastSyncedAt(lastSync);
 
             when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
                     .thenReturn(Optional.of(connection));
             when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
                     .thenReturn(List.of(account));
-            when(aggregatorClient.getTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any()))
-                    .thenReturn(List.of(mockTransaction("txn_unchanged")));
-            when(transactionRepository.findByExternalIdAndWorkspaceId("txn_unchanged", WORKSPACE_ID))
-                    .thenReturn(Optional.of(existing));
-            when(merchantService.resolveMerchant("Amazon", WORKSPACE_ID))
-                    .thenReturn(mockMerchant());
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.empty());
             when(bankConnectionRepository.save(any(BankConnection.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
 
-            SyncResult result = aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
+            aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
+
+            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
+            verify(aggregatorClient).streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"),
+                    startCaptor.capture(), any(), isNull());
 
-            assertThat(result.transactionsAdded()).isEqualTo(0);
-            assertThat(result.transactionsModified()).isEqualTo(0);
-            verify(transactionService, never()).createTransaction(any(), any());
+            assertThat(startCaptor.getValue()).isEqualTo(
+                    lastSync.toLocalDate().minusDays(10));
         }
 
         @Test
-        void usesInitialSyncWindowWhenNeverSynced() {
+        void checkpointsEachPageAndClearsCheckpointsOnceFinished() {
+            var page = List.of(mockTransaction("txn_001"), mockTransaction("txn_002"));
             when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
                     .thenReturn(Optional.of(connection));
             when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
                     .thenReturn(List.of(account));
-            when(aggregatorClient.getTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any()))
-                    .thenReturn(List.of());
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.of(page));
+            when(syncWriter.write(WORKSPACE_ID, account, page))
+                    .thenReturn(new TransactionSyncWriter.PageResult(2, 0));
             when(bankConnectionRepository.save(any(BankConnection.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
 
             aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
 
-            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            verify(aggregatorClient).getTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"),
-                    startCaptor.capture(), endCaptor.capture());
+            LocalDate today = LocalDate.now();
+            verify(checkpointRepository).savePage(CONNECTION_ID, ACCOUNT_ID, today.minusDays(30), today, "txn_002");
+            verify(checkpointRepository).markCompleted(CONNECTION_ID, ACCOUNT_ID, today.minusDays(30), today);
+            // After the page and after the account was reconciled
+            verify(entityManager, times(2)).clear();
+            verify(checkpointRepository).deleteByConnectionId(CONNECTION_ID);
+        }
 
-            assertThat(startCaptor.getValue()).isEqualTo(LocalDate.now().minusDays(30));
-            assertThat(endCaptor.getValue()).isEqualTo(LocalDate.now());
+        @Test
+        void resumesUnfinishedAccountsFromTheirCheckpoint() {
+            Account finished = Account.builder().id(UUID.randomUUID()).externalId("acc_ext_000").build();
+            LocalDate windowStart = LocalDate.of(2026, 1, 1);
+            LocalDate windowEnd = LocalDate.of(2026, 1, 31);
+            when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
+                    .thenReturn(Optional.of(connection));
+            when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
+                    .thenReturn(List.of(finished, account));
+            when(checkpointRepository.findByConnectionId(CONNECTION_ID)).thenReturn(List.of(
+                    new SyncCheckpoint(finished.getId(), windowStart, windowEnd, "txn_900", true),
+                    new SyncCheckpoint(ACCOUNT_ID, windowStart, windowEnd, "txn_100", false)));
+            when(aggregatorClient.streamTransactions(ACCESS_TOKEN, "acc_ext_001", windowStart, windowEnd, "txn_100"))
+                    .thenReturn(Stream.empty());
+            when(bankConnectionRepository.save(any(BankConnection.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+
+            SyncResult result = aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
+
+            assertThat(result.accountsSynced()).isEqualTo(2);
+            verify(aggregatorClient, never()).streamTransactions(any(), eq("acc_ext_000"), any(), any(), any());
+            // Pages committed before the interruption were not seen, so nothing is reconciled
+            verify(syncWriter, never()).removeMissing(any(), any(), any(), any());
+            verify(checkpointRepository).markCompleted(CONNECTION_ID, ACCOUNT_ID, windowStart, windowEnd);
+            assertThat(connection.getLastSyncedAt()).isNotNull();
         }
 
         @Test
-        void usesOverlapWindowOnSubsequentSync() {
-            LocalDateTime lastSync = LocalDateTime.of(2026, 1, 10, 12, 0);
-            connection.setLastSyncedAt(lastSync);
+        void removesTransactionsMissingFromTheFullyFetchedWindow() {
+            var firstPage = List.of(mockTransaction("txn_001"), mockTransaction("txn_002"));
+            var secondPage = List.of(mockTransaction("txn_003"));
+            LocalDate today = LocalDate.now();
+            when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
+                    .thenReturn(Optional.of(connection));
+            when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
+                    .thenReturn(List.of(account));
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.of(firstPage, secondPage));
+            when(syncWriter.write(eq(WORKSPACE_ID), eq(account), anyList()))
+                    .thenReturn(new TransactionSyncWriter.PageResult(0, 0));
+            when(syncWriter.removeMissing(account, today.minusDays(30), today, Set.of("txn_001", "txn_002", "txn_003")))
+                    .thenReturn(2);
+            when(bankConnectionRepository.save(any(BankConnection.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+
+            SyncResult result = aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
+
+            assertThat(result.transactionsRemoved()).isEqualTo(2);
+            verify(checkpointRepository).markCompleted(CONNECTION_ID, ACCOUNT_ID, today.minusDays(30), today);
+        }
 
+        @Test
+        void failedPageKeepsEarlierPagesAndLeavesLastSyncedAt() {
+            var firstPage = List.of(mockTransaction("txn_001"));
+            var secondPage = List.of(mockTransaction("txn_002"));
             when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
                     .thenReturn(Optional.of(connection));
             when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
                     .thenReturn(List.of(account));
-            when(aggregatorClient.getTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any()))
-                    .thenReturn(List.of());
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.of(firstPage, secondPage));
+            when(syncWriter.write(WORKSPACE_ID, account, firstPage))
+                    .thenReturn(new TransactionSyncWriter.PageResult(1, 0));
+            when(syncWriter.write(WORKSPACE_ID, account, secondPage))
+                    .thenThrow(new IllegalStateException("boom"));
+
+            assertThatThrownBy(() -> aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(checkpointRepository).savePage(eq(CONNECTION_ID), eq(ACCOUNT_ID), any(), any(), eq("txn_001"));
+            verify(checkpointRepository, never()).markCompleted(any(), any(), any(), any());
+            verify(checkpointRepository, never()).deleteByConnectionId(any());
+            assertThat(connection.getLastSyncedAt()).isNull();
+        }
+
+        @Test
+        void accountWithoutTransactions_isCompletedWithoutWritingAPage() {
+            LocalDate today = LocalDate.now();
+            when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
+                    .thenReturn(Optional.of(connection));
+            when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
+                    .thenReturn(List.of(account));
+            // A provider returning its whole, empty result as one page
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.of(List.of()));
             when(bankConnectionRepository.save(any(BankConnection.class)))
                     .thenAnswer(inv -> inv.getArgument(0));
 
-            aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
+            SyncResult result = aggregationService.syncTransactions(CONNECTION_ID, WORKSPACE_ID);
 
-            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            verify(aggregatorClient).getTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"),
-                    startCaptor.capture(), any());
+            assertThat(result.transactionsAdded()).isZero();
+            verify(syncWriter, never()).write(any(), any(), any());
+            verify(checkpointRepository, never()).savePage(any(), any(), any(), any(), any());
+            verify(syncWriter).removeMissing(account, today.minusDays(30), today, Set.of());
+            verify(checkpointRepository).markCompleted(CONNECTION_ID, ACCOUNT_ID, today.minusDays(30), today);
+            assertThat(connection.getLastSyncedAt()).isNotNull();
+        }
 
-            assertThat(startCaptor.getValue()).isEqualTo(
-                    lastSync.toLocalDate().minusDays(10));
+        @Test
+        void syncAccounts_fetchesOnlyTheNamedAccountsWithoutCheckpoints() {
+            var transactions = List.of(mockTransaction("txn_001"));
+            Account other = Account.builder()
+                    .id(UUID.randomUUID())
+                    .workspaceId(WORKSPACE_ID)
+                    .externalId("acc_ext_002")
+                    .bankConnectionId(CONNECTION_ID)
+                    .build();
+            when(bankConnectionRepository.findByIdAndWorkspaceId(CONNECTION_ID, WORKSPACE_ID))
+                    .thenReturn(Optional.of(connection));
+            when(accountRepository.findAllByBankConnectionId(CONNECTION_ID))
+                    .thenReturn(List.of(account, other));
+            when(aggregatorClient.streamTransactions(eq(ACCESS_TOKEN), eq("acc_ext_001"), any(), any(), isNull()))
+                    .thenReturn(Stream.of(transactions));
+            when(syncWriter.write(WORKSPACE_ID, account, transactions))
+                    .thenReturn(new TransactionSyncWriter.PageResult(1, 0));
+
+            SyncResult result = aggregationService.syncAccounts(CONNECTION_ID, WORKSPACE_ID, Set.of("acc_ext_001"));
+
+            assertThat(result.transactionsAdded()).isEqualTo(1);
+            assertThat(result.accountsSynced()).isEqualTo(1);
+            verify(aggregatorClient, never()).streamTransactions(any(), eq("acc_ext_002"), any(), any(), any());
+            verify(syncWriter).removeMissing(eq(account), any(), any(), eq(Set.of("txn_001")));
+            verify(checkpointRepository, never()).savePage(any(), any(), any(), any(), any());
+            verify(checkpointRepository, never()).markCompleted(any(), any(), any(), any());
+            // The connection's other accounts were not synced, so the full sync still is due
+            assertThat(connection.getLastSyncedAt()).isNull();
+            verify(bankConnectionRepository, never()).save(any());
         }
 
         @Test
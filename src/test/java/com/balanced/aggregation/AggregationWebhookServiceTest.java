@@ -0,0 +1,124 @@
+package com.balanced.aggregation;
+
+import com.balanced.aggregation.config.AggregationProperties;
+import com.balanced.aggregation.enums.AggregationProvider;
+import com.balanced.aggregation.repository.BankWebhookEventRepository;
+import com.balanced.aggregation.service.AggregationWebhookService;
+import com.balanced.common.exception.AccessDeniedException;
+import com.balanced.common.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AggregationWebhookServiceTest {
+
+    private static final String TRANSACTIONS_PROCESSED = """
+            {"id": "wh_oiinn3vbmtnbnoolh6000", "type": "transactions.processed",
+             "timestamp": "2026-10-19T03:49:29Z",
+             "payload": {"enrollment_id": "enr_oiin624rqaojse22oe000",
+                         "transactions": [
+                             {"id": "txn_1", "account_id": "acc_1", "amount": "-12.50", "status": "posted"},
+                             {"id": "txn_2", "account_id": "acc_2", "amount": "-3.10", "status": "posted"},
+                             {"id": "txn_3", "account_id": "acc_1", "amount": "-7.00", "status": "pending"}]}}""";
+
+    private final BankWebhookEventRepository eventRepository = mock(BankWebhookEventRepository.class);
+    private final AggregationWebhookService service = new AggregationWebhookService(eventRepository,
+            new ObjectMapper(), new AggregationProperties("teller", null, null, null, null, null,
+                    new AggregationProperties.WebhookProperties(List.of("whsec_old", "whsec_new"),
+                            Duration.ofMinutes(5))));
+
+    @Test
+    void signedNotification_queuesTheAccountsItsTransactionsBelongTo() {
+        when(eventRepository.insert(any(), any(), any(), any())).thenReturn(true);
+
+        boolean queued = service.receive("teller", signed("whsec_new", Instant.now(), TRANSACTIONS_PROCESSED),
+                body(TRANSACTIONS_PROCESSED));
+
+        assertThat(queued).isTrue();
+        verify(eventRepository).insert(AggregationProvider.TELLER, "wh_oiinn3vbmtnbnoolh6000",
+                "enr_oiin624rqaojse22oe000", Set.of("acc_1", "acc_2"));
+    }
+
+    @Test
+    void signatureUnderAnyConfiguredSecret_isAccepted() {
+        service.receive("teller", signed("whsec_old", Instant.now(), TRANSACTIONS_PROCESSED),
+                body(TRANSACTIONS_PROCESSED));
+
+        verify(eventRepository).insert(any(), any(), any(), any());
+    }
+
+    @Test
+    void tamperedBodyOrUnknownSecret_isRejected() {
+        var headers = signed("whsec_new", Instant.now(), TRANSACTIONS_PROCESSED);
+        byte[] tampered = body(TRANSACTIONS_PROCESSED.replace("acc_2", "acc_9"));
+
+        assertThatThrownBy(() -> service.receive("teller", headers, tampered))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> service.receive("teller",
+                signed("whsec_other", Instant.now(), TRANSACTIONS_PROCESSED), body(TRANSACTIONS_PROCESSED)))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> service.receive("teller", new HttpHeaders(), body(TRANSACTIONS_PROCESSED)))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void signatureOutsideTolerance_isRejectedAsAReplay() {
+        var headers = signed("whsec_new", Instant.now().minus(Duration.ofMinutes(6)), TRANSACTIONS_PROCESSED);
+
+        assertThatThrownBy(() -> service.receive("teller", headers, body(TRANSACTIONS_PROCESSED)))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void otherEventTypes_areAcknowledgedWithoutQueueing() {
+        String test = """
+                {"id": "wh_test", "type": "webhook.test", "payload": {}}""";
+
+        boolean queued = service.receive("teller", signed("whsec_new", Instant.now(), test), body(test));
+
+        assertThat(queued).isFalse();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void otherProvider_hasNoEndpoint() {
+        assertThatThrownBy(() -> service.receive("plaid",
+                signed("whsec_new", Instant.now(), TRANSACTIONS_PROCESSED), body(TRANSACTIONS_PROCESSED)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static byte[] body(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Signs the body the way the provider does. */
+    private static HttpHeaders signed(String secret, Instant at, String json) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            long t = at.getEpochSecond();
+            String signature = HexFormat.of().formatHex(mac.doFinal(body(t + "." + json)));
+            var headers = new HttpHeaders();
+            headers.set("Teller-Signature", "t=%d,v1=%s".formatted(t, signature));
+            return headers;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.balanced.aggregation;
+
+import com.balanced.aggregation.config.AggregationProperties;
+import com.balanced.aggregation.dto.BankSyncJob;
+import com.balanced.aggregation.dto.SyncResult;
+import com.balanced.aggregation.dto.WebhookSyncBatch;
+import com.balanced.aggregation.repository.BankSyncJobRepository;
+import com.balanced.aggregation.repository.BankSyncJobRepository.ReadyStats;
+import com.balanced.aggregation.repository.BankWebhookEventRepository;
+import com.balanced.aggregation.service.AggregationService;
+import com.balanced.aggregation.service.BankSyncScheduler;
+import com.balanced.common.exception.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BankSyncSchedulerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private final BankSyncJobRepository jobRepository = mock(BankSyncJobRepository.class);
+    private final BankWebhookEventRepository webhookRepository = mock(BankWebhookEventRepository.class);
+    private final AggregationService aggregationService = mock(AggregationService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID workspaceId = UUID.randomUUID();
+    private BankSyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new AggregationProperties("teller", null, null, new AggregationProperties.SchedulerProperties(
+                Duration.ofHours(1), Duration.ofMinutes(10), 2, LEASE, Duration.ofHours(1)), null, null, null);
+        scheduler = new BankSyncScheduler(jobRepository, webhookRepository, aggregationService, properties,
+                meterRegistry);
+        when(jobRepository.readyStats()).thenReturn(new ReadyStats(3, 42.0));
+    }
+
+    @Test
+    void poll_claimsOnlyFreeWorkersAndCompletesSyncedJobs() {
+        UUID connectionId = UUID.randomUUID();
+        when(jobRepository.claim(anyString(), eq(2), eq(LEASE)))
+                .thenReturn(List.of(new BankSyncJob(connectionId, workspaceId, 0, Duration.ofSeconds(30))));
+        when(aggregationService.syncTransactions(connectionId, workspaceId)).thenReturn(new SyncResult(1, 0, 0, 1));
+
+        scheduler.poll();
+
+        verify(jobRepository, timeout(5000)).complete(anyString(), eq(connectionId));
+        assertThat(meterRegistry.get("balanced.aggregation.sync.queue.lag").timer().count()).isOne();
+        assertThat(meterRegistry.get("balanced.aggregation.sync.queue.ready").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("balanced.aggregation.sync.duration").tag("outcome", "success").timer().count())
+                .isOne();
+    }
+
+    @Test
+    void poll_failedSync_isRescheduledWithItsError() {
+        UUID connectionId = UUID.randomUUID();
+        when(jobRepository.claim(anyString(), eq(2), eq(LEASE)))
+                .thenReturn(List.of(new BankSyncJob(connectionId, workspaceId, 2, Duration.ZERO)));
+        when(aggregationService.syncTransactions(connectionId, workspaceId))
+                .thenThrow(new IllegalStateException("provider down"));
+
+        scheduler.poll();
+
+        verify(jobRepository, timeout(5000)).reschedule(anyString(), eq(connectionId), contains("provider down"),
+                eq(3600L));
+        verify(jobRepository, never()).complete(anyString(), any());
+        assertThat(meterRegistry.get("balanced.aggregation.sync.duration").tag("outcome", "failure").timer().count())
+                .isOne();
+    }
+
+    @Test
+    void syncNow_renewsItsLeaseWhileRunningAndCompletesTheJob() {
+        UUID connectionId = UUID.randomUUID();
+        when(jobRepository.lease(eq(connectionId), eq(workspaceId), anyString(), eq(LEASE))).thenReturn(true);
+        when(aggregationService.syncTransactions(connectionId, workspaceId)).thenAnswer(inv -> {
+            scheduler.poll();
+            return new SyncResult(0, 0, 0, 1);
+        });
+
+        scheduler.syncNow(connectionId, workspaceId);
+
+        verify(jobRepository).renew(anyString(), eq(Set.of(connectionId)), eq(LEASE));
+        verify(jobRepository).complete(anyString(), eq(connectionId));
+    }
+
+    @Test
+    void syncNow_leasedElsewhere_throwsConflictWithoutSyncing() {
+        UUID connectionId = UUID.randomUUID();
+        when(jobRepository.lease(eq(connectionId), eq(workspaceId), anyString(), eq(LEASE))).thenReturn(false);
+
+        assertThatThrownBy(() -> scheduler.syncNow(connectionId, workspaceId))
+                .isInstanceOf(ConflictException.class);
+        verify(aggregationService, never()).syncTransactions(any(), any());
+    }
+
+    @Test
+    void pollWebhooks_syncsTheNamedAccountsUnderTheLeaseAndKeepsTheJobQueued() {
+        UUID connectionId = UUID.randomUUID();
+        Set<String> accounts = Set.of("acc_1", "acc_2");
+        when(webhookRepository.findReady(2)).thenReturn(List.of(
+                new WebhookSyncBatch(connectionId, workspaceId, List.of(7L, 8L), accounts, Duration.ofSeconds(3))));
+        // A job queued by the lease is ready a full interval out
+        when(jobRepository.lease(eq(connectionId), eq(workspaceId), anyString(), eq(LEASE), eq(Duration.ofHours(1))))
+                .thenReturn(true);
+        when(aggregationService.syncAccounts(connectionId, workspaceId, accounts)).thenReturn(new SyncResult(2, 0, 0, 2));
+
+        scheduler.pollWebhooks();
+
+        verify(webhookRepository, timeout(5000)).delete(List.of(7L, 8L));
+        verify(jobRepository, timeout(5000)).release(anyString(), eq(connectionId));
+        verify(jobRepository, never()).complete(anyString(), any());
+        verify(aggregationService, never()).syncTransactions(any(), any());
+        assertThat(meterRegistry.get("balanced.aggregation.webhook.lag").timer().count()).isOne();
+    }
+
+    @Test
+    void pollWebhooks_connectionAlreadySyncing_leavesItsNotificationsQueued() {
+        UUID connectionId = UUID.randomUUID();
+        when(webhookRepository.findReady(2)).thenReturn(List.of(
+                new WebhookSyncBatch(connectionId, workspaceId, List.of(7L), Set.of("acc_1"), Duration.ZERO)));
+        when(jobRepository.lease(eq(connectionId), eq(workspaceId), anyString(), eq(LEASE), any())).thenReturn(false);
+
+        scheduler.pollWebhooks();
+
+        verify(aggregationService, never()).syncAccounts(any(), any(), any());
+        verify(webhookRepository, never()).delete(any());
+    }
+
+    @Test
+    void pollWebhooks_failedSync_reschedulesTheNotifications() {
+        UUID connectionId = UUID.randomUUID();
+        when(webhookRepository.findReady(2)).thenReturn(List.of(
+                new WebhookSyncBatch(connectionId, workspaceId, List.of(7L), Set.of("acc_1"), Duration.ZERO)));
+        when(jobRepository.lease(eq(connectionId), eq(workspaceId), anyString(), eq(LEASE), any())).thenReturn(true);
+        when(aggregationService.syncAccounts(any(), any(), any())).thenThrow(new IllegalStateException("provider down"));
+
+        scheduler.pollWebhooks();
+
+        verify(webhookRepository, timeout(5000)).reschedule(eq(List.of(7L)), contains("provider down"), eq(3600L));
+        verify(jobRepository, timeout(5000)).release(anyString(), eq(connectionId));
+        verify(webhookRepository, never()).delete(any());
+    }
+}
@@ -0,0 +1,111 @@
+package com.balanced.aggregation;
+
+import com.balanced.aggregation.client.ProviderCircuitBreaker;
+import com.balanced.aggregation.client.ProviderCircuitBreaker.ProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ProviderCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockRestServiceServer server;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl("https://teller.test")
+                .requestInterceptor(new ProviderCircuitBreaker("teller", 3, OPEN_DURATION, meterRegistry));
+        server = MockRestServiceServer.bindTo(builder).build();
+        restClient = builder.build();
+    }
+
+    @Test
+    void consecutiveFailures_openCircuitAndRejectWithoutCalling() {
+        server.expect(times(2), requestTo("https://teller.test/accounts"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo("https://teller.test/accounts"))
+                .andRespond(withException(new IOException("connection reset")));
+
+        assertThatThrownBy(this::getAccounts).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(this::getAccounts).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(this::getAccounts).isInstanceOf(ResourceAccessException.class);
+        assertThatThrownBy(this::getAccounts).isInstanceOf(ProviderUnavailableException.class);
+
+        server.verify();
+        assertThat(meterRegistry.get("balanced.aggregation.provider.circuit.open").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("balanced.aggregation.provider.circuit.rejected").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void successfulTrialAfterOpenDuration_closesCircuit() throws InterruptedException {
+        server.expect(times(3), requestTo("https://teller.test/accounts"))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        server.expect(times(2), requestTo("https://teller.test/accounts"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(this::getAccounts).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        Thread.sleep(OPEN_DURATION.plusMillis(50));
+        getAccounts();
+        getAccounts();
+
+        server.verify();
+        assertThat(meterRegistry.get("balanced.aggregation.provider.circuit.open").gauge().value()).isZero();
+    }
+
+    @Test
+    void failedTrial_reopensCircuit() throws InterruptedException {
+        server.expect(times(4), requestTo("https://teller.test/accounts"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(this::getAccounts).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        Thread.sleep(OPEN_DURATION.plusMillis(50));
+        assertThatThrownBy(this::getAccounts).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(this::getAccounts).isInstanceOf(ProviderUnavailableException.class);
+
+        server.verify();
+    }
+
+    @Test
+    void throttledResponses_doNotOpenCircuit() {
+        server.expect(times(5), requestTo("https://teller.test/accounts"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(this::getAccounts).isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        }
+
+        server.verify();
+        assertThat(meterRegistry.get("balanced.aggregation.provider.circuit.open").gauge().value()).isZero();
+    }
+
+    private void getAccounts() {
+        restClient.get().uri("/accounts").retrieve().toBodilessEntity();
+    }
+}
@@ -0,0 +1,56 @@
+package com.balanced.aggregation;
+
+import com.balanced.aggregation.client.ProviderRequestMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ProviderRequestMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MockRestServiceServer server;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder()
+                .baseUrl("https://teller.test")
+                .requestInterceptor(new ProviderRequestMetrics("teller", meterRegistry));
+        server = MockRestServiceServer.bindTo(builder).build();
+        restClient = builder.build();
+    }
+
+    @Test
+    void recordsOneSeriesPerEndpointWithIdsCollapsed() {
+        server.expect(times(2), requestTo(org.hamcrest.Matchers.startsWith("https://teller.test/accounts/")))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://teller.test/accounts"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        restClient.get().uri("/accounts/{id}/transactions?count=100", "acc_1a2b").retrieve().toBodilessEntity();
+        restClient.get().uri("/accounts/{id}/transactions?from_id=txn_9", "acc_3c4d").retrieve().toBodilessEntity();
+        assertThatThrownBy(() -> restClient.get().uri("/accounts").retrieve().toBodilessEntity())
+                .isInstanceOf(HttpServerErrorException.class);
+
+        Timer transactions = meterRegistry.get("balanced.aggregation.provider.requests")
+                .tags("provider", "teller", "method", "GET", "endpoint", "/accounts/{id}/transactions",
+                        "status", "200")
+                .timer();
+        assertThat(transactions.count()).isEqualTo(2);
+        assertThat(meterRegistry.get("balanced.aggregation.provider.requests")
+                .tags("endpoint", "/accounts", "status", "503").timer().count()).isOne();
+    }
+}
@@ -0,0 +1,199 @@
+package com.balanced.aggregation;
+
+import com.balanced.aggregation.client.RateLimitedAggregatorClient;
+import com.balanced.aggregation.client.TellerAggregatorClient;
+import com.balanced.aggregation.config.AggregationProperties.RateLimitProperties;
+import com.balanced.aggregation.dto.AggregatedAccount;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the Teller client behind the rate limiter against a local stub server that answers the first
+ * {@code throttledResponses} requests with 429.
+ */
+class RateLimitedAggregatorClientTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 31);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentLinkedQueue<String> requests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger throttledResponses = new AtomicInteger();
+    private volatile String retryAfter = "0";
+    private HttpServer server;
+    private TellerAggregatorClient teller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        teller = new TellerAggregatorClient(RestClient.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void getAccounts_throttled_waitsRetryAfterThenRetries() {
+        throttledResponses.set(1);
+        retryAfter = "1";
+
+        long begin = System.nanoTime();
+        List<AggregatedAccount> accounts = client(budget(100, 100, 4)).getAccounts("token");
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+        assertThat(accounts).singleElement().satisfies(account -> assertThat(account.externalId()).isEqualTo("acc_1"));
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(requests).hasSize(2);
+        assertThat(meterRegistry.get("balanced.aggregation.provider.throttled").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("balanced.aggregation.provider.retries").counter().count()).isEqualTo(1);
+        // The throttled response halved the provider rate
+        assertThat(meterRegistry.get("balanced.aggregation.provider.rate").gauge().value()).isLessThan(100);
+    }
+
+    @Test
+    void streamTransactions_throttledPage_resumesAfterLastDeliveredPage() {
+        RateLimitedAggregatorClient client = client(budget(100, 100, 4));
+        List<List<AggregatedTransaction>> pages;
+
+        try (Stream<List<AggregatedTransaction>> stream = client.streamTransactions("token", "acc_1", START, END,
+                null)) {
+            pages = stream.peek(page -> throttledResponses.set(1)).toList();
+        }
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.getFirst()).hasSize(100);
+        assertThat(pages.getLast()).singleElement()
+                .satisfies(txn -> assertThat(txn.externalId()).isEqualTo("txn_100"));
+        assertThat(requests).containsExactly(
+                "/accounts/acc_1/transactions?count=100&start_date=2026-01-01&end_date=2026-01-31",
+                "/accounts/acc_1/transactions?count=100&from_id=txn_99&start_date=2026-01-01&end_date=2026-01-31",
+                "/accounts/acc_1/transactions?count=100&from_id=txn_99&start_date=2026-01-01&end_date=2026-01-31");
+    }
+
+    @Test
+    void getAccounts_stillThrottledAfterMaxAttempts_rethrows() {
+        throttledResponses.set(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> client(budget(100, 100, 3)).getAccounts("token"))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    void getAccounts_retryAfterBeyondMaxDelay_failsWithoutWaiting() {
+        throttledResponses.set(1);
+        retryAfter = "3600";
+
+        long begin = System.nanoTime();
+        assertThatThrownBy(() -> client(budget(100, 100, 4)).getAccounts("token"))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - begin)).isLessThan(Duration.ofSeconds(5));
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void removeConnection_throttled_isNotRetried() {
+        RateLimitedAggregatorClient client = client(budget(100, 100, 4));
+        throttledResponses.set(1);
+
+        assertThatThrownBy(() -> client.removeConnection("token"))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void overBudget_callsQueueInsteadOfFailing() throws Exception {
+        // One request at once and five per second for the provider; six callers need over a second
+        RateLimitedAggregatorClient client = client(budget(5, 1, 4));
+
+        long begin = System.nanoTime();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<AggregatedAccount>>> results = IntStream.range(0, 6)
+                    .mapToObj(i -> callers.submit(() -> client.getAccounts("token_" + i)))
+                    .toList();
+            for (Future<List<AggregatedAccount>> result : results) {
+                assertThat(result.get()).hasSize(1);
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+        assertThat(requests).hasSize(6);
+        assertThat(meterRegistry.get("balanced.aggregation.provider.wait").timer().count()).isEqualTo(6);
+        assertThat(meterRegistry.get("balanced.aggregation.provider.queued").gauge().value()).isZero();
+    }
+
+    private RateLimitedAggregatorClient client(RateLimitProperties properties) {
+        return new RateLimitedAggregatorClient(teller, "teller", properties, meterRegistry);
+    }
+
+    private static RateLimitProperties budget(double providerRate, int providerBurst, int maxAttempts) {
+        return new RateLimitProperties(providerRate, providerBurst, 100, 100, maxAttempts, Duration.ofMillis(20),
+                Duration.ofSeconds(30));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String uri = exchange.getRequestURI().toString();
+        requests.add(uri);
+        if (throttledResponses.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            exchange.getResponseHeaders().add("Retry-After", retryAfter);
+            exchange.sendResponseHeaders(429, -1);
+            exchange.close();
+            return;
+        }
+        String body;
+        if (uri.startsWith("/accounts/acc_1/transactions")) {
+            int first = uri.contains("from_id=txn_99") ? 100 : 0;
+            int size = first == 0 ? 100 : 1;
+            body = IntStream.range(first, first + size)
+                    .mapToObj(i -> """
+                            {"id": "txn_%d", "account_id": "acc_1", "amount": "-1.50", "date": "2026-01-15",
+                             "description": "PURCHASE", "status": "posted", "type": "card_payment"}""".formatted(i))
+                    .collect(Collectors.joining(",", "[", "]"));
+        } else {
+            body = """
+                    [{"id": "acc_1", "enrollment_id": "enr_1", "name": "Checking", "type": "depository",
+                      "subtype": "checking", "currency": "USD", "last_four": "1234", "status": "open",
+                      "institution": {"id": "bank", "name": "Bank"}}]""";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
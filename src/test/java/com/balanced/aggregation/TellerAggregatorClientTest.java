@@ -0,0 +1,142 @@
+package com.balanced.aggregation;
+
+import com.balanced.aggregation.client.TellerAggregatorClient;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class TellerAggregatorClientTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 31);
+
+    private MockRestServiceServer server;
+    private TellerAggregatorClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://teller.test");
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new TellerAggregatorClient(builder.build());
+    }
+
+    @Test
+    void streamTransactions_followsCursorOnePagePerElement() {
+        expectPage(null, 0, 100);
+        expectPage("txn_99", 100, 1);
+
+        List<List<AggregatedTransaction>> pages;
+        try (Stream<List<AggregatedTransaction>> stream =
+                     client.streamTransactions("token", "acc_1", START, END, null)) {
+            pages = stream.toList();
+        }
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.getFirst()).hasSize(100);
+        assertThat(pages.getLast()).singleElement()
+                .satisfies(txn -> assertThat(txn.externalId()).isEqualTo("txn_100"));
+        server.verify();
+    }
+
+    @Test
+    void streamTransactions_requestsNextPageOnlyWhenConsumed() {
+        expectPage(null, 0, 100);
+
+        try (Stream<List<AggregatedTransaction>> stream =
+                     client.streamTransactions("token", "acc_1", START, END, null)) {
+            assertThat(stream.findFirst()).hasValueSatisfying(page -> assertThat(page).hasSize(100));
+        }
+
+        // A second request would fail as unexpected
+        server.verify();
+    }
+
+    @Test
+    void streamTransactions_resumesAfterCursor() {
+        expectPage("txn_99", 100, 1);
+
+        try (Stream<List<AggregatedTransaction>> stream =
+                     client.streamTransactions("token", "acc_1", START, END, "txn_99")) {
+            assertThat(stream.toList()).singleElement()
+                    .satisfies(page -> assertThat(page.getFirst().externalId()).isEqualTo("txn_100"));
+        }
+        server.verify();
+    }
+
+    @Test
+    void getTransactions_collectsEveryPage() {
+        expectPage(null, 0, 100);
+        expectPage("txn_99", 100, 0);
+
+        assertThat(client.getTransactions("token", "acc_1", START, END)).hasSize(100);
+        server.verify();
+    }
+
+    @Test
+    void getAccounts_bindsNestedInstitutionAndIgnoresUnknownFields() {
+        server.expect(once(), requestTo("https://teller.test/accounts"))
+                .andRespond(withSuccess("""
+                        [{"id": "acc_1", "enrollment_id": "enr_1", "name": "Checking", "type": "depository",
+                          "subtype": "checking", "currency": "USD", "last_four": "1234", "status": "open",
+                          "institution": {"id": "chase", "name": "Chase"},
+                          "links": {"self": "https://api.teller.io/accounts/acc_1"}}]""", MediaType.APPLICATION_JSON));
+
+        assertThat(client.getAccounts("token")).singleElement().satisfies(account -> {
+            assertThat(account.enrollmentId()).isEqualTo("enr_1");
+            assertThat(account.institutionName()).isEqualTo("Chase");
+            assertThat(account.institutionId()).isEqualTo("chase");
+            assertThat(account.lastFour()).isEqualTo("1234");
+        });
+        server.verify();
+    }
+
+    @Test
+    void streamTransactions_missingOptionalFields_keepPreviousDefaults() {
+        server.expect(once(), requestTo(org.hamcrest.Matchers.startsWith(
+                        "https://teller.test/accounts/acc_1/transactions")))
+                .andRespond(withSuccess("""
+                        [{"id": "txn_1", "account_id": "acc_1", "date": "2026-01-15", "description": "FEE",
+                          "status": "pending", "type": "fee", "running_balance": null,
+                          "details": {"processing_status": "complete"}}]""", MediaType.APPLICATION_JSON));
+
+        assertThat(client.getTransactions("token", "acc_1", START, END)).singleElement().satisfies(txn -> {
+            assertThat(txn.amount()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(txn.counterpartyName()).isNull();
+            assertThat(txn.date()).isEqualTo(LocalDate.of(2026, 1, 15));
+        });
+        server.verify();
+    }
+
+    private void expectPage(String fromId, int firstIndex, int size) {
+        var request = server.expect(once(), requestTo(org.hamcrest.Matchers.startsWith(
+                        "https://teller.test/accounts/acc_1/transactions")))
+                .andExpect(queryParam("count", "100"))
+                .andExpect(queryParam("start_date", START.toString()));
+        if (fromId != null) {
+            request = request.andExpect(queryParam("from_id", fromId));
+        }
+        String body = IntStream.range(firstIndex, firstIndex + size)
+                .mapToObj(i -> """
+                        {"id": "txn_%d", "account_id": "acc_1", "amount": "-1.50", "date": "2026-01-15",
+                         "description": "PURCHASE", "status": "posted", "type": "card_payment",
+                         "counterparty": {"name": "Store"}}""".formatted(i))
+                .collect(Collectors.joining(",", "[", "]"));
+        request.andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,187 @@
+package com.balanced.aggregation;
+
+import com.balanced.account.entity.Account;
+import com.balanced.account.enums.AccountType;
+import com.balanced.account.service.AccountService;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.balanced.aggregation.dto.SyncedTransaction;
+import com.balanced.aggregation.repository.TransactionSyncJdbcRepository;
+import com.balanced.aggregation.service.TransactionSyncWriter;
+import com.balanced.common.cache.ReferenceDataCache;
+import com.balanced.merchant.repository.MerchantJdbcRepository;
+import com.balanced.merchant.repository.MerchantJdbcRepository.MerchantIds;
+import com.balanced.transaction.enums.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSyncWriterTest {
+
+    @Mock private TransactionSyncJdbcRepository syncRepository;
+    @Mock private MerchantJdbcRepository merchantJdbcRepository;
+    @Mock private AccountService accountService;
+    @Mock private ReferenceDataCache referenceDataCache;
+    @Mock private AuditorAware<String> auditorAware;
+
+    @InjectMocks
+    private TransactionSyncWriter syncWriter;
+
+    private static final UUID WORKSPACE_ID = UUID.randomUUID();
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final UUID AMAZON_ID = UUID.randomUUID();
+    private static final UUID TARGET_ID = UUID.randomUUID();
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 15);
+
+    private final Account account = Account.builder().id(ACCOUNT_ID).type(AccountType.CASH).build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("user@test.com"));
+    }
+
+    @Test
+    void write_insertsNewAndUpdatesChangedRowsInOneBatchEach() {
+        UUID changedId = UUID.randomUUID();
+        when(merchantJdbcRepository.upsertMerchants(eq(WORKSPACE_ID), anyCollection(), eq("user@test.com")))
+                .thenReturn(new MerchantIds(Map.of("amazon", AMAZON_ID, "target", TARGET_ID), 1));
+        when(syncRepository.findByExternalIds(eq(WORKSPACE_ID), anyCollection())).thenReturn(List.of(
+                new SyncedTransaction(changedId, "txn_changed", ACCOUNT_ID, AMAZON_ID,
+                        new BigDecimal("-30.00"), DATE.minusDays(1).atStartOfDay(), TransactionStatus.PENDING, null),
+                new SyncedTransaction(UUID.randomUUID(), "txn_same", ACCOUNT_ID, TARGET_ID,
+                        new BigDecimal("-10.0000"), DATE.atStartOfDay(), TransactionStatus.POSTED, DATE.atStartOfDay())));
+
+        TransactionSyncWriter.PageResult result = syncWriter.write(WORKSPACE_ID, account, List.of(
+                transaction("txn_new", "-5.00", "Amazon", "pending"),
+                transaction("txn_changed", "-42.50", "Amazon", "posted"),
+                transaction("txn_same", "-10.00", "TARGET", "posted")));
+
+        assertThat(result).isEqualTo(new TransactionSyncWriter.PageResult(1, 1));
+
+        ArgumentCaptor<List<SyncedTransaction>> inserted = listCaptor();
+        verify(syncRepository).insertAll(eq(WORKSPACE_ID), inserted.capture(), eq("user@test.com"));
+        assertThat(inserted.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.externalId()).isEqualTo("txn_new");
+            assertThat(row.merchantId()).isEqualTo(AMAZON_ID);
+            assertThat(row.status()).isEqualTo(TransactionStatus.PENDING);
+            assertThat(row.postedAt()).isNull();
+        });
+
+        ArgumentCaptor<List<SyncedTransaction>> updated = listCaptor();
+        verify(syncRepository).updateAll(updated.capture(), eq("user@test.com"));
+        assertThat(updated.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.id()).isEqualTo(changedId);
+            assertThat(row.amount()).isEqualByComparingTo("-42.50");
+            assertThat(row.date()).isEqualTo(DATE.atStartOfDay());
+            assertThat(row.status()).isEqualTo(TransactionStatus.POSTED);
+            assertThat(row.postedAt()).isEqualTo(DATE.atStartOfDay());
+        });
+
+        // -5.00 for the new row and -12.50 for the changed one, applied once
+        verify(accountService).applyBalanceDelta(eq(ACCOUNT_ID), eq(new BigDecimal("-17.50")));
+        verify(referenceDataCache).invalidateMerchants(WORKSPACE_ID);
+    }
+
+    @Test
+    void removeMissing_deletesUnseenRowsAtOnceAndMovesBalanceOnce() {
+        UUID reversedId = UUID.randomUUID();
+        UUID droppedId = UUID.randomUUID();
+        LocalDate start = DATE.minusDays(10);
+        when(syncRepository.findIdsInWindow(ACCOUNT_ID, start, DATE)).thenReturn(Map.of(
+                "txn_kept", UUID.randomUUID(),
+                "txn_reversed", reversedId,
+                "txn_dropped", droppedId));
+        when(syncRepository.deleteAll(anyCollection()))
+                .thenReturn(new TransactionSyncJdbcRepository.RemovedTransactions(2, new BigDecimal("-25.00")));
+
+        int removed = syncWriter.removeMissing(account, start, DATE, Set.of("txn_kept", "txn_new"));
+
+        assertThat(removed).isEqualTo(2);
+        ArgumentCaptor<Collection<UUID>> deleted = ArgumentCaptor.captor();
+        verify(syncRepository).deleteAll(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(reversedId, droppedId);
+        verify(accountService).applyBalanceDelta(ACCOUNT_ID, new BigDecimal("25.00"));
+    }
+
+    @Test
+    void removeMissing_everyRowSeen_deletesNothing() {
+        LocalDate start = DATE.minusDays(10);
+        when(syncRepository.findIdsInWindow(ACCOUNT_ID, start, DATE))
+                .thenReturn(Map.of("txn_kept", UUID.randomUUID()));
+
+        assertThat(syncWriter.removeMissing(account, start, DATE, Set.of("txn_kept"))).isZero();
+        verify(syncRepository, never()).deleteAll(anyCollection());
+        verify(accountService, never()).applyBalanceDelta(any(), any());
+    }
+
+    @Test
+    void write_nothingChanged_writesNothing() {
+        when(merchantJdbcRepository.upsertMerchants(eq(WORKSPACE_ID), anyCollection(), any()))
+                .thenReturn(new MerchantIds(Map.of("amazon", AMAZON_ID), 0));
+        when(syncRepository.findByExternalIds(eq(WORKSPACE_ID), anyCollection())).thenReturn(List.of(
+                new SyncedTransaction(UUID.randomUUID(), "txn_same", ACCOUNT_ID, AMAZON_ID,
+                        new BigDecimal("-42.5"), DATE.atStartOfDay(), TransactionStatus.POSTED, DATE.atStartOfDay())));
+
+        TransactionSyncWriter.PageResult result = syncWriter.write(WORKSPACE_ID, account,
+                List.of(transaction("txn_same", "-42.50", "Amazon", "posted")));
+
+        assertThat(result).isEqualTo(new TransactionSyncWriter.PageResult(0, 0));
+        verify(syncRepository, never()).insertAll(any(), anyList(), any());
+        verify(syncRepository, never()).updateAll(anyList(), any());
+        verify(accountService, never()).applyBalanceDelta(any(), any());
+        verifyNoInteractions(referenceDataCache);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void write_resolvesEachMerchantOnceAndNegatesCreditAmounts() {
+        Account credit = Account.builder().id(ACCOUNT_ID).type(AccountType.CREDIT).build();
+        when(merchantJdbcRepository.upsertMerchants(eq(WORKSPACE_ID), anyCollection(), any()))
+                .thenReturn(new MerchantIds(Map.of("amazon", AMAZON_ID), 0));
+        when(syncRepository.findByExternalIds(eq(WORKSPACE_ID), anyCollection())).thenReturn(List.of());
+
+        syncWriter.write(WORKSPACE_ID, credit, List.of(
+                transaction("txn_1", "20.00", "Amazon", "posted"),
+                transaction("txn_2", "5.00", "AMAZON", "posted")));
+
+        ArgumentCaptor<Collection<String>> names = ArgumentCaptor.forClass(Collection.class);
+        verify(merchantJdbcRepository).upsertMerchants(eq(WORKSPACE_ID), names.capture(), any());
+        assertThat(names.getValue()).containsExactly("Amazon");
+        verify(accountService).applyBalanceDelta(eq(ACCOUNT_ID), eq(new BigDecimal("-25.00")));
+    }
+
+    private static AggregatedTransaction transaction(String externalId, String amount, String merchant, String status) {
+        return new AggregatedTransaction(externalId, "acc_001", new BigDecimal(amount), DATE,
+                "PURCHASE", merchant, "shopping", status, "card_payment");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<SyncedTransaction>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
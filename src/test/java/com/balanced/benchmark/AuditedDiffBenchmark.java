@@ -0,0 +1,159 @@
+package com.balanced.benchmark;
+
+import com.balanced.common.event.Audited;
+import com.balanced.common.event.AuditedDiffer;
+import com.balanced.common.event.FieldChange;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.enums.TransactionStatus;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link AuditedDiffer} with the reflective diff it replaced, on a {@link Transaction}
+ * with three tags: once where nothing changed (the common case for sync and bulk updates) and
+ * once where the status changed.
+ * <p>
+ * Not part of the regular suites; run explicitly with
+ * {@code ./mvnw test -Dtest=AuditedDiffBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditedDiffBenchmark {
+
+    private Transaction before;
+    private Transaction unchanged;
+    private Transaction statusChanged;
+    private AuditedDiffer differ;
+    private ReflectiveDiffer reflectiveDiffer;
+
+    @Setup
+    public void setUp() {
+        Set<UUID> tags = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        before = transaction(tags);
+        unchanged = transaction(tags);
+        statusChanged = transaction(tags);
+        statusChanged.setStatus(TransactionStatus.POSTED);
+        differ = AuditedDiffer.forClass(Transaction.class);
+        reflectiveDiffer = new ReflectiveDiffer(Transaction.class);
+    }
+
+    @Benchmark
+    public List<FieldChange> reflectiveUnchanged() {
+        return reflectiveDiffer.diff(before, unchanged);
+    }
+
+    @Benchmark
+    public List<FieldChange> generatedUnchanged() {
+        return differ.diff(before, unchanged, Map.of());
+    }
+
+    @Benchmark
+    public List<FieldChange> reflectiveStatusChanged() {
+        return reflectiveDiffer.diff(before, statusChanged);
+    }
+
+    @Benchmark
+    public List<FieldChange> generatedStatusChanged() {
+        return differ.diff(before, statusChanged, Map.of());
+    }
+
+    @Test
+    void compareReflectiveAndGeneratedDiff() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuditedDiffBenchmark.class.getName())
+                .build())
+                .run();
+    }
+
+    private static Transaction transaction(Set<UUID> tags) {
+        return Transaction.builder()
+                .accountId(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+                .merchantId(UUID.fromString("00000000-0000-0000-0000-000000000002"))
+                .categoryId(UUID.fromString("00000000-0000-0000-0000-000000000003"))
+                .date(LocalDateTime.of(2025, 7, 1, 0, 0))
+                .amount(new BigDecimal("-42.1000"))
+                .notes("Weekly groceries")
+                .tagIds(new HashSet<>(tags))
+                .build();
+    }
+
+    /**
+     * The diff as DomainEventPublisher did it before: {@link Field#get}, then every value
+     * normalised to a string, a stripped BigDecimal or a sorted list of strings.
+     */
+    static class ReflectiveDiffer {
+
+        private final List<Field> fields = new ArrayList<>();
+        private final List<String> displayNames = new ArrayList<>();
+
+        ReflectiveDiffer(Class<?> type) {
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    Audited annotation = field.getAnnotation(Audited.class);
+                    if (annotation != null) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                        displayNames.add(annotation.displayName().isEmpty() ? field.getName() : annotation.displayName());
+                    }
+                }
+            }
+        }
+
+        List<FieldChange> diff(Object oldEntity, Object newEntity) {
+            List<FieldChange> changes = new ArrayList<>();
+            for (int i = 0; i < fields.size(); i++) {
+                Object oldVal = read(fields.get(i), oldEntity);
+                Object newVal = read(fields.get(i), newEntity);
+                if (!Objects.equals(oldVal, newVal)) {
+                    changes.add(new FieldChange(displayNames.get(i), oldVal, newVal));
+                }
+            }
+            return changes;
+        }
+
+        private static Object read(Field field, Object entity) {
+            try {
+                return switch (field.get(entity)) {
+                    case null -> null;
+                    case BigDecimal bd -> bd.stripTrailingZeros();
+                    case Collection<?> collection -> collection.stream()
+                            .map(Object::toString)
+                            .sorted()
+                            .toList();
+                    case Object value -> value.toString();
+                };
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
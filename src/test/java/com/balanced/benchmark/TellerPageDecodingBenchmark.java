@@ -0,0 +1,159 @@
+package com.balanced.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.balanced.aggregation.client.TellerAggregatorClient;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Decodes a recorded 100-transaction Teller page through {@link RestClient}: bound to typed records
+ * by {@link TellerAggregatorClient}, and into {@code List<Map>} copied field by field as it was
+ * before. Run with the GC profiler; compare {@code gc.alloc.rate.norm} (bytes per page).
+ * <p>
+ * Not part of the regular suites; run explicitly with
+ * {@code ./mvnw test -Dtest=TellerPageDecodingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TellerPageDecodingBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 31);
+
+    private TellerAggregatorClient typedClient;
+    private RestClient restClient;
+
+    @Setup
+    public void setUp() {
+        // Keep the client's per-stream log lines out of the measurement
+        ((Logger) LoggerFactory.getLogger(TellerAggregatorClient.class)).setLevel(Level.WARN);
+        byte[] page = recordedPage().getBytes(StandardCharsets.UTF_8);
+        restClient = RestClient.builder()
+                .baseUrl("https://teller.test")
+                .requestFactory((uri, method) -> {
+                    var request = new MockClientHttpRequest(method, uri);
+                    var response = new MockClientHttpResponse(page, HttpStatus.OK);
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    request.setResponse(response);
+                    return request;
+                })
+                .build();
+        typedClient = new TellerAggregatorClient(restClient);
+    }
+
+    @Benchmark
+    public List<AggregatedTransaction> typedRecords() {
+        // A full page makes the client ask for the next one; taking the first keeps it to one request
+        try (var pages = typedClient.streamTransactions("token", "acc_1", START, END, null)) {
+            return pages.findFirst().orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public List<AggregatedTransaction> mapsAndStrings() {
+        List<Map<String, Object>> page = restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/accounts/{id}/transactions")
+                        .queryParam("count", 100)
+                        .queryParam("start_date", START.toString())
+                        .queryParam("end_date", END.toString())
+                        .build("acc_1"))
+                .headers(h -> h.setBasicAuth("token", ""))
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+        return page.stream().map(TellerPageDecodingBenchmark::mapTransaction).toList();
+    }
+
+    @Test
+    void compareTypedAndMapDecoding() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TellerPageDecodingBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    /** A page shaped like Teller's responses, including the fields the client does not read. */
+    private static String recordedPage() {
+        return IntStream.range(0, 100)
+                .mapToObj(i -> """
+                        {"id": "txn_oqa7cdh2ubad5ijmlq%03d", "account_id": "acc_oiin624kqjrg2mp2ea000",
+                         "amount": "-%d.%02d", "date": "2026-01-%02d", "description": "POS PURCHASE STORE #%d",
+                         "status": "posted", "type": "card_payment", "category": "shopping",
+                         "counterparty": {"name": "STORE %d", "type": "organization"},
+                         "running_balance": null,
+                         "details": {"processing_status": "complete", "category": "shopping",
+                                     "counterparty": {"name": "STORE %d", "type": "organization"}},
+                         "links": {"self": "https://api.teller.io/accounts/acc_oiin624kqjrg2mp2ea000/transactions/txn_oqa7cdh2ubad5ijmlq%03d",
+                                   "account": "https://api.teller.io/accounts/acc_oiin624kqjrg2mp2ea000"}}"""
+                        .formatted(i, i + 1, i % 100, i % 28 + 1, i, i, i, i))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    // Previous Map-based mapping, kept here for comparison
+
+    @SuppressWarnings("unchecked")
+    private static AggregatedTransaction mapTransaction(Map<String, Object> raw) {
+        Map<String, Object> counterparty = (Map<String, Object>) raw.getOrDefault("counterparty", Map.of());
+        return new AggregatedTransaction(
+                str(raw, "id"),
+                str(raw, "account_id"),
+                toBigDecimal(raw.get("amount")),
+                toLocalDate(raw.get("date")),
+                str(raw, "description"),
+                str(counterparty, "name"),
+                str(raw, "category"),
+                str(raw, "status"),
+                str(raw, "type")
+        );
+    }
+
+    private static String str(Map<String, Object> map, String key) {
+        Object val = map.get(key);
+        return val != null ? val.toString() : null;
+    }
+
+    private static BigDecimal toBigDecimal(Object val) {
+        if (val == null) return BigDecimal.ZERO;
+        return new BigDecimal(val.toString());
+    }
+
+    private static LocalDate toLocalDate(Object val) {
+        if (val == null) return null;
+        return LocalDate.parse(val.toString());
+    }
+}
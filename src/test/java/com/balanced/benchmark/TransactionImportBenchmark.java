@@ -0,0 +1,98 @@
+package com.balanced.benchmark;
+
+import com.balanced.integration.BaseIntegrationTest;
+import com.balanced.transaction.imports.entity.TransactionImport;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.repository.TransactionImportRepository;
+import com.balanced.transaction.imports.service.TransactionImportPipeline;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures import throughput in rows per second for a 1M-row CSV with 5,000 distinct merchants,
+ * a category on every other row and a tag on every tenth. The file is generated on disk and the
+ * pipeline is run synchronously, so the figure covers parsing, validation, merchant upserts,
+ * the batched inserts and the balance updates.
+ * <p>
+ * Not part of the regular suites; run explicitly with
+ * {@code ./mvnw test -Dtest=TransactionImportBenchmark}. {@code -Dbalanced.imports.batch-size=N}
+ * changes the chunk size.
+ */
+@Slf4j
+class TransactionImportBenchmark extends BaseIntegrationTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int MERCHANTS = 5_000;
+
+    @Autowired private TransactionImportPipeline importPipeline;
+    @Autowired private TransactionImportRepository importRepository;
+
+    @Value("${balanced.imports.batch-size}")
+    private int batchSize;
+
+    private UUID workspaceId;
+    private UUID accountId;
+    private Path file;
+
+    @BeforeEach
+    void seed() throws IOException {
+        var bootstrap = bootstrapUser("import-bench-%s@test.com".formatted(System.nanoTime()), "Bench", "User");
+        String token = (String) bootstrap.get("token");
+        workspaceId = UUID.fromString((String) bootstrap.get("workspaceId"));
+        accountId = UUID.fromString(createAccount(token, "Checking", "CASH", "CHECKING"));
+        createCategory(token, "Groceries", false);
+        createTag(token, "Imported");
+
+        file = Files.createTempFile("import-bench-", ".csv");
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("date,amount,merchant,category,tags,notes\n");
+            for (int i = 0; i < ROWS; i++) {
+                writer.write("%s,-%d.%02d,Merchant %d,%s,%s,row %d\n".formatted(
+                        start.plusDays(i % 3650), i % 500 + 1, i % 100, i % MERCHANTS,
+                        i % 2 == 0 ? "Groceries" : "", i % 10 == 0 ? "Imported" : "", i));
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void importOneMillionRows() throws IOException {
+        TransactionImport started = importRepository.save(TransactionImport.builder()
+                .workspaceId(workspaceId)
+                .accountId(accountId)
+                .format(ImportFormat.CSV)
+                .fileName(file.getFileName().toString())
+                .build());
+
+        long begin = System.nanoTime();
+        TransactionImport report;
+        try (InputStream in = Files.newInputStream(file)) {
+            report = importPipeline.run(started.getId(), in);
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        assertThat(report.getRowsImported()).isEqualTo(ROWS);
+        log.info("Transaction import, {} rows ({} MB), batch size {}", ROWS, Files.size(file) / (1024 * 1024), batchSize);
+        log.info("  {} s, {} rows/s, {} merchants created",
+                "%.1f".formatted(seconds), Math.round(ROWS / seconds), report.getMerchantsCreated());
+    }
+}
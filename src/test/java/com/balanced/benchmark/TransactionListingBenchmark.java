@@ -0,0 +1,99 @@
+package com.balanced.benchmark;
+
+import com.balanced.integration.BaseIntegrationTest;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.mapper.TransactionMapper;
+import com.balanced.transaction.repository.TransactionSpecifications;
+import com.balanced.transaction.service.TransactionService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares heap allocation and latency of the transaction listing for a narrow selection
+ * ({@code id date amount}) against the full entity path, on 250-row pages.
+ * <p>
+ * Not part of the regular suites; run explicitly with
+ * {@code ./mvnw test -Dtest=TransactionListingBenchmark}.
+ */
+@Slf4j
+class TransactionListingBenchmark extends BaseIntegrationTest {
+
+    private static final int ROWS = 5_000;
+    private static final int PAGE_SIZE = 250;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired private TransactionService transactionService;
+    @Autowired private TransactionMapper transactionMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Specification<Transaction> spec;
+
+    @BeforeEach
+    void seed() {
+        var bootstrap = bootstrapUser("bench-%s@test.com".formatted(System.nanoTime()), "Bench", "User");
+        String token = (String) bootstrap.get("token");
+        UUID workspaceId = UUID.fromString((String) bootstrap.get("workspaceId"));
+        UUID accountId = UUID.fromString(createAccount(token, "Checking", "CASH", "CHECKING"));
+        UUID merchantId = UUID.fromString(createMerchant(token, "Bench Store"));
+
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{workspaceId, accountId, merchantId,
+                    Timestamp.valueOf(base.plusHours(i)), BigDecimal.valueOf(-(i % 500) - 1, 2), "note " + i});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO transactions (workspace_id, account_id, merchant_id, date, amount, notes)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, rows);
+
+        spec = Specification.where(TransactionSpecifications.inWorkspace(workspaceId));
+    }
+
+    @Test
+    void narrowVersusFullSelection() {
+        Pageable pageable = PageRequest.of(3, PAGE_SIZE,
+                TransactionSpecifications.buildSort("date", Sort.Direction.DESC));
+
+        Result narrow = measure(() -> transactionService.listProjected(spec, pageable, Set.of("id", "date", "amount")));
+        Result full = measure(() -> transactionService.listAll(spec, pageable).map(transactionMapper::toDto));
+
+        log.info("Transaction listing, {} rows/page, {} iterations", PAGE_SIZE, MEASURED_ITERATIONS);
+        log.info("  narrow (id date amount): {} KB/op, {} us/op", narrow.kbPerOp(), narrow.microsPerOp());
+        log.info("  full entity + mapper:    {} KB/op, {} us/op", full.kbPerOp(), full.microsPerOp());
+    }
+
+    private Result measure(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) operation.get();
+
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) operation.get();
+        long elapsed = System.nanoTime() - start;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Result(bytes / MEASURED_ITERATIONS / 1024, elapsed / MEASURED_ITERATIONS / 1_000);
+    }
+
+    private record Result(long kbPerOp, long microsPerOp) {}
+}
@@ -0,0 +1,83 @@
+package com.balanced.benchmark;
+
+import com.balanced.account.entity.Account;
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.aggregation.dto.AggregatedTransaction;
+import com.balanced.aggregation.service.TransactionSyncWriter;
+import com.balanced.integration.BaseIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures bank sync for one account page of 5,000 provider transactions with 500 distinct
+ * merchants: a first sync that inserts every row, then a second one in which every row has
+ * posted and changed amount, so all of them are updated.
+ * <p>
+ * Not part of the regular suites; run explicitly with
+ * {@code ./mvnw test -Dtest=TransactionSyncBenchmark}.
+ */
+@Slf4j
+class TransactionSyncBenchmark extends BaseIntegrationTest {
+
+    private static final int ROWS = 5_000;
+    private static final int MERCHANTS = 500;
+
+    @Autowired private TransactionSyncWriter syncWriter;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private UUID workspaceId;
+    private Account account;
+
+    @BeforeEach
+    void seed() {
+        var bootstrap = bootstrapUser("sync-bench-%s@test.com".formatted(System.nanoTime()), "Bench", "User");
+        String token = (String) bootstrap.get("token");
+        workspaceId = UUID.fromString((String) bootstrap.get("workspaceId"));
+        account = accountRepository.findById(UUID.fromString(createAccount(token, "Checking", "CASH", "CHECKING")))
+                .orElseThrow();
+    }
+
+    @Test
+    void syncFiveThousandTransactions() {
+        long begin = System.nanoTime();
+        TransactionSyncWriter.PageResult first = sync(page("pending", "-10.00"));
+        double firstSeconds = (System.nanoTime() - begin) / 1e9;
+
+        begin = System.nanoTime();
+        TransactionSyncWriter.PageResult second = sync(page("posted", "-12.50"));
+        double secondSeconds = (System.nanoTime() - begin) / 1e9;
+
+        assertThat(first.added()).isEqualTo(ROWS);
+        assertThat(second.modified()).isEqualTo(ROWS);
+        log.info("Transaction sync, {} rows, {} merchants", ROWS, MERCHANTS);
+        log.info("  first sync (inserts):  {} s", "%.2f".formatted(firstSeconds));
+        log.info("  second sync (updates): {} s", "%.2f".formatted(secondSeconds));
+    }
+
+    private TransactionSyncWriter.PageResult sync(List<AggregatedTransaction> page) {
+        return transactionTemplate.execute(status -> syncWriter.write(workspaceId, account, page));
+    }
+
+    private static List<AggregatedTransaction> page(String status, String amount) {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<AggregatedTransaction> page = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            page.add(new AggregatedTransaction("txn_bench_%d".formatted(i), "acc_bench",
+                    new BigDecimal(amount), start.plusDays(i % 365), "PURCHASE %d".formatted(i),
+                    "Merchant %d".formatted(i % MERCHANTS), "shopping", status, "card_payment"));
+        }
+        return page;
+    }
+}
@@ -10,7 +10,6 @@ import com.balanced.budget.repository.BudgetCategoryConfigRepository;
 import com.balanced.budget.repository.BudgetPeriodEntryRepository;
 import com.balanced.budget.service.BudgetService;
 import com.balanced.budget.service.BudgetConfigService;
-import com.balanced.category.entity.Category;
 import com.balanced.category.repository.CategoryRepository;
 import com.balanced.category.service.CategoryService;
 import com.balanced.common.exception.BadRequestException;
@@ -31,6 +30,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,8 +53,6 @@ class BudgetConfigServiceTest {
 
         @Test
         void updateCategoryConfig_newConfig_creates() {
-            Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).build();
-            when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
             when(configRepository.findByBudgetIdAndCategoryId(budgetId, categoryId))
                     .thenReturn(Optional.empty());
             when(configRepository.save(any())).thenAnswer(inv -> {
@@ -73,7 +71,6 @@ class BudgetConfigServiceTest {
 
         @Test
         void updateCategoryConfig_existingConfig_updates() {
-            Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).build();
             BudgetCategoryConfig existing = BudgetCategoryConfig.builder()
                     .id(UUID.randomUUID())
                     .workspaceId(workspaceId)
@@ -82,7 +79,6 @@ class BudgetConfigServiceTest {
                     .rolloverType(RolloverType.NONE)
                     .build();
 
-            when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
             when(configRepository.findByBudgetIdAndCategoryId(budgetId, categoryId))
                     .thenReturn(Optional.of(existing));
             when(configRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -96,8 +92,7 @@ class BudgetConfigServiceTest {
 
         @Test
         void updateCategoryConfig_invalidCategory_throws() {
-            when(categoryService.getCategory(categoryId, workspaceId))
-                    .thenThrow(new ResourceNotFoundException("Category not found"));
+            doThrow(new ResourceNotFoundException("Category not found")).when(categoryService).validateCategory(categoryId, workspaceId);
 
             UpdateBudgetCategoryConfigInput dto = UpdateBudgetCategoryConfigInput.builder()
                     .rolloverType(RolloverType.SAME_CATEGORY).build();
@@ -115,8 +110,6 @@ class BudgetConfigServiceTest {
 
         @Test
         void setExpectedAmount_newEntry_creates() {
-            Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).build();
-            when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
             when(categoryRepository.existsByParentId(categoryId)).thenReturn(false);
             when(budgetService.findBudget(workspaceId, budgetId)).thenReturn(budget);
             when(entryRepository.findByBudgetIdAndCategoryIdAndPeriodStart(any(), any(), any()))
@@ -137,13 +130,11 @@ class BudgetConfigServiceTest {
 
         @Test
         void setExpectedAmount_existingEntry_updates() {
-            Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).build();
             BudgetPeriodEntry existing = BudgetPeriodEntry.builder()
                     .workspaceId(workspaceId).budgetId(budgetId).categoryId(categoryId)
                     .periodStart(LocalDate.of(2026, 2, 1))
                     .expectedAmount(new BigDecimal("200.00")).build();
 
-            when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
             when(categoryRepository.existsByParentId(categoryId)).thenReturn(false);
             when(budgetService.findBudget(workspaceId, budgetId)).thenReturn(budget);
             when(entryRepository.findByBudgetIdAndCategoryIdAndPeriodStart(any(), any(), any()))
@@ -162,8 +153,7 @@ class BudgetConfigServiceTest {
 
         @Test
         void setExpectedAmount_invalidCategory_throws() {
-            when(categoryService.getCategory(categoryId, workspaceId))
-                    .thenThrow(new ResourceNotFoundException("Category not found"));
+            doThrow(new ResourceNotFoundException("Category not found")).when(categoryService).validateCategory(categoryId, workspaceId);
 
             SetExpectedAmountInput dto = SetExpectedAmountInput.builder()
                     .expectedAmount(new BigDecimal("100")).build();
@@ -174,8 +164,6 @@ class BudgetConfigServiceTest {
 
         @Test
         void setExpectedAmount_nullAmount_clearsEntry() {
-            Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).build();
-            when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
             when(categoryRepository.existsByParentId(categoryId)).thenReturn(false);
             when(budgetService.findBudget(workspaceId, budgetId)).thenReturn(budget);
 
@@ -189,8 +177,6 @@ class BudgetConfigServiceTest {
 
         @Test
         void setExpectedAmount_misalignedPeriodStart_throws() {
-            Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).build();
-            when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
             when(categoryRepository.existsByParentId(categoryId)).thenReturn(false);
             when(budgetService.findBudget(workspaceId, budgetId)).thenReturn(budget);
 
@@ -205,8 +191,6 @@ class BudgetConfigServiceTest {
 
         @Test
         void setExpectedAmount_parentCategory_throws() {
-            Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).build();
-            when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
             when(categoryRepository.existsByParentId(categoryId)).thenReturn(true);
 
             SetExpectedAmountInput dto = SetExpectedAmountInput.builder()
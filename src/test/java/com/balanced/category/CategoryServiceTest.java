@@ -7,6 +7,8 @@ import com.balanced.category.entity.Category;
 import com.balanced.category.mapper.CategoryMapper;
 import com.balanced.category.repository.CategoryRepository;
 import com.balanced.category.service.CategoryService;
+import com.balanced.common.cache.CategoryTree;
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.enums.Status;
 import com.balanced.common.exception.BadRequestException;
 import com.balanced.common.exception.ResourceNotFoundException;
@@ -39,6 +41,9 @@ class CategoryServiceTest {
     @Mock
     private BudgetPeriodEntryRepository budgetPeriodEntryRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Spy
     private CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
 
@@ -57,6 +62,10 @@ class CategoryServiceTest {
                 .build();
     }
 
+    private void cacheCategories(Category... categories) {
+        when(referenceDataCache.categories(workspaceId)).thenReturn(CategoryTree.of(List.of(categories)));
+    }
+
     private List<Category> dummyList(int size) {
         return java.util.stream.IntStream.range(0, size)
                 .mapToObj(i -> Category.builder().id(UUID.randomUUID()).workspaceId(workspaceId)
@@ -128,6 +137,7 @@ class CategoryServiceTest {
         assertThat(result.isExcludeFromTotals()).isFalse();
         assertThat(result.getDisplayOrder()).isEqualTo(0);
         verify(budgetPeriodEntryRepository, never()).deleteByCategoryId(any());
+        verify(referenceDataCache).invalidateCategories(workspaceId);
     }
 
     @Test
@@ -624,6 +634,7 @@ class CategoryServiceTest {
         categoryService.deleteCategory(categoryId, workspaceId);
 
         verify(categoryRepository).delete(category);
+        verify(referenceDataCache).invalidateCategories(workspaceId);
     }
 
     @Test
@@ -639,29 +650,25 @@ class CategoryServiceTest {
 
     @Test
     void validateCategoryPolarity_positiveAmountWithIncomeCategory_passes() {
-        Category income = Category.builder().id(categoryId).workspaceId(workspaceId).name("Salary").income(true).build();
-        when(categoryRepository.findByIdAndWorkspaceId(categoryId, workspaceId)).thenReturn(Optional.of(income));
+        cacheCategories(Category.builder().id(categoryId).workspaceId(workspaceId).name("Salary").income(true).build());
         categoryService.validateCategoryPolarity(categoryId, new java.math.BigDecimal("100.00"), workspaceId);
     }
 
     @Test
     void validateCategoryPolarity_negativeAmountWithExpenseCategory_passes() {
-        Category expense = Category.builder().id(categoryId).workspaceId(workspaceId).name("Groceries").income(false).build();
-        when(categoryRepository.findByIdAndWorkspaceId(categoryId, workspaceId)).thenReturn(Optional.of(expense));
+        cacheCategories(Category.builder().id(categoryId).workspaceId(workspaceId).name("Groceries").income(false).build());
         categoryService.validateCategoryPolarity(categoryId, new java.math.BigDecimal("-50.00"), workspaceId);
     }
 
     @Test
     void validateCategoryPolarity_zeroAmountWithExpenseCategory_passes() {
-        Category expense = Category.builder().id(categoryId).workspaceId(workspaceId).name("Groceries").income(false).build();
-        when(categoryRepository.findByIdAndWorkspaceId(categoryId, workspaceId)).thenReturn(Optional.of(expense));
+        cacheCategories(Category.builder().id(categoryId).workspaceId(workspaceId).name("Groceries").income(false).build());
         categoryService.validateCategoryPolarity(categoryId, java.math.BigDecimal.ZERO, workspaceId);
     }
 
     @Test
     void validateCategoryPolarity_positiveAmountWithExpenseCategory_throws() {
-        Category expense = Category.builder().id(categoryId).workspaceId(workspaceId).name("Groceries").income(false).build();
-        when(categoryRepository.findByIdAndWorkspaceId(categoryId, workspaceId)).thenReturn(Optional.of(expense));
+        cacheCategories(Category.builder().id(categoryId).workspaceId(workspaceId).name("Groceries").income(false).build());
         assertThatThrownBy(() -> categoryService.validateCategoryPolarity(categoryId, new java.math.BigDecimal("100.00"), workspaceId))
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("income category");
@@ -669,13 +676,20 @@ class CategoryServiceTest {
 
     @Test
     void validateCategoryPolarity_negativeAmountWithIncomeCategory_throws() {
-        Category income = Category.builder().id(categoryId).workspaceId(workspaceId).name("Salary").income(true).build();
-        when(categoryRepository.findByIdAndWorkspaceId(categoryId, workspaceId)).thenReturn(Optional.of(income));
+        cacheCategories(Category.builder().id(categoryId).workspaceId(workspaceId).name("Salary").income(true).build());
         assertThatThrownBy(() -> categoryService.validateCategoryPolarity(categoryId, new java.math.BigDecimal("-50.00"), workspaceId))
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("expense category");
     }
 
+    @Test
+    void validateCategoryPolarity_unknownCategory_throwsNotFound() {
+        cacheCategories();
+        assertThatThrownBy(() -> categoryService.validateCategoryPolarity(categoryId, java.math.BigDecimal.ONE, workspaceId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category not found");
+    }
+
     @Test
     void validateCategoryPolarity_nullCategoryId_doesNothing() {
         categoryService.validateCategoryPolarity(null, new java.math.BigDecimal("100.00"), workspaceId);
@@ -686,26 +700,55 @@ class CategoryServiceTest {
         categoryService.validateCategoryPolarity(categoryId, null, workspaceId);
     }
 
+    // --- validateCategory ---
+
+    @Test
+    void validateCategory_cachedCategory_succeeds() {
+        cacheCategories(buildCategory("Food"));
+        categoryService.validateCategory(categoryId, workspaceId);
+        verify(categoryRepository, never()).findByIdAndWorkspaceId(any(), any());
+    }
+
+    @Test
+    void validateCategory_unknownCategory_throwsNotFound() {
+        cacheCategories();
+        assertThatThrownBy(() -> categoryService.validateCategory(categoryId, workspaceId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category not found");
+    }
+
+    @Test
+    void validateCategory_createdSinceTheSnapshot_reloadsTheTree() {
+        when(referenceDataCache.categories(workspaceId))
+                .thenReturn(CategoryTree.of(List.of()), CategoryTree.of(List.of(buildCategory("Food"))));
+        when(categoryRepository.existsByIdAndWorkspaceId(categoryId, workspaceId)).thenReturn(true);
+
+        categoryService.validateCategory(categoryId, workspaceId);
+
+        verify(referenceDataCache).invalidateCategories(workspaceId);
+    }
+
     // --- validateNotGroup ---
 
     @Test
     void validateNotGroup_leafCategory_succeeds() {
-        when(categoryRepository.existsByParentId(categoryId)).thenReturn(false);
-        categoryService.validateNotGroup(categoryId);
+        cacheCategories(buildCategory("Food"));
+        categoryService.validateNotGroup(categoryId, workspaceId);
     }
 
     @Test
     void validateNotGroup_groupCategory_throws() {
-        when(categoryRepository.existsByParentId(categoryId)).thenReturn(true);
-        assertThatThrownBy(() -> categoryService.validateNotGroup(categoryId))
+        cacheCategories(buildCategory("Food"),
+                Category.builder().id(UUID.randomUUID()).workspaceId(workspaceId).parentId(categoryId).name("Groceries").build());
+        assertThatThrownBy(() -> categoryService.validateNotGroup(categoryId, workspaceId))
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("parent category group");
     }
 
     @Test
     void validateNotGroup_nullCategoryId_doesNothing() {
-        categoryService.validateNotGroup(null);
-        verify(categoryRepository, never()).existsByParentId(any());
+        categoryService.validateNotGroup(null, workspaceId);
+        verify(referenceDataCache, never()).categories(any());
     }
 
     // --- moveCategory ---
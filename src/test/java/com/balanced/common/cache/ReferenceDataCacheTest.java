@@ -0,0 +1,109 @@
+package com.balanced.common.cache;
+
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.category.entity.Category;
+import com.balanced.category.repository.CategoryRepository;
+import com.balanced.merchant.repository.MerchantRepository;
+import com.balanced.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataCacheTest {
+
+    private final UUID workspaceId = UUID.randomUUID();
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReferenceDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReferenceDataCache(categoryRepository, mock(AccountRepository.class), tagRepository,
+                mock(MerchantRepository.class), meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void categories_loadOncePerWorkspaceAndRecordHitsAndMisses() {
+        UUID foodId = UUID.randomUUID();
+        UUID groceriesId = UUID.randomUUID();
+        when(categoryRepository.findAllByWorkspaceId(workspaceId)).thenReturn(List.of(
+                Category.builder().id(foodId).name("Food").build(),
+                Category.builder().id(groceriesId).parentId(foodId).name("Groceries").build()));
+
+        CategoryTree first = cache.categories(workspaceId);
+        CategoryTree second = cache.categories(workspaceId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.isGroup(foodId)).isTrue();
+        assertThat(first.isGroup(groceriesId)).isFalse();
+        assertThat(first.name(groceriesId)).isEqualTo("Groceries");
+        verify(categoryRepository).findAllByWorkspaceId(workspaceId);
+        assertThat(gets("categories", "miss")).isEqualTo(1);
+        assertThat(gets("categories", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_reloadsOnNextRead() {
+        UUID tagId = UUID.randomUUID();
+        when(tagRepository.findNamesByWorkspaceId(workspaceId)).thenReturn(List.of(), List.of(name(tagId, "Work")));
+
+        assertThat(cache.tagNames(workspaceId)).isEmpty();
+        cache.invalidateTags(workspaceId);
+
+        assertThat(cache.tagNames(workspaceId)).containsEntry(tagId, "Work");
+        verify(tagRepository, times(2)).findNamesByWorkspaceId(workspaceId);
+    }
+
+    @Test
+    void invalidate_inTransaction_dropsEntryAgainWhenTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(tagRepository.findNamesByWorkspaceId(workspaceId)).thenReturn(List.of());
+
+        cache.invalidateTags(workspaceId);
+        // Loaded again before the writing transaction finished
+        cache.tagNames(workspaceId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        cache.tagNames(workspaceId);
+
+        verify(tagRepository, times(2)).findNamesByWorkspaceId(workspaceId);
+    }
+
+    private double gets(String table, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "reference." + table).tag("result", result)
+                .functionCounter().count();
+    }
+
+    private static ReferenceName name(UUID id, String name) {
+        return new ReferenceName() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.balanced.common.datasource;
+
+import com.balanced.common.datasource.ReadReplicaRoutingDataSource.Route;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final UUID workspaceId = UUID.randomUUID();
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReadReplicaRoutingDataSource router;
+
+    @BeforeEach
+    void setUp() {
+        var stickiness = new ReplicaStickiness(Duration.ofSeconds(5), clock);
+        router = new ReadReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class),
+                stickiness, meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readWriteTransaction_routesToPrimary() {
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransaction_routesToReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(Route.REPLICA);
+        assertThat(routeCount("replica", "read-only")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyAfterCommittedWrite_staysOnPrimaryWithinWindow() {
+        authenticate(workspaceId);
+        router.determineCurrentLookupKey();
+        commit();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+        assertThat(routeCount("primary", "read-your-writes")).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(6));
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(Route.REPLICA);
+    }
+
+    @Test
+    void uncommittedWrite_doesNotPinWorkspace() {
+        authenticate(workspaceId);
+        router.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(Route.REPLICA);
+    }
+
+    @Test
+    void writeByOtherWorkspace_doesNotPinThisOne() {
+        authenticate(UUID.randomUUID());
+        router.determineCurrentLookupKey();
+        commit();
+
+        authenticate(workspaceId);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(Route.REPLICA);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private void authenticate(UUID workspace) {
+        Claims claims = mock(Claims.class);
+        when(claims.get("workspace_id", String.class)).thenReturn(workspace.toString());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(claims, null, List.of()));
+    }
+
+    private double routeCount(String pool, String reason) {
+        return meterRegistry.get("balanced.datasource.routes").tag("pool", pool).tag("reason", reason)
+                .counter().count();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
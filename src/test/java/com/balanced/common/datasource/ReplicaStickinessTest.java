@@ -0,0 +1,56 @@
+package com.balanced.common.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaStickinessTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final ReplicaStickiness stickiness = new ReplicaStickiness(Duration.ofSeconds(5), clock);
+
+    @Test
+    void workspacesThatNeverReadAgain_areEvictedOnceTheWindowPasses() {
+        UUID workspaceId = UUID.randomUUID();
+        stickiness.markWrite(workspaceId);
+        stickiness.markWrite(UUID.randomUUID());
+
+        assertThat(stickiness.isSticky(workspaceId)).isTrue();
+        assertThat(stickiness.trackedWorkspaces()).isEqualTo(2);
+
+        clock.advance(Duration.ofSeconds(6));
+
+        assertThat(stickiness.trackedWorkspaces()).isZero();
+        assertThat(stickiness.isSticky(workspaceId)).isFalse();
+    }
+
+    @Test
+    void anotherWrite_extendsTheWindow() {
+        UUID workspaceId = UUID.randomUUID();
+        stickiness.markWrite(workspaceId);
+        clock.advance(Duration.ofSeconds(4));
+        stickiness.markWrite(workspaceId);
+        clock.advance(Duration.ofSeconds(4));
+
+        assertThat(stickiness.isSticky(workspaceId)).isTrue();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
@@ -0,0 +1,68 @@
+package com.balanced.common.event;
+
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.enums.TransactionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditedDifferTest {
+
+    static class ListEntity {
+        @Audited List<String> labels;
+
+        ListEntity(List<String> labels) {
+            this.labels = labels;
+        }
+    }
+
+    @Test
+    void diff_entityWithGetters_readsThroughThem() {
+        UUID tag = UUID.randomUUID();
+        Transaction old = transaction(new BigDecimal("-12.50"), Set.of(tag));
+        Transaction updated = transaction(new BigDecimal("-12.5000"), Set.of(tag));
+        updated.setStatus(TransactionStatus.POSTED);
+
+        List<FieldChange> changes = AuditedDiffer.forClass(Transaction.class).diff(old, updated, Map.of());
+
+        assertThat(changes).containsExactly(new FieldChange("status", "PENDING", "POSTED"));
+    }
+
+    @Test
+    void diff_sameItemsInAnotherOrder_isUnchanged() {
+        List<FieldChange> changes = AuditedDiffer.forClass(ListEntity.class)
+                .diff(new ListEntity(List.of("b", "a")), new ListEntity(List.of("a", "b")), Map.of());
+
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void values_formatsOnlyNonNullFields() {
+        UUID tag = UUID.randomUUID();
+        Transaction transaction = transaction(new BigDecimal("-12.5000"), Set.of(tag));
+
+        List<FieldChange> changes = AuditedDiffer.forClass(Transaction.class)
+                .values(transaction, Map.of(tag.toString(), "Groceries"));
+
+        assertThat(changes).extracting(FieldChange::field)
+                .containsExactly("account", "merchant", "amount", "currency", "status", "tags");
+        assertThat(changes).extracting(FieldChange::newValue)
+                .contains(new BigDecimal("-12.5"), List.of("Groceries"));
+    }
+
+    private static Transaction transaction(BigDecimal amount, Set<UUID> tagIds) {
+        return Transaction.builder()
+                .accountId(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+                .merchantId(UUID.fromString("00000000-0000-0000-0000-000000000002"))
+                .amount(amount)
+                .tagIds(new HashSet<>(tagIds))
+                .build();
+    }
+}
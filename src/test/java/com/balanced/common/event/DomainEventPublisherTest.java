@@ -1,12 +1,12 @@
 package com.balanced.common.event;
 
+import com.balanced.common.outbox.Outbox;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -21,7 +21,7 @@ import static org.mockito.Mockito.*;
 class DomainEventPublisherTest {
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private Outbox outbox;
 
     @InjectMocks
     private DomainEventPublisher domainEventPublisher;
@@ -165,7 +165,7 @@ class DomainEventPublisherTest {
         domainEventPublisher.publish(TestAction.CREATED, entity);
 
         ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(eventPublisher).publishEvent(captor.capture());
+        verify(outbox).append(eq(ID), captor.capture());
         DomainEvent event = captor.getValue();
         assertThat(event.eventType()).isEqualTo("test.created");
         assertThat(event.entityId()).isEqualTo(ID);
@@ -180,7 +180,7 @@ class DomainEventPublisherTest {
 
         domainEventPublisher.publish(TestAction.UPDATED, entity, same);
 
-        verifyNoInteractions(eventPublisher);
+        verifyNoInteractions(outbox);
     }
 
     @Test
@@ -191,7 +191,7 @@ class DomainEventPublisherTest {
         domainEventPublisher.publish(TestAction.UPDATED, old, updated);
 
         ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(eventPublisher).publishEvent(captor.capture());
+        verify(outbox).append(eq(ID), captor.capture());
         DomainEvent event = captor.getValue();
         assertThat(event.eventType()).isEqualTo("test.updated");
         assertThat(event.changes()).hasSize(1);
@@ -208,7 +208,7 @@ class DomainEventPublisherTest {
                 List.of(new FieldChange("groupId", null, groupId.toString())));
 
         ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(eventPublisher).publishEvent(captor.capture());
+        verify(outbox).append(eq(ID), captor.capture());
         assertThat(captor.getValue().eventType()).isEqualTo("test.grouped");
         assertThat(captor.getValue().entityId()).isEqualTo(ID);
         assertThat(captor.getValue().workspaceId()).isEqualTo(WS);
@@ -223,7 +223,7 @@ class DomainEventPublisherTest {
         domainEventPublisher.publish(TestAction.CREATED, entity, resolver);
 
         ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(eventPublisher).publishEvent(captor.capture());
+        verify(outbox).append(eq(ID), captor.capture());
         FieldChange refChange = captor.getValue().changes().stream()
                 .filter(c -> c.field().equals("reference")).findFirst().orElseThrow();
         assertThat(refChange.newValue()).isEqualTo("My Reference");
@@ -242,10 +242,48 @@ class DomainEventPublisherTest {
         domainEventPublisher.publish(TestAction.UPDATED, old, updated, resolver);
 
         ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(eventPublisher).publishEvent(captor.capture());
+        verify(outbox).append(eq(ID), captor.capture());
         FieldChange refChange = captor.getValue().changes().getFirst();
         assertThat(refChange.field()).isEqualTo("reference");
         assertThat(refChange.oldValue()).isEqualTo("Old Reference");
         assertThat(refChange.newValue()).isEqualTo("New Reference");
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishAll_diff_appendsChangedEntitiesAsOneBatch() {
+        UUID otherId = UUID.randomUUID();
+        var old = List.of(
+                new TestEntity(ID, WS, "Coffee", new BigDecimal("4.50"), null, null, null),
+                new TestEntity(otherId, WS, "Rent", new BigDecimal("900"), null, null, null));
+        var updated = List.of(
+                new TestEntity(ID, WS, "Groceries", new BigDecimal("4.50"), null, null, null),
+                new TestEntity(otherId, WS, "Rent", new BigDecimal("900.00"), null, null, null));
+
+        domainEventPublisher.publishAll(TestAction.UPDATED, old, updated);
+
+        ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outbox).appendAll(captor.capture(), any());
+        verify(outbox, never()).append(any(), any());
+        assertThat(captor.getValue()).extracting(DomainEvent::entityId).containsExactly(ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishAll_explicitChanges_appendsOneEventPerEntityAsOneBatch() {
+        UUID otherId = UUID.randomUUID();
+        UUID groupId = UUID.randomUUID();
+        List<FieldChange> changes = List.of(new FieldChange("groupId", null, groupId.toString()));
+
+        domainEventPublisher.publishAll(TestAction.GROUPED, List.of(ID, otherId), WS, changes);
+
+        ArgumentCaptor<List<DomainEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outbox).appendAll(captor.capture(), any());
+        assertThat(captor.getValue()).extracting(DomainEvent::entityId).containsExactly(ID, otherId);
+        assertThat(captor.getValue()).allSatisfy(event -> {
+            assertThat(event.eventType()).isEqualTo("test.grouped");
+            assertThat(event.workspaceId()).isEqualTo(WS);
+            assertThat(event.changes()).isEqualTo(changes);
+        });
+    }
 }
@@ -0,0 +1,158 @@
+package com.balanced.common.outbox;
+
+import com.balanced.common.event.DomainEvent;
+import com.balanced.common.event.DomainEventBatch;
+import com.balanced.common.event.FieldChange;
+import com.balanced.common.outbox.OutboxRepository.BacklogStats;
+import com.balanced.workspace.membership.event.MembershipDeletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID workspaceId = UUID.randomUUID();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(outboxRepository, eventPublisher, objectMapper,
+                mock(PlatformTransactionManager.class), meterRegistry, 10, Duration.ofMinutes(5), 3, 2);
+    }
+
+    @Test
+    void dispatchBatch_deliversDomainEventsAsOneBatchAndDeletesThem() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        DomainEvent created = domainEvent(first, new FieldChange("amount", null, new BigDecimal("-42.1")));
+        DomainEvent updated = domainEvent(second, new FieldChange("notes", "a", "b"));
+        MembershipDeletedEvent membershipDeleted = new MembershipDeletedEvent(workspaceId, "corr-id");
+        List<OutboxMessage> messages = List.of(
+                message(1, first, created), message(2, workspaceId, membershipDeleted), message(3, second, updated));
+        when(outboxRepository.lockReady(10)).thenReturn(messages);
+        when(outboxRepository.findPendingIds(any())).thenReturn(Map.of(
+                first, List.of(1L), workspaceId, List.of(2L), second, List.of(3L)));
+
+        int delivered = dispatcher.dispatchBatch();
+
+        assertThat(delivered).isEqualTo(3);
+        verify(eventPublisher).publishEvent(membershipDeleted);
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(published.capture());
+        DomainEventBatch batch = (DomainEventBatch) published.getAllValues().getLast();
+        assertThat(batch.events()).containsExactly(created, updated);
+        assertThat(batch.events().getFirst().changes().getFirst().newValue()).isEqualTo(new BigDecimal("-42.1"));
+        verify(outboxRepository).deleteAll(List.of(1L, 2L, 3L));
+        assertThat(meterRegistry.get("balanced.outbox.dispatched").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void dispatchBatch_messageBehindOneHeldElsewhere_waits() throws Exception {
+        UUID aggregateId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        // Message 1 for the same aggregate is locked by another instance
+        when(outboxRepository.lockReady(10)).thenReturn(List.of(
+                message(2, aggregateId, domainEvent(aggregateId)), message(3, otherId, domainEvent(otherId))));
+        when(outboxRepository.findPendingIds(any())).thenReturn(Map.of(
+                aggregateId, List.of(1L, 2L), otherId, List.of(3L)));
+
+        int delivered = dispatcher.dispatchBatch();
+
+        assertThat(delivered).isEqualTo(1);
+        verify(outboxRepository).deleteAll(List.of(3L));
+    }
+
+    @Test
+    void dispatchBatch_failingListener_reschedulesOnlyTheFailingMessage() throws Exception {
+        UUID failingId = UUID.randomUUID();
+        OutboxMessage failing = message(1, failingId, new MembershipDeletedEvent(failingId, null));
+        when(outboxRepository.lockReady(10)).thenReturn(List.of(failing));
+        // Once rescheduled it is backing off and no longer ready
+        when(outboxRepository.lockReady(1)).thenReturn(List.of(failing), List.of());
+        when(outboxRepository.findPendingIds(any())).thenReturn(Map.of(failingId, List.of(1L)));
+        doThrow(new IllegalStateException("listener failed")).when(eventPublisher).publishEvent(any(Object.class));
+
+        int delivered = dispatcher.dispatchBatch();
+
+        assertThat(delivered).isZero();
+        verify(outboxRepository).reschedule(eq(1L), anyString(), eq(300L));
+        verify(outboxRepository, never()).deleteAll(any());
+        assertThat(meterRegistry.get("balanced.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatchBatch_messageOutOfAttempts_isParkedSoItsAggregateMovesOn() throws Exception {
+        UUID aggregateId = UUID.randomUUID();
+        OutboxMessage unreadable = new OutboxMessage(1, "com.balanced.RenamedEvent", aggregateId, "{}", 2);
+        when(outboxRepository.lockReady(10)).thenReturn(List.of(unreadable));
+        when(outboxRepository.lockReady(1)).thenReturn(List.of(unreadable), List.of());
+        when(outboxRepository.findPendingIds(any())).thenReturn(Map.of(aggregateId, List.of(1L)));
+
+        dispatcher.dispatchBatch();
+
+        verify(outboxRepository).park(eq(1L), contains("RenamedEvent"));
+        verify(outboxRepository, never()).reschedule(anyLong(), anyString(), anyLong());
+        assertThat(meterRegistry.get("balanced.outbox.parked").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void poll_exportsTheBacklog() {
+        when(outboxRepository.backlogStats()).thenReturn(new BacklogStats(42, 1, 7.5));
+
+        dispatcher.poll();
+
+        assertThat(meterRegistry.get("balanced.outbox.pending").gauge().value()).isEqualTo(42);
+        assertThat(meterRegistry.get("balanced.outbox.oldest").gauge().value()).isEqualTo(7.5);
+        assertThat(meterRegistry.get("balanced.outbox.parked.rows").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void poll_fullBatches_stopsAtTheCapSoOtherJobsGetTheSchedulerThread() throws Exception {
+        List<OutboxMessage> fullBatch = new ArrayList<>();
+        Map<UUID, List<Long>> pendingIds = new HashMap<>();
+        for (long id = 1; id <= 10; id++) {
+            UUID aggregateId = UUID.randomUUID();
+            fullBatch.add(message(id, aggregateId, domainEvent(aggregateId)));
+            pendingIds.put(aggregateId, List.of(id));
+        }
+        when(outboxRepository.backlogStats()).thenReturn(new BacklogStats(5000, 0, 60));
+        when(outboxRepository.lockReady(10)).thenReturn(fullBatch);
+        when(outboxRepository.findPendingIds(any())).thenReturn(pendingIds);
+
+        dispatcher.poll();
+
+        verify(outboxRepository, times(2)).lockReady(10);
+        assertThat(meterRegistry.get("balanced.outbox.dispatched").counter().count()).isEqualTo(20);
+    }
+
+    private DomainEvent domainEvent(UUID entityId, FieldChange... changes) {
+        return new DomainEvent("transaction", "updated", entityId, workspaceId, List.of(changes),
+                "user@test.com", LocalDateTime.of(2025, 7, 1, 12, 0));
+    }
+
+    private OutboxMessage message(long id, UUID aggregateId, Object event) throws Exception {
+        return new OutboxMessage(id, event.getClass().getName(), aggregateId, objectMapper.writeValueAsString(event), 0);
+    }
+}
@@ -2,10 +2,13 @@ package com.balanced.integration;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class AccountResponseGraphQLIT extends BaseIntegrationTest {
 
+    @Autowired private JdbcTemplate jdbcTemplate;
+
     private String token;
 
     @BeforeEach
@@ -131,6 +136,75 @@ class AccountResponseGraphQLIT extends BaseIntegrationTest {
         assertThat(accounts).isEmpty();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void balance_followsTransactionChanges() {
+        String accountId = createAccount(token, "Checking", "CASH", "CHECKING", "1000.00");
+
+        var created = graphqlData(token, """
+                mutation($input: CreateTransactionInput!) {
+                    createTransaction(input: $input) { id account { balance } }
+                }
+                """, Map.of("input", Map.of("accountId", accountId, "merchantName", "Kroger",
+                "date", "2025-07-01T00:00:00", "amount", "-40.00")));
+        var transaction = (Map<String, Object>) created.get("createTransaction");
+        String transactionId = (String) transaction.get("id");
+        assertThat(balanceOf(transaction)).isEqualByComparingTo("960.00");
+
+        createTransaction(token, accountId, "Payroll", "250.00");
+        assertThat(accountBalance(accountId)).isEqualByComparingTo("1210.00");
+
+        graphqlData(token, """
+                mutation($id: ID!) { updateTransaction(transactionId: $id, input: { amount: -100.00 }) { id } }
+                """, Map.of("id", transactionId));
+        assertThat(accountBalance(accountId)).isEqualByComparingTo("1150.00");
+
+        graphqlData(token, """
+                mutation($id: ID!, $input: UpdateAccountInput!) { updateAccount(accountId: $id, input: $input) { id } }
+                """, Map.of("id", accountId, "input", Map.of("startingBalance", "500.00")));
+        assertThat(accountBalance(accountId)).isEqualByComparingTo("650.00");
+
+        graphqlData(token, """
+                mutation($id: ID!) { deleteTransaction(transactionId: $id) }
+                """, Map.of("id", transactionId));
+        assertThat(accountBalance(accountId)).isEqualByComparingTo("750.00");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileAccountBalances_correctsDrift() {
+        String accountId = createAccount(token, "Savings", "CASH", "SAVINGS", "100.00");
+        createTransaction(token, accountId, "Interest", "5.00");
+        jdbcTemplate.update("UPDATE accounts SET balance = 90.00 WHERE id = ?::uuid", accountId);
+
+        var result = graphqlData(token, """
+                mutation { reconcileAccountBalances { accountId storedBalance expectedBalance drift } }
+                """);
+
+        var drifts = (List<Map<String, Object>>) result.get("reconcileAccountBalances");
+        assertThat(drifts).singleElement().satisfies(drift -> {
+            assertThat(drift.get("accountId")).isEqualTo(accountId);
+            assertThat(new BigDecimal(drift.get("drift").toString())).isEqualByComparingTo("-15.00");
+        });
+        assertThat(accountBalance(accountId)).isEqualByComparingTo("105.00");
+
+        var again = graphqlData(token, "mutation { reconcileAccountBalances { accountId } }");
+        assertThat((List<?>) again.get("reconcileAccountBalances")).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BigDecimal accountBalance(String accountId) {
+        var account = graphqlData(token, """
+                query($id: ID!) { account(accountId: $id) { balance } }
+                """, Map.of("id", accountId));
+        return new BigDecimal(((Map<String, Object>) account.get("account")).get("balance").toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private BigDecimal balanceOf(Map<String, Object> transaction) {
+        return new BigDecimal(((Map<String, Object>) transaction.get("account")).get("balance").toString());
+    }
+
     @Test
     void unauthenticated_returns401() {
         var response = restTemplate.exchange(
@@ -2,17 +2,22 @@ package com.balanced.integration;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AggregationGraphQLIT extends BaseIntegrationTest {
 
+    @Autowired private JdbcTemplate jdbcTemplate;
+
     private String token;
 
     @BeforeEach
@@ -137,6 +142,37 @@ class AggregationGraphQLIT extends BaseIntegrationTest {
         assertThat(secondAdded).isEqualTo(0);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void syncTransactions_removesTransactionsTheProviderNoLongerReturns() {
+        var linkData = graphqlData(token, """
+                mutation { linkBank(input: { accessToken: "token_removed" }) { id } }
+                """);
+        String connectionId = (String) ((Map<String, Object>) linkData.get("linkBank")).get("id");
+        graphqlData(token, """
+                mutation { syncTransactions(bankConnectionId: "%s") { transactionsAdded } }
+                """.formatted(connectionId));
+
+        // Pretend one imported transaction came from the provider under an id it has since dropped
+        UUID goneId = jdbcTemplate.queryForObject("""
+                UPDATE transactions SET external_id = 'txn_gone'
+                WHERE id = (SELECT t.id FROM transactions t JOIN accounts a ON a.id = t.account_id
+                            WHERE a.bank_connection_id = ?::uuid AND t.source = 'AUTOMATIC' LIMIT 1)
+                RETURNING id
+                """, UUID.class, connectionId);
+
+        var secondSync = graphqlData(token, """
+                mutation { syncTransactions(bankConnectionId: "%s") { transactionsAdded transactionsRemoved } }
+                """.formatted(connectionId));
+        var result = (Map<String, Object>) secondSync.get("syncTransactions");
+
+        assertThat((Integer) result.get("transactionsRemoved")).isEqualTo(1);
+        // The provider's transaction comes back under its real id
+        assertThat((Integer) result.get("transactionsAdded")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM transactions WHERE id = ?",
+                Integer.class, goneId)).isZero();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void unlinkBank_closesConnectionAndConvertsAccounts() {
@@ -0,0 +1,139 @@
+package com.balanced.integration;
+
+import com.balanced.aggregation.service.BankSyncScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Stands in for the provider: posts recorded webhook payloads, signed with the integration
+ * profile's secret, and lets the scheduler sync what they name.
+ */
+class AggregationWebhookIT extends BaseIntegrationTest {
+
+    private static final String SIGNING_SECRET = "whsec_integration_test";
+
+    /** A recorded {@code transactions.processed} notification; the ids are filled in per test. */
+    private static final String TRANSACTIONS_PROCESSED = """
+            {"id": "%s", "type": "transactions.processed", "timestamp": "2026-10-19T03:49:29Z",
+             "payload": {"enrollment_id": "%s",
+                         "transactions": [
+                             {"id": "txn_acc_mock_002_001", "account_id": "acc_mock_002", "amount": "-42.34",
+                              "date": "2026-10-18", "description": "AMAZON MKTPLACE PMTS", "status": "posted",
+                              "type": "card_payment", "running_balance": null,
+                              "details": {"category": "shopping", "processing_status": "complete",
+                                          "counterparty": {"name": "Amazon", "type": "organization"}},
+                              "links": {"self": "https://api.teller.io/accounts/acc_mock_002/transactions/txn_acc_mock_002_001",
+                                        "account": "https://api.teller.io/accounts/acc_mock_002"}}]}}""";
+
+    @Autowired private BankSyncScheduler scheduler;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private UUID workspaceId;
+    private UUID connectionId;
+    private String enrollmentId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        var bootstrap = bootstrapUser("webhook-%s@test.com".formatted(System.nanoTime()), "Web", "Hook");
+        String token = (String) bootstrap.get("token");
+        workspaceId = UUID.fromString((String) bootstrap.get("workspaceId"));
+        var linkData = graphqlData(token, """
+                mutation { linkBank(input: { accessToken: "token_webhook" }) { id } }
+                """);
+        connectionId = UUID.fromString((String) ((Map<String, Object>) linkData.get("linkBank")).get("id"));
+        // Every mock connection shares one enrollment; give this one its own
+        enrollmentId = "enr_webhook_%s".formatted(System.nanoTime());
+        jdbcTemplate.update("UPDATE bank_connections SET enrollment_id = ? WHERE id = ?", enrollmentId, connectionId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM bank_sync_jobs WHERE bank_connection_id = ?", connectionId);
+        jdbcTemplate.update("DELETE FROM bank_webhook_events WHERE enrollment_id = ?", enrollmentId);
+    }
+
+    @Test
+    void transactionsProcessed_isQueuedOnceAndSyncsOnlyTheNamedAccount() {
+        String payload = TRANSACTIONS_PROCESSED.formatted("wh_%s".formatted(System.nanoTime()), enrollmentId);
+
+        assertThat(post(payload, SIGNING_SECRET).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        // Providers redeliver until acknowledged
+        assertThat(post(payload, SIGNING_SECRET).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(queuedEvents()).isOne();
+
+        scheduler.pollWebhooks();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(queuedEvents()).isZero());
+        assertThat(syncedTransactions("acc_mock_002")).isGreaterThan(0);
+        assertThat(syncedTransactions("acc_mock_001")).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_synced_at IS NULL FROM bank_connections WHERE id = ?", Boolean.class, connectionId))
+                .isTrue();
+        // The lease left a job for the connection's next full sync, a scheduler interval out
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT locked_by IS NULL AND available_at > CURRENT_TIMESTAMP + interval '30 minutes'
+                FROM bank_sync_jobs WHERE bank_connection_id = ?
+                """, Boolean.class, connectionId)).isTrue();
+    }
+
+    @Test
+    void invalidSignature_isRejectedAndNothingIsQueued() {
+        String payload = TRANSACTIONS_PROCESSED.formatted("wh_%s".formatted(System.nanoTime()), enrollmentId);
+
+        assertThat(post(payload, "whsec_wrong").getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(queuedEvents()).isZero();
+    }
+
+    private ResponseEntity<String> post(String payload, String secret) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Teller-Signature", signature(secret, payload));
+        return restTemplate.postForEntity("/api/v1/aggregation/webhooks/teller",
+                new HttpEntity<>(payload.getBytes(StandardCharsets.UTF_8), headers), String.class);
+    }
+
+    private static String signature(String secret, String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            long t = Instant.now().getEpochSecond();
+            return "t=%d,v1=%s".formatted(t,
+                    HexFormat.of().formatHex(mac.doFinal((t + "." + payload).getBytes(StandardCharsets.UTF_8))));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int queuedEvents() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM bank_webhook_events WHERE enrollment_id = ?",
+                Integer.class, enrollmentId);
+    }
+
+    private int syncedTransactions(String externalAccountId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM transactions t JOIN accounts a ON a.id = t.account_id
+                WHERE a.workspace_id = ? AND a.external_id = ?
+                """, Integer.class, workspaceId, externalAccountId);
+    }
+}
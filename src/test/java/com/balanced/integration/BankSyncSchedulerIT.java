@@ -0,0 +1,139 @@
+package com.balanced.integration;
+
+import com.balanced.aggregation.dto.BankSyncJob;
+import com.balanced.aggregation.repository.BankSyncJobRepository;
+import com.balanced.aggregation.service.BankSyncScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class BankSyncSchedulerIT extends BaseIntegrationTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Autowired private BankSyncScheduler scheduler;
+    @Autowired private BankSyncJobRepository jobRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private String token;
+    private UUID workspaceId;
+    private UUID connectionId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        var bootstrap = bootstrapUser("sync-jobs-%s@test.com".formatted(System.nanoTime()), "Sync", "Jobs");
+        token = (String) bootstrap.get("token");
+        workspaceId = UUID.fromString((String) bootstrap.get("workspaceId"));
+        var linkData = graphqlData(token, """
+                mutation { linkBank(input: { accessToken: "token_jobs" }) { id } }
+                """);
+        connectionId = UUID.fromString((String) ((Map<String, Object>) linkData.get("linkBank")).get("id"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM bank_sync_jobs WHERE bank_connection_id = ?", connectionId);
+    }
+
+    @Test
+    void enqueueActive_queuesConnectionsNotSyncedRecently() {
+        var rollback = new TransactionTemplate(transactionManager);
+        rollback.executeWithoutResult(status -> {
+            jobRepository.enqueueActive(Duration.ofMinutes(10), Duration.ofHours(1));
+            List<Map<String, Object>> queued = jdbcTemplate.queryForList(
+                    "SELECT available_at > CURRENT_TIMESTAMP - interval '1 second' AS jittered FROM bank_sync_jobs "
+                            + "WHERE bank_connection_id = ?", connectionId);
+            assertThat(queued).singleElement().satisfies(row -> assertThat(row.get("jittered")).isEqualTo(true));
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void poll_claimsReadyJobAndSyncsItInTheBackground() {
+        insertReadyJob();
+
+        scheduler.poll();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(jobCount()).isZero();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT last_synced_at IS NOT NULL FROM bank_connections WHERE id = ?", Boolean.class, connectionId))
+                    .isTrue();
+        });
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM transactions WHERE workspace_id = ?", Integer.class, workspaceId))
+                .isGreaterThan(0);
+    }
+
+    @Test
+    void claim_leasesJobToOneWorkerOnly() {
+        insertReadyJob();
+
+        List<BankSyncJob> first = jobRepository.claim("worker-a", 100, LEASE);
+        List<BankSyncJob> second = jobRepository.claim("worker-b", 100, LEASE);
+
+        assertThat(first).extracting(BankSyncJob::bankConnectionId).contains(connectionId);
+        assertThat(second).extracting(BankSyncJob::bankConnectionId).doesNotContain(connectionId);
+        assertThat(jobRepository.lease(connectionId, workspaceId, "worker-b", LEASE)).isFalse();
+
+        // Only the lease holder can finish the job
+        jobRepository.complete("worker-b", connectionId);
+        assertThat(jobCount()).isOne();
+        jobRepository.complete("worker-a", connectionId);
+        assertThat(jobCount()).isZero();
+    }
+
+    @Test
+    void reschedule_releasesLeaseAndBacksOff() {
+        insertReadyJob();
+        jobRepository.claim("worker-a", 100, LEASE);
+
+        jobRepository.reschedule("worker-a", connectionId, "boom", 3600);
+
+        Map<String, Object> job = jdbcTemplate.queryForMap("""
+                SELECT attempts, locked_by, last_error, available_at > CURRENT_TIMESTAMP AS backing_off
+                FROM bank_sync_jobs WHERE bank_connection_id = ?
+                """, connectionId);
+        assertThat(job).containsEntry("attempts", 1)
+                .containsEntry("last_error", "boom")
+                .containsEntry("backing_off", true);
+        assertThat(job.get("locked_by")).isNull();
+        assertThat(jobRepository.claim("worker-b", 100, LEASE))
+                .extracting(BankSyncJob::bankConnectionId).doesNotContain(connectionId);
+    }
+
+    @Test
+    void syncNow_whileLeasedElsewhere_isRejected() {
+        jobRepository.lease(connectionId, workspaceId, "other-instance", LEASE);
+
+        var response = graphql(token, """
+                mutation { syncTransactions(bankConnectionId: "%s") { transactionsAdded } }
+                """.formatted(connectionId));
+
+        assertThat(response.get("errors")).asString().contains("A sync is already running");
+    }
+
+    private void insertReadyJob() {
+        jdbcTemplate.update("INSERT INTO bank_sync_jobs (bank_connection_id, workspace_id) VALUES (?, ?)",
+                connectionId, workspaceId);
+    }
+
+    private int jobCount() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM bank_sync_jobs WHERE bank_connection_id = ?",
+                Integer.class, connectionId);
+    }
+}
@@ -109,7 +109,7 @@ class CorrelationIdIT extends BaseIntegrationTest {
 
             // Wait for async cleanup and verify the correlation ID made it to the log
             await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-                assertThat(workspaceRepository.findById(UUID.fromString(workspaceId))).isEmpty();
+                assertThat(workspaceRepository.existsById(UUID.fromString(workspaceId))).isFalse();
                 assertThat(testAppender.events).anyMatch(event ->
                         correlationId.equals(event.getMDCPropertyMap().get("correlationId"))
                                 && event.getFormattedMessage().contains("Deleting orphaned workspace"));
@@ -0,0 +1,349 @@
+package com.balanced.integration;
+
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.enums.TransactionStatus;
+import com.balanced.transaction.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.balanced.transaction.repository.TransactionSpecifications.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan-regression suite for the transaction access paths. Seeds a multi-workspace dataset large
+ * enough for the planner to prefer indexes, captures the SQL Hibernate actually issues for each
+ * hot query, and fails if a generic plan sequentially scans the transactions table or stops using
+ * the index intended for that access path. The dataset is deleted again afterwards so that later
+ * suites sharing the database see neither its rows nor its planner statistics.
+ */
+class QueryPlanIT extends BaseIntegrationTest {
+
+    private static final int WORKSPACES = 200;
+    private static final int TRANSACTIONS_PER_WORKSPACE = 1_000;
+    private static final String GUARDED_TABLE = "transactions";
+
+    private static final List<String> captured = new CopyOnWriteArrayList<>();
+    private static boolean seeded;
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                captured.add(sql);
+                return sql;
+            });
+        }
+    }
+
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private DataSourceProperties dataSourceProperties;
+
+    private UUID workspaceId;
+    private UUID accountId;
+    private UUID merchantId;
+    private UUID categoryId;
+    private UUID tagId;
+    private UUID groupId;
+    private UUID budgetId;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            seedDataset();
+            seeded = true;
+        }
+        workspaceId = jdbcTemplate.queryForObject(
+                "SELECT id FROM workspaces WHERE name = 'plan-ws-42'", UUID.class);
+        accountId = first("SELECT id FROM accounts WHERE workspace_id = ?");
+        merchantId = first("SELECT id FROM merchants WHERE workspace_id = ?");
+        categoryId = first("SELECT id FROM categories WHERE workspace_id = ?");
+        tagId = first("SELECT id FROM tags WHERE workspace_id = ?");
+        groupId = first("SELECT id FROM transaction_groups WHERE workspace_id = ?");
+        budgetId = first("SELECT id FROM budgets WHERE workspace_id = ?");
+    }
+
+    @AfterAll
+    static void dropDataset(@Autowired JdbcTemplate jdbcTemplate) {
+        if (!seeded) return;
+        // Every workspace-owned table cascades from workspaces
+        jdbcTemplate.update("DELETE FROM workspaces WHERE name LIKE 'plan-ws-%'");
+        jdbcTemplate.execute("VACUUM ANALYZE");
+        seeded = false;
+    }
+
+    // --- Listing filters ---
+
+    @Test
+    void listing_defaultSort_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId)), "idx_transactions_date");
+    }
+
+    @Test
+    void listing_byAccount_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId).and(hasAccount(accountId))),
+                "idx_transactions_account_date");
+    }
+
+    @Test
+    void listing_byMerchant_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId).and(hasMerchant(merchantId))),
+                "idx_transactions_merchant_date");
+    }
+
+    @Test
+    void listing_byCategory_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId).and(hasCategory(categoryId))),
+                "idx_transactions_category_account_date");
+    }
+
+    @Test
+    void listing_byStatus_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId).and(hasStatus(TransactionStatus.PENDING))),
+                "idx_transactions_workspace_status_date");
+    }
+
+    @Test
+    void listing_byDateRange_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId)
+                .and(dateOnOrAfter(LocalDateTime.of(2021, 1, 1, 0, 0)))
+                .and(dateOnOrBefore(LocalDateTime.of(2021, 3, 31, 23, 59)))),
+                "idx_transactions_date");
+    }
+
+    @Test
+    void listing_byTags_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId).and(hasAnyTag(Set.of(tagId, UUID.randomUUID())))),
+                "idx_transactions_tag_ids");
+    }
+
+    @Test
+    void listing_combinedFilters_usesIndex() {
+        assertIndexed(() -> listPage(inWorkspace(workspaceId)
+                .and(hasAccount(accountId))
+                .and(hasCategory(categoryId))
+                .and(hasStatus(TransactionStatus.POSTED))
+                .and(dateOnOrAfter(LocalDateTime.of(2020, 6, 1, 0, 0)))
+                .and(amountLessThanOrEqual(BigDecimal.ZERO))),
+                "idx_transactions_category_account_date");
+    }
+
+    @Test
+    void listing_searchAndRelatedSort_usesIndex() {
+        assertIndexed(() -> transactionRepository.findAll(
+                inWorkspace(workspaceId).and(searchText("coffee")).and(sortByRelatedName("merchant", Sort.Direction.ASC)),
+                PageRequest.of(0, 25)), "idx_transactions_date");
+    }
+
+    // --- Budget sums ---
+
+    @Test
+    void budgetCategorySum_usesIndex() {
+        assertIndexed(() -> transactionRepository.sumAmountByBudgetIdAndCategoryIdAndDateBetween(
+                budgetId, categoryId, LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 1, 31, 23, 59)),
+                "idx_transactions_category_account_date");
+    }
+
+    @Test
+    void budgetUncategorizedSums_useIndex() {
+        LocalDateTime start = LocalDateTime.of(2021, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2021, 1, 31, 23, 59);
+        assertIndexed(() -> {
+            transactionRepository.sumPositiveUncategorizedByBudgetIdAndDateBetween(budgetId, start, end);
+            transactionRepository.sumNegativeUncategorizedByBudgetIdAndDateBetween(budgetId, start, end);
+        }, "idx_transactions_uncategorized_account_date");
+    }
+
+    // --- Point lookups and maintenance ---
+
+    @Test
+    void balanceDriftCheck_usesIndex() {
+        assertIndexed(() -> accountRepository.findBalanceDriftByWorkspaceId(workspaceId),
+                "idx_transactions_account_date");
+    }
+
+    @Test
+    void recurringItemRange_usesIndex() {
+        assertIndexed(() -> transactionRepository.findLinkedToRecurringItemsInDateRange(
+                workspaceId, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 1, 31)),
+                "idx_transactions_recurring_occurrence");
+    }
+
+    @Test
+    void groupAndSplitLookups_useIndex() {
+        assertIndexed(() -> {
+            transactionRepository.findAllByGroupIdAndWorkspaceId(groupId, workspaceId);
+            transactionRepository.countByGroupId(groupId);
+            transactionRepository.findAllBySplitIdAndWorkspaceId(UUID.randomUUID(), workspaceId);
+            inTransaction(() -> transactionRepository.clearGroupId(UUID.randomUUID()));
+        }, "idx_transactions_group_id", "idx_transactions_split_id");
+    }
+
+    @Test
+    void externalIdLookup_usesIndex() {
+        assertIndexed(() -> transactionRepository.findByExternalIdAndWorkspaceId("ext-missing", workspaceId),
+                "idx_transactions_external_id");
+    }
+
+    // --- Harness ---
+
+    private void listPage(Specification<Transaction> spec) {
+        Pageable pageable = PageRequest.of(2, 25, buildSort("date", Sort.Direction.DESC));
+        transactionRepository.findAll(spec, pageable);
+    }
+
+    /**
+     * Runs the operation and checks the generic plan of every statement it issued against the
+     * transaction tables: none may sequentially scan them, and each expected index must be used
+     * by at least one of them.
+     */
+    private void assertIndexed(Runnable operation, String... expectedIndexes) {
+        captured.clear();
+        operation.run();
+        List<String> statements = captured.stream()
+                .filter(sql -> sql.contains(GUARDED_TABLE))
+                .toList();
+        assertThat(statements).as("captured statements").isNotEmpty();
+
+        Set<String> usedIndexes = new HashSet<>();
+        for (String sql : statements) {
+            JsonNode plan = explain(sql);
+            usedIndexes.addAll(plan.findValuesAsText("Index Name"));
+            List<String> seqScans = new ArrayList<>();
+            collectSeqScans(plan, seqScans);
+            assertThat(seqScans)
+                    .as("sequential scans in plan for:%n%s%n%s", sql, plan.toPrettyString())
+                    .isEmpty();
+        }
+        assertThat(usedIndexes).as("indexes used by %s", statements).contains(expectedIndexes);
+    }
+
+    // GENERIC_PLAN plans the statement with its parameters unbound, as a prepared statement would be
+    private JsonNode explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') numbered.append('$').append(++parameter);
+            else numbered.append(c);
+        }
+        // The simple query protocol sends the $n placeholders to the server unbound
+        String url = dataSourceProperties.getUrl() + (dataSourceProperties.getUrl().contains("?") ? "&" : "?")
+                + "preferQueryMode=simple";
+        try (Connection connection = DriverManager.getConnection(url,
+                dataSourceProperties.getUsername(), dataSourceProperties.getPassword());
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numbered)) {
+            rs.next();
+            return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan for: " + sql, e);
+        }
+    }
+
+    private void collectSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && GUARDED_TABLE.equals(node.path("Relation Name").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        node.path("Plans").forEach(child -> collectSeqScans(child, seqScans));
+    }
+
+    private void inTransaction(Runnable operation) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> operation.run());
+    }
+
+    private UUID first(String sql) {
+        return jdbcTemplate.queryForObject(sql + " ORDER BY id LIMIT 1", UUID.class, workspaceId);
+    }
+
+    private void seedDataset() {
+        jdbcTemplate.update("INSERT INTO workspaces (name) SELECT 'plan-ws-' || g FROM generate_series(1, ?) g",
+                WORKSPACES);
+        jdbcTemplate.execute("""
+                CREATE TABLE plan_ws AS SELECT id FROM workspaces WHERE name LIKE 'plan-ws-%'
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO accounts (workspace_id, name, type, sub_type)
+                SELECT w.id, 'Account ' || g, 'CASH', 'CHECKING' FROM plan_ws w, generate_series(1, 5) g;
+                INSERT INTO merchants (workspace_id, name, status)
+                SELECT w.id, 'Merchant ' || g, 'ACTIVE' FROM plan_ws w, generate_series(1, 50) g;
+                INSERT INTO categories (workspace_id, name, status)
+                SELECT w.id, 'Category ' || g, 'ACTIVE' FROM plan_ws w, generate_series(1, 20) g;
+                INSERT INTO tags (workspace_id, name, status)
+                SELECT w.id, 'Tag ' || g, 'ACTIVE' FROM plan_ws w, generate_series(1, 10) g;
+                INSERT INTO transaction_groups (workspace_id, name)
+                SELECT w.id, 'Group ' || g FROM plan_ws w, generate_series(1, 5) g;
+                INSERT INTO budgets (workspace_id, name, anchor_day_1)
+                SELECT w.id, 'Monthly', 1 FROM plan_ws w;
+                INSERT INTO budget_accounts (budget_id, account_id)
+                SELECT b.id, a.id FROM budgets b JOIN accounts a ON a.workspace_id = b.workspace_id
+                WHERE b.workspace_id IN (SELECT id FROM plan_ws) AND a.name IN ('Account 1', 'Account 2', 'Account 3');
+                INSERT INTO recurring_items (workspace_id, merchant_id, account_id, amount, frequency_granularity, start_date)
+                SELECT w.id, (SELECT id FROM merchants WHERE workspace_id = w.id LIMIT 1),
+                       (SELECT id FROM accounts WHERE workspace_id = w.id LIMIT 1), -10, 'MONTH', '2020-01-01'
+                FROM plan_ws w;
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO transactions (workspace_id, account_id, merchant_id, category_id, recurring_item_id,
+                                          group_id, tag_ids, date, occurrence_date, amount, status, notes)
+                SELECT w.id,
+                       a.ids[1 + g % 5],
+                       m.ids[1 + g % 50],
+                       CASE WHEN g % 5 = 0 THEN NULL ELSE c.ids[1 + g % 20] END,
+                       CASE WHEN g % 20 = 0 THEN r.id END,
+                       CASE WHEN g % 100 = 0 THEN tg.ids[1 + g / 100 % 5] END,
+                       CASE WHEN g % 3 = 0 THEN ARRAY[tt.ids[1 + g / 3 % 10]] ELSE '{}' END,
+                       timestamp '2020-01-01' + g * interval '17 hours',
+                       CASE WHEN g % 20 = 0 THEN (timestamp '2020-01-01' + g * interval '17 hours')::date END,
+                       ((g * 37) % 4000 - 2000) / 10.0,
+                       CASE WHEN g % 10 = 0 THEN 'PENDING' ELSE 'POSTED' END,
+                       'note ' || g
+                FROM plan_ws w
+                CROSS JOIN LATERAL (SELECT array_agg(id) ids FROM accounts WHERE workspace_id = w.id) a
+                CROSS JOIN LATERAL (SELECT array_agg(id) ids FROM merchants WHERE workspace_id = w.id) m
+                CROSS JOIN LATERAL (SELECT array_agg(id) ids FROM categories WHERE workspace_id = w.id) c
+                CROSS JOIN LATERAL (SELECT array_agg(id) ids FROM transaction_groups WHERE workspace_id = w.id) tg
+                CROSS JOIN LATERAL (SELECT array_agg(id) ids FROM tags WHERE workspace_id = w.id) tt
+                CROSS JOIN LATERAL (SELECT id FROM recurring_items WHERE workspace_id = w.id LIMIT 1) r
+                CROSS JOIN generate_series(1, ?) g
+                """, TRANSACTIONS_PER_WORKSPACE);
+        jdbcTemplate.execute("DROP TABLE plan_ws");
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+}
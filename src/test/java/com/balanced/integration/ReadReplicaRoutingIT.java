@@ -0,0 +1,94 @@
+package com.balanced.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the application against two Postgres containers, the second standing in for a replica.
+ * There is no replication between them, so which database answered shows how a read was routed.
+ */
+@SuppressWarnings("unchecked")
+@AutoConfigureObservability(tracing = false)
+class ReadReplicaRoutingIT extends BaseIntegrationTest {
+
+    static final PostgreSQLContainer<?> replica;
+
+    static {
+        replica = new PostgreSQLContainer<>("postgres:17-alpine").withDatabaseName("replica");
+        replica.start();
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("balanced.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("balanced.datasource.replica.username", replica::getUsername);
+        registry.add("balanced.datasource.replica.password", replica::getPassword);
+        registry.add("balanced.datasource.read-your-writes-window", () -> "500ms");
+    }
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Test
+    void readOnlyTransactions_useReplica_andWritesUsePrimary() {
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        var readWrite = new TransactionTemplate(transactionManager);
+
+        String readOnlyDatabase = readOnly.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+        String readWriteDatabase = readWrite.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+
+        assertThat(readOnlyDatabase).isEqualTo("replica");
+        assertThat(readWriteDatabase).isNotEqualTo("replica");
+    }
+
+    @Test
+    void workspaceReadsItsOwnWrites_thenFallsBackToReplica() {
+        var bootstrap = bootstrapUser("replica-%s@test.com".formatted(System.nanoTime()), "Replica", "User");
+        String token = (String) bootstrap.get("token");
+        createAccount(token, "Checking", "CASH", "CHECKING");
+
+        // Within the window the read is pinned to the primary, which has the account
+        var accounts = (List<Map<String, Object>>) graphqlData(token, "{ accounts { id name } }").get("accounts");
+        assertThat(accounts).extracting(a -> a.get("name")).containsExactly("Checking");
+
+        // Afterwards it goes to the replica, which never received the write
+        await().pollDelay(java.time.Duration.ofMillis(600)).untilAsserted(() -> {
+            var fromReplica = (List<Map<String, Object>>) graphqlData(token, "{ accounts { id } }").get("accounts");
+            assertThat(fromReplica).isEmpty();
+        });
+    }
+
+    @Test
+    void eachPoolReportsItsOwnMetrics() {
+        var readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica").gauge()).isNotNull();
+        assertThat(meterRegistry.find("balanced.datasource.routes").tag("pool", "replica").counter()).isNotNull();
+    }
+}
@@ -164,6 +164,38 @@ class TagGraphQLIT extends BaseIntegrationTest {
         assertThat(afterDelete.get("errors")).isNotNull();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteTag_removesTagFromTransactions() {
+        String accountId = createAccount(token, "Checking", "CASH", "CHECKING");
+        String keepId = (String) ((Map<String, Object>) data(graphql("""
+                mutation { createTag(input: { name: "keep" }) { id } }
+                """)).get("createTag")).get("id");
+        String dropId = (String) ((Map<String, Object>) data(graphql("""
+                mutation { createTag(input: { name: "drop" }) { id } }
+                """)).get("createTag")).get("id");
+
+        var created = graphql("""
+                mutation($input: CreateTransactionInput!) { createTransaction(input: $input) { id } }
+                """, Map.of("input", Map.of(
+                "accountId", accountId, "merchantName", "Cafe", "date", "2025-07-01T00:00:00",
+                "amount", -4.50, "tagIds", List.of(keepId, dropId))));
+        assertThat(created.get("errors")).isNull();
+        String transactionId = (String) ((Map<String, Object>) data(created).get("createTransaction")).get("id");
+
+        var deleteResult = graphql("""
+                mutation($tagId: ID!) { deleteTag(tagId: $tagId) }
+                """, Map.of("tagId", dropId));
+        assertThat(deleteResult.get("errors")).isNull();
+
+        var fetched = graphql("""
+                query($id: ID!) { transaction(transactionId: $id) { tagIds } }
+                """, Map.of("id", transactionId));
+        assertThat(fetched.get("errors")).isNull();
+        var transaction = (Map<String, Object>) data(fetched).get("transaction");
+        assertThat((List<String>) transaction.get("tagIds")).containsExactly(keepId);
+    }
+
     @Test
     void createTag_duplicateName_returnsError() {
         graphql("""
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -122,6 +123,26 @@ class TransactionEventGraphQLIT extends BaseIntegrationTest {
         assertThat(changes.stream().anyMatch(c -> "category".equals(c.get("field")))).isTrue();
     }
 
+    @Test
+    void events_showCurrentNamesOfReferencedEntities() {
+        String txnId = createTransaction("-42.50", categoryId);
+        awaitEvents(txnId, 1);
+
+        graphql(token, """
+                mutation($categoryId: ID!, $input: UpdateCategoryInput!) {
+                    updateCategory(categoryId: $categoryId, input: $input) { id }
+                }
+                """, Map.of("categoryId", categoryId, "input", Map.of("name", "Food & Drink")));
+
+        @SuppressWarnings("unchecked")
+        var changes = (List<Map<String, Object>>) getEvents(txnId).get(0).get("changes");
+        var byField = changes.stream().collect(Collectors.toMap(
+                c -> (String) c.get("field"), c -> String.valueOf(c.get("newValue"))));
+        assertThat(byField).containsEntry("category", "Food & Drink")
+                .containsEntry("account", "Checking")
+                .containsEntry("merchant", "TestMerchant");
+    }
+
     @Test
     void updateTransaction_noActualChanges_noEvent() {
         String txnId = createTransaction("-42.50", categoryId);
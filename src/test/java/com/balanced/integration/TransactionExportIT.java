@@ -0,0 +1,111 @@
+package com.balanced.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionExportIT extends BaseIntegrationTest {
+
+    @Autowired private ObjectMapper objectMapper;
+
+    private String token;
+    private String checkingId;
+
+    @BeforeEach
+    void setUp() {
+        var bootstrap = bootstrapUser("export-%s@test.com".formatted(System.nanoTime()), "Export", "User");
+        token = (String) bootstrap.get("token");
+        checkingId = createAccount(token, "Checking", "CASH", "CHECKING");
+        String savingsId = createAccount(token, "Savings", "CASH", "SAVINGS");
+        String tagId = createTag(token, "Work");
+        String categoryId = createCategory(token, "Groceries", false);
+
+        graphqlData(token, """
+                mutation($input: CreateTransactionInput!) { createTransaction(input: $input) { id } }
+                """, Map.of("input", Map.of("accountId", checkingId, "merchantName", "Corner, Shop",
+                "amount", "-42.10", "date", "2024-01-15T09:30:00", "categoryId", categoryId,
+                "tagIds", List.of(tagId), "notes", "weekly shop")));
+        graphqlData(token, """
+                mutation($input: CreateTransactionInput!) { createTransaction(input: $input) { id } }
+                """, Map.of("input", Map.of("accountId", checkingId, "merchantName", "Bakery",
+                "amount", "-5", "date", "2024-01-10T00:00:00")));
+        graphqlData(token, """
+                mutation($input: CreateTransactionInput!) { createTransaction(input: $input) { id } }
+                """, Map.of("input", Map.of("accountId", savingsId, "merchantName", "Bank",
+                "amount", "3.25", "date", "2024-02-01T00:00:00")));
+    }
+
+    @Test
+    void csvExport_streamsMatchingRowsOldestFirst() {
+        ResponseEntity<byte[]> response = export("?accountId=" + checkingId, null);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).endsWith(".csv");
+
+        List<String> lines = new String(response.getBody(), StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("date,amount,currency,merchant,category,account,tags,notes,status,source,id");
+        assertThat(lines.get(1)).startsWith("2024-01-10T00:00,-5.00,USD,Bakery,,Checking,,,PENDING,MANUAL,");
+        assertThat(lines.get(2)).startsWith("2024-01-15T09:30,-42.10,USD,\"Corner, Shop\",Groceries,Checking,Work,weekly shop,");
+    }
+
+    @Test
+    void ndjsonExport_gzipEncoded() throws IOException {
+        ResponseEntity<byte[]> response = export("?format=NDJSON&startDate=2024-01-12", "gzip");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        String body;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("merchant").asText()).isEqualTo("Corner, Shop");
+        assertThat(first.get("tags")).extracting(JsonNode::asText).containsExactly("Work");
+        assertThat(objectMapper.readTree(lines.get(1)).get("account").asText()).isEqualTo("Savings");
+    }
+
+    @Test
+    void export_withMalformedDate_returnsBadRequest() {
+        ResponseEntity<byte[]> response = export("?startDate=15-01-2024", null);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void export_isScopedToWorkspace() {
+        var other = bootstrapUser("export-other-%s@test.com".formatted(System.nanoTime()), "Other", "User");
+        HttpHeaders headers = authHeaders((String) other.get("token"));
+
+        ResponseEntity<byte[]> response = restTemplate.exchange("/api/v1/transactions/export", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8).lines()).hasSize(1);
+    }
+
+    private ResponseEntity<byte[]> export(String query, String acceptEncoding) {
+        HttpHeaders headers = authHeaders(token);
+        if (acceptEncoding != null) headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return restTemplate.exchange("/api/v1/transactions/export" + query, HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+    }
+}
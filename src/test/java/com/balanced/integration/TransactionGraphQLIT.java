@@ -8,12 +8,14 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 class TransactionGraphQLIT extends BaseIntegrationTest {
 
@@ -177,6 +179,44 @@ class TransactionGraphQLIT extends BaseIntegrationTest {
         assertThat(txns).containsKey("page");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void listTransactions_nestedFields_resolveRelatedObjects() {
+        gql("""
+                mutation($acctId: ID!, $catId: ID!, $tagId: ID!) {
+                    createTransaction(input: {
+                        accountId: $acctId, merchantName: "Nested Store", categoryId: $catId,
+                        date: "2025-07-01T00:00:00", amount: -12.00, tagIds: [$tagId]
+                    }) { id }
+                }
+                """, Map.of("acctId", accountId, "catId", categoryId, "tagId", tagId));
+
+        var result = gql("""
+                {
+                    transactions(filter: { search: "Nested Store" }) {
+                        content {
+                            account { id name }
+                            merchant { name }
+                            category { id name }
+                            tags { id name }
+                            group { id }
+                            recurringItem { id }
+                        }
+                    }
+                }
+                """);
+
+        var content = (List<Map<String, Object>>) ((Map<String, Object>) data(result).get("transactions")).get("content");
+        assertThat(content).hasSize(1);
+        var txn = content.get(0);
+        assertThat(((Map<String, Object>) txn.get("account")).get("id")).isEqualTo(accountId);
+        assertThat(((Map<String, Object>) txn.get("merchant")).get("name")).isEqualTo("Nested Store");
+        assertThat(((Map<String, Object>) txn.get("category")).get("name")).isEqualTo("Groceries");
+        assertThat((List<Map<String, Object>>) txn.get("tags")).extracting(t -> t.get("id")).containsExactly(tagId);
+        assertThat(txn.get("group")).isNull();
+        assertThat(txn.get("recurringItem")).isNull();
+    }
+
     // ── Get by ID ────────────────────────────────────────────────────
 
     @Test
@@ -1424,4 +1464,155 @@ class TransactionGraphQLIT extends BaseIntegrationTest {
         var page = (Map<String, Object>) txns.get("page");
         assertThat(page.get("size")).isEqualTo(10);
     }
+
+    // ── Bulk update ──────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkUpdateTransactions_categoryNotesAndTags_appliedToEveryRow() {
+        String otherTagId = createTag(token, "reviewed");
+        String txnId1 = createTransaction(token, accountId, "BulkA", "-10");
+        String txnId2 = createTransaction(token, accountId, "BulkB", "-20");
+        gql("""
+                mutation($id: ID!, $tagId: ID!) { updateTransaction(transactionId: $id, input: { tagIds: [$tagId] }) { id } }
+                """, Map.of("id", txnId1, "tagId", tagId));
+
+        var result = gql("""
+                mutation($ids: [ID!]!, $input: BulkUpdateTransactionInput!) {
+                    bulkUpdateTransactions(transactionIds: $ids, input: $input) { id categoryId notes tagIds status postedAt }
+                }
+                """, Map.of("ids", List.of(txnId1, txnId2), "input", Map.of(
+                "categoryId", categoryId,
+                "notes", "bulk",
+                "status", "POSTED",
+                "addTagIds", List.of(otherTagId),
+                "removeTagIds", List.of(tagId))));
+
+        assertThat(result.get("errors")).isNull();
+        var updated = (List<Map<String, Object>>) data(result).get("bulkUpdateTransactions");
+        assertThat(updated).hasSize(2).allSatisfy(txn -> {
+            assertThat(txn.get("categoryId")).isEqualTo(categoryId);
+            assertThat(txn.get("notes")).isEqualTo("bulk");
+            assertThat(txn.get("status")).isEqualTo("POSTED");
+            assertThat(txn.get("postedAt")).isNotNull();
+            assertThat((List<String>) txn.get("tagIds")).containsExactly(otherTagId);
+        });
+
+        await().untilAsserted(() -> {
+            var events = (List<Map<String, Object>>) graphqlData(token, """
+                    query($id: ID!) { transactionEvents(transactionId: $id) { eventType changes { field newValue } } }
+                    """, Map.of("id", txnId2)).get("transactionEvents");
+            assertThat(events).anySatisfy(event -> {
+                assertThat(event.get("eventType")).isEqualTo("transaction.updated");
+                assertThat((List<Map<String, Object>>) event.get("changes"))
+                        .anySatisfy(change -> assertThat(change.get("newValue")).isEqualTo("Groceries"));
+            });
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkUpdateTransactions_moveAccount_updatesBothBalances() {
+        String savingsId = createAccount(token, "Savings", "CASH", "SAVINGS", "0");
+        String txnId1 = createTransaction(token, accountId, "MoveA", "-10");
+        String txnId2 = createTransaction(token, accountId, "MoveB", "-30");
+
+        var result = gql("""
+                mutation($ids: [ID!]!, $accountId: ID!) {
+                    bulkUpdateTransactions(transactionIds: $ids, input: { accountId: $accountId }) { accountId }
+                }
+                """, Map.of("ids", List.of(txnId1, txnId2), "accountId", savingsId));
+        assertThat(result.get("errors")).isNull();
+
+        var accounts = (List<Map<String, Object>>) data(gql("{ accounts { id balance } }")).get("accounts");
+        Map<Object, BigDecimal> balances = new HashMap<>();
+        accounts.forEach(a -> balances.put(a.get("id"), new BigDecimal(a.get("balance").toString())));
+        assertThat(balances.get(accountId)).isEqualByComparingTo("1000");
+        assertThat(balances.get(savingsId)).isEqualByComparingTo("-40");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkUpdateTransactions_groupedRow_rejectsWholeBatch() {
+        String txnId1 = createTransaction(token, accountId, "LockA", "-10");
+        String txnId2 = createTransaction(token, accountId, "LockB", "-20");
+        String txnId3 = createTransaction(token, accountId, "Free", "-30");
+        createTransactionGroup(token, "Trip", "[\"%s\",\"%s\"]".formatted(txnId1, txnId2));
+
+        var result = gql("""
+                mutation($ids: [ID!]!) {
+                    bulkUpdateTransactions(transactionIds: $ids, input: { notes: "nope" }) { id }
+                }
+                """, Map.of("ids", List.of(txnId1, txnId3)));
+        assertThat(result.get("errors")).isNotNull();
+
+        var untouched = (Map<String, Object>) data(gql("""
+                query($id: ID!) { transaction(transactionId: $id) { notes } }
+                """, Map.of("id", txnId3))).get("transaction");
+        assertThat(untouched.get("notes")).isNull();
+    }
+
+    // ── Bulk delete ──────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteTransactions_removesRowsAndAdjustsBalanceOnce() {
+        String txnId1 = createTransaction(token, accountId, "DelA", "-10");
+        String txnId2 = createTransaction(token, accountId, "DelB", "-20");
+        String keep = createTransaction(token, accountId, "Keep", "-5");
+
+        var result = gql("""
+                mutation($ids: [ID!]!) { deleteTransactions(transactionIds: $ids) }
+                """, Map.of("ids", List.of(txnId1, txnId2)));
+        assertThat(result.get("errors")).isNull();
+        assertThat(data(result).get("deleteTransactions")).isEqualTo(2);
+
+        var content = (List<Map<String, Object>>) ((Map<String, Object>) data(gql(
+                "{ transactions { content { id } } }")).get("transactions")).get("content");
+        assertThat(content).extracting(t -> t.get("id")).containsExactly(keep);
+
+        var account = (Map<String, Object>) data(gql("""
+                query($id: ID!) { account(accountId: $id) { balance } }
+                """, Map.of("id", accountId))).get("account");
+        assertThat(new BigDecimal(account.get("balance").toString())).isEqualByComparingTo("995");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteTransactions_groupLeftWithOneMember_isDissolved() {
+        String txnId1 = createTransaction(token, accountId, "GrpA", "-10");
+        String txnId2 = createTransaction(token, accountId, "GrpB", "-20");
+        createTransactionGroup(token, "Trip", "[\"%s\",\"%s\"]".formatted(txnId1, txnId2));
+
+        var result = gql("""
+                mutation($ids: [ID!]!) { deleteTransactions(transactionIds: $ids) }
+                """, Map.of("ids", List.of(txnId1)));
+        assertThat(result.get("errors")).isNull();
+
+        var survivor = (Map<String, Object>) data(gql("""
+                query($id: ID!) { transaction(transactionId: $id) { groupId } }
+                """, Map.of("id", txnId2))).get("transaction");
+        assertThat(survivor.get("groupId")).isNull();
+        assertThat((List<?>) data(gql("{ transactionGroups { id } }")).get("transactionGroups")).isEmpty();
+    }
+
+    @Test
+    void deleteTransactions_partOfSplit_rejected() {
+        String sourceId = createTransaction(token, accountId, "SplitSrc", "-30");
+        var split = createTransactionSplit(token, sourceId,
+                "[{amount: -10, merchantName: \"A\"}, {amount: -20, merchantName: \"B\"}]");
+        @SuppressWarnings("unchecked")
+        var childIds = (List<String>) split.get("transactionIds");
+
+        var result = gql("""
+                mutation($ids: [ID!]!) { deleteTransactions(transactionIds: $ids) }
+                """, Map.of("ids", List.of(childIds.get(0))));
+        assertThat(result.get("errors")).isNotNull();
+
+        var whole = gql("""
+                mutation($ids: [ID!]!) { deleteTransactions(transactionIds: $ids) }
+                """, Map.of("ids", childIds));
+        assertThat(whole.get("errors")).isNull();
+        assertThat((List<?>) data(gql("{ transactionSplits { id } }")).get("transactionSplits")).isEmpty();
+    }
 }
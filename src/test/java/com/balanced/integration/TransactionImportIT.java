@@ -0,0 +1,153 @@
+package com.balanced.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SuppressWarnings("unchecked")
+class TransactionImportIT extends BaseIntegrationTest {
+
+    private String token;
+    private String checkingId;
+
+    @BeforeEach
+    void setUp() {
+        var bootstrap = bootstrapUser("import-%s@test.com".formatted(System.nanoTime()), "Import", "User");
+        token = (String) bootstrap.get("token");
+        checkingId = createAccount(token, "Checking", "CASH", "CHECKING", "100.00");
+        createAccount(token, "Savings", "CASH", "SAVINGS");
+        createCategory(token, "Groceries", false);
+        createTag(token, "Work");
+        createMerchant(token, "Corner Shop");
+    }
+
+    @Test
+    void csvImport_writesRowsAndReportsSkippedOnes() {
+        String csv = """
+                Date,Amount,Payee,Category,Tags,Account,Notes
+                2024-01-15,-42.10,corner shop,groceries,work,,weekly shop
+                2024-01-16,-10.00,New Bakery,,,,
+                2024-01-17,-5.00,New Bakery,,,savings,
+                2024-01-18,-1.00,Nowhere,Unknown,,,
+                """;
+
+        Map<String, Object> report = awaitReport(upload("history.csv", csv, checkingId));
+
+        assertThat(report.get("status")).isEqualTo("COMPLETED");
+        assertThat(report.get("rowsRead")).isEqualTo(4);
+        assertThat(report.get("rowsImported")).isEqualTo(3);
+        assertThat(report.get("rowsSkipped")).isEqualTo(1);
+        assertThat(report.get("merchantsCreated")).isEqualTo(1);
+        assertThat((List<Map<String, Object>>) report.get("errors")).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.get("line")).isEqualTo(5);
+                    assertThat(error.get("message")).isEqualTo("Unknown category 'Unknown'");
+                });
+
+        var transactions = (List<Map<String, Object>>) ((Map<String, Object>) graphqlData(token, """
+                { transactions(size: 10) { content {
+                    amount notes source status
+                    account { name } merchant { name } category { name } tags { name }
+                } } }
+                """).get("transactions")).get("content");
+        assertThat(transactions).hasSize(3);
+        assertThat(transactions).allSatisfy(t -> {
+            assertThat(t.get("source")).isEqualTo("IMPORTED");
+            assertThat(t.get("status")).isEqualTo("POSTED");
+        });
+        Map<String, Object> groceries = transactions.stream()
+                .filter(t -> "weekly shop".equals(t.get("notes"))).findFirst().orElseThrow();
+        // The existing merchant is reused rather than duplicated by a different spelling
+        assertThat(((Map<String, Object>) groceries.get("merchant")).get("name")).isEqualTo("Corner Shop");
+        assertThat(((Map<String, Object>) groceries.get("category")).get("name")).isEqualTo("Groceries");
+        assertThat((List<Map<String, Object>>) groceries.get("tags")).extracting(t -> t.get("name")).containsExactly("Work");
+        assertThat(listMerchants(token)).extracting(m -> m.get("name")).containsExactlyInAnyOrder("Corner Shop", "New Bakery");
+
+        var accounts = (List<Map<String, Object>>) graphqlData(token, "{ accounts { name balance } }").get("accounts");
+        assertThat(balanceOf(accounts, "Checking")).isEqualByComparingTo("47.90");
+        assertThat(balanceOf(accounts, "Savings")).isEqualByComparingTo("-5.00");
+    }
+
+    @Test
+    void ofxImport_usesDefaultAccount() {
+        String ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><CURDEF>USD<BANKTRANLIST>
+                <STMTTRN><DTPOSTED>20240201<TRNAMT>-9.99<NAME>Streaming</STMTTRN>
+                <STMTTRN><DTPOSTED>20240202<TRNAMT>-20.01<NAME>Streaming</STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """;
+
+        Map<String, Object> report = awaitReport(upload("statement.ofx", ofx, checkingId));
+
+        assertThat(report.get("status")).isEqualTo("COMPLETED");
+        assertThat(report.get("format")).isEqualTo("OFX");
+        assertThat(report.get("rowsImported")).isEqualTo(2);
+        var account = (Map<String, Object>) graphqlData(token,
+                "{ account(accountId: \"%s\") { balance } }".formatted(checkingId)).get("account");
+        assertThat(new BigDecimal(account.get("balance").toString())).isEqualByComparingTo("70.00");
+    }
+
+    @Test
+    void importWithUnreadableHeader_fails() {
+        Map<String, Object> report = awaitReport(upload("history.csv", "when,how much\n2024-01-01,1\n", checkingId));
+
+        assertThat(report.get("status")).isEqualTo("FAILED");
+        assertThat((String) report.get("failureReason")).contains("missing required column");
+    }
+
+    @Test
+    void upload_withUnknownAccount_returnsNotFound() {
+        ResponseEntity<Map> response = upload("history.csv", "date,amount,merchant\n",
+                "00000000-0000-0000-0000-000000000000");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(404);
+    }
+
+    private ResponseEntity<Map> upload(String fileName, String content, String accountId) {
+        HttpHeaders headers = authHeaders(token);
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        var body = new LinkedMultiValueMap<String, Object>();
+        body.add("file", new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        });
+        return restTemplate.exchange("/api/v1/transactions/imports?accountId=" + accountId, HttpMethod.POST,
+                new HttpEntity<>(body, headers), Map.class);
+    }
+
+    private Map<String, Object> awaitReport(ResponseEntity<Map> started) {
+        assertThat(started.getStatusCode().value()).isEqualTo(202);
+        String importId = (String) started.getBody().get("id");
+        return await().atMost(Duration.ofSeconds(10)).until(() -> restTemplate.exchange(
+                        "/api/v1/transactions/imports/" + importId, HttpMethod.GET,
+                        new HttpEntity<>(authHeaders(token)), Map.class).getBody(),
+                report -> "COMPLETED".equals(report.get("status")) || "FAILED".equals(report.get("status")));
+    }
+
+    private static BigDecimal balanceOf(List<Map<String, Object>> accounts, String name) {
+        return accounts.stream()
+                .filter(a -> name.equals(a.get("name")))
+                .map(a -> new BigDecimal(a.get("balance").toString()))
+                .findFirst().orElseThrow();
+    }
+}
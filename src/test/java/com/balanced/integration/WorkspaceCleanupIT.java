@@ -37,7 +37,7 @@ class WorkspaceCleanupIT extends BaseIntegrationTest {
 
         // Give async listener time to run
         await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-            assertThat(workspaceRepository.findById(java.util.UUID.fromString(workspaceId))).isPresent();
+            assertThat(workspaceRepository.existsById(java.util.UUID.fromString(workspaceId))).isTrue();
         });
 
         // Now remove the owner (last member) — workspace should be cleaned up
@@ -47,7 +47,7 @@ class WorkspaceCleanupIT extends BaseIntegrationTest {
                 """.formatted(ownerId));
 
         await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-            assertThat(workspaceRepository.findById(java.util.UUID.fromString(workspaceId))).isEmpty();
+            assertThat(workspaceRepository.existsById(java.util.UUID.fromString(workspaceId))).isFalse();
         });
     }
 
@@ -73,8 +73,8 @@ class WorkspaceCleanupIT extends BaseIntegrationTest {
 
         // Both workspaces should be cleaned up async
         await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-            assertThat(workspaceRepository.findById(java.util.UUID.fromString(workspaceId))).isEmpty();
-            assertThat(workspaceRepository.findById(java.util.UUID.fromString(secondWorkspaceId))).isEmpty();
+            assertThat(workspaceRepository.existsById(java.util.UUID.fromString(workspaceId))).isFalse();
+            assertThat(workspaceRepository.existsById(java.util.UUID.fromString(secondWorkspaceId))).isFalse();
         });
     }
 
@@ -100,7 +100,7 @@ class WorkspaceCleanupIT extends BaseIntegrationTest {
 
         // Wait a moment then verify workspace still exists (owner is still a member)
         await().during(1, TimeUnit.SECONDS).atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-            assertThat(workspaceRepository.findById(java.util.UUID.fromString(workspaceId))).isPresent();
+            assertThat(workspaceRepository.existsById(java.util.UUID.fromString(workspaceId))).isTrue();
         });
     }
 }
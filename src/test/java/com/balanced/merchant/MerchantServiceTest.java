@@ -1,5 +1,6 @@
 package com.balanced.merchant;
 
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.exception.ConflictException;
 import com.balanced.common.exception.ResourceNotFoundException;
 import com.balanced.merchant.dto.CreateMerchantInput;
@@ -18,6 +19,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +36,9 @@ class MerchantServiceTest {
     @Mock
     private MerchantRepository merchantRepository;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Spy
     private MerchantMapper merchantMapper = Mappers.getMapper(MerchantMapper.class);
 
@@ -95,6 +100,36 @@ class MerchantServiceTest {
                 .hasMessage("Merchant not found");
     }
 
+    // --- validateMerchant ---
+
+    @Test
+    void validateMerchant_cached_succeeds() {
+        when(referenceDataCache.merchantNames(workspaceId)).thenReturn(Map.of(merchantId, "Walmart"));
+
+        merchantService.validateMerchant(merchantId, workspaceId);
+
+        verify(merchantRepository, never()).findByIdAndWorkspaceId(any(), any());
+    }
+
+    @Test
+    void validateMerchant_unknown_throws() {
+        when(referenceDataCache.merchantNames(workspaceId)).thenReturn(Map.of());
+
+        assertThatThrownBy(() -> merchantService.validateMerchant(merchantId, workspaceId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Merchant not found");
+    }
+
+    @Test
+    void validateMerchant_createdSinceTheSnapshot_isFoundInTheTableAndDropsTheSnapshot() {
+        when(referenceDataCache.merchantNames(workspaceId)).thenReturn(Map.of());
+        when(merchantRepository.existsByIdAndWorkspaceId(merchantId, workspaceId)).thenReturn(true);
+
+        merchantService.validateMerchant(merchantId, workspaceId);
+
+        verify(referenceDataCache).invalidateMerchants(workspaceId);
+    }
+
     // --- createMerchant ---
 
     @Test
@@ -111,6 +146,7 @@ class MerchantServiceTest {
         assertThat(result.getName()).isEqualTo("Walmart");
         assertThat(result.getStatus()).isEqualTo(Status.ACTIVE);
         assertThat(result.getWorkspaceId()).isEqualTo(workspaceId);
+        verify(referenceDataCache).invalidateMerchants(workspaceId);
     }
 
     @Test
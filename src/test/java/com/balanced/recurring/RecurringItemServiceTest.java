@@ -167,9 +167,7 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
         when(recurringItemRepository.save(any(RecurringItem.class))).thenAnswer(inv -> inv.getArgument(0));
 
         RecurringItem result = recurringItemService.createRecurringItem(workspaceId, dto);
@@ -193,7 +191,6 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("New Service", workspaceId)).thenReturn(buildMerchant("New Service"));
         when(recurringItemRepository.save(any(RecurringItem.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -216,7 +213,6 @@ class RecurringItemServiceTest {
                 .build();
 
         Merchant existingMerchant = buildMerchant("Netflix");
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("NETFLIX", workspaceId)).thenReturn(existingMerchant);
         when(recurringItemRepository.save(any(RecurringItem.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -239,9 +235,7 @@ class RecurringItemServiceTest {
                 .tagIds(Set.of(tagId))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
-        when(tagService.getTag(tagId, workspaceId)).thenReturn(buildTag());
         when(recurringItemRepository.save(any(RecurringItem.class))).thenAnswer(inv -> inv.getArgument(0));
 
         RecurringItem result = recurringItemService.createRecurringItem(workspaceId, dto);
@@ -263,7 +257,6 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
         when(recurringItemRepository.save(any(RecurringItem.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -285,8 +278,7 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Account not found"));
+        doThrow(new ResourceNotFoundException("Account not found")).when(accountService).validateAccount(accountId, workspaceId);
 
         assertThatThrownBy(() -> recurringItemService.createRecurringItem(workspaceId, dto))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -307,10 +299,8 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
-        when(categoryService.getCategory(categoryId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Category not found"));
+        doThrow(new ResourceNotFoundException("Category not found")).when(categoryService).validateCategory(categoryId, workspaceId);
 
         assertThatThrownBy(() -> recurringItemService.createRecurringItem(workspaceId, dto))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -331,10 +321,8 @@ class RecurringItemServiceTest {
                 .tagIds(Set.of(tagId))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
-        when(tagService.getTag(tagId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Tag not found"));
+        doThrow(new ResourceNotFoundException("Tag not found")).when(tagService).validateTags(anyCollection(), eq(workspaceId));
 
         assertThatThrownBy(() -> recurringItemService.createRecurringItem(workspaceId, dto))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -355,11 +343,9 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
         doThrow(new BadRequestException("Cannot assign a parent category group"))
-                .when(categoryService).validateNotGroup(categoryId);
+                .when(categoryService).validateNotGroup(categoryId, workspaceId);
 
         assertThatThrownBy(() -> recurringItemService.createRecurringItem(workspaceId, dto))
                 .isInstanceOf(BadRequestException.class)
@@ -379,14 +365,13 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
         when(recurringItemRepository.save(any(RecurringItem.class))).thenAnswer(inv -> inv.getArgument(0));
 
         RecurringItem result = recurringItemService.createRecurringItem(workspaceId, dto);
 
         assertThat(result.getCategoryId()).isNull();
-        verify(categoryService, never()).getCategory(any(), any());
+        verify(categoryService, never()).validateCategory(any(), any());
     }
 
     // --- updateRecurringItem ---
@@ -396,8 +381,6 @@ class RecurringItemServiceTest {
         RecurringItem item = buildRecurringItem();
         UUID newAccountId = UUID.randomUUID();
         when(recurringItemRepository.findByIdAndWorkspaceId(recurringItemId, workspaceId)).thenReturn(Optional.of(item));
-        when(accountService.getAccount(newAccountId, workspaceId))
-                .thenReturn(Account.builder().id(newAccountId).workspaceId(workspaceId).build());
         when(recurringItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateRecurringItemInput dto = UpdateRecurringItemInput.builder().accountId(newAccountId).build();
@@ -445,8 +428,6 @@ class RecurringItemServiceTest {
         UUID newCategoryId = UUID.randomUUID();
 
         when(recurringItemRepository.findByIdAndWorkspaceId(recurringItemId, workspaceId)).thenReturn(Optional.of(item));
-        when(categoryService.getCategory(newCategoryId, workspaceId))
-                .thenReturn(Category.builder().id(newCategoryId).workspaceId(workspaceId).build());
         when(recurringItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateRecurringItemInput dto = new UpdateRecurringItemInput();
@@ -462,10 +443,8 @@ class RecurringItemServiceTest {
         UUID groupCategoryId = UUID.randomUUID();
 
         when(recurringItemRepository.findByIdAndWorkspaceId(recurringItemId, workspaceId)).thenReturn(Optional.of(item));
-        when(categoryService.getCategory(groupCategoryId, workspaceId))
-                .thenReturn(Category.builder().id(groupCategoryId).workspaceId(workspaceId).build());
         doThrow(new BadRequestException("Cannot assign a parent category group"))
-                .when(categoryService).validateNotGroup(groupCategoryId);
+                .when(categoryService).validateNotGroup(groupCategoryId, workspaceId);
 
         UpdateRecurringItemInput dto = new UpdateRecurringItemInput();
         dto.assignCategoryId(groupCategoryId);
@@ -555,7 +534,6 @@ class RecurringItemServiceTest {
     void updateRecurringItem_tags_set() {
         RecurringItem item = buildRecurringItem();
         when(recurringItemRepository.findByIdAndWorkspaceId(recurringItemId, workspaceId)).thenReturn(Optional.of(item));
-        when(tagService.getTag(tagId, workspaceId)).thenReturn(buildTag());
         when(recurringItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateRecurringItemInput dto = new UpdateRecurringItemInput();
@@ -666,9 +644,7 @@ class RecurringItemServiceTest {
                 .startDate(LocalDateTime.now())
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Netflix", workspaceId)).thenReturn(buildMerchant("Netflix"));
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
         doThrow(new BadRequestException("Negative amounts must use an expense category"))
                 .when(categoryService).validateCategoryPolarity(categoryId, dto.getAmount(), workspaceId);
 
@@ -685,10 +661,8 @@ class RecurringItemServiceTest {
         UpdateRecurringItemInput dto = new UpdateRecurringItemInput();
         dto.assignCategoryId(newCatId);
 
-        Category newCat = Category.builder().id(newCatId).workspaceId(workspaceId).name("Salary").income(true).build();
 
         when(recurringItemRepository.findByIdAndWorkspaceId(recurringItemId, workspaceId)).thenReturn(Optional.of(ri));
-        when(categoryService.getCategory(newCatId, workspaceId)).thenReturn(newCat);
         doThrow(new BadRequestException("Negative amounts must use an expense category"))
                 .when(categoryService).validateCategoryPolarity(eq(newCatId), any(BigDecimal.class), eq(workspaceId));
 
@@ -727,8 +701,6 @@ class RecurringItemServiceTest {
                 .recurringItemId(recurringItemId).categoryId(categoryId).tagIds(new HashSet<>()).build();
 
         when(recurringItemRepository.findByIdAndWorkspaceId(recurringItemId, workspaceId)).thenReturn(Optional.of(ri));
-        when(categoryService.getCategory(newCategoryId, workspaceId))
-                .thenReturn(Category.builder().id(newCategoryId).workspaceId(workspaceId).build());
         when(recurringItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(transactionRepository.findAllByRecurringItemIdAndWorkspaceId(recurringItemId, workspaceId))
                 .thenReturn(List.of(txn1, txn2));
@@ -755,12 +727,8 @@ class RecurringItemServiceTest {
                 .currencyCode(CurrencyCode.USD).tagIds(new HashSet<>()).build();
 
         when(recurringItemRepository.findByIdAndWorkspaceId(recurringItemId, workspaceId)).thenReturn(Optional.of(ri));
-        when(accountService.getAccount(newAccountId, workspaceId))
-                .thenReturn(Account.builder().id(newAccountId).workspaceId(workspaceId).build());
         when(merchantService.resolveMerchant("NewMerch", workspaceId))
                 .thenReturn(Merchant.builder().id(newMerchantId).workspaceId(workspaceId).name("NewMerch").status(Status.ACTIVE).build());
-        when(tagService.getTag(newTagId, workspaceId))
-                .thenReturn(Tag.builder().id(newTagId).workspaceId(workspaceId).name("New Tag").build());
         when(recurringItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(transactionRepository.findAllByRecurringItemIdAndWorkspaceId(recurringItemId, workspaceId))
                 .thenReturn(List.of(txn));
@@ -1,5 +1,6 @@
 package com.balanced.tag;
 
+import com.balanced.common.cache.ReferenceDataCache;
 import com.balanced.common.exception.ConflictException;
 import com.balanced.common.exception.ResourceNotFoundException;
 import com.balanced.tag.dto.CreateTagInput;
@@ -9,6 +10,7 @@ import com.balanced.common.enums.Status;
 import com.balanced.tag.mapper.TagMapper;
 import com.balanced.tag.repository.TagRepository;
 import com.balanced.tag.service.TagService;
+import com.balanced.transaction.repository.TransactionRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
@@ -18,7 +20,9 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +38,12 @@ class TagServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @Spy
     private TagMapper tagMapper = Mappers.getMapper(TagMapper.class);
 
@@ -95,6 +105,44 @@ class TagServiceTest {
                 .hasMessage("Tag not found");
     }
 
+    // --- validateTags ---
+
+    @Test
+    void validateTags_allCached_succeeds() {
+        when(referenceDataCache.tagNames(workspaceId)).thenReturn(Map.of(tagId, "groceries"));
+
+        tagService.validateTags(Set.of(tagId), workspaceId);
+
+        verify(tagRepository, never()).findByIdAndWorkspaceId(any(), any());
+    }
+
+    @Test
+    void validateTags_unknownTag_throws() {
+        when(referenceDataCache.tagNames(workspaceId)).thenReturn(Map.of(tagId, "groceries"));
+
+        assertThatThrownBy(() -> tagService.validateTags(Set.of(tagId, UUID.randomUUID()), workspaceId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Tag not found");
+    }
+
+    @Test
+    void validateTags_createdSinceTheSnapshot_isFoundInTheTableAndDropsTheSnapshot() {
+        UUID newTagId = UUID.randomUUID();
+        when(referenceDataCache.tagNames(workspaceId)).thenReturn(Map.of(tagId, "groceries"));
+        when(tagRepository.countByIdInAndWorkspaceId(Set.of(tagId, newTagId), workspaceId)).thenReturn(2L);
+
+        tagService.validateTags(List.of(tagId, newTagId, newTagId), workspaceId);
+
+        verify(referenceDataCache).invalidateTags(workspaceId);
+    }
+
+    @Test
+    void validateTags_empty_skipsCache() {
+        tagService.validateTags(Set.of(), workspaceId);
+
+        verify(referenceDataCache, never()).tagNames(any());
+    }
+
     // --- createTag ---
 
     @Test
@@ -113,6 +161,7 @@ class TagServiceTest {
         assertThat(result.getDescription()).isEqualTo("Grocery store purchases");
         assertThat(result.getStatus()).isEqualTo(Status.ACTIVE);
         assertThat(result.getWorkspaceId()).isEqualTo(workspaceId);
+        verify(referenceDataCache).invalidateTags(workspaceId);
     }
 
     @Test
@@ -228,6 +277,7 @@ class TagServiceTest {
 
         tagService.deleteTag(tagId, workspaceId);
 
+        verify(transactionRepository).removeTagId(tagId, workspaceId);
         verify(tagRepository).delete(tag);
     }
 
@@ -238,5 +288,6 @@ class TagServiceTest {
         assertThatThrownBy(() -> tagService.deleteTag(tagId, workspaceId))
                 .isInstanceOf(ResourceNotFoundException.class);
         verify(tagRepository, never()).delete(any());
+        verify(transactionRepository, never()).removeTagId(any(), any());
     }
 }
@@ -0,0 +1,138 @@
+package com.balanced.transaction;
+
+import com.balanced.account.dto.AccountResponse;
+import com.balanced.account.entity.Account;
+import com.balanced.account.mapper.AccountMapper;
+import com.balanced.account.service.AccountService;
+import com.balanced.category.mapper.CategoryMapper;
+import com.balanced.category.service.CategoryService;
+import com.balanced.merchant.mapper.MerchantMapper;
+import com.balanced.merchant.service.MerchantService;
+import com.balanced.recurring.mapper.RecurringItemMapper;
+import com.balanced.recurring.service.RecurringItemService;
+import com.balanced.tag.dto.TagResponse;
+import com.balanced.tag.entity.Tag;
+import com.balanced.tag.mapper.TagMapper;
+import com.balanced.tag.service.TagService;
+import com.balanced.transaction.dto.TransactionResponse;
+import com.balanced.transaction.entity.Transaction;
+import com.balanced.transaction.group.dto.TransactionGroupResponse;
+import com.balanced.transaction.group.entity.TransactionGroup;
+import com.balanced.transaction.group.mapper.TransactionGroupMapper;
+import com.balanced.transaction.group.service.TransactionGroupService;
+import com.balanced.transaction.resolver.TransactionFieldResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionFieldResolverTest {
+
+    @Mock private AccountService accountService;
+    @Mock private MerchantService merchantService;
+    @Mock private CategoryService categoryService;
+    @Mock private TagService tagService;
+    @Mock private RecurringItemService recurringItemService;
+    @Mock private TransactionGroupService transactionGroupService;
+
+    @Spy private AccountMapper accountMapper = Mappers.getMapper(AccountMapper.class);
+    @Spy private MerchantMapper merchantMapper = Mappers.getMapper(MerchantMapper.class);
+    @Spy private CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+    @Spy private TagMapper tagMapper = Mappers.getMapper(TagMapper.class);
+    @Spy private RecurringItemMapper recurringItemMapper = Mappers.getMapper(RecurringItemMapper.class);
+    @Spy private TransactionGroupMapper transactionGroupMapper = Mappers.getMapper(TransactionGroupMapper.class);
+
+    @InjectMocks
+    private TransactionFieldResolver resolver;
+
+    private final UUID workspaceId = UUID.randomUUID();
+
+    private TransactionResponse txn(UUID accountId, UUID groupId, Set<UUID> tagIds) {
+        return TransactionResponse.builder()
+                .id(UUID.randomUUID())
+                .workspaceId(workspaceId)
+                .accountId(accountId)
+                .groupId(groupId)
+                .tagIds(tagIds)
+                .build();
+    }
+
+    @Test
+    void account_loadsDistinctIdsInSingleBatch() {
+        UUID a1 = UUID.randomUUID();
+        UUID a2 = UUID.randomUUID();
+        var t1 = txn(a1, null, Set.of());
+        var t2 = txn(a1, null, Set.of());
+        var t3 = txn(a2, null, Set.of());
+        when(accountService.getAccounts(Set.of(a1, a2), workspaceId)).thenReturn(List.of(
+                Account.builder().id(a1).name("Checking").build(),
+                Account.builder().id(a2).name("Savings").build()));
+
+        Map<TransactionResponse, AccountResponse> result = resolver.account(List.of(t1, t2, t3));
+
+        assertThat(result.get(t1).getName()).isEqualTo("Checking");
+        assertThat(result.get(t2).getName()).isEqualTo("Checking");
+        assertThat(result.get(t3).getName()).isEqualTo("Savings");
+        verify(accountService, times(1)).getAccounts(any(), any());
+    }
+
+    @Test
+    void category_allNull_skipsQuery() {
+        var result = resolver.category(List.of(txn(UUID.randomUUID(), null, Set.of())));
+
+        assertThat(result).isEmpty();
+        verify(categoryService, never()).getCategories(any(), any());
+    }
+
+    @Test
+    void tags_preservesPerTransactionMembership() {
+        UUID tag1 = UUID.randomUUID();
+        UUID tag2 = UUID.randomUUID();
+        var t1 = txn(UUID.randomUUID(), null, Set.of(tag1, tag2));
+        var t2 = txn(UUID.randomUUID(), null, Set.of());
+        when(tagService.getTags(Set.of(tag1, tag2), workspaceId)).thenReturn(List.of(
+                Tag.builder().id(tag1).name("weekly").build(),
+                Tag.builder().id(tag2).name("shared").build()));
+
+        Map<TransactionResponse, List<TagResponse>> result = resolver.tags(List.of(t1, t2));
+
+        assertThat(result.get(t1)).extracting(TagResponse::getName).containsExactlyInAnyOrder("weekly", "shared");
+        assertThat(result.get(t2)).isEmpty();
+    }
+
+    @Test
+    void group_computesTotalsFromBatchedMembers() {
+        UUID groupId = UUID.randomUUID();
+        var t1 = txn(UUID.randomUUID(), groupId, Set.of());
+        var member1 = Transaction.builder().id(UUID.randomUUID()).groupId(groupId).amount(new BigDecimal("-10.00")).build();
+        var member2 = Transaction.builder().id(UUID.randomUUID()).groupId(groupId).amount(new BigDecimal("-5.50")).build();
+        when(transactionGroupService.getGroupTransactions(Set.of(groupId), workspaceId))
+                .thenReturn(List.of(member1, member2));
+        when(transactionGroupService.getTransactionGroups(Set.of(groupId), workspaceId))
+                .thenReturn(List.of(TransactionGroup.builder().id(groupId).name("Trip").build()));
+
+        Map<TransactionResponse, TransactionGroupResponse> result = resolver.group(List.of(t1));
+
+        TransactionGroupResponse group = result.get(t1);
+        assertThat(group.getName()).isEqualTo("Trip");
+        assertThat(group.getTotalAmount()).isEqualByComparingTo("-15.50");
+        assertThat(group.getTransactionIds()).containsExactlyInAnyOrder(member1.getId(), member2.getId());
+    }
+}
@@ -16,6 +16,8 @@ import com.balanced.transaction.mapper.TransactionMapper;
 import com.balanced.transaction.resolver.TransactionResolver;
 import com.balanced.transaction.service.TransactionService;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
 import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,12 +36,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -109,12 +113,35 @@ class TransactionResolverTest {
         when(transactionService.listAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
         when(transactionMapper.toDto(txn)).thenReturn(dto);
 
-        PagedResponse<TransactionResponse> result = transactionResolver.transactions(null, null, 0, 25);
+        PagedResponse<TransactionResponse> result = transactionResolver.transactions(null, null, 0, 25, null);
 
         assertThat(result.content()).hasSize(1);
         assertThat(result.content().get(0).getAmount()).isEqualByComparingTo(new BigDecimal("25.00"));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void transactions_withSelection_projectsSelectedFieldsOnly() {
+        DataFetchingFieldSelectionSet selection = mock(DataFetchingFieldSelectionSet.class);
+        List<SelectedField> fields = java.util.stream.Stream.of("id", "amount", "merchant")
+                .map(name -> {
+                    SelectedField field = mock(SelectedField.class);
+                    when(field.getName()).thenReturn(name);
+                    return field;
+                })
+                .toList();
+        when(selection.getFields("content/*")).thenReturn(fields);
+        when(transactionService.listProjected(any(Specification.class), any(Pageable.class), any()))
+                .thenReturn(new PageImpl<>(List.of(buildResponse())));
+
+        PagedResponse<TransactionResponse> result = transactionResolver.transactions(null, null, 0, 25, selection);
+
+        assertThat(result.content()).hasSize(1);
+        verify(transactionService).listProjected(any(Specification.class), any(Pageable.class),
+                eq(Set.of("workspaceId", "id", "amount", "merchantId")));
+        verify(transactionService, never()).listAll(any(Specification.class), any(Pageable.class));
+    }
+
     @Test
     void transaction_returnsById() {
         Transaction txn = buildTransaction();
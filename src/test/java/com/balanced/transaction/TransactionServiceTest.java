@@ -9,6 +9,7 @@ import com.balanced.common.exception.BadRequestException;
 import com.balanced.common.exception.ResourceNotFoundException;
 import com.balanced.common.enums.Status;
 import com.balanced.common.event.DomainEventPublisher;
+import com.balanced.common.event.FieldChange;
 import com.balanced.merchant.entity.Merchant;
 import com.balanced.merchant.service.MerchantService;
 import com.balanced.recurring.entity.RecurringItem;
@@ -17,11 +18,14 @@ import com.balanced.recurring.enums.RecurringItemStatus;
 import com.balanced.recurring.service.RecurringItemService;
 import com.balanced.tag.entity.Tag;
 import com.balanced.tag.service.TagService;
+import com.balanced.transaction.dto.BulkUpdateTransactionInput;
 import com.balanced.transaction.dto.CreateTransactionInput;
 import com.balanced.transaction.dto.UpdateTransactionInput;
 import com.balanced.transaction.entity.Transaction;
 import com.balanced.transaction.enums.TransactionSource;
+import com.balanced.transaction.enums.TransactionAction;
 import com.balanced.transaction.enums.TransactionStatus;
+import com.balanced.transaction.group.repository.TransactionGroupRepository;
 import com.balanced.transaction.mapper.TransactionMapper;
 import com.balanced.transaction.repository.TransactionRepository;
 import com.balanced.transaction.service.TransactionService;
@@ -40,6 +44,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -47,6 +52,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,6 +74,8 @@ class TransactionServiceTest {
     @Mock
     private TransactionSplitRepository transactionSplitRepository;
     @Mock
+    private TransactionGroupRepository transactionGroupRepository;
+    @Mock
     private DomainEventPublisher domainEventPublisher;
 
     @Spy
@@ -192,9 +201,7 @@ class TransactionServiceTest {
                 .amount(new BigDecimal("-55.00"))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Transaction result = transactionService.createTransaction(workspaceId, dto);
@@ -205,6 +212,7 @@ class TransactionServiceTest {
         assertThat(result.getSource()).isEqualTo(TransactionSource.MANUAL);
         assertThat(result.getPendingAt()).isNotNull();
         assertThat(result.getCurrencyCode()).isEqualTo(CurrencyCode.USD);
+        verify(accountService).applyBalanceDelta(accountId, new BigDecimal("-55.00"));
     }
 
     @Test
@@ -216,7 +224,6 @@ class TransactionServiceTest {
                 .amount(new BigDecimal("-10.00"))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("New Store", workspaceId)).thenReturn(buildMerchant("New Store"));
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -235,7 +242,6 @@ class TransactionServiceTest {
                 .build();
 
         Merchant existingMerchant = buildMerchant("Kroger");
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("KROGER", workspaceId)).thenReturn(existingMerchant);
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -254,9 +260,7 @@ class TransactionServiceTest {
                 .tagIds(Set.of(tagId))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
-        when(tagService.getTag(tagId, workspaceId)).thenReturn(buildTag());
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Transaction result = transactionService.createTransaction(workspaceId, dto);
@@ -264,6 +268,28 @@ class TransactionServiceTest {
         assertThat(result.getTagIds()).containsExactly(tagId);
     }
 
+    @Test
+    void createTransaction_publishesEventWithoutResolvingNames() {
+        CreateTransactionInput dto = CreateTransactionInput.builder()
+                .accountId(accountId)
+                .merchantName("Kroger")
+                .categoryId(categoryId)
+                .date(LocalDateTime.of(2025, 7, 1, 0, 0))
+                .amount(new BigDecimal("-20.00"))
+                .tagIds(Set.of(tagId))
+                .build();
+
+        when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        transactionService.createTransaction(workspaceId, dto);
+
+        verify(domainEventPublisher).publish(eq(TransactionAction.CREATED), any(Transaction.class));
+        verify(accountService, never()).getAccounts(any(), any());
+        verify(categoryService, never()).getCategories(any(), any());
+        verify(tagService, never()).getTags(any(), any());
+    }
+
     @Test
     void createTransaction_withCurrencyCode() {
         CreateTransactionInput dto = CreateTransactionInput.builder()
@@ -274,7 +300,6 @@ class TransactionServiceTest {
                 .currencyCode(CurrencyCode.EUR)
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -292,8 +317,7 @@ class TransactionServiceTest {
                 .amount(new BigDecimal("-20.00"))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Account not found"));
+        doThrow(new ResourceNotFoundException("Account not found")).when(accountService).validateAccount(accountId, workspaceId);
 
         assertThatThrownBy(() -> transactionService.createTransaction(workspaceId, dto))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -310,10 +334,8 @@ class TransactionServiceTest {
                 .amount(new BigDecimal("-20.00"))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
-        when(categoryService.getCategory(categoryId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Category not found"));
+        doThrow(new ResourceNotFoundException("Category not found")).when(categoryService).validateCategory(categoryId, workspaceId);
 
         assertThatThrownBy(() -> transactionService.createTransaction(workspaceId, dto))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -330,11 +352,9 @@ class TransactionServiceTest {
                 .amount(new BigDecimal("-20.00"))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
         doThrow(new BadRequestException("Cannot assign a transaction to a parent category group"))
-                .when(categoryService).validateNotGroup(categoryId);
+                .when(categoryService).validateNotGroup(categoryId, workspaceId);
 
         assertThatThrownBy(() -> transactionService.createTransaction(workspaceId, dto))
                 .isInstanceOf(BadRequestException.class)
@@ -351,10 +371,8 @@ class TransactionServiceTest {
                 .tagIds(Set.of(tagId))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
-        when(tagService.getTag(tagId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Tag not found"));
+        doThrow(new ResourceNotFoundException("Tag not found")).when(tagService).validateTags(anyCollection(), eq(workspaceId));
 
         assertThatThrownBy(() -> transactionService.createTransaction(workspaceId, dto))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -370,14 +388,13 @@ class TransactionServiceTest {
                 .amount(new BigDecimal("-20.00"))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Transaction result = transactionService.createTransaction(workspaceId, dto);
 
         assertThat(result.getCategoryId()).isNull();
-        verify(categoryService, never()).getCategory(any(), any());
+        verify(categoryService, never()).validateCategory(any(), any());
     }
 
     // --- updateTransaction ---
@@ -387,14 +404,14 @@ class TransactionServiceTest {
         Transaction txn = buildTransaction();
         UUID newAccountId = UUID.randomUUID();
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(accountService.getAccount(newAccountId, workspaceId))
-                .thenReturn(Account.builder().id(newAccountId).workspaceId(workspaceId).build());
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().accountId(newAccountId).build();
         Transaction result = transactionService.updateTransaction(transactionId, workspaceId, dto);
 
         assertThat(result.getAccountId()).isEqualTo(newAccountId);
+        verify(accountService).applyBalanceDelta(accountId, new BigDecimal("42.50"));
+        verify(accountService).applyBalanceDelta(newAccountId, new BigDecimal("-42.50"));
     }
 
     @Test
@@ -433,10 +450,8 @@ class TransactionServiceTest {
     void updateTransaction_merchantId_setsDirectly() {
         Transaction txn = buildTransaction();
         UUID newMerchantId = UUID.randomUUID();
-        Merchant merchant = Merchant.builder().id(newMerchantId).workspaceId(workspaceId).name("Direct Merchant").build();
 
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(merchantService.getMerchant(newMerchantId, workspaceId)).thenReturn(merchant);
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().build();
@@ -465,10 +480,8 @@ class TransactionServiceTest {
     void updateTransaction_merchantId_takesPrecedenceOverMerchantName() {
         Transaction txn = buildTransaction();
         UUID newMerchantId = UUID.randomUUID();
-        Merchant merchant = Merchant.builder().id(newMerchantId).workspaceId(workspaceId).name("Direct").build();
 
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(merchantService.getMerchant(newMerchantId, workspaceId)).thenReturn(merchant);
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().merchantName("Ignored Name").build();
@@ -499,8 +512,6 @@ class TransactionServiceTest {
         UUID newCategoryId = UUID.randomUUID();
 
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(categoryService.getCategory(newCategoryId, workspaceId))
-                .thenReturn(Category.builder().id(newCategoryId).workspaceId(workspaceId).build());
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTransactionInput dto = new UpdateTransactionInput();
@@ -558,6 +569,7 @@ class TransactionServiceTest {
         Transaction result = transactionService.updateTransaction(transactionId, workspaceId, dto);
 
         assertThat(result.getAmount()).isEqualByComparingTo(new BigDecimal("-99.99"));
+        verify(accountService).applyBalanceDelta(accountId, new BigDecimal("-57.49"));
     }
 
     @Test
@@ -591,7 +603,6 @@ class TransactionServiceTest {
     void updateTransaction_tags_set() {
         Transaction txn = buildTransaction();
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(tagService.getTag(tagId, workspaceId)).thenReturn(buildTag());
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         UpdateTransactionInput dto = new UpdateTransactionInput();
@@ -683,8 +694,7 @@ class TransactionServiceTest {
         Transaction txn = buildTransaction();
         UUID badAccountId = UUID.randomUUID();
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(accountService.getAccount(badAccountId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Account not found"));
+        doThrow(new ResourceNotFoundException("Account not found")).when(accountService).validateAccount(badAccountId, workspaceId);
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().accountId(badAccountId).build();
 
@@ -698,8 +708,7 @@ class TransactionServiceTest {
         Transaction txn = buildTransaction();
         UUID badCategoryId = UUID.randomUUID();
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(categoryService.getCategory(badCategoryId, workspaceId))
-                .thenThrow(new ResourceNotFoundException("Category not found"));
+        doThrow(new ResourceNotFoundException("Category not found")).when(categoryService).validateCategory(badCategoryId, workspaceId);
 
         UpdateTransactionInput dto = new UpdateTransactionInput();
         dto.setCategoryId(badCategoryId);
@@ -714,10 +723,8 @@ class TransactionServiceTest {
         Transaction txn = buildTransaction();
         UUID groupCategoryId = UUID.randomUUID();
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(categoryService.getCategory(groupCategoryId, workspaceId))
-                .thenReturn(Category.builder().id(groupCategoryId).workspaceId(workspaceId).build());
         doThrow(new BadRequestException("Cannot assign a transaction to a parent category group"))
-                .when(categoryService).validateNotGroup(groupCategoryId);
+                .when(categoryService).validateNotGroup(groupCategoryId, workspaceId);
 
         UpdateTransactionInput dto = new UpdateTransactionInput();
         dto.setCategoryId(groupCategoryId);
@@ -747,6 +754,7 @@ class TransactionServiceTest {
         transactionService.deleteTransaction(transactionId, workspaceId);
 
         verify(transactionRepository).delete(txn);
+        verify(accountService).applyBalanceDelta(accountId, new BigDecimal("42.50"));
     }
 
     @Test
@@ -758,6 +766,236 @@ class TransactionServiceTest {
         verify(transactionRepository, never()).delete(any(Transaction.class));
     }
 
+    // --- bulkUpdateTransactions ---
+
+    private Transaction buildTransaction(UUID id, UUID account, String amount) {
+        Transaction txn = buildTransaction();
+        txn.setId(id);
+        txn.setAccountId(account);
+        txn.setAmount(new BigDecimal(amount));
+        return txn;
+    }
+
+    @Test
+    void bulkUpdate_category_validatesOncePerSignAndPublishesOneBatch() {
+        UUID second = UUID.randomUUID();
+        Set<UUID> ids = Set.of(transactionId, second);
+        List<Transaction> rows = List.of(buildTransaction(transactionId, accountId, "-10.00"),
+                buildTransaction(second, accountId, "-20.00"));
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(rows);
+
+        BulkUpdateTransactionInput dto = new BulkUpdateTransactionInput();
+        dto.setCategoryId(categoryId);
+        transactionService.bulkUpdateTransactions(ids, workspaceId, dto);
+
+        verify(categoryService).validateNotGroup(categoryId, workspaceId);
+        verify(categoryService, times(1)).validateCategoryPolarity(eq(categoryId), any(), eq(workspaceId));
+        verify(transactionRepository).bulkUpdate(ids, workspaceId, dto);
+        verify(transactionRepository, never()).save(any());
+        verify(accountService, never()).applyBalanceDelta(any(), any());
+        verify(domainEventPublisher).publishAll(any(), anyList(), anyList());
+    }
+
+    @Test
+    void bulkUpdate_account_appliesOneDeltaPerAccount() {
+        UUID otherAccount = UUID.randomUUID();
+        UUID targetAccount = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        Set<UUID> ids = Set.of(transactionId, second, third);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(
+                buildTransaction(transactionId, accountId, "-10.00"),
+                buildTransaction(second, accountId, "-5.00"),
+                buildTransaction(third, otherAccount, "100.00")));
+
+        BulkUpdateTransactionInput dto = BulkUpdateTransactionInput.builder().accountId(targetAccount).build();
+        transactionService.bulkUpdateTransactions(ids, workspaceId, dto);
+
+        verify(accountService).validateAccount(targetAccount, workspaceId);
+        verify(accountService).applyBalanceDelta(accountId, new BigDecimal("15.00"));
+        verify(accountService).applyBalanceDelta(otherAccount, new BigDecimal("-100.00"));
+        verify(accountService).applyBalanceDelta(targetAccount, new BigDecimal("85.00"));
+        verify(accountService, times(3)).applyBalanceDelta(any(), any());
+    }
+
+    @Test
+    void bulkUpdate_tags_validatedWithOneLookup() {
+        UUID otherTag = UUID.randomUUID();
+        Set<UUID> ids = Set.of(transactionId);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(buildTransaction()));
+        doThrow(new ResourceNotFoundException("Tag not found"))
+                .when(tagService).validateTags(Set.of(tagId, otherTag), workspaceId);
+
+        BulkUpdateTransactionInput dto = BulkUpdateTransactionInput.builder().addTagIds(Set.of(tagId, otherTag)).build();
+
+        assertThatThrownBy(() -> transactionService.bulkUpdateTransactions(ids, workspaceId, dto))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Tag not found");
+        verify(tagService).validateTags(Set.of(tagId, otherTag), workspaceId);
+        verify(transactionRepository, never()).bulkUpdate(any(), any(), any());
+    }
+
+    @Test
+    void bulkUpdate_missingTransaction_throws() {
+        UUID missing = UUID.randomUUID();
+        Set<UUID> ids = Set.of(transactionId, missing);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(buildTransaction()));
+
+        assertThatThrownBy(() -> transactionService.bulkUpdateTransactions(ids, workspaceId,
+                BulkUpdateTransactionInput.builder().status(TransactionStatus.POSTED).build()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(missing.toString());
+    }
+
+    @Test
+    void bulkUpdate_lockedByRecurringItem_throws() {
+        Transaction linked = buildTransaction();
+        linked.setRecurringItemId(recurringItemId);
+        Set<UUID> ids = Set.of(transactionId);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(linked));
+
+        BulkUpdateTransactionInput dto = new BulkUpdateTransactionInput();
+        dto.setNotes("bulk");
+
+        assertThatThrownBy(() -> transactionService.bulkUpdateTransactions(ids, workspaceId, dto))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("notes on 1 transaction(s) linked to a recurring item");
+        verify(transactionRepository, never()).bulkUpdate(any(), any(), any());
+    }
+
+    @Test
+    void bulkUpdate_accountOnSplitChild_throws() {
+        Transaction child = buildTransaction();
+        child.setSplitId(UUID.randomUUID());
+        Set<UUID> ids = Set.of(transactionId);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(child));
+
+        assertThatThrownBy(() -> transactionService.bulkUpdateTransactions(ids, workspaceId,
+                BulkUpdateTransactionInput.builder().accountId(UUID.randomUUID()).build()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("in a transaction split");
+    }
+
+    @Test
+    void bulkUpdate_tagIdsWithAddTagIds_throws() {
+        BulkUpdateTransactionInput dto = BulkUpdateTransactionInput.builder().addTagIds(Set.of(tagId)).build();
+        dto.setTagIds(Set.of(tagId));
+
+        assertThatThrownBy(() -> transactionService.bulkUpdateTransactions(Set.of(transactionId), workspaceId, dto))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    // --- deleteTransactions ---
+
+    @Test
+    void deleteTransactions_singleDeleteAndOneDeltaPerAccount() {
+        UUID otherAccount = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        Set<UUID> ids = Set.of(transactionId, second, third);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(
+                buildTransaction(transactionId, accountId, "-10.00"),
+                buildTransaction(second, accountId, "-5.00"),
+                buildTransaction(third, otherAccount, "100.00")));
+        when(transactionRepository.deleteAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(3);
+
+        int deleted = transactionService.deleteTransactions(ids, workspaceId);
+
+        assertThat(deleted).isEqualTo(3);
+        verify(transactionRepository, never()).delete(any(Transaction.class));
+        verify(accountService).applyBalanceDelta(accountId, new BigDecimal("15.00"));
+        verify(accountService).applyBalanceDelta(otherAccount, new BigDecimal("-100.00"));
+        verify(accountService, times(2)).applyBalanceDelta(any(), any());
+    }
+
+    @Test
+    void deleteTransactions_missingTransaction_throws() {
+        Set<UUID> ids = Set.of(transactionId, UUID.randomUUID());
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(buildTransaction()));
+
+        assertThatThrownBy(() -> transactionService.deleteTransactions(ids, workspaceId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(transactionRepository, never()).deleteAllByIdInAndWorkspaceId(any(), any());
+    }
+
+    @Test
+    void deleteTransactions_partOfSplit_throws() {
+        UUID splitId = UUID.randomUUID();
+        Transaction child = buildTransaction();
+        child.setSplitId(splitId);
+        Transaction sibling = buildTransaction(UUID.randomUUID(), accountId, "-1.00");
+        sibling.setSplitId(splitId);
+        Set<UUID> ids = Set.of(transactionId);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(child));
+        when(transactionRepository.findAllBySplitIdInAndWorkspaceId(Set.of(splitId), workspaceId))
+                .thenReturn(List.of(child, sibling));
+
+        assertThatThrownBy(() -> transactionService.deleteTransactions(ids, workspaceId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("would be left incomplete");
+        verify(transactionRepository, never()).deleteAllByIdInAndWorkspaceId(any(), any());
+    }
+
+    @Test
+    void deleteTransactions_wholeSplit_removesSplit() {
+        UUID splitId = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Transaction child1 = buildTransaction();
+        child1.setSplitId(splitId);
+        Transaction child2 = buildTransaction(second, accountId, "-7.50");
+        child2.setSplitId(splitId);
+        Set<UUID> ids = Set.of(transactionId, second);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(child1, child2));
+        when(transactionRepository.findAllBySplitIdInAndWorkspaceId(Set.of(splitId), workspaceId))
+                .thenReturn(List.of(child1, child2));
+
+        transactionService.deleteTransactions(ids, workspaceId);
+
+        verify(transactionSplitRepository).deleteAllByIdInBatch(Set.of(splitId));
+        verify(accountService).applyBalanceDelta(accountId, new BigDecimal("50.00"));
+    }
+
+    @Test
+    void deleteTransactions_groupLeftWithOneMember_isDissolved() {
+        UUID groupId = UUID.randomUUID();
+        Transaction member = buildTransaction();
+        member.setGroupId(groupId);
+        Transaction survivor = buildTransaction(UUID.randomUUID(), accountId, "-3.00");
+        survivor.setGroupId(groupId);
+        Set<UUID> ids = Set.of(transactionId);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(member));
+        when(transactionRepository.findAllByGroupIdInAndWorkspaceId(Set.of(groupId), workspaceId))
+                .thenReturn(List.of(member, survivor));
+
+        transactionService.deleteTransactions(ids, workspaceId);
+
+        verify(transactionRepository).clearGroupIds(Set.of(groupId));
+        verify(transactionGroupRepository).deleteAllByIdInBatch(Set.of(groupId));
+        verify(domainEventPublisher).publishAll(TransactionAction.UNGROUPED,
+                Map.of(survivor.getId(), List.of(new FieldChange("groupId", groupId.toString(), null))), workspaceId);
+    }
+
+    @Test
+    void deleteTransactions_groupKeepsTwoMembers_isKept() {
+        UUID groupId = UUID.randomUUID();
+        Transaction member = buildTransaction();
+        member.setGroupId(groupId);
+        Transaction a = buildTransaction(UUID.randomUUID(), accountId, "-3.00");
+        a.setGroupId(groupId);
+        Transaction b = buildTransaction(UUID.randomUUID(), accountId, "-4.00");
+        b.setGroupId(groupId);
+        Set<UUID> ids = Set.of(transactionId);
+        when(transactionRepository.findAllByIdInAndWorkspaceId(ids, workspaceId)).thenReturn(List.of(member));
+        when(transactionRepository.findAllByGroupIdInAndWorkspaceId(Set.of(groupId), workspaceId))
+                .thenReturn(List.of(member, a, b));
+
+        transactionService.deleteTransactions(ids, workspaceId);
+
+        verify(transactionRepository, never()).clearGroupIds(any());
+        verify(transactionGroupRepository, never()).deleteAllByIdInBatch(any());
+    }
+
     // --- createTransaction with recurringItemId inheritance ---
 
     @Test
@@ -769,9 +1007,6 @@ class TransactionServiceTest {
                 .build();
 
         when(recurringItemService.getRecurringItem(recurringItemId, workspaceId)).thenReturn(buildRecurringItem());
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
-        when(tagService.getTag(tagId, workspaceId)).thenReturn(buildTag());
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Transaction result = transactionService.createTransaction(workspaceId, dto);
@@ -803,9 +1038,6 @@ class TransactionServiceTest {
                 .build();
 
         when(recurringItemService.getRecurringItem(recurringItemId, workspaceId)).thenReturn(buildRecurringItem());
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
-        when(tagService.getTag(tagId, workspaceId)).thenReturn(buildTag());
         when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> inv.getArgument(0));
 
         Transaction result = transactionService.createTransaction(workspaceId, dto);
@@ -841,7 +1073,6 @@ class TransactionServiceTest {
                 .amount(new BigDecimal("-20.00"))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
 
         assertThatThrownBy(() -> transactionService.createTransaction(workspaceId, dto))
                 .isInstanceOf(BadRequestException.class)
@@ -856,7 +1087,6 @@ class TransactionServiceTest {
                 .date(LocalDateTime.of(2025, 7, 1, 0, 0))
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Kroger", workspaceId)).thenReturn(buildMerchant("Kroger"));
 
         assertThatThrownBy(() -> transactionService.createTransaction(workspaceId, dto))
@@ -1116,7 +1346,6 @@ class TransactionServiceTest {
         txn.setRecurringItemId(recurringItemId);
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(categoryService.getCategory(any(), eq(workspaceId))).thenReturn(buildCategory());
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().build();
         dto.setRecurringItemId(null); // unlink
@@ -1195,7 +1424,6 @@ class TransactionServiceTest {
         txn.setGroupId(UUID.randomUUID());
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(accountService.getAccount(any(), eq(workspaceId))).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("New Place", workspaceId)).thenReturn(buildMerchant("New Place"));
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder()
@@ -1268,7 +1496,6 @@ class TransactionServiceTest {
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
         when(transactionRepository.countByGroupId(groupId)).thenReturn(3L);
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(categoryService.getCategory(any(), eq(workspaceId))).thenReturn(buildCategory());
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().build();
         dto.setGroupId(null);
@@ -1396,7 +1623,6 @@ class TransactionServiceTest {
         txn.setSplitId(splitId);
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(categoryService.getCategory(newCatId, workspaceId)).thenReturn(Category.builder().id(newCatId).build());
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().build();
         dto.setCategoryId(newCatId);
@@ -1412,7 +1638,6 @@ class TransactionServiceTest {
         txn.setSplitId(splitId);
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
         when(transactionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(tagService.getTag(tagId, workspaceId)).thenReturn(buildTag());
 
         UpdateTransactionInput dto = UpdateTransactionInput.builder().build();
         dto.setTagIds(Set.of(tagId));
@@ -1588,9 +1813,7 @@ class TransactionServiceTest {
                 .date(LocalDateTime.now())
                 .build();
 
-        when(accountService.getAccount(accountId, workspaceId)).thenReturn(buildAccount());
         when(merchantService.resolveMerchant("Target", workspaceId)).thenReturn(buildMerchant("Target"));
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(buildCategory());
         doThrow(new BadRequestException("Positive amounts must use an income category"))
                 .when(categoryService).validateCategoryPolarity(categoryId, new BigDecimal("100.00"), workspaceId);
 
@@ -1613,13 +1836,11 @@ class TransactionServiceTest {
                 .source(TransactionSource.MANUAL)
                 .build();
 
-        Category newCat = Category.builder().id(newCatId).workspaceId(workspaceId).name("Salary").income(true).build();
 
         UpdateTransactionInput dto = new UpdateTransactionInput();
         dto.setCategoryId(newCatId);
 
         when(transactionRepository.findByIdAndWorkspaceId(transactionId, workspaceId)).thenReturn(Optional.of(txn));
-        when(categoryService.getCategory(newCatId, workspaceId)).thenReturn(newCat);
         doThrow(new BadRequestException("Negative amounts must use an expense category"))
                 .when(categoryService).validateCategoryPolarity(newCatId, txn.getAmount(), workspaceId);
 
@@ -1,9 +1,19 @@
 package com.balanced.transaction.event;
 
+import com.balanced.account.entity.Account;
+import com.balanced.account.service.AccountService;
+import com.balanced.category.entity.Category;
+import com.balanced.category.service.CategoryService;
 import com.balanced.common.event.DomainEvent;
+import com.balanced.common.event.DomainEventBatch;
 import com.balanced.common.event.FieldChange;
+import com.balanced.merchant.service.MerchantService;
+import com.balanced.recurring.service.RecurringItemService;
+import com.balanced.tag.entity.Tag;
+import com.balanced.tag.service.TagService;
 import com.balanced.transaction.event.dto.TransactionEventResponse;
 import com.balanced.transaction.event.entity.TransactionEvent;
+import com.balanced.transaction.event.repository.TransactionEventJdbcRepository;
 import com.balanced.transaction.event.repository.TransactionEventRepository;
 import com.balanced.transaction.event.service.TransactionEventService;
 import org.junit.jupiter.api.Test;
@@ -15,11 +25,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +36,18 @@ class TransactionEventServiceTest {
 
     @Mock
     private TransactionEventRepository transactionEventRepository;
+    @Mock
+    private TransactionEventJdbcRepository transactionEventJdbcRepository;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private MerchantService merchantService;
+    @Mock
+    private CategoryService categoryService;
+    @Mock
+    private TagService tagService;
+    @Mock
+    private RecurringItemService recurringItemService;
 
     @InjectMocks
     private TransactionEventService transactionEventService;
@@ -35,18 +56,16 @@ class TransactionEventServiceTest {
     private final UUID workspaceId = UUID.randomUUID();
 
     @Test
-    void handleDomainEvent_transactionDomain_persistsEvent() {
+    void handleDomainEventBatch_transactionDomain_persistsEvents() {
         DomainEvent event = new DomainEvent(
                 "transaction", "created", transactionId, workspaceId,
                 List.of(new FieldChange("amount", null, "-42.50")),
                 "user@test.com", LocalDateTime.now()
         );
 
-        transactionEventService.handleDomainEvent(event);
+        transactionEventService.handleDomainEventBatch(new DomainEventBatch(List.of(event)));
 
-        ArgumentCaptor<TransactionEvent> captor = ArgumentCaptor.forClass(TransactionEvent.class);
-        verify(transactionEventRepository).save(captor.capture());
-        TransactionEvent saved = captor.getValue();
+        TransactionEvent saved = captureInserted().getFirst();
         assertThat(saved.getTransactionId()).isEqualTo(transactionId);
         assertThat(saved.getWorkspaceId()).isEqualTo(workspaceId);
         assertThat(saved.getEventType()).isEqualTo("transaction.created");
@@ -56,31 +75,32 @@ class TransactionEventServiceTest {
     }
 
     @Test
-    void handleDomainEvent_nonTransactionDomain_ignored() {
+    void handleDomainEventBatch_nonTransactionDomain_ignored() {
         DomainEvent event = new DomainEvent(
                 "account", "updated", UUID.randomUUID(), workspaceId,
                 List.of(), "user@test.com", LocalDateTime.now()
         );
 
-        transactionEventService.handleDomainEvent(event);
+        transactionEventService.handleDomainEventBatch(new DomainEventBatch(List.of(event)));
 
-        verify(transactionEventRepository, never()).save(any());
+        verifyNoInteractions(transactionEventJdbcRepository);
     }
 
     @Test
-    void handleDomainEvent_persistenceFailure_retriesThenThrows() {
-        DomainEvent event = new DomainEvent(
-                "transaction", "updated", transactionId, workspaceId,
-                List.of(new FieldChange("amount", "-10.00", "-20.00")),
-                "user@test.com", LocalDateTime.now()
-        );
-        when(transactionEventRepository.save(any())).thenThrow(new RuntimeException("DB down"));
-
-        assertThatThrownBy(() -> transactionEventService.handleDomainEvent(event))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("DB down");
-
-        verify(transactionEventRepository, times(3)).save(any());
+    void handleDomainEventBatch_mixedDomains_persistsOnlyTransactionEventsInOneBatch() {
+        UUID otherTransactionId = UUID.randomUUID();
+        DomainEventBatch batch = new DomainEventBatch(List.of(
+                new DomainEvent("transaction", "updated", transactionId, workspaceId,
+                        List.of(new FieldChange("amount", "-10.00", "-20.00")), "user@test.com", LocalDateTime.now()),
+                new DomainEvent("account", "updated", UUID.randomUUID(), workspaceId,
+                        List.of(), "user@test.com", LocalDateTime.now()),
+                new DomainEvent("transaction", "created", otherTransactionId, workspaceId,
+                        List.of(), "user@test.com", LocalDateTime.now())));
+
+        transactionEventService.handleDomainEventBatch(batch);
+
+        assertThat(captureInserted()).extracting(TransactionEvent::getTransactionId)
+                .containsExactly(transactionId, otherTransactionId);
     }
 
     @Test
@@ -119,6 +139,60 @@ class TransactionEventServiceTest {
         assertThat(result.get(0).getChanges().get(0).newValue()).isEqualTo("-50.00");
     }
 
+    @Test
+    void getEventsForTransaction_resolvesIdsWithOneLookupPerEntityType() {
+        UUID oldCategoryId = UUID.randomUUID();
+        UUID newCategoryId = UUID.randomUUID();
+        UUID deletedCategoryId = UUID.randomUUID();
+        UUID accountId = UUID.randomUUID();
+        UUID tagId = UUID.randomUUID();
+        TransactionEvent created = TransactionEvent.builder()
+                .transactionId(transactionId)
+                .workspaceId(workspaceId)
+                .eventType("transaction.created")
+                .changes(List.of(
+                        new FieldChange("account", null, accountId.toString()),
+                        new FieldChange("category", null, oldCategoryId.toString()),
+                        new FieldChange("tags", null, List.of(tagId.toString()))))
+                .build();
+        TransactionEvent updated = TransactionEvent.builder()
+                .transactionId(transactionId)
+                .workspaceId(workspaceId)
+                .eventType("transaction.updated")
+                .changes(List.of(
+                        new FieldChange("category", oldCategoryId.toString(), newCategoryId.toString()),
+                        new FieldChange("category", newCategoryId.toString(), deletedCategoryId.toString())))
+                .build();
+        TransactionEvent legacy = TransactionEvent.builder()
+                .transactionId(transactionId)
+                .workspaceId(workspaceId)
+                .eventType("transaction.updated")
+                .changes(List.of(new FieldChange("merchant", "Kroger", "Target")))
+                .build();
+
+        when(transactionEventRepository.findAllByTransactionIdAndWorkspaceIdOrderByPerformedAtDesc(transactionId, workspaceId))
+                .thenReturn(List.of(legacy, updated, created));
+        when(accountService.getAccounts(Set.of(accountId), workspaceId))
+                .thenReturn(List.of(Account.builder().id(accountId).name("Checking").build()));
+        when(categoryService.getCategories(Set.of(oldCategoryId, newCategoryId, deletedCategoryId), workspaceId))
+                .thenReturn(List.of(Category.builder().id(oldCategoryId).name("Food").build(),
+                        Category.builder().id(newCategoryId).name("Groceries").build()));
+        when(tagService.getTags(Set.of(tagId), workspaceId))
+                .thenReturn(List.of(Tag.builder().id(tagId).name("Work").build()));
+
+        List<TransactionEventResponse> result = transactionEventService.getEventsForTransaction(transactionId, workspaceId);
+
+        assertThat(result.get(0).getChanges()).containsExactly(new FieldChange("merchant", "Kroger", "Target"));
+        assertThat(result.get(1).getChanges()).containsExactly(
+                new FieldChange("category", "Food", "Groceries"),
+                new FieldChange("category", "Groceries", deletedCategoryId.toString()));
+        assertThat(result.get(2).getChanges()).containsExactly(
+                new FieldChange("account", null, "Checking"),
+                new FieldChange("category", null, "Food"),
+                new FieldChange("tags", null, List.of("Work")));
+        verifyNoInteractions(merchantService, recurringItemService);
+    }
+
     @Test
     void getEventsForTransaction_noEvents_returnsEmptyList() {
         when(transactionEventRepository.findAllByTransactionIdAndWorkspaceIdOrderByPerformedAtDesc(transactionId, workspaceId))
@@ -130,7 +204,7 @@ class TransactionEventServiceTest {
     }
 
     @Test
-    void handleDomainEvent_updatedWithMultipleChanges_persistsAll() {
+    void handleDomainEventBatch_updatedWithMultipleChanges_persistsAll() {
         DomainEvent event = new DomainEvent(
                 "transaction", "updated", transactionId, workspaceId,
                 List.of(
@@ -141,10 +215,15 @@ class TransactionEventServiceTest {
                 "user@test.com", LocalDateTime.now()
         );
 
-        transactionEventService.handleDomainEvent(event);
+        transactionEventService.handleDomainEventBatch(new DomainEventBatch(List.of(event)));
+
+        assertThat(captureInserted().getFirst().getChanges()).hasSize(3);
+    }
 
-        ArgumentCaptor<TransactionEvent> captor = ArgumentCaptor.forClass(TransactionEvent.class);
-        verify(transactionEventRepository).save(captor.capture());
-        assertThat(captor.getValue().getChanges()).hasSize(3);
+    @SuppressWarnings("unchecked")
+    private List<TransactionEvent> captureInserted() {
+        ArgumentCaptor<List<TransactionEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionEventJdbcRepository).insertAll(captor.capture());
+        return captor.getValue();
     }
 }
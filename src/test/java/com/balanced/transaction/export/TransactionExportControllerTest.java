@@ -0,0 +1,54 @@
+package com.balanced.transaction.export;
+
+import com.balanced.transaction.dto.TransactionFilter;
+import com.balanced.transaction.export.controller.TransactionExportController;
+import com.balanced.transaction.export.enums.ExportFormat;
+import com.balanced.transaction.export.service.TransactionExportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportControllerTest {
+
+    @Mock private TransactionExportService exportService;
+    @InjectMocks private TransactionExportController controller;
+
+    private final UUID workspaceId = UUID.randomUUID();
+    private final TransactionFilter filter = new TransactionFilter();
+    private final StreamingResponseBody body = out -> {};
+
+    @Test
+    void export_csvAsAttachment() {
+        when(exportService.export(workspaceId, filter, ExportFormat.CSV, false)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportTransactions(workspaceId, filter, ExportFormat.CSV, null);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).endsWith(".csv");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(response.getBody()).isSameAs(body);
+    }
+
+    @Test
+    void export_gzipWhenAccepted() {
+        when(exportService.export(workspaceId, filter, ExportFormat.NDJSON, true)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response =
+                controller.exportTransactions(workspaceId, filter, ExportFormat.NDJSON, "gzip, deflate");
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+    }
+}
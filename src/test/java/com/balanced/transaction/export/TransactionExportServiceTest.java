@@ -0,0 +1,161 @@
+package com.balanced.transaction.export;
+
+import com.balanced.account.entity.Account;
+import com.balanced.account.enums.CurrencyCode;
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.category.entity.Category;
+import com.balanced.category.repository.CategoryRepository;
+import com.balanced.common.exception.BadRequestException;
+import com.balanced.merchant.entity.Merchant;
+import com.balanced.merchant.repository.MerchantRepository;
+import com.balanced.tag.entity.Tag;
+import com.balanced.tag.repository.TagRepository;
+import com.balanced.transaction.dto.TransactionFilter;
+import com.balanced.transaction.dto.TransactionResponse;
+import com.balanced.transaction.enums.TransactionSource;
+import com.balanced.transaction.enums.TransactionStatus;
+import com.balanced.transaction.export.enums.ExportFormat;
+import com.balanced.transaction.export.service.TransactionExportService;
+import com.balanced.transaction.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private MerchantRepository merchantRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private TagRepository tagRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID workspaceId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID merchantId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID tagA = UUID.randomUUID();
+    private final UUID tagB = UUID.randomUUID();
+    private final UUID firstId = UUID.randomUUID();
+    private final UUID secondId = UUID.randomUUID();
+
+    private TransactionExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TransactionExportService(transactionRepository, accountRepository, merchantRepository,
+                categoryRepository, tagRepository, objectMapper, transactionManager, 500);
+    }
+
+    @Test
+    void export_writesCsvWithResolvedNames() throws Exception {
+        stubRows();
+
+        String csv = new String(run(ExportFormat.CSV, false), StandardCharsets.UTF_8);
+
+        assertThat(csv.lines().toList()).containsExactly(
+                "date,amount,currency,merchant,category,account,tags,notes,status,source,id",
+                "2024-01-15T09:30,-42.10,USD,\"Smith, Jones & \"\"Co\"\"\",Groceries,Checking,Alpha|Beta,two," +
+                        "POSTED,MANUAL," + firstId,
+                "2024-01-16T00:00,1500.00,USD,Smith,,Checking,,,PENDING,IMPORTED," + secondId);
+    }
+
+    @Test
+    void export_writesOneJsonObjectPerLine() throws Exception {
+        stubRows();
+
+        String ndjson = new String(run(ExportFormat.NDJSON, false), StandardCharsets.UTF_8);
+
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(ndjson).endsWith("\n");
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asText()).isEqualTo(firstId.toString());
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("-42.10");
+        assertThat(first.get("merchant").asText()).isEqualTo("Smith, Jones & \"Co\"");
+        assertThat(first.get("categoryId").asText()).isEqualTo(categoryId.toString());
+        assertThat(first.get("tags")).extracting(JsonNode::asText).containsExactly("Alpha", "Beta");
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.get("category").isNull()).isTrue();
+        assertThat(second.get("notes").isNull()).isTrue();
+    }
+
+    @Test
+    void export_gzipEncodesWhenRequested() throws Exception {
+        stubRows();
+
+        byte[] compressed = run(ExportFormat.CSV, true);
+
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(csv.lines()).hasSize(3);
+        }
+    }
+
+    @Test
+    void export_rejectsMalformedDatesBeforeStreaming() {
+        TransactionFilter filter = TransactionFilter.builder().startDate("01/02/2024").build();
+
+        assertThatThrownBy(() -> exportService.export(workspaceId, filter, ExportFormat.CSV, false))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private byte[] run(ExportFormat format, boolean gzip) throws Exception {
+        var out = new ByteArrayOutputStream();
+        exportService.export(workspaceId, new TransactionFilter(), format, gzip).writeTo(out);
+        return out.toByteArray();
+    }
+
+    private void stubRows() {
+        when(accountRepository.findAllByWorkspaceId(workspaceId))
+                .thenReturn(List.of(Account.builder().id(accountId).name("Checking").build()));
+        when(merchantRepository.findAllByWorkspaceId(workspaceId))
+                .thenReturn(List.of(Merchant.builder().id(merchantId).name("Smith, Jones & \"Co\"").build(),
+                        Merchant.builder().id(UUID.randomUUID()).name("Smith").build()));
+        when(categoryRepository.findAllByWorkspaceId(workspaceId))
+                .thenReturn(List.of(Category.builder().id(categoryId).name("Groceries").build()));
+        when(tagRepository.findAllByWorkspaceId(workspaceId))
+                .thenReturn(List.of(Tag.builder().id(tagB).name("Beta").build(), Tag.builder().id(tagA).name("Alpha").build()));
+
+        UUID smithId = merchantRepository.findAllByWorkspaceId(workspaceId).get(1).getId();
+        var first = TransactionResponse.builder()
+                .id(firstId).date(LocalDateTime.of(2024, 1, 15, 9, 30)).amount(new BigDecimal("-42.1000"))
+                .currencyCode(CurrencyCode.USD).accountId(accountId).merchantId(merchantId).categoryId(categoryId)
+                .tagIds(Set.of(tagA, tagB)).notes("two").status(TransactionStatus.POSTED)
+                .source(TransactionSource.MANUAL).build();
+        var second = TransactionResponse.builder()
+                .id(secondId).date(LocalDateTime.of(2024, 1, 16, 0, 0)).amount(new BigDecimal("1500.0000"))
+                .currencyCode(CurrencyCode.USD).accountId(accountId).merchantId(smithId)
+                .tagIds(Set.of()).status(TransactionStatus.PENDING).source(TransactionSource.IMPORTED).build();
+        when(transactionRepository.streamProjected(any(), any(Sort.class), anySet(), eq(500)))
+                .thenReturn(Stream.of(first, second));
+    }
+}
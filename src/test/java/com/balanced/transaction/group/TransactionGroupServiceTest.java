@@ -1,10 +1,8 @@
 package com.balanced.transaction.group;
 
-import com.balanced.category.entity.Category;
 import com.balanced.category.service.CategoryService;
 import com.balanced.common.exception.BadRequestException;
 import com.balanced.common.exception.ResourceNotFoundException;
-import com.balanced.tag.entity.Tag;
 import com.balanced.tag.service.TagService;
 import com.balanced.transaction.entity.Transaction;
 import com.balanced.transaction.group.dto.CreateTransactionGroupInput;
@@ -14,6 +12,8 @@ import com.balanced.transaction.group.repository.TransactionGroupRepository;
 import com.balanced.transaction.group.service.TransactionGroupService;
 import com.balanced.transaction.repository.TransactionRepository;
 import com.balanced.common.event.DomainEventPublisher;
+import com.balanced.common.event.FieldChange;
+import com.balanced.transaction.enums.TransactionAction;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -113,10 +113,6 @@ class TransactionGroupServiceTest {
                 .transactionIds(Set.of(txn1Id, txn2Id))
                 .build();
 
-        when(categoryService.getCategory(categoryId, workspaceId))
-                .thenReturn(Category.builder().id(categoryId).build());
-        when(tagService.getTag(tagId, workspaceId))
-                .thenReturn(Tag.builder().id(tagId).build());
         when(transactionRepository.findByIdAndWorkspaceId(txn1Id, workspaceId))
                 .thenReturn(Optional.of(buildTransaction(txn1Id, null)));
         when(transactionRepository.findByIdAndWorkspaceId(txn2Id, workspaceId))
@@ -136,6 +132,8 @@ class TransactionGroupServiceTest {
         assertThat(result.getCategoryId()).isEqualTo(categoryId);
         assertThat(result.getTagIds()).containsExactly(tagId);
         verify(transactionRepository).setGroupId(groupId, Set.of(txn1Id, txn2Id), workspaceId);
+        verify(domainEventPublisher).publishAll(TransactionAction.GROUPED, Set.of(txn1Id, txn2Id), workspaceId,
+                List.of(new FieldChange("groupId", null, groupId.toString())));
     }
 
     @Test
@@ -220,8 +218,6 @@ class TransactionGroupServiceTest {
 
         when(transactionGroupRepository.findByIdAndWorkspaceId(groupId, workspaceId))
                 .thenReturn(Optional.of(buildGroup()));
-        when(categoryService.getCategory(categoryId, workspaceId))
-                .thenReturn(Category.builder().id(categoryId).build());
         when(transactionGroupRepository.save(any(TransactionGroup.class)))
                 .thenAnswer(inv -> inv.getArgument(0));
 
@@ -255,8 +251,6 @@ class TransactionGroupServiceTest {
 
         when(transactionGroupRepository.findByIdAndWorkspaceId(groupId, workspaceId))
                 .thenReturn(Optional.of(buildGroup()));
-        when(tagService.getTag(tagId, workspaceId))
-                .thenReturn(Tag.builder().id(tagId).build());
         when(transactionGroupRepository.save(any(TransactionGroup.class)))
                 .thenAnswer(inv -> inv.getArgument(0));
 
@@ -409,8 +403,6 @@ class TransactionGroupServiceTest {
                 .transactionIds(Set.of(txn1Id, txn2Id))
                 .build();
 
-        Category cat = Category.builder().id(categoryId).workspaceId(workspaceId).name("Groceries").income(false).build();
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(cat);
         when(transactionRepository.findByIdAndWorkspaceId(eq(txn1Id), eq(workspaceId))).thenReturn(Optional.of(txn1));
         when(transactionRepository.findByIdAndWorkspaceId(eq(txn2Id), eq(workspaceId))).thenReturn(Optional.of(txn2));
         doThrow(new BadRequestException("Positive amounts must use an income category"))
@@ -434,8 +426,6 @@ class TransactionGroupServiceTest {
         dto.setCategoryId(newCatId);
 
         when(transactionGroupRepository.findByIdAndWorkspaceId(groupId, workspaceId)).thenReturn(Optional.of(group));
-        when(categoryService.getCategory(newCatId, workspaceId)).thenReturn(
-                Category.builder().id(newCatId).workspaceId(workspaceId).name("Groceries").income(false).build());
         when(transactionGroupRepository.save(any())).thenReturn(group);
         when(transactionRepository.findAllByGroupIdAndWorkspaceId(groupId, workspaceId)).thenReturn(List.of(txn1, txn2));
         doThrow(new BadRequestException("Positive amounts must use an income category"))
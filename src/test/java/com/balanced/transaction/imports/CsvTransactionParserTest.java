@@ -0,0 +1,83 @@
+package com.balanced.transaction.imports;
+
+import com.balanced.transaction.imports.dto.ImportRow;
+import com.balanced.transaction.imports.parser.CsvTransactionParser;
+import com.balanced.transaction.imports.parser.InvalidImportFileException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvTransactionParserTest {
+
+    private final CsvTransactionParser parser = new CsvTransactionParser();
+
+    @Test
+    void parse_mapsColumnsByHeaderName() throws IOException {
+        List<ImportRow> rows = parse("""
+                Notes,Amount,Date,Payee,Category,Tags,Account,Currency
+                lunch,-12.50,2024-01-15,Cafe,Dining,work | food,Checking,usd
+                """);
+
+        assertThat(rows).hasSize(1);
+        ImportRow row = rows.getFirst();
+        assertThat(row.line()).isEqualTo(2);
+        assertThat(row.date()).isEqualTo("2024-01-15");
+        assertThat(row.amount()).isEqualTo("-12.50");
+        assertThat(row.merchant()).isEqualTo("Cafe");
+        assertThat(row.category()).isEqualTo("Dining");
+        assertThat(row.tags()).containsExactly("work", "food");
+        assertThat(row.account()).isEqualTo("Checking");
+        assertThat(row.notes()).isEqualTo("lunch");
+        assertThat(row.currency()).isEqualTo("usd");
+    }
+
+    @Test
+    void parse_handlesQuotedFieldsSpanningLines() throws IOException {
+        List<ImportRow> rows = parse("date,amount,merchant,notes\n"
+                + "2024-01-15,\"-1,234.00\",\"Smith, Jones & \"\"Co\"\"\",\"first line\n"
+                + "second line\"\n"
+                + "2024-01-16,-5,Store,\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).amount()).isEqualTo("-1,234.00");
+        assertThat(rows.get(0).merchant()).isEqualTo("Smith, Jones & \"Co\"");
+        assertThat(rows.get(0).notes()).isEqualTo("first line\nsecond line");
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).notes()).isNull();
+        assertThat(rows.get(1).tags()).isEmpty();
+    }
+
+    @Test
+    void parse_skipsBlankLinesAndToleratesByteOrderMark() throws IOException {
+        List<ImportRow> rows = parse("\uFEFFDate,Amount,Description\r\n2024-01-15,-1,A\r\n\r\n2024-01-16,-2,B\r\n");
+
+        assertThat(rows).extracting(ImportRow::merchant).containsExactly("A", "B");
+    }
+
+    @Test
+    void parse_rejectsHeaderWithoutRequiredColumns() {
+        assertThatThrownBy(() -> parse("date,notes\n2024-01-15,x\n"))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("amount, merchant");
+    }
+
+    @Test
+    void parse_rejectsUnterminatedQuote() {
+        assertThatThrownBy(() -> parse("date,amount,merchant\n2024-01-15,-1,\"Open\n"))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    private List<ImportRow> parse(String csv) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), rows::add);
+        return rows;
+    }
+}
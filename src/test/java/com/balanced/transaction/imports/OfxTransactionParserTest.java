@@ -0,0 +1,96 @@
+package com.balanced.transaction.imports;
+
+import com.balanced.transaction.imports.dto.ImportRow;
+import com.balanced.transaction.imports.parser.InvalidImportFileException;
+import com.balanced.transaction.imports.parser.OfxTransactionParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OfxTransactionParserTest {
+
+    private final OfxTransactionParser parser = new OfxTransactionParser();
+
+    @Test
+    void parse_readsSgmlStatement() throws IOException {
+        List<ImportRow> rows = parse("""
+                OFXHEADER:100
+                DATA:OFXSGML
+                VERSION:102
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                <CURDEF>USD
+                <BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20240115120000.000[-5:EST]
+                <TRNAMT>-42.10
+                <FITID>1
+                <NAME>Grocer &amp; Sons
+                <MEMO>weekly shop
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <DTPOSTED>20240116
+                <TRNAMT>1500.00
+                <FITID>2
+                <MEMO>Payroll
+                </STMTTRN>
+                </BANKTRANLIST>
+                </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """);
+
+        assertThat(rows).hasSize(2);
+        ImportRow first = rows.get(0);
+        assertThat(first.line()).isEqualTo(9);
+        assertThat(first.date()).isEqualTo("2024-01-15T12:00:00");
+        assertThat(first.amount()).isEqualTo("-42.10");
+        assertThat(first.merchant()).isEqualTo("Grocer & Sons");
+        assertThat(first.notes()).isEqualTo("weekly shop");
+        assertThat(first.currency()).isEqualTo("USD");
+
+        // Without a NAME the memo stands in for the merchant
+        assertThat(rows.get(1).date()).isEqualTo("2024-01-16");
+        assertThat(rows.get(1).merchant()).isEqualTo("Payroll");
+        assertThat(rows.get(1).notes()).isNull();
+    }
+
+    @Test
+    void parse_readsXmlStatement() throws IOException {
+        List<ImportRow> rows = parse("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <?OFX OFXHEADER="200" VERSION="220"?>
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><CURDEF>CAD</CURDEF><BANKTRANLIST>
+                <STMTTRN><DTPOSTED>20240201</DTPOSTED><TRNAMT>-9.99</TRNAMT><NAME>Streaming</NAME></STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """);
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.date()).isEqualTo("2024-02-01");
+            assertThat(row.amount()).isEqualTo("-9.99");
+            assertThat(row.merchant()).isEqualTo("Streaming");
+            assertThat(row.currency()).isEqualTo("CAD");
+        });
+    }
+
+    @Test
+    void parse_rejectsFileWithoutOfxElement() {
+        assertThatThrownBy(() -> parse("date,amount,merchant\n"))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+
+    private List<ImportRow> parse(String ofx) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(ofx.getBytes(StandardCharsets.UTF_8)), rows::add);
+        return rows;
+    }
+}
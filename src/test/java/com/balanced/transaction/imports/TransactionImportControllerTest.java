@@ -0,0 +1,52 @@
+package com.balanced.transaction.imports;
+
+import com.balanced.transaction.imports.controller.TransactionImportController;
+import com.balanced.transaction.imports.dto.TransactionImportDto;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.enums.ImportStatus;
+import com.balanced.transaction.imports.service.TransactionImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportControllerTest {
+
+    @Mock private TransactionImportService importService;
+    @InjectMocks private TransactionImportController controller;
+
+    private final UUID workspaceId = UUID.randomUUID();
+
+    @Test
+    void startImport_returnsAccepted() {
+        var file = new MockMultipartFile("file", "history.csv", "text/csv", "date,amount,merchant".getBytes());
+        TransactionImportDto dto = TransactionImportDto.builder().status(ImportStatus.PENDING).build();
+        when(importService.startImport(workspaceId, null, ImportFormat.CSV, file)).thenReturn(dto);
+
+        ResponseEntity<TransactionImportDto> response = controller.startImport(workspaceId, file, null, ImportFormat.CSV);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(202);
+        assertThat(response.getBody()).isEqualTo(dto);
+    }
+
+    @Test
+    void getImport_returnsOk() {
+        UUID importId = UUID.randomUUID();
+        TransactionImportDto dto = TransactionImportDto.builder().id(importId).build();
+        when(importService.getImport(importId, workspaceId)).thenReturn(dto);
+
+        ResponseEntity<TransactionImportDto> response = controller.getImport(workspaceId, importId);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo(dto);
+    }
+}
@@ -0,0 +1,248 @@
+package com.balanced.transaction.imports;
+
+import com.balanced.account.entity.Account;
+import com.balanced.account.repository.AccountRepository;
+import com.balanced.account.service.AccountService;
+import com.balanced.category.entity.Category;
+import com.balanced.category.repository.CategoryRepository;
+import com.balanced.common.cache.ReferenceDataCache;
+import com.balanced.merchant.repository.MerchantJdbcRepository;
+import com.balanced.merchant.repository.MerchantJdbcRepository.MerchantIds;
+import com.balanced.tag.entity.Tag;
+import com.balanced.tag.repository.TagRepository;
+import com.balanced.transaction.imports.dto.ImportRowError;
+import com.balanced.transaction.imports.dto.ImportedTransaction;
+import com.balanced.transaction.imports.entity.TransactionImport;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.enums.ImportStatus;
+import com.balanced.transaction.imports.parser.CsvTransactionParser;
+import com.balanced.transaction.imports.parser.OfxTransactionParser;
+import com.balanced.transaction.imports.repository.TransactionImportJdbcRepository;
+import com.balanced.transaction.imports.repository.TransactionImportRepository;
+import com.balanced.transaction.imports.service.TransactionImportPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportPipelineTest {
+
+    @Mock private TransactionImportRepository importRepository;
+    @Mock private TransactionImportJdbcRepository jdbcRepository;
+    @Mock private MerchantJdbcRepository merchantJdbcRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private TagRepository tagRepository;
+    @Mock private AccountService accountService;
+    @Mock private ReferenceDataCache referenceDataCache;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final UUID workspaceId = UUID.randomUUID();
+    private final UUID importId = UUID.randomUUID();
+    private final UUID checkingId = UUID.randomUUID();
+    private final UUID savingsId = UUID.randomUUID();
+    private final UUID groceriesId = UUID.randomUUID();
+    private final UUID salaryId = UUID.randomUUID();
+    private final UUID foodGroupId = UUID.randomUUID();
+    private final UUID workTagId = UUID.randomUUID();
+
+    private TransactionImport report;
+
+    @BeforeEach
+    void setUp() {
+        report = TransactionImport.builder()
+                .workspaceId(workspaceId)
+                .accountId(checkingId)
+                .format(ImportFormat.CSV)
+                .createdBy("importer@test.com")
+                .build();
+        report.setId(importId);
+        when(importRepository.findById(importId)).thenReturn(Optional.of(report));
+        when(importRepository.save(any(TransactionImport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(accountRepository.findAllByWorkspaceId(workspaceId)).thenReturn(List.of(
+                Account.builder().id(checkingId).name("Checking").build(),
+                Account.builder().id(savingsId).name("Savings").build()));
+        when(categoryRepository.findAllByWorkspaceId(workspaceId)).thenReturn(List.of(
+                Category.builder().id(foodGroupId).name("Food").build(),
+                Category.builder().id(groceriesId).parentId(foodGroupId).name("Groceries").build(),
+                Category.builder().id(salaryId).name("Salary").income(true).build()));
+        when(tagRepository.findAllByWorkspaceId(workspaceId)).thenReturn(List.of(
+                Tag.builder().id(workTagId).name("Work").build()));
+    }
+
+    @Test
+    void run_writesRowsInChunksOfBatchSize() {
+        stubMerchantUpsert();
+
+        TransactionImport result = pipeline(2).run(importId, csv("""
+                date,amount,merchant,account
+                2024-01-01,-10,Store,
+                2024-01-02,-20,Store,
+                2024-01-03,-30,Store,savings
+                2024-01-04,100,Employer,
+                2024-01-05,-5,Store,
+                """));
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.getRowsRead()).isEqualTo(5);
+        assertThat(result.getRowsImported()).isEqualTo(5);
+        assertThat(result.getRowsSkipped()).isZero();
+        assertThat(result.getStartedAt()).isNotNull();
+        assertThat(result.getCompletedAt()).isNotNull();
+        verify(jdbcRepository, times(3)).insertTransactions(eq(workspaceId), anyList(), anyMap(), eq("importer@test.com"));
+
+        // One delta per account per chunk: [-10,-20] [-30 savings, +100] [-5]
+        verify(accountService).applyBalanceDelta(checkingId, new BigDecimal("-30"));
+        verify(accountService).applyBalanceDelta(savingsId, new BigDecimal("-30"));
+        verify(accountService).applyBalanceDelta(checkingId, new BigDecimal("100"));
+        verify(accountService).applyBalanceDelta(checkingId, new BigDecimal("-5"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void run_upsertsEachMerchantNameOnce() {
+        stubMerchantUpsert();
+
+        TransactionImport result = pipeline(1).run(importId, csv("""
+                date,amount,merchant
+                2024-01-01,-10,Store
+                2024-01-02,-20,STORE
+                2024-01-03,-30,Cafe
+                """));
+
+        ArgumentCaptor<Collection<String>> names = ArgumentCaptor.forClass(Collection.class);
+        verify(merchantJdbcRepository, times(2)).upsertMerchants(eq(workspaceId), names.capture(), eq("importer@test.com"));
+        assertThat(names.getAllValues()).map(List::copyOf).containsExactly(List.of("Store"), List.of("Cafe"));
+        assertThat(result.getMerchantsCreated()).isEqualTo(2);
+        verify(referenceDataCache, times(2)).invalidateMerchants(workspaceId);
+    }
+
+    @Test
+    void run_skipsInvalidRowsAndReportsTheirLines() {
+        stubMerchantUpsert();
+        // The pipeline reuses its chunk list, so keep a copy of what was written
+        List<ImportedTransaction> written = new ArrayList<>();
+        doAnswer(invocation -> written.addAll(invocation.getArgument(1)))
+                .when(jdbcRepository).insertTransactions(eq(workspaceId), anyList(), anyMap(), any());
+
+        TransactionImport result = pipeline(100).run(importId, csv("""
+                date,amount,merchant,category,tags,account
+                2024-01-01,-10,Store,Groceries,work,
+                not-a-date,-10,Store,,,
+                2024-01-03,abc,Store,,,
+                2024-01-04,-10,Store,Salary,,
+                2024-01-05,-10,Store,Food,,
+                2024-01-06,-10,Store,Unknown,,
+                2024-01-07,-10,Store,,Missing,
+                2024-01-08,-10,Store,,,Brokerage
+                01/09/2024,"($1,000.50)",Store,,,
+                """));
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(result.getRowsRead()).isEqualTo(9);
+        assertThat(result.getRowsImported()).isEqualTo(2);
+        assertThat(result.getRowsSkipped()).isEqualTo(7);
+        assertThat(result.getErrors()).extracting(ImportRowError::line).containsExactly(3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(result.getErrors()).extracting(ImportRowError::message).containsExactly(
+                "Invalid date 'not-a-date'",
+                "Invalid amount 'abc'",
+                "Negative amounts must use an expense category, but 'Salary' is an income category.",
+                "Cannot assign a transaction to a parent category group",
+                "Unknown category 'Unknown'",
+                "Unknown tag 'Missing'",
+                "Unknown account 'Brokerage'");
+
+        assertThat(written).hasSize(2);
+        assertThat(written.get(0).categoryId()).isEqualTo(groceriesId);
+        assertThat(written.get(0).tagIds()).containsExactly(workTagId);
+        assertThat(written.get(1).amount()).isEqualByComparingTo("-1000.50");
+        assertThat(written.get(1).date()).isEqualTo("2024-01-09T00:00");
+    }
+
+    @Test
+    void run_rowsWithoutAccountAreSkippedWhenImportHasNoDefault() {
+        report.setAccountId(null);
+
+        TransactionImport result = pipeline(100).run(importId, csv("""
+                date,amount,merchant
+                2024-01-01,-10,Store
+                """));
+
+        assertThat(result.getRowsSkipped()).isEqualTo(1);
+        assertThat(result.getErrors().getFirst().message()).contains("no default account");
+        verify(jdbcRepository, never()).insertTransactions(any(), anyList(), anyMap(), any());
+    }
+
+    @Test
+    void run_marksImportFailedForUnreadableFile() {
+        TransactionImport result = pipeline(100).run(importId, csv("date,notes\n2024-01-01,x\n"));
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.getFailureReason()).contains("missing required column");
+        assertThat(result.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void run_marksImportFailedWhenChunkWriteFails() {
+        stubMerchantUpsert();
+        doThrow(new IllegalStateException("boom"))
+                .when(jdbcRepository).insertTransactions(any(), anyList(), anyMap(), any());
+
+        TransactionImport result = pipeline(100).run(importId, csv("""
+                date,amount,merchant
+                2024-01-01,-10,Store
+                """));
+
+        assertThat(result.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(result.getRowsImported()).isZero();
+        assertThat(result.getFailureReason()).contains("line 2");
+    }
+
+    private TransactionImportPipeline pipeline(int batchSize) {
+        return new TransactionImportPipeline(List.of(new CsvTransactionParser(), new OfxTransactionParser()),
+                importRepository, jdbcRepository, merchantJdbcRepository, accountRepository, categoryRepository, tagRepository,
+                accountService, referenceDataCache, transactionManager, batchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubMerchantUpsert() {
+        when(merchantJdbcRepository.upsertMerchants(eq(workspaceId), anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(1);
+            Map<String, UUID> ids = names.stream()
+                    .collect(Collectors.toMap(String::toLowerCase, name -> UUID.randomUUID()));
+            return new MerchantIds(ids, ids.size());
+        });
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
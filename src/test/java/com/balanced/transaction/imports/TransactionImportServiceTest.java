@@ -0,0 +1,126 @@
+package com.balanced.transaction.imports;
+
+import com.balanced.account.service.AccountService;
+import com.balanced.common.exception.BadRequestException;
+import com.balanced.common.exception.ResourceNotFoundException;
+import com.balanced.transaction.imports.dto.TransactionImportDto;
+import com.balanced.transaction.imports.entity.TransactionImport;
+import com.balanced.transaction.imports.enums.ImportFormat;
+import com.balanced.transaction.imports.enums.ImportStatus;
+import com.balanced.transaction.imports.mapper.TransactionImportMapper;
+import com.balanced.transaction.imports.repository.TransactionImportRepository;
+import com.balanced.transaction.imports.service.TransactionImportPipeline;
+import com.balanced.transaction.imports.service.TransactionImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceTest {
+
+    @Mock private TransactionImportRepository importRepository;
+    @Mock private TransactionImportPipeline importPipeline;
+    @Mock private TransactionImportMapper importMapper;
+    @Mock private AccountService accountService;
+    @InjectMocks private TransactionImportService importService;
+
+    private final UUID workspaceId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+
+    @Test
+    void startImport_savesPendingImportAndRunsPipeline() throws Exception {
+        UUID importId = UUID.randomUUID();
+        when(importRepository.save(any(TransactionImport.class))).thenAnswer(invocation -> {
+            TransactionImport saved = invocation.getArgument(0);
+            saved.setId(importId);
+            return saved;
+        });
+        when(importMapper.toDto(any())).thenReturn(TransactionImportDto.builder().id(importId).build());
+
+        var file = new MockMultipartFile("file", "history.QFX", "application/octet-stream", "<OFX>".getBytes());
+        TransactionImportDto result = importService.startImport(workspaceId, accountId, null, file);
+
+        assertThat(result.getId()).isEqualTo(importId);
+        verify(accountService).validateAccount(accountId, workspaceId);
+        ArgumentCaptor<TransactionImport> saved = ArgumentCaptor.forClass(TransactionImport.class);
+        verify(importRepository).save(saved.capture());
+        assertThat(saved.getValue().getFormat()).isEqualTo(ImportFormat.OFX);
+        assertThat(saved.getValue().getFileName()).isEqualTo("history.QFX");
+
+        ArgumentCaptor<Path> upload = ArgumentCaptor.forClass(Path.class);
+        verify(importPipeline).runAsync(eq(importId), upload.capture());
+        assertThat(Files.readString(upload.getValue())).isEqualTo("<OFX>");
+        Files.delete(upload.getValue());
+    }
+
+    @Test
+    void startImport_pipelineRejectsTheFile_marksImportFailedAndDeletesUpload() {
+        UUID importId = UUID.randomUUID();
+        when(importRepository.save(any(TransactionImport.class))).thenAnswer(invocation -> {
+            TransactionImport saved = invocation.getArgument(0);
+            saved.setId(importId);
+            return saved;
+        });
+        ArgumentCaptor<Path> upload = ArgumentCaptor.forClass(Path.class);
+        doThrow(new TaskRejectedException("Executor is saturated"))
+                .when(importPipeline).runAsync(eq(importId), upload.capture());
+
+        var file = new MockMultipartFile("file", "history.csv", "text/csv", "Date,Amount".getBytes());
+        importService.startImport(workspaceId, null, null, file);
+
+        ArgumentCaptor<TransactionImport> saved = ArgumentCaptor.forClass(TransactionImport.class);
+        verify(importRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(saved.getValue().getFailureReason()).isNotBlank();
+        assertThat(saved.getValue().getCompletedAt()).isNotNull();
+        verify(importMapper).toDto(saved.getValue());
+        assertThat(upload.getValue()).doesNotExist();
+    }
+
+    @Test
+    void startImport_rejectsEmptyFile() {
+        var file = new MockMultipartFile("file", "history.csv", "text/csv", new byte[0]);
+
+        assertThatThrownBy(() -> importService.startImport(workspaceId, null, null, file))
+                .isInstanceOf(BadRequestException.class);
+        verify(importPipeline, never()).runAsync(any(), any());
+    }
+
+    @Test
+    void startImport_requiresFormatWhenFileNameDoesNotTellIt() {
+        var file = new MockMultipartFile("file", "export.txt", "text/plain", "x".getBytes());
+
+        assertThatThrownBy(() -> importService.startImport(workspaceId, null, null, file))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("format=CSV");
+    }
+
+    @Test
+    void getImport_throwsWhenNotInWorkspace() {
+        UUID importId = UUID.randomUUID();
+        when(importRepository.findByIdAndWorkspaceId(importId, workspaceId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> importService.getImport(importId, workspaceId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -1,7 +1,6 @@
 package com.balanced.transaction.split;
 
 import com.balanced.account.enums.CurrencyCode;
-import com.balanced.account.service.AccountService;
 import com.balanced.category.entity.Category;
 import com.balanced.category.service.CategoryService;
 import com.balanced.common.exception.BadRequestException;
@@ -9,7 +8,6 @@ import com.balanced.common.exception.ResourceNotFoundException;
 import com.balanced.merchant.entity.Merchant;
 import com.balanced.merchant.service.MerchantService;
 import com.balanced.common.event.DomainEventPublisher;
-import com.balanced.tag.entity.Tag;
 import com.balanced.tag.service.TagService;
 import com.balanced.transaction.entity.Transaction;
 import com.balanced.transaction.enums.TransactionSource;
@@ -43,7 +41,6 @@ class TransactionSplitServiceTest {
 
     @Mock private TransactionSplitRepository transactionSplitRepository;
     @Mock private TransactionRepository transactionRepository;
-    @Mock private AccountService accountService;
     @Mock private MerchantService merchantService;
     @Mock private CategoryService categoryService;
     @Mock private TagService tagService;
@@ -194,17 +191,13 @@ class TransactionSplitServiceTest {
                 .thenAnswer(inv -> inv.getArgument(0));
         when(merchantService.resolveMerchant("Target", workspaceId))
                 .thenReturn(Merchant.builder().id(newMerchantId).build());
-        when(categoryService.getCategory(categoryId, workspaceId))
-                .thenReturn(Category.builder().id(categoryId).build());
-        when(tagService.getTag(tagId, workspaceId))
-                .thenReturn(Tag.builder().id(tagId).build());
 
         TransactionSplit result = transactionSplitService.createTransactionSplit(workspaceId, dto);
 
         assertThat(result.getTotalAmount()).isEqualByComparingTo("100.00");
         verify(merchantService).resolveMerchant("Target", workspaceId);
-        verify(categoryService).getCategory(categoryId, workspaceId);
-        verify(tagService).getTag(tagId, workspaceId);
+        verify(categoryService).validateCategory(categoryId, workspaceId);
+        verify(tagService).validateTags(Set.of(tagId), workspaceId);
     }
 
     @Test
@@ -491,8 +484,6 @@ class TransactionSplitServiceTest {
         });
         when(merchantService.resolveMerchant("Target", workspaceId)).thenReturn(
                 Merchant.builder().id(merchantId).workspaceId(workspaceId).name("Target").build());
-        when(categoryService.getCategory(categoryId, workspaceId)).thenReturn(
-                Category.builder().id(categoryId).workspaceId(workspaceId).name("Salary").income(true).build());
         doThrow(new BadRequestException("Negative amounts must use an expense category"))
                 .when(categoryService).validateCategoryPolarity(categoryId, new BigDecimal("-60.00"), workspaceId);
 
@@ -520,8 +511,6 @@ class TransactionSplitServiceTest {
         when(transactionSplitRepository.findByIdAndWorkspaceId(splitId, workspaceId)).thenReturn(Optional.of(split));
         when(transactionRepository.findAllBySplitIdAndWorkspaceId(splitId, workspaceId)).thenReturn(List.of(child1, child2));
         when(transactionRepository.findByIdAndWorkspaceId(child1Id, workspaceId)).thenReturn(Optional.of(child1));
-        when(categoryService.getCategory(newCatId, workspaceId)).thenReturn(
-                Category.builder().id(newCatId).workspaceId(workspaceId).name("Groceries").income(false).build());
         doThrow(new BadRequestException("Positive amounts must use an income category"))
                 .when(categoryService).validateCategoryPolarity(newCatId, new BigDecimal("60.00"), workspaceId);
 
@@ -1,6 +1,7 @@
 package com.balanced.workspace.membership;
 
 import com.balanced.common.exception.ResourceNotFoundException;
+import com.balanced.common.outbox.Outbox;
 import com.balanced.user.entity.User;
 import com.balanced.user.repository.UserRepository;
 import com.balanced.workspace.entity.Workspace;
@@ -19,7 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,7 +38,7 @@ class MembershipServiceTest {
     @Mock private WorkspaceMembershipRepository membershipRepository;
     @Mock private UserRepository userRepository;
     @Mock private WorkspaceRepository workspaceRepository;
-    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private Outbox outbox;
 
     @InjectMocks private MembershipService membershipService;
 
@@ -118,7 +118,7 @@ class MembershipServiceTest {
         membershipService.deleteMembership(userId, workspaceId);
 
         verify(membershipRepository).delete(testMembership);
-        verify(eventPublisher).publishEvent(any(MembershipDeletedEvent.class));
+        verify(outbox).append(eq(workspaceId), any(MembershipDeletedEvent.class));
     }
 
     @Test